@@ -3,6 +3,7 @@ plugins {
     alias(libs.plugins.spring.boot)
     alias(libs.plugins.spring.dependency.management)
     id("jacoco")
+    alias(libs.plugins.jmh)
 }
 
 configurations {
@@ -23,6 +24,8 @@ dependencyManagement {
 
 dependencies {
     implementation(libs.spring.boot.starter.web)
+    implementation(libs.spring.boot.starter.actuator)
+    implementation(libs.micrometer.registry.prometheus)
     compileOnly(libs.lombok)
     annotationProcessor(libs.lombok)
     annotationProcessor(libs.spring.boot.configuration.processor)
@@ -48,5 +51,51 @@ tasks.getByName("jar") {
 // test tasks
 tasks.test {
     ignoreFailures = true
-    useJUnitPlatform()
+    useJUnitPlatform {
+        excludeTags("benchmark", "memory")
+    }
+}
+// 처리량/지연 비교용 벤치마크 테스트는 별도 태스크로 실행 (./gradlew benchmarkTest)
+tasks.register<Test>("benchmarkTest") {
+    description = "Runs tests tagged with 'benchmark'."
+    group = "verification"
+    testClassesDirs = sourceSets["test"].output.classesDirs
+    classpath = sourceSets["test"].runtimeClasspath
+    useJUnitPlatform {
+        includeTags("benchmark")
+    }
+    maxHeapSize = "4g"
+    testLogging {
+        showStandardStreams = true
+    }
+}
+// 고정된 작은 힙에서 메모리 사용량이 일정한지 확인하는 테스트 (./gradlew memoryTest)
+tasks.register<Test>("memoryTest") {
+    description = "Runs tests tagged with 'memory' on a small fixed heap."
+    group = "verification"
+    testClassesDirs = sourceSets["test"].output.classesDirs
+    classpath = sourceSets["test"].runtimeClasspath
+    useJUnitPlatform {
+        includeTags("memory")
+    }
+    minHeapSize = "64m"
+    maxHeapSize = "64m"
+    testLogging {
+        showStandardStreams = true
+    }
+}
+// JMH 마이크로벤치마크 (src/jmh/java), ./gradlew jmh -PjmhIncludes=UserPointBenchmark 처럼 일부만 실행 가능
+// 결과는 릴리스 간 비교를 위해 JSON 으로 남김 (build/reports/jmh/results.json)
+jmh {
+    jmhVersion = libs.versions.jmh.get()
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("reports/jmh/results.json")
+    profilers = listOf("gc")
+    fork = 1
+    warmupIterations = 3
+    warmup = "1s"
+    iterations = 5
+    timeOnIteration = "1s"
+    jvmArgs = listOf("-Xmx2g")
+    findProperty("jmhIncludes")?.let { includes = listOf(it.toString()) }
 }
@@ -0,0 +1,78 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.history.PointHistoryIndex;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PointHistoryTable.selectAllByUserId (전체 스캔) 과 PointHistoryIndex 조회 지연 비교
+ * - 전체 히스토리 rows 건, 유저당 평균 100건
+ * - insert 의 throttle 때문에 수백만 건을 insert 로 채울 수 없어 테이블 내부 리스트에 직접 적재 (zero-throttle)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PointHistoryTableBenchmark {
+
+    private static final int ROWS_PER_USER = 100;
+
+    @Param({"10000", "1000000", "10000000"})
+    public int rows;
+
+    private PointHistoryTable table;
+    private PointHistoryIndex index;
+    private long users;
+    private long lookup;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        users = Math.max(rows / ROWS_PER_USER, 1);
+        table = new PointHistoryTable();
+        index = new PointHistoryIndex();
+
+        List<PointHistory> histories = field("table");
+        for (long id = 1; id <= rows; id++) {
+            PointHistory history = new PointHistory(id, id % users + 1, 10_000L, TransactionType.CHARGE, id);
+            histories.add(history);
+            index.add(history);
+        }
+        Field cursor = PointHistoryTable.class.getDeclaredField("cursor");
+        cursor.setAccessible(true);
+        cursor.setLong(table, rows + 1L);
+    }
+
+    @Benchmark
+    public List<PointHistory> tableScan() {
+        return table.selectAllByUserId(nextUserId());
+    }
+
+    @Benchmark
+    public List<PointHistory> index() {
+        return index.findAllByUserId(nextUserId());
+    }
+
+    private long nextUserId() {
+        lookup = (lookup + 7919L) % users;
+        return lookup + 1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<PointHistory> field(String name) throws ReflectiveOperationException {
+        Field field = PointHistoryTable.class.getDeclaredField(name);
+        field.setAccessible(true);
+        return (List<PointHistory>) field.get(table);
+    }
+}
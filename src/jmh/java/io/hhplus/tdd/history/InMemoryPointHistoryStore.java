@@ -0,0 +1,36 @@
+package io.hhplus.tdd.history;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+import java.util.List;
+
+/**
+ * throttle 없는 메모리 히스토리 저장소 (벤치마크의 zero-throttle 모드용)
+ * - insert / index 는 PointHistoryWriter 워커 한 스레드만 호출하므로 id 는 단순 증가
+ */
+public class InMemoryPointHistoryStore implements PointHistoryStore {
+
+    private final PointHistoryIndex pointHistoryIndex = new PointHistoryIndex();
+    private long cursor = 1;
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        return new PointHistory(cursor++, userId, amount, type, updateMillis);
+    }
+
+    @Override
+    public void index(PointHistory history) {
+        pointHistoryIndex.add(history);
+    }
+
+    @Override
+    public List<PointHistory> findByUserId(long userId, long cursor, int limit) {
+        return pointHistoryIndex.findByUserId(userId, cursor, limit);
+    }
+
+    @Override
+    public List<PointHistory> findAll(long cursor, int limit) {
+        return pointHistoryIndex.findAll(cursor, limit);
+    }
+}
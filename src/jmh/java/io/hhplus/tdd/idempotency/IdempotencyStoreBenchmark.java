@@ -0,0 +1,50 @@
+package io.hhplus.tdd.idempotency;
+
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이미 처리된 Idempotency-Key 재시도(hit) 비용
+ * - 10만 개의 key 가 보관된 상태에서 여러 스레드가 동시에 조회
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class IdempotencyStoreBenchmark {
+
+    private static final int KEYS = 100_000;
+
+    private IdempotencyStore store;
+    private String[] keys;
+
+    @Setup
+    public void setUp() {
+        store = new IdempotencyStore(KEYS, TimeUnit.HOURS.toMillis(1));
+        keys = new String[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            keys[i] = "key-" + i;
+            UserPoint result = new UserPoint(i, 10_000L, System.currentTimeMillis());
+            store.execute(i, keys[i], TransactionType.CHARGE, 10_000L, () -> result);
+        }
+    }
+
+    @Benchmark
+    @Threads(8)
+    public UserPoint hit() {
+        int i = ThreadLocalRandom.current().nextInt(KEYS);
+        return store.execute(i, keys[i], TransactionType.CHARGE, 10_000L, () -> {
+            throw new IllegalStateException("hit 경로에서 실행되면 안 됨");
+        });
+    }
+}
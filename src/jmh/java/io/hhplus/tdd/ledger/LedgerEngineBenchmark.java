@@ -0,0 +1,71 @@
+package io.hhplus.tdd.ledger;
+
+import io.hhplus.tdd.point.UserPoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ledger engine 처리량 (이벤트 sink 는 비용 없음)
+ * - roundTrip : 잔액 조회 명령 하나를 넣고 결과를 기다림 (요청 하나의 왕복 비용)
+ * - pipelined : 결과를 기다리지 않고 충전/사용 BATCH 개를 넣은 뒤 마지막 결과만 기다림 (엔진 자체의 처리량)
+ *               같은 유저에게 충전 -> 사용을 이어 보내 잔액이 한도를 벗어나지 않음
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LedgerEngineBenchmark {
+
+    private static final int USERS = 1_024;
+    private static final int BATCH = 1_000;
+
+    @Param({"1", "4"})
+    public int partitions;
+
+    private LedgerEngine engine;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        engine = new LedgerEngine(userId -> new UserPoint(userId, 1_000_000L, 0L), (updated, amount, type) -> { }, partitions, 65_536, USERS, 4);
+        engine.start();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        engine.stop();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public UserPoint roundTrip() {
+        long userId = ThreadLocalRandom.current().nextInt(USERS) + 1;
+        return engine.point(userId).join();
+    }
+
+    @Benchmark
+    @Threads(8)
+    @OperationsPerInvocation(BATCH)
+    public UserPoint pipelined() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        CompletableFuture<UserPoint> last = null;
+        for (int i = 0; i < BATCH; i += 2) {
+            long userId = random.nextInt(USERS) + 1;
+            engine.charge(userId, 10_000L);
+            last = engine.use(userId, 10_000L);
+        }
+        return last.join();
+    }
+}
@@ -0,0 +1,108 @@
+package io.hhplus.tdd.metrics;
+
+import io.hhplus.tdd.balance.offheap.OffHeapUserPointStore;
+import io.hhplus.tdd.cache.UserPointCache;
+import io.hhplus.tdd.history.InMemoryPointHistoryStore;
+import io.hhplus.tdd.history.PointHistoryWriter;
+import io.hhplus.tdd.lock.UserLockManager;
+import io.hhplus.tdd.service.PointService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 지표 기록이 핫패스에 더하는 비용
+ * - registry = noop       : 기록하지 않는 레지스트리 (계측 코드의 nanoTime 호출만 남음)
+ *   registry = prometheus : 실제 운영과 같은 Prometheus 레지스트리 (percentile histogram 포함)
+ * - timerRecord : Timer 한 번 기록, charge : throttle 없는 저장소 위에서 충전 + 사용 (스레드마다 다른 유저)
+ * 두 registry 의 charge 처리량 차이가 계측 오버헤드
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PointMetricsBenchmark {
+
+    private static final long AMOUNT = 10_000L;
+
+    @State(Scope.Benchmark)
+    public static class Service {
+
+        @Param({"noop", "prometheus"})
+        public String registry;
+
+        private final AtomicLong userIds = new AtomicLong();
+        private PointHistoryWriter pointHistoryWriter;
+        private PointService pointService;
+        private Timer timer;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            MeterRegistry meterRegistry = "noop".equals(registry)
+                    ? new CompositeMeterRegistry()
+                    : new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+            PointMetrics pointMetrics = new PointMetrics(meterRegistry);
+            timer = pointMetrics.serviceTimer("benchmark");
+            pointHistoryWriter = new PointHistoryWriter(new InMemoryPointHistoryStore(), List.of(), 10_000, 100, pointMetrics);
+            pointHistoryWriter.start();
+            pointService = new PointService(
+                    new UserPointCache(new OffHeapUserPointStore(1_024), 100_000, pointMetrics, List.of()),
+                    pointHistoryWriter, new UserLockManager(60_000L), pointMetrics, Optional.empty());
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            pointHistoryWriter.stop();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Caller {
+
+        private long userId;
+
+        @Setup(Level.Trial)
+        public void setUp(Service service) {
+            userId = service.userIds.incrementAndGet();
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void timerRecord(Service service) {
+        PointMetrics.record(service.timer, System.nanoTime() - 1_000L);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long charge_1thread(Service service, Caller caller) {
+        return chargeThenUse(service, caller);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long charge_8threads(Service service, Caller caller) {
+        return chargeThenUse(service, caller);
+    }
+
+    private long chargeThenUse(Service service, Caller caller) {
+        service.pointService.userPointCharge(caller.userId, AMOUNT);
+        return service.pointService.userPointUse(caller.userId, AMOUNT).point();
+    }
+}
@@ -0,0 +1,40 @@
+package io.hhplus.tdd.point;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * UserPoint.charge / use 검증 비용
+ * - 정상 경로는 객체를 만들지 않아야 함 : gc 프로파일러의 gc.alloc.rate.norm 이 0 B/op 인지 확인
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserPointBenchmark {
+
+    private UserPoint userPoint;
+    private long amount;
+
+    @Setup
+    public void setUp() {
+        userPoint = new UserPoint(1L, 500_000L, System.currentTimeMillis());
+        amount = 10_000L;
+    }
+
+    @Benchmark
+    public long charge() {
+        return userPoint.charge(amount);
+    }
+
+    @Benchmark
+    public long use() {
+        return userPoint.use(amount);
+    }
+}
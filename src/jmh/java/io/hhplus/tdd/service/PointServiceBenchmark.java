@@ -0,0 +1,122 @@
+package io.hhplus.tdd.service;
+
+import io.hhplus.tdd.balance.TableUserPointStore;
+import io.hhplus.tdd.balance.UserPointStore;
+import io.hhplus.tdd.balance.offheap.OffHeapUserPointStore;
+import io.hhplus.tdd.cache.UserPointCache;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.history.InMemoryPointHistoryStore;
+import io.hhplus.tdd.history.PointHistoryIndex;
+import io.hhplus.tdd.history.PointHistoryStore;
+import io.hhplus.tdd.history.PointHistoryWriter;
+import io.hhplus.tdd.history.TablePointHistoryStore;
+import io.hhplus.tdd.lock.UserLockManager;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * PointService.userPointCharge 처리량 (유저 락 + 캐시 + 히스토리 writer 포함)
+ * - 스레드 1 / 8 / 64, 모든 스레드가 같은 유저(same) 또는 스레드마다 다른 유저(distinct)
+ * - storage = zero : throttle 없는 저장소 (off-heap 잔액 + 메모리 히스토리) 로 서비스 자체 비용만 측정
+ *   storage = table : UserPointTable / PointHistoryTable 의 throttle 포함
+ * - 한 번의 호출에서 충전 후 같은 금액을 사용해 잔액이 최대 보유 포인트를 넘지 않게 유지
+ * - 지표는 기록하지 않는 레지스트리 사용 (지표 기록 비용은 PointMetricsBenchmark 에서 측정)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PointServiceBenchmark {
+
+    private static final long AMOUNT = 10_000L;
+
+    @State(Scope.Benchmark)
+    public static class Service {
+
+        @Param({"zero", "table"})
+        public String storage;
+
+        @Param({"same", "distinct"})
+        public String contention;
+
+        private final AtomicLong userIds = new AtomicLong();
+        private PointHistoryWriter pointHistoryWriter;
+        private PointService pointService;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            UserPointStore userPointStore;
+            PointHistoryStore pointHistoryStore;
+            if ("zero".equals(storage)) {
+                userPointStore = new OffHeapUserPointStore(1_024);
+                pointHistoryStore = new InMemoryPointHistoryStore();
+            } else {
+                userPointStore = new TableUserPointStore(64, UserPointTable::new);
+                pointHistoryStore = new TablePointHistoryStore(new PointHistoryTable(), new PointHistoryIndex());
+            }
+            PointMetrics pointMetrics = new PointMetrics(new CompositeMeterRegistry());
+            pointHistoryWriter = new PointHistoryWriter(pointHistoryStore, List.of(), 10_000, 100, pointMetrics);
+            pointHistoryWriter.start();
+            pointService = new PointService(
+                    new UserPointCache(userPointStore, 100_000, pointMetrics, List.of()), pointHistoryWriter, new UserLockManager(60_000L), pointMetrics, Optional.empty());
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            pointHistoryWriter.stop();
+        }
+
+        private long nextUserId() {
+            return "same".equals(contention) ? 1L : userIds.incrementAndGet();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Caller {
+
+        private long userId;
+
+        @Setup(Level.Trial)
+        public void setUp(Service service) {
+            userId = service.nextUserId();
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long charge_1thread(Service service, Caller caller) {
+        return chargeThenUse(service, caller);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long charge_8threads(Service service, Caller caller) {
+        return chargeThenUse(service, caller);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public long charge_64threads(Service service, Caller caller) {
+        return chargeThenUse(service, caller);
+    }
+
+    private long chargeThenUse(Service service, Caller caller) {
+        service.pointService.userPointCharge(caller.userId, AMOUNT);
+        return service.pointService.userPointUse(caller.userId, AMOUNT).point();
+    }
+}
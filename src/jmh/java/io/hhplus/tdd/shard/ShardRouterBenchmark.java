@@ -0,0 +1,69 @@
+package io.hhplus.tdd.shard;
+
+import io.hhplus.tdd.point.UserPoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 샤드 수에 따른 처리량 (서로 다른 유저만 다루는 부하)
+ * - shards = 1 은 단일 테이블 하나에 락 하나인 구조와 같음
+ * - 스레드 수(8) 이상의 코어에서 실행하면 샤드 수에 비례해 처리량이 늘어나는지 확인 가능
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ShardRouterBenchmark {
+
+    private static final int USERS_PER_THREAD = 1024;
+
+    @Param({"1", "2", "4", "8", "16"})
+    public int shards;
+
+    private ShardRouter router;
+    private final AtomicInteger threadIds = new AtomicInteger();
+
+    @Setup
+    public void setUp() {
+        router = new ShardRouter(shards, 128);
+    }
+
+    @TearDown
+    public void tearDown() {
+        router.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Users {
+        long base;
+        int next;
+
+        @Setup
+        public void setUp(ShardRouterBenchmark benchmark) {
+            base = (long) benchmark.threadIds.getAndIncrement() * USERS_PER_THREAD;
+        }
+
+        long nextUserId() {
+            next = (next + 1) & (USERS_PER_THREAD - 1);
+            return base + next + 1;
+        }
+    }
+
+    @Benchmark
+    @Threads(8)
+    public UserPoint chargeDistinctUsers(Users users) {
+        long userId = users.nextUserId();
+        UserPoint current = router.selectById(userId);
+        return router.insertOrUpdate(userId, current.point() + 1);
+    }
+}
@@ -1,5 +1,10 @@
 package io.hhplus.tdd;
 
+import io.hhplus.tdd.admission.AdmissionRejectedException;
+import io.hhplus.tdd.point.InvalidRequestException;
+import io.hhplus.tdd.replication.ReplicaRejectedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -7,6 +12,30 @@ import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExcep
 
 @RestControllerAdvice
 class ApiControllerAdvice extends ResponseEntityExceptionHandler {
+    // 부하 제한으로 거절한 요청은 서버 오류가 아니므로 429 + Retry-After
+    @ExceptionHandler(value = AdmissionRejectedException.class)
+    public ResponseEntity<ErrorResponse> handleAdmissionRejected(AdmissionRejectedException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.retryAfterSeconds))
+                .body(new ErrorResponse("429", e.getMessage()));
+    }
+
+    // 요청 파라미터가 잘못된 요청은 400
+    @ExceptionHandler(value = InvalidRequestException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidRequest(InvalidRequestException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new ErrorResponse("400", e.getMessage()));
+    }
+
+    // read replica 가 처리할 수 없는 요청 (쓰기 / 동기화 지연) 은 503, 재시도할 수 있으면 Retry-After
+    @ExceptionHandler(value = ReplicaRejectedException.class)
+    public ResponseEntity<ErrorResponse> handleReplicaRejected(ReplicaRejectedException e) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE);
+        if (e.retryAfterSeconds > 0) {
+            builder.header(HttpHeaders.RETRY_AFTER, String.valueOf(e.retryAfterSeconds));
+        }
+        return builder.body(new ErrorResponse("503", e.getMessage()));
+    }
+
     @ExceptionHandler(value = Exception.class)
     public ResponseEntity<ErrorResponse> handleException(Exception e) {
         return ResponseEntity.status(500).body(new ErrorResponse("500", "에러가 발생했습니다."));
@@ -0,0 +1,104 @@
+package io.hhplus.tdd.admission;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * 관측된 처리 시간에 따라 동시 처리 한도를 조절하는 동시성 제한기 (AIMD)
+ * - 처리 중인 요청 수가 한도 이상이면 대기열에 쌓지 않고 즉시 거절
+ * - 처리 시간이 latency-threshold 를 넘으면 한도를 backoff-ratio 배로 줄임 (multiplicative decrease)
+ *   줄이기 전부터 처리 중이던 요청들의 느린 응답으로 연달아 줄지 않도록 threshold 동안 한 번만 줄임
+ * - 한도의 절반 이상을 쓰는 중에 빨리 끝나면 한도를 1/limit 씩 늘림 (additive increase, 한도만큼 끝나면 +1)
+ * - 처리 중 수와 한도는 CAS 로만 갱신 (락 없음)
+ */
+@Component
+public class AdaptiveConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    // double 한도를 bit 그대로 저장
+    private final AtomicLong limitBits;
+    private final AtomicLong lastDecreaseNanos;
+
+    public AdaptiveConcurrencyLimiter(
+            @Value("${point.admission.initial-limit:64}") int initialLimit,
+            @Value("${point.admission.min-limit:4}") int minLimit,
+            @Value("${point.admission.max-limit:1000}") int maxLimit,
+            @Value("${point.admission.latency-threshold-millis:1000}") long latencyThresholdMillis,
+            @Value("${point.admission.backoff-ratio:0.9}") double backoffRatio) {
+        if (minLimit < 1 || minLimit > maxLimit || backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("1 <= min-limit <= max-limit, 0 < backoff-ratio < 1 이어야 합니다.");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = TimeUnit.MILLISECONDS.toNanos(latencyThresholdMillis);
+        this.backoffRatio = backoffRatio;
+        this.limitBits = new AtomicLong(Double.doubleToLongBits(Math.max(minLimit, Math.min(maxLimit, initialLimit))));
+        this.lastDecreaseNanos = new AtomicLong(System.nanoTime() - latencyThresholdNanos);
+    }
+
+    /** tryAcquire
+     * 한도 안이면 처리 중 수를 하나 늘리고 true, 한도에 닿았으면 false (호출자는 즉시 거절)
+     * @return boolean
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit()) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /** release
+     * tryAcquire 로 받은 처리를 끝내고 처리 시간을 한도 조절에 반영
+     * @param latencyNanos
+     */
+    public void release(long latencyNanos) {
+        int before = inFlight.getAndDecrement();
+        if (latencyNanos > latencyThresholdNanos) {
+            long now = System.nanoTime();
+            long last = lastDecreaseNanos.get();
+            if (now - last >= latencyThresholdNanos && lastDecreaseNanos.compareAndSet(last, now)) {
+                update(limit -> Math.max(minLimit, limit * backoffRatio));
+            }
+        } else if (before * 2 >= limit()) {
+            update(limit -> Math.min(maxLimit, limit + 1.0 / limit));
+        }
+    }
+
+    /**
+     * 현재 동시 처리 한도
+     */
+    public int limit() {
+        return (int) Double.longBitsToDouble(limitBits.get());
+    }
+
+    /**
+     * 현재 처리 중인 요청 수
+     */
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    private void update(DoubleUnaryOperator operator) {
+        while (true) {
+            long current = limitBits.get();
+            long next = Double.doubleToLongBits(operator.applyAsDouble(Double.longBitsToDouble(current)));
+            if (current == next || limitBits.compareAndSet(current, next)) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package io.hhplus.tdd.admission;
+
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.point.POINT_STATUS;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+/**
+ * 포인트 API 앞단의 부하 제한
+ * - 충전/사용(PATCH) 요청은 먼저 유저별 속도 제한을 확인해 한 유저가 처리 용량을 독차지하지 못하게 함
+ * - 그다음 동시 처리 한도를 확인하고, 넘으면 PointService 를 호출하지 않고 바로 429
+ * - 처리 시간(핸들러 시작 ~ 응답 완료)을 동시 처리 한도 조절에 반영
+ * 비동기(CompletableFuture) 응답은 ASYNC 재디스패치가 끝날 때 한 번만 반영
+ */
+@Component
+public class AdmissionInterceptor implements HandlerInterceptor {
+
+    private static final String STARTED = AdmissionInterceptor.class.getName() + ".started";
+    private static final long RETRY_AFTER_SECONDS = 1L;
+
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final UserRateLimiter userRateLimiter;
+    private final PointMetrics pointMetrics;
+
+    public AdmissionInterceptor(AdaptiveConcurrencyLimiter concurrencyLimiter, UserRateLimiter userRateLimiter, PointMetrics pointMetrics) {
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.userRateLimiter = userRateLimiter;
+        this.pointMetrics = pointMetrics;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+        if ("PATCH".equals(request.getMethod())) {
+            Long userId = pathUserId(request);
+            if (userId != null && !userRateLimiter.tryAcquire(userId)) {
+                pointMetrics.failure(POINT_STATUS.RATE_LIMITED);
+                throw new AdmissionRejectedException(POINT_STATUS.RATE_LIMITED, "요청이 너무 잦습니다. 잠시 후 다시 시도해 주세요.", RETRY_AFTER_SECONDS);
+            }
+        }
+        if (!concurrencyLimiter.tryAcquire()) {
+            pointMetrics.failure(POINT_STATUS.OVERLOADED);
+            throw new AdmissionRejectedException(POINT_STATUS.OVERLOADED, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.", RETRY_AFTER_SECONDS);
+        }
+        request.setAttribute(STARTED, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(STARTED) instanceof Long started) {
+            request.removeAttribute(STARTED);
+            concurrencyLimiter.release(System.nanoTime() - started);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Long pathUserId(HttpServletRequest request) {
+        Object variables = request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (!(variables instanceof Map<?, ?> map) || !(map.get("id") instanceof String id)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(id);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
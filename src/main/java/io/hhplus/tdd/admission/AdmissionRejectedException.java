@@ -0,0 +1,19 @@
+package io.hhplus.tdd.admission;
+
+import io.hhplus.tdd.point.POINT_STATUS;
+import io.hhplus.tdd.point.UserPointException;
+
+/**
+ * 부하 제한으로 처리하지 않고 거절한 요청 (ApiControllerAdvice 가 429 로 응답)
+ * - OVERLOADED   : 동시 처리 한도 초과
+ * - RATE_LIMITED : 유저별 요청 속도 한도 초과
+ */
+public class AdmissionRejectedException extends UserPointException {
+
+    public final long retryAfterSeconds;
+
+    public AdmissionRejectedException(POINT_STATUS status, String message, long retryAfterSeconds) {
+        super(status, message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
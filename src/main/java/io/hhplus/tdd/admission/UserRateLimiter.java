@@ -0,0 +1,118 @@
+package io.hhplus.tdd.admission;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 유저별 요청 속도 제한 (token bucket)
+ * - 초당 rate-per-second 개씩 채워지고 최대 burst 개까지 모이는 토큰을 요청마다 하나씩 사용
+ * - 버킷 상태를 "다음 토큰이 비는 이론상 시각(TAT)" long 하나로 표현해(GCRA) CAS 한 번으로 확인 + 차감 (락 없음)
+ *   TAT - now <= burst 간격이면 토큰이 남은 것, 지금보다 과거면 버킷이 가득 찬 것
+ * - 추적 중인 유저는 max-tracked-users 를 넘지 않음
+ *   새 유저를 추가해 한도를 넘으면 가장 먼저 추가된 유저부터 하나씩 정리 (요청마다 O(1), 전체 순회 없음)
+ *   아직 토큰을 쓰고 있는 버킷은 정리하면 burst 를 다시 주게 되므로 맨 뒤로 돌려 한 번 더 기회를 주고,
+ *   SECOND_CHANCES 번 연속이면 한도를 지키기 위해 그대로 정리
+ * - 정리된 버킷은 TAT 를 EVICTED 로 바꿔 두므로, 그 버킷을 이미 잡고 있던 요청은 CAS 에 실패하고 새 버킷으로 다시 시도
+ */
+@Component
+public class UserRateLimiter {
+
+    private static final long EVICTED = Long.MIN_VALUE;
+    private static final int SECOND_CHANCES = 8;
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final int maxTrackedUsers;
+    private final ConcurrentHashMap<Long, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Long> insertionOrder = new ConcurrentLinkedQueue<>();
+
+    public UserRateLimiter(
+            @Value("${point.admission.user.rate-per-second:20}") double ratePerSecond,
+            @Value("${point.admission.user.burst:40}") int burst,
+            @Value("${point.admission.user.max-tracked-users:100000}") int maxTrackedUsers) {
+        if (ratePerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("rate-per-second 는 0 보다, burst 는 1 이상이어야 합니다.");
+        }
+        this.intervalNanos = Math.max(1L, (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond));
+        this.burstNanos = intervalNanos * burst;
+        this.maxTrackedUsers = maxTrackedUsers;
+    }
+
+    /** tryAcquire
+     * userId 의 토큰이 남아 있으면 하나 쓰고 true, 없으면 false
+     * @param userId
+     * @return boolean
+     */
+    public boolean tryAcquire(long userId) {
+        long now = System.nanoTime();
+        AtomicLong tat = bucketOf(userId, now);
+        while (true) {
+            long current = tat.get();
+            if (current == EVICTED) {
+                tat = bucketOf(userId, now);
+                continue;
+            }
+            long next = (current - now > 0 ? current : now) + intervalNanos;
+            if (next - now > burstNanos) {
+                return false;
+            }
+            if (tat.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 추적 중인 유저 수
+     */
+    public int trackedUsers() {
+        return buckets.size();
+    }
+
+    private AtomicLong bucketOf(long userId, long now) {
+        AtomicLong tat = buckets.get(userId);
+        if (tat != null) {
+            return tat;
+        }
+        AtomicLong created = new AtomicLong(now);
+        tat = buckets.putIfAbsent(userId, created);
+        if (tat != null) {
+            return tat;
+        }
+        insertionOrder.add(userId);
+        evictOverflow(now);
+        return created;
+    }
+
+    // 한도를 넘은 만큼 가장 먼저 추가된 유저부터 정리
+    // 가득 찬 버킷은 지워도 다음 요청 때 가득 찬 상태로 다시 만들어지므로 결과가 같음
+    private void evictOverflow(long now) {
+        int secondChances = 0;
+        while (buckets.size() > maxTrackedUsers) {
+            Long userId = insertionOrder.poll();
+            if (userId == null) {
+                return;
+            }
+            AtomicLong tat = buckets.get(userId);
+            long current = tat == null ? EVICTED : tat.get();
+            if (current == EVICTED) {
+                continue;
+            }
+            if (current - now > 0 && secondChances++ < SECOND_CHANCES) {
+                insertionOrder.add(userId);
+                continue;
+            }
+            if (tat.compareAndSet(current, EVICTED)) {
+                buckets.remove(userId, tat);
+            } else {
+                // 그 사이 토큰을 쓴 요청이 있으면 다음 차례에 다시 확인
+                insertionOrder.add(userId);
+            }
+        }
+    }
+}
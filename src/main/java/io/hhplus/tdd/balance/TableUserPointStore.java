@@ -0,0 +1,111 @@
+package io.hhplus.tdd.balance;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.UserPoint;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * UserPointTable 기반 잔액 저장소 (기본값, point.balance.store = table)
+ * UserPointTable 은 동기화되지 않은 HashMap 이므로 서로 다른 유저의 쓰기라도 같은 테이블에서 동시에 실행되면
+ * resize 도중 잔액이 유실되거나 map 이 깨질 수 있음
+ * - 유저를 userId 해시로 stripes 개의 UserPointTable 에 나누고, 테이블마다 writeLock 하나로 쓰기를 한 번에 하나씩
+ *   (테이블은 변경할 수 없으므로 쓰기 지연(sleep)까지 직렬화되지만, 다른 테이블의 유저와는 병렬로 실행)
+ * - 조회는 락 없이 실행하고, 조회 도중 같은 테이블에 쓰기가 있었으면(writeSeq 변경) 다시 조회 (seqlock)
+ *   OPTIMISTIC_READS 번 안에 쓰기와 겹치지 않는 조회를 얻지 못하면 그 테이블의 writeLock 을 잡고 조회
+ */
+@Component
+@ConditionalOnProperty(name = "point.balance.store", havingValue = "table", matchIfMissing = true)
+public class TableUserPointStore implements UserPointStore {
+
+    private static final int OPTIMISTIC_READS = 3;
+
+    private final Stripe[] stripes;
+
+    @Autowired
+    public TableUserPointStore(@Value("${point.balance.table.stripes:64}") int stripes) {
+        this(stripes, UserPointTable::new);
+    }
+
+    /**
+     * 테이블 하나만 쓰는 저장소 (테스트에서 동작을 바꾼 테이블을 넣을 때)
+     */
+    public TableUserPointStore(UserPointTable userPointTable) {
+        this(1, () -> userPointTable);
+    }
+
+    public TableUserPointStore(int stripes, Supplier<UserPointTable> tables) {
+        if (stripes <= 0) {
+            throw new IllegalArgumentException("stripes 는 1 이상이어야 합니다.");
+        }
+        this.stripes = new Stripe[stripes];
+        for (int i = 0; i < stripes; i++) {
+            this.stripes[i] = new Stripe(tables.get());
+        }
+    }
+
+    @Override
+    public UserPoint selectById(long id) {
+        Stripe stripe = stripe(id);
+        for (int attempt = 0; attempt < OPTIMISTIC_READS; attempt++) {
+            long before = stripe.writeSeq.get();
+            if ((before & 1) != 0) {
+                continue;
+            }
+            UserPoint userPoint;
+            try {
+                userPoint = stripe.table.selectById(id);
+            } catch (RuntimeException e) {
+                // 쓰기와 겹쳐 map 이 일시적으로 깨진 상태를 읽었을 수 있으므로 겹쳤으면 다시 조회
+                if (stripe.writeSeq.get() != before) {
+                    continue;
+                }
+                throw e;
+            }
+            if (stripe.writeSeq.get() == before) {
+                return userPoint;
+            }
+        }
+        stripe.writeLock.lock();
+        try {
+            return stripe.table.selectById(id);
+        } finally {
+            stripe.writeLock.unlock();
+        }
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        Stripe stripe = stripe(id);
+        stripe.writeLock.lock();
+        stripe.writeSeq.incrementAndGet();
+        try {
+            return stripe.table.insertOrUpdate(id, amount);
+        } finally {
+            stripe.writeSeq.incrementAndGet();
+            stripe.writeLock.unlock();
+        }
+    }
+
+    private Stripe stripe(long id) {
+        long h = id * 0x9E3779B97F4A7C15L;
+        return stripes[(int) ((h ^ (h >>> 32)) & 0x7fffffffL) % stripes.length];
+    }
+
+    private static final class Stripe {
+        private final UserPointTable table;
+        private final ReentrantLock writeLock = new ReentrantLock();
+        // 쓰기 시작과 끝에 1 씩 증가, 홀수면 쓰기 진행 중
+        private final AtomicLong writeSeq = new AtomicLong();
+
+        private Stripe(UserPointTable table) {
+            this.table = table;
+        }
+    }
+}
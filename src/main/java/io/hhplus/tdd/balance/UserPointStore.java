@@ -0,0 +1,15 @@
+package io.hhplus.tdd.balance;
+
+import io.hhplus.tdd.point.UserPoint;
+
+/**
+ * 유저 포인트 잔액 저장소
+ * - UserPointTable 과 같은 계약 : 없는 유저는 point = 0 으로 조회, insertOrUpdate 는 잔액을 덮어씀
+ * - 같은 유저에 대한 insertOrUpdate 는 호출자(유저 락)가 직렬화
+ */
+public interface UserPointStore {
+
+    UserPoint selectById(long id);
+
+    UserPoint insertOrUpdate(long id, long amount);
+}
@@ -0,0 +1,214 @@
+package io.hhplus.tdd.balance.durable;
+
+import io.hhplus.tdd.point.UserPoint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 잔액 스냅샷 파일 (바이너리)
+ * - header : magic(4) | seq(8)   seq 는 스냅샷 시작 시점에 WAL 에 기록된 마지막 seq
+ * - entry  : userId(8) | point(8) | updateMillis(8)
+ * - footer : count(8) | crc32(8)
+ * 임시 파일에 모두 쓰고 fsync 한 뒤 이름을 바꾸므로, 기록 도중 종료되어도 이전 스냅샷이 남음
+ */
+final class BalanceSnapshot {
+
+    static final int ENTRY_BYTES = 24;
+    private static final Logger log = LoggerFactory.getLogger(BalanceSnapshot.class);
+    private static final int MAGIC = 0x50545331;
+    private static final int HEADER_BYTES = 12;
+    private static final int FOOTER_BYTES = 16;
+    private static final int BUFFER_BYTES = 64 * 1024;
+    private static final String PREFIX = "snapshot-";
+    private static final String SUFFIX = ".snap";
+
+    private BalanceSnapshot() {
+    }
+
+    /** write
+     * balances 를 seq 시점의 스냅샷으로 기록하고 이전 스냅샷 삭제
+     * @param directory, seq, balances
+     */
+    static void write(Path directory, long seq, Iterable<UserPoint> balances) {
+        Path target = directory.resolve(String.format("%s%020d%s", PREFIX, seq, SUFFIX));
+        Path temp = directory.resolve(target.getFileName() + ".tmp");
+        CRC32 crc = new CRC32();
+        long count = 0;
+        try (FileChannel channel = FileChannel.open(temp,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES);
+            buffer.putInt(MAGIC).putLong(seq);
+            for (UserPoint userPoint : balances) {
+                if (buffer.remaining() < ENTRY_BYTES) {
+                    drain(channel, buffer);
+                }
+                int start = buffer.position();
+                buffer.putLong(userPoint.id()).putLong(userPoint.point()).putLong(userPoint.updateMillis());
+                updateCrc(crc, buffer, start);
+                count++;
+            }
+            if (buffer.remaining() < FOOTER_BYTES) {
+                drain(channel, buffer);
+            }
+            buffer.putLong(count).putLong(crc.getValue());
+            drain(channel, buffer);
+            channel.force(true);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            // rename 자체가 디스크에 반영되어야 crash 후에도 새 스냅샷이 보임 (이전 스냅샷은 그 뒤에 삭제)
+            syncDirectory(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        for (Path old : listFiles(directory)) {
+            if (seqOf(old) < seq) {
+                try {
+                    Files.deleteIfExists(old);
+                } catch (IOException e) {
+                    log.warn("이전 스냅샷 삭제 실패: {}", old);
+                }
+            }
+        }
+    }
+
+    /** syncDirectory
+     * 디렉터리를 fsync 해 파일 생성 / rename 을 디스크에 반영
+     * - 디렉터리를 열 수 없는 파일 시스템(Windows 등)에서는 건너뜀
+     * @param directory
+     */
+    static void syncDirectory(Path directory) throws IOException {
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(directory, StandardOpenOption.READ);
+        } catch (IOException | UnsupportedOperationException e) {
+            log.debug("디렉터리 fsync 를 지원하지 않습니다: {}", directory);
+            return;
+        }
+        try (channel) {
+            channel.force(true);
+        }
+    }
+
+    /** load
+     * 가장 최근의 온전한 스냅샷을 읽어 consumer 에 전달
+     * - crc 가 맞지 않는 스냅샷은 건너뛰고 그 이전 스냅샷 사용
+     * @param directory, consumer
+     * @return 스냅샷 seq (스냅샷이 없으면 0)
+     */
+    static long load(Path directory, Consumer<UserPoint> consumer) {
+        List<Path> files = listFiles(directory);
+        for (int i = files.size() - 1; i >= 0; i--) {
+            Path file = files.get(i);
+            if (read(file, null)) {
+                read(file, consumer);
+                return seqOf(file);
+            }
+            log.warn("손상된 스냅샷을 건너뜁니다: {}", file);
+        }
+        return 0L;
+    }
+
+    // consumer 가 null 이면 검증만 수행
+    private static boolean read(Path file, Consumer<UserPoint> consumer) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES + FOOTER_BYTES || (size - HEADER_BYTES - FOOTER_BYTES) % ENTRY_BYTES != 0) {
+                return false;
+            }
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            readFully(channel, header, 0);
+            if (header.getInt(0) != MAGIC) {
+                return false;
+            }
+            ByteBuffer footer = ByteBuffer.allocate(FOOTER_BYTES);
+            readFully(channel, footer, size - FOOTER_BYTES);
+            long count = footer.getLong(0);
+            if (count != (size - HEADER_BYTES - FOOTER_BYTES) / ENTRY_BYTES) {
+                return false;
+            }
+
+            CRC32 crc = new CRC32();
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES / ENTRY_BYTES * ENTRY_BYTES);
+            long position = HEADER_BYTES;
+            long end = size - FOOTER_BYTES;
+            while (position < end) {
+                buffer.clear();
+                buffer.limit((int) Math.min(buffer.capacity(), end - position));
+                readFully(channel, buffer, position);
+                position += buffer.limit();
+                for (int offset = 0; offset < buffer.limit(); offset += ENTRY_BYTES) {
+                    if (consumer == null) {
+                        updateCrc(crc, buffer, offset);
+                    } else {
+                        consumer.accept(new UserPoint(
+                                buffer.getLong(offset), buffer.getLong(offset + 8), buffer.getLong(offset + 16)));
+                    }
+                }
+            }
+            return consumer != null || crc.getValue() == footer.getLong(8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void updateCrc(CRC32 crc, ByteBuffer buffer, int offset) {
+        for (int i = offset; i < offset + ENTRY_BYTES; i++) {
+            crc.update(buffer.get(i));
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        long offset = position;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, offset);
+            if (read < 0) {
+                throw new IOException("스냅샷 파일이 예상보다 짧습니다.");
+            }
+            offset += read;
+        }
+        buffer.flip();
+    }
+
+    private static void drain(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static long seqOf(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+
+    private static List<Path> listFiles(Path directory) {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> {
+                        String name = file.getFileName().toString();
+                        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+                    })
+                    .sorted(Comparator.comparingLong(BalanceSnapshot::seqOf))
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package io.hhplus.tdd.balance.durable;
+
+import io.hhplus.tdd.balance.UserPointStore;
+import io.hhplus.tdd.point.UserPoint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * WAL + 스냅샷 기반 영속 잔액 저장소 (point.balance.store = durable)
+ * - insertOrUpdate 는 WAL 에 기록하고 디스크 반영(fsync)까지 확인한 뒤 반환
+ *   (동시에 들어온 쓰기들은 한 번의 fsync 로 함께 반영)
+ * - 주기적으로 쓰기를 멈추지 않고 전체 잔액의 바이너리 스냅샷을 남기고, 스냅샷 이전의 WAL 은 삭제
+ *   스냅샷 도중의 쓰기가 일부 섞일 수 있지만(fuzzy) WAL 레코드는 변경 후 잔액 값이라 다시 적용해도 결과가 같음
+ * - 기동 시 최신 스냅샷을 읽고 그 이후의 WAL 만 재적용하므로 복구 시간은 전체 거래 수가 아닌 스냅샷 크기에 비례
+ * - fsync 가 실패하면 메모리의 잔액을 이전 값으로 되돌리고 실패를 그대로 던짐, WAL 은 이후 기록을 모두 거절하므로 재기동이 필요
+ *   (실패로 응답한 쓰기도 운영체제가 이미 디스크에 내렸다면 재기동 후 WAL 재적용으로 반영될 수 있음)
+ */
+@Component
+@ConditionalOnProperty(name = "point.balance.store", havingValue = "durable")
+public class DurableUserPointStore implements UserPointStore, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(DurableUserPointStore.class);
+
+    private final Path directory;
+    private final ConcurrentHashMap<Long, UserPoint> balances = new ConcurrentHashMap<>();
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final ReentrantLock snapshotLock = new ReentrantLock();
+    private final WriteAheadLog wal;
+    private final ScheduledExecutorService snapshotScheduler;
+
+    private long snapshotSeq;
+
+    @Autowired
+    public DurableUserPointStore(
+            @Value("${point.balance.durable.dir:./data/balance}") String directory,
+            @Value("${point.balance.durable.snapshot-interval-seconds:60}") long snapshotIntervalSeconds) {
+        this(directory, snapshotIntervalSeconds, WalChannelFactory.DEFAULT);
+    }
+
+    public DurableUserPointStore(String directory, long snapshotIntervalSeconds, WalChannelFactory channels) {
+        this.directory = Paths.get(directory);
+        createDirectories(this.directory);
+
+        long started = System.nanoTime();
+        snapshotSeq = BalanceSnapshot.load(this.directory, userPoint -> balances.put(userPoint.id(), userPoint));
+        wal = WriteAheadLog.open(this.directory, snapshotSeq, channels, record ->
+                balances.put(record.userId(), new UserPoint(record.userId(), record.point(), record.updateMillis())));
+        log.info("잔액 복구 완료 (users={}, snapshotSeq={}, lastSeq={}, {}ms)",
+                balances.size(), snapshotSeq, wal.lastSeq(), (System.nanoTime() - started) / 1_000_000);
+
+        snapshotScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "point-balance-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        snapshotScheduler.scheduleWithFixedDelay(this::snapshotQuietly,
+                snapshotIntervalSeconds, snapshotIntervalSeconds, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public UserPoint selectById(long id) {
+        return balances.getOrDefault(id, UserPoint.empty(id));
+    }
+
+    // WAL 기록 순서와 메모리 반영 순서가 같도록 appendLock 안에서 함께 처리, fsync 는 락 밖에서 대기
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+        long seq;
+        UserPoint previous;
+        appendLock.lock();
+        try {
+            seq = wal.append(id, amount, userPoint.updateMillis());
+            previous = balances.put(id, userPoint);
+        } finally {
+            appendLock.unlock();
+        }
+        try {
+            wal.commit(seq);
+        } catch (RuntimeException e) {
+            rollback(id, userPoint, previous);
+            throw e;
+        }
+        return userPoint;
+    }
+
+    // 디스크 반영을 확인하지 못한 값이 조회되지 않도록 되돌림 (그 사이 다른 값으로 바뀌었으면 그대로 둠)
+    private void rollback(long id, UserPoint userPoint, UserPoint previous) {
+        appendLock.lock();
+        try {
+            if (previous == null) {
+                balances.remove(id, userPoint);
+            } else {
+                balances.replace(id, userPoint, previous);
+            }
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /** snapshot
+     * 현재 잔액 전체를 스냅샷으로 남기고 스냅샷에 포함된 WAL 파일 삭제
+     * - WAL 파일 전환만 appendLock 안에서 하고, 스냅샷 기록 중에는 쓰기를 막지 않음
+     */
+    public void snapshot() {
+        snapshotLock.lock();
+        try {
+            long seq;
+            appendLock.lock();
+            try {
+                if (wal.lastSeq() == snapshotSeq) {
+                    return;
+                }
+                seq = wal.roll();
+            } finally {
+                appendLock.unlock();
+            }
+            BalanceSnapshot.write(directory, seq, balances.values());
+            wal.deleteUpTo(seq);
+            snapshotSeq = seq;
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    /**
+     * 저장된 유저 수
+     */
+    public int size() {
+        return balances.size();
+    }
+
+    @Override
+    public void close() {
+        snapshotScheduler.shutdown();
+        wal.close();
+    }
+
+    private void snapshotQuietly() {
+        try {
+            snapshot();
+        } catch (RuntimeException e) {
+            log.error("잔액 스냅샷 실패", e);
+        }
+    }
+
+    private static void createDirectories(Path directory) {
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
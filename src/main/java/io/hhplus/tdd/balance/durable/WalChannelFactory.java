@@ -0,0 +1,17 @@
+package io.hhplus.tdd.balance.durable;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * WAL 파일을 기록용으로 여는 방법 (기본은 FileChannel.open, 테스트에서 디스크 장애를 흉내 낼 때 교체)
+ */
+@FunctionalInterface
+public interface WalChannelFactory {
+
+    WalChannelFactory DEFAULT = file -> FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+
+    FileChannel open(Path file) throws IOException;
+}
@@ -0,0 +1,12 @@
+package io.hhplus.tdd.balance.durable;
+
+/**
+ * WAL 레코드 하나 (잔액 변경 후의 값을 그대로 기록하므로 여러 번 적용해도 결과가 같음)
+ */
+record WalRecord(
+        long seq,
+        long userId,
+        long point,
+        long updateMillis
+) {
+}
@@ -0,0 +1,290 @@
+package io.hhplus.tdd.balance.durable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 잔액 변경 WAL (write-ahead log)
+ * - 레코드 40 byte : seq(8) | userId(8) | point(8) | updateMillis(8) | crc32(8)
+ * - 파일 이름은 파일의 첫 번째 seq (wal-00000000000000000001.log), 스냅샷 시점마다 새 파일로 전환
+ * - append 는 호출자가 직렬화, commit 은 여러 스레드가 동시에 호출 가능하며
+ *   먼저 들어온 스레드가 그때까지 쓰인 레코드를 한 번에 fsync (group commit)
+ * - 기록 도중 실패하면 마지막 온전한 레코드 위치로 파일을 잘라 뒤이은 레코드가 깨진 레코드 뒤에 쓰이지 않도록 함
+ *   (replay 는 깨진 레코드에서 멈추므로 그 뒤의 레코드가 모두 유실됨) 잘라내지 못하면 이후 기록을 모두 거절
+ * - fsync 가 실패하면 어디까지 디스크에 반영됐는지 알 수 없으므로 이후 기록과 commit 을 모두 거절
+ */
+final class WriteAheadLog implements AutoCloseable {
+
+    static final int RECORD_BYTES = 40;
+    private static final Logger log = LoggerFactory.getLogger(WriteAheadLog.class);
+    private static final String PREFIX = "wal-";
+    private static final String SUFFIX = ".log";
+
+    private final Path directory;
+    private final WalChannelFactory channels;
+    private final ByteBuffer record = ByteBuffer.allocateDirect(RECORD_BYTES);
+    private final CRC32 crc = new CRC32();
+    private final ReentrantLock syncLock = new ReentrantLock();
+
+    private FileChannel channel;
+    private Path currentFile;
+    // 현재 파일에서 온전한 레코드가 끝나는 위치
+    private long writePosition;
+    // 실패한 기록을 잘라내지 못했거나 fsync 가 실패한 경우의 원인, 이후 append / commit 은 모두 거절
+    private volatile IOException poisoned;
+    private long currentFirstSeq;
+    private long replayedSeq;
+    private volatile long lastSeq;
+    private volatile long durableSeq;
+
+    private WriteAheadLog(Path directory, WalChannelFactory channels) {
+        this.directory = directory;
+        this.channels = channels;
+    }
+
+    /** open
+     * WAL 파일들을 순서대로 읽어 afterSeq 이후의 레코드를 replay 에 전달하고, 마지막 파일에 이어서 기록할 수 있도록 염
+     * - crc 가 맞지 않거나 seq 가 이어지지 않는 레코드(기록 도중 종료)부터는 잘라냄
+     * @param directory, afterSeq(스냅샷에 이미 반영된 마지막 seq), channels, replay
+     * @return WriteAheadLog
+     */
+    static WriteAheadLog open(Path directory, long afterSeq, WalChannelFactory channels, Consumer<WalRecord> replay) {
+        WriteAheadLog wal = new WriteAheadLog(directory, channels);
+        wal.lastSeq = afterSeq;
+        List<Path> files = listFiles(directory);
+        for (int i = 0; i < files.size(); i++) {
+            boolean last = (i == files.size() - 1);
+            long validBytes = wal.replay(files.get(i), afterSeq, replay);
+            if (last) {
+                wal.openForAppend(files.get(i), validBytes);
+            } else if (validBytes < size(files.get(i))) {
+                throw new IllegalStateException("WAL 중간 파일이 손상되었습니다: " + files.get(i));
+            }
+        }
+        if (wal.channel == null) {
+            wal.openForAppend(wal.fileFor(afterSeq + 1), 0L);
+        }
+        wal.durableSeq = wal.lastSeq;
+        return wal;
+    }
+
+    /** append
+     * 레코드를 기록하고 seq 반환 (commit 전까지는 디스크 반영이 보장되지 않음)
+     */
+    long append(long userId, long point, long updateMillis) {
+        checkWritable();
+        long seq = lastSeq + 1;
+        record.clear();
+        record.putLong(seq).putLong(userId).putLong(point).putLong(updateMillis);
+        record.putLong(checksum(record, 32));
+        record.flip();
+        try {
+            while (record.hasRemaining()) {
+                channel.write(record);
+            }
+        } catch (IOException e) {
+            discardPartialRecord(e);
+            throw new UncheckedIOException(e);
+        }
+        writePosition += RECORD_BYTES;
+        lastSeq = seq;
+        return seq;
+    }
+
+    // 일부만 쓰인 레코드를 잘라내고 다음 레코드를 마지막 온전한 레코드 바로 뒤에 쓰도록 위치를 되돌림
+    private void discardPartialRecord(IOException cause) {
+        try {
+            channel.truncate(writePosition);
+            channel.position(writePosition);
+        } catch (IOException e) {
+            cause.addSuppressed(e);
+            poisoned = cause;
+            log.error("WAL 기록 실패 후 잘라내기 실패, 이후 기록을 거절합니다: {}", currentFile, cause);
+        }
+    }
+
+    /** commit
+     * seq 까지의 레코드가 디스크에 반영될 때까지 대기
+     * - 이미 다른 스레드의 fsync 로 반영되었으면 바로 반환
+     * - fsync 가 실패하면 예외를 던지고 이후 기록을 모두 거절 (같은 fsync 를 기다리던 레코드도 반영되지 않은 것으로 처리)
+     */
+    void commit(long seq) {
+        if (durableSeq >= seq) {
+            return;
+        }
+        syncLock.lock();
+        try {
+            if (durableSeq >= seq) {
+                return;
+            }
+            checkWritable();
+            long target = lastSeq;
+            channel.force(false);
+            durableSeq = target;
+        } catch (IOException e) {
+            poisoned = e;
+            log.error("WAL fsync 실패, 이후 기록을 거절합니다: {}", currentFile, e);
+            throw new UncheckedIOException(e);
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private void checkWritable() {
+        if (poisoned != null) {
+            throw new IllegalStateException("WAL 에 더 이상 기록할 수 없습니다: " + currentFile, poisoned);
+        }
+    }
+
+    /** roll
+     * 현재 파일을 닫고 새 파일로 전환, 전환 직전의 마지막 seq 반환 (호출자가 append 와 직렬화)
+     */
+    long roll() {
+        syncLock.lock();
+        try {
+            checkWritable();
+            channel.force(false);
+            channel.close();
+            durableSeq = lastSeq;
+            openForAppend(fileFor(lastSeq + 1), 0L);
+            return lastSeq;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * 현재 기록 중인 파일보다 앞선 파일 중 seq 가 모두 upToSeq 이하인 파일 삭제
+     */
+    void deleteUpTo(long upToSeq) {
+        for (Path file : listFiles(directory)) {
+            long firstSeq = firstSeqOf(file);
+            if (firstSeq < currentFirstSeq && currentFirstSeq <= upToSeq + 1) {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException e) {
+                    log.warn("WAL 파일 삭제 실패: {}", file);
+                }
+            }
+        }
+    }
+
+    long lastSeq() {
+        return lastSeq;
+    }
+
+    @Override
+    public void close() {
+        syncLock.lock();
+        try {
+            channel.force(false);
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private long replay(Path file, long afterSeq, Consumer<WalRecord> replay) {
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_BYTES);
+        long position = 0;
+        try (FileChannel reader = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (true) {
+                buffer.clear();
+                while (buffer.hasRemaining() && reader.read(buffer) > 0) {
+                    // 레코드 하나를 다 읽을 때까지 반복
+                }
+                if (buffer.hasRemaining()) {
+                    return position;
+                }
+                long seq = buffer.getLong(0);
+                boolean continuous = replayedSeq == 0 || seq == replayedSeq + 1;
+                if (!continuous || buffer.getLong(32) != checksum(buffer, 32)) {
+                    return position;
+                }
+                // 스냅샷에 이미 반영된 레코드(삭제 전의 이전 파일)는 건너뜀
+                if (seq > afterSeq) {
+                    replay.accept(new WalRecord(seq, buffer.getLong(8), buffer.getLong(16), buffer.getLong(24)));
+                    lastSeq = seq;
+                }
+                replayedSeq = seq;
+                position += RECORD_BYTES;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void openForAppend(Path file, long validBytes) {
+        try {
+            boolean created = !Files.exists(file);
+            channel = channels.open(file);
+            channel.truncate(validBytes);
+            channel.position(validBytes);
+            if (created) {
+                // 새 파일의 디렉터리 항목도 디스크에 반영해야 crash 후에도 파일이 남음
+                BalanceSnapshot.syncDirectory(directory);
+            }
+            currentFile = file;
+            writePosition = validBytes;
+            currentFirstSeq = firstSeqOf(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private long checksum(ByteBuffer buffer, int length) {
+        crc.reset();
+        for (int i = 0; i < length; i++) {
+            crc.update(buffer.get(i));
+        }
+        return crc.getValue();
+    }
+
+    private Path fileFor(long firstSeq) {
+        return directory.resolve(String.format("%s%020d%s", PREFIX, firstSeq, SUFFIX));
+    }
+
+    private static long firstSeqOf(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+
+    private static List<Path> listFiles(Path directory) {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> {
+                        String name = file.getFileName().toString();
+                        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+                    })
+                    .sorted(Comparator.comparingLong(WriteAheadLog::firstSeqOf))
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static long size(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package io.hhplus.tdd.balance.offheap;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * long userId -> (point, updateMillis) 오픈 어드레싱(선형 탐사) 해시 테이블
+ * - 슬롯 = [userId 8B | point 8B | updateMillis 8B] 를 direct ByteBuffer 페이지에 연속으로 배치 (힙 밖)
+ * - 엔트리마다 객체를 만들지 않음 : Long 박싱, Map.Entry, UserPoint 모두 없음
+ * - updateMillis == 0 인 슬롯을 빈 슬롯으로 취급 (저장소가 항상 현재 시각을 기록하므로 실제 값과 겹치지 않음)
+ * - 쓰기는 StampedLock 쓰기 락, 읽기는 낙관적 읽기 후 검증 실패 시에만 읽기 락
+ * - 삭제는 지원하지 않음 (잔액 저장소는 덮어쓰기만 함)
+ */
+class OffHeapBalanceTable {
+
+    static final int SLOT_BYTES = 24;
+    private static final int PAGE_SLOT_BITS = 16;
+    private static final int PAGE_SLOTS = 1 << PAGE_SLOT_BITS;
+    private static final int MIN_CAPACITY = 1 << 10;
+    private static final double LOAD_FACTOR = 0.75;
+
+    private final StampedLock lock = new StampedLock();
+    private Slots slots;
+    private int size;
+
+    OffHeapBalanceTable(int expectedSize) {
+        this.slots = new Slots(capacityFor(expectedSize));
+    }
+
+    /**
+     * 조회 결과를 객체 없이 넘기기 위한 콜백 (API 경계에서만 UserPoint 로 변환)
+     */
+    @FunctionalInterface
+    interface BalanceReader<R> {
+        R read(long userId, long point, long updateMillis);
+    }
+
+    /** get
+     * userId 로 잔액을 조회해 reader 로 넘김, 없으면 null 반환
+     * - 낙관적 읽기 도중 쓰기(리사이즈 포함)가 끼어들면 읽기 락으로 다시 조회
+     */
+    <R> R get(long userId, BalanceReader<R> reader) {
+        long stamp = lock.tryOptimisticRead();
+        Slots current = slots;
+        long slot = current.find(userId);
+        long point = slot < 0 ? 0 : current.point(slot);
+        long updateMillis = slot < 0 ? 0 : current.updateMillis(slot);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                current = slots;
+                slot = current.find(userId);
+                point = slot < 0 ? 0 : current.point(slot);
+                updateMillis = slot < 0 ? 0 : current.updateMillis(slot);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return slot < 0 ? null : reader.read(userId, point, updateMillis);
+    }
+
+    void put(long userId, long point, long updateMillis) {
+        long stamp = lock.writeLock();
+        try {
+            if (slots.put(userId, point, updateMillis)) {
+                size++;
+                if (size > slots.capacity * LOAD_FACTOR) {
+                    slots = slots.resize(slots.capacity << 1);
+                }
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    long capacity() {
+        long stamp = lock.readLock();
+        try {
+            return slots.capacity;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private static long capacityFor(int expectedSize) {
+        long required = (long) Math.ceil(Math.max(expectedSize, 1) / LOAD_FACTOR) + 1;
+        long capacity = MIN_CAPACITY;
+        while (capacity < required) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    // murmur3 fmix64 : 연속된 userId 가 인접 슬롯에 몰리지 않도록 섞음
+    private static long mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return key;
+    }
+
+    /**
+     * 고정 크기 슬롯 배열 (capacity 는 2의 거듭제곱)
+     * - ByteBuffer 하나는 2GB 를 넘을 수 없으므로 PAGE_SLOTS 단위 페이지로 나눔
+     */
+    private static final class Slots {
+
+        private final long capacity;
+        private final long mask;
+        private final ByteBuffer[] pages;
+
+        private Slots(long capacity) {
+            this.capacity = capacity;
+            this.mask = capacity - 1;
+            int pageSlots = (int) Math.min(capacity, PAGE_SLOTS);
+            this.pages = new ByteBuffer[(int) (capacity / pageSlots)];
+            for (int i = 0; i < pages.length; i++) {
+                pages[i] = ByteBuffer.allocateDirect(pageSlots * SLOT_BYTES);
+            }
+        }
+
+        // userId 의 슬롯 번호, 없으면 -1 (탐사 횟수를 capacity 로 제한해 낙관적 읽기 중에도 종료 보장)
+        private long find(long userId) {
+            long slot = mix(userId) & mask;
+            for (long probe = 0; probe < capacity; probe++) {
+                if (updateMillis(slot) == 0) {
+                    return -1;
+                }
+                if (key(slot) == userId) {
+                    return slot;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return -1;
+        }
+
+        // 새 키면 true
+        private boolean put(long userId, long point, long updateMillis) {
+            long slot = mix(userId) & mask;
+            while (true) {
+                if (updateMillis(slot) == 0) {
+                    write(slot, userId, point, updateMillis);
+                    return true;
+                }
+                if (key(slot) == userId) {
+                    write(slot, userId, point, updateMillis);
+                    return false;
+                }
+                slot = (slot + 1) & mask;
+            }
+        }
+
+        private Slots resize(long newCapacity) {
+            Slots resized = new Slots(newCapacity);
+            for (long slot = 0; slot < capacity; slot++) {
+                long updateMillis = updateMillis(slot);
+                if (updateMillis != 0) {
+                    resized.put(key(slot), point(slot), updateMillis);
+                }
+            }
+            return resized;
+        }
+
+        private long key(long slot) {
+            return page(slot).getLong(offset(slot));
+        }
+
+        private long point(long slot) {
+            return page(slot).getLong(offset(slot) + 8);
+        }
+
+        private long updateMillis(long slot) {
+            return page(slot).getLong(offset(slot) + 16);
+        }
+
+        private void write(long slot, long userId, long point, long updateMillis) {
+            ByteBuffer page = page(slot);
+            int offset = offset(slot);
+            page.putLong(offset, userId);
+            page.putLong(offset + 8, point);
+            page.putLong(offset + 16, updateMillis);
+        }
+
+        private ByteBuffer page(long slot) {
+            return pages[(int) (slot >>> PAGE_SLOT_BITS)];
+        }
+
+        private int offset(long slot) {
+            return (int) (slot & (PAGE_SLOTS - 1)) * SLOT_BYTES;
+        }
+    }
+}
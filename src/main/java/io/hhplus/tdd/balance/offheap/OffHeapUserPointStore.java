@@ -0,0 +1,67 @@
+package io.hhplus.tdd.balance.offheap;
+
+import io.hhplus.tdd.balance.UserPointStore;
+import io.hhplus.tdd.point.UserPoint;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 힙 밖(off-heap) 원시 타입 해시 테이블 기반 잔액 저장소 (point.balance.store = offheap)
+ * - UserPointTable(HashMap<Long, UserPoint>) 은 유저마다 Long, UserPoint, Map.Entry 객체를 만들어
+ *   수천만 유저에서 객체 헤더만 수 GB 가 되고 GC 대상도 그만큼 늘어남
+ * - 잔액은 direct ByteBuffer 슬롯에 원시 값으로만 저장하고, UserPoint 는 조회 시점에만 만듦
+ * - userId 해시 상위 비트로 세그먼트를 나눠 세그먼트별로 락과 리사이즈를 분리
+ * - 메모리 전용 저장소이므로 재기동 시 잔액은 유지되지 않음
+ */
+@Component
+@ConditionalOnProperty(name = "point.balance.store", havingValue = "offheap")
+public class OffHeapUserPointStore implements UserPointStore {
+
+    private static final int SEGMENT_BITS = 4;
+
+    private final OffHeapBalanceTable[] segments = new OffHeapBalanceTable[1 << SEGMENT_BITS];
+
+    public OffHeapUserPointStore(@Value("${point.balance.offheap.expected-users:1000000}") int expectedUsers) {
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = new OffHeapBalanceTable(expectedUsers / segments.length);
+        }
+    }
+
+    @Override
+    public UserPoint selectById(long id) {
+        UserPoint userPoint = segment(id).get(id, UserPoint::new);
+        return userPoint != null ? userPoint : UserPoint.empty(id);
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        long updateMillis = System.currentTimeMillis();
+        segment(id).put(id, amount, updateMillis);
+        return new UserPoint(id, amount, updateMillis);
+    }
+
+    public long size() {
+        long size = 0;
+        for (OffHeapBalanceTable segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /** offHeapBytes
+     * 슬롯 배열이 차지하는 힙 밖 메모리 (바이트)
+     */
+    public long offHeapBytes() {
+        long bytes = 0;
+        for (OffHeapBalanceTable segment : segments) {
+            bytes += segment.capacity() * OffHeapBalanceTable.SLOT_BYTES;
+        }
+        return bytes;
+    }
+
+    // 테이블 내부 해시와 겹치지 않도록 다른 곱셈 상수의 상위 비트로 세그먼트 선택
+    private OffHeapBalanceTable segment(long id) {
+        return segments[(int) ((id * 0x9e3779b97f4a7c15L) >>> (64 - SEGMENT_BITS))];
+    }
+}
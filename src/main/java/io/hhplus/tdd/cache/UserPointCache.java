@@ -0,0 +1,252 @@
+package io.hhplus.tdd.cache;
+
+import io.hhplus.tdd.balance.UserPointStore;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.point.UserPoint;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 잔액 저장소(UserPointStore) 앞단의 캐시 (read-through / write-through)
+ * - 조회 시 캐시에 없으면 저장소에서 읽어 캐시에 적재
+ * - insertOrUpdate 는 저장소에 기록한 결과를 그대로 캐시에 반영
+ * - 최대 크기를 넘으면 가장 오래 사용되지 않은 유저부터 제거 (LRU)
+ * 오래된 값이 최신 값을 덮어쓰지 않도록 단조 증가하는 version 을 함께 저장하고,
+ * 저장소 조회 도중 같은 유저에 대한 쓰기가 일어나면 조회 결과는 캐시에 적재하지 않음
+ * 같은 유저에 대한 동시 캐시 미스는 진행 중인 저장소 조회 하나를 함께 기다림 (single-flight)
+ * - 저장소 조회 수는 동시에 몰린 요청 수와 무관하게 유저당 한 번
+ * - 조회 도중 쓰기(insertOrUpdate / invalidate)가 끝나면 그 조회는 무효가 되고, 기다리던 요청은
+ *   쓰기 결과(캐시에 반영된 값)를 받거나 저장소를 다시 읽음 -> 커밋된 쓰기보다 오래된 잔액을 돌려주지 않음
+ * 기록된 잔액은 캐시에 반영된 뒤 UserPointListener 들에게 전달
+ */
+@Component
+public class UserPointCache {
+
+    private static final Logger log = LoggerFactory.getLogger(UserPointCache.class);
+
+    private final UserPointStore userPointStore;
+    private final List<UserPointListener> listeners;
+    private final int maxSize;
+    private final Timer selectTimer;
+    private final Timer insertOrUpdateTimer;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<Long, Entry> entries;
+    private final Map<Long, Load> loading = new HashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private long version;
+
+    public UserPointCache(
+            UserPointStore userPointStore,
+            @Value("${point.cache.max-size:100000}") int maxSize,
+            PointMetrics pointMetrics,
+            List<UserPointListener> listeners) {
+        this.userPointStore = userPointStore;
+        this.listeners = listeners;
+        this.maxSize = maxSize;
+        this.selectTimer = pointMetrics.storeTimer("balance", "selectById");
+        this.insertOrUpdateTimer = pointMetrics.storeTimer("balance", "insertOrUpdate");
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                boolean evict = size() > UserPointCache.this.maxSize;
+                if (evict) {
+                    evictions.increment();
+                }
+                return evict;
+            }
+        };
+    }
+
+    /** get
+     * userId 의 잔액 조회, 캐시에 없으면 저장소에서 읽어 적재
+     * - 같은 유저의 저장소 조회가 이미 진행 중이면 새로 읽지 않고 그 결과를 함께 기다림
+     * @param userId
+     * @return UserPoint
+     */
+    public UserPoint get(long userId) {
+        while (true) {
+            Load load;
+            boolean leader = false;
+            lock.lock();
+            try {
+                Entry cached = entries.get(userId);
+                if (cached != null) {
+                    hits.increment();
+                    return cached.userPoint();
+                }
+                load = loading.get(userId);
+                if (load == null) {
+                    misses.increment();
+                    load = new Load(version);
+                    loading.put(userId, load);
+                    leader = true;
+                } else {
+                    coalesced.increment();
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            if (leader) {
+                load(userId, load);
+            }
+            UserPoint loaded = await(load);
+
+            lock.lock();
+            try {
+                if (!load.invalidated) {
+                    return loaded;
+                }
+                // 조회 도중 쓰기가 끝났으면 write-through 로 캐시에 들어간 쓰기 결과를 반환, 없으면(invalidate) 다시 읽음
+                Entry written = entries.get(userId);
+                if (written != null) {
+                    return written.userPoint();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /** insertOrUpdate
+     * 저장소에 잔액을 기록하고 그 결과로 캐시를 갱신한 뒤 리스너에 전달
+     * @param userId, point
+     * @return UserPoint
+     */
+    public UserPoint insertOrUpdate(long userId, long point) {
+        long start = System.nanoTime();
+        UserPoint updated = userPointStore.insertOrUpdate(userId, point);
+        PointMetrics.record(insertOrUpdateTimer, start);
+        lock.lock();
+        try {
+            invalidateLoad(userId);
+            putIfNewer(userId, new Entry(updated, ++version));
+        } finally {
+            lock.unlock();
+        }
+        for (UserPointListener listener : listeners) {
+            try {
+                listener.onUpdated(updated);
+            } catch (RuntimeException e) {
+                log.error("잔액 리스너 처리 실패 (userId={})", userId, e);
+            }
+        }
+        return updated;
+    }
+
+    /** invalidate
+     * userId 의 캐시 항목과 진행 중인 조회 결과 적재를 무효화
+     * @param userId
+     */
+    public void invalidate(long userId) {
+        lock.lock();
+        try {
+            invalidateLoad(userId);
+            entries.remove(userId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 캐시 적중/실패(저장소 조회)/진행 중인 조회 합류/제거 횟수와 현재 크기
+     */
+    public CacheStats stats() {
+        lock.lock();
+        try {
+            return new CacheStats(hits.sum(), misses.sum(), coalesced.sum(), evictions.sum(), entries.size());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 저장소를 읽어 기다리는 요청 모두에게 전달, 그 사이 쓰기가 없었을 때만 캐시에 적재
+    private void load(long userId, Load load) {
+        UserPoint loaded;
+        try {
+            long start = System.nanoTime();
+            loaded = userPointStore.selectById(userId);
+            PointMetrics.record(selectTimer, start);
+        } catch (RuntimeException e) {
+            lock.lock();
+            try {
+                loading.remove(userId, load);
+            } finally {
+                lock.unlock();
+            }
+            load.result.completeExceptionally(e);
+            return;
+        }
+
+        lock.lock();
+        try {
+            if (loading.remove(userId, load)) {
+                putIfNewer(userId, new Entry(loaded, load.stamp));
+            }
+        } finally {
+            lock.unlock();
+        }
+        load.result.complete(loaded);
+    }
+
+    private static UserPoint await(Load load) {
+        try {
+            return load.result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // lock 을 잡은 상태에서 호출
+    private void invalidateLoad(long userId) {
+        Load load = loading.remove(userId);
+        if (load != null) {
+            load.invalidated = true;
+        }
+    }
+
+    private void putIfNewer(long userId, Entry entry) {
+        Entry current = entries.get(userId);
+        if (current == null || current.version() <= entry.version()) {
+            entries.put(userId, entry);
+        }
+    }
+
+    private record Entry(UserPoint userPoint, long version) {
+    }
+
+    /**
+     * 진행 중인 저장소 조회 하나 (stamp = 조회 시작 시점의 version)
+     * - invalidated 는 lock 안에서만 읽고 씀
+     */
+    private static final class Load {
+        private final CompletableFuture<UserPoint> result = new CompletableFuture<>();
+        private final long stamp;
+        private boolean invalidated;
+
+        private Load(long stamp) {
+            this.stamp = stamp;
+        }
+    }
+
+    public record CacheStats(long hits, long misses, long coalesced, long evictions, int size) {
+    }
+}
@@ -0,0 +1,13 @@
+package io.hhplus.tdd.cache;
+
+import io.hhplus.tdd.point.UserPoint;
+
+/**
+ * 잔액이 저장소에 기록되고 캐시에 반영된 직후 호출되는 리스너
+ * - UserPointCache.insertOrUpdate 를 호출한 스레드에서 바로 호출 (충전/사용은 유저 락 안)
+ * - 리스너에서 발생한 예외는 잔액 기록 자체를 실패시키지 않음
+ */
+public interface UserPointListener {
+
+    void onUpdated(UserPoint updated);
+}
@@ -0,0 +1,29 @@
+package io.hhplus.tdd.config;
+
+import io.hhplus.tdd.admission.AdmissionInterceptor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 포인트 API 부하 제한 등록 (point.admission.enabled, 기본 true)
+ * - 내보내기는 응답을 오래 스트리밍하므로 동시 처리 한도 / 처리 시간 측정 대상에서 제외
+ */
+@Configuration
+@ConditionalOnProperty(name = "point.admission.enabled", havingValue = "true", matchIfMissing = true)
+public class AdmissionConfig implements WebMvcConfigurer {
+
+    private final AdmissionInterceptor admissionInterceptor;
+
+    public AdmissionConfig(AdmissionInterceptor admissionInterceptor) {
+        this.admissionInterceptor = admissionInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(admissionInterceptor)
+                .addPathPatterns("/point/**", "/v2/point/**")
+                .excludePathPatterns("/point/histories/export", "/point/*/histories/export");
+    }
+}
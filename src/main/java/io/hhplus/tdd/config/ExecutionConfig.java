@@ -0,0 +1,97 @@
+package io.hhplus.tdd.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 실행 모드 설정 (point.execution.mode = platform | virtual)
+ * - virtual 모드에서는 Tomcat 요청 처리와 PointService 작업 실행기 모두 가상 스레드를 사용
+ * - 테이블 호출의 sleep 동안 캐리어 스레드가 묶이지 않도록 유저 락/히스토리 큐/캐시는 모두
+ *   synchronized 대신 ReentrantLock 기반으로 구현되어 있음
+ * 빌드는 Java 17 기준이므로 가상 스레드 실행기는 런타임에 리플렉션으로 생성하며,
+ * Java 21 미만에서 virtual 모드를 선택하면 기동 시 예외 발생
+ */
+@Configuration
+public class ExecutionConfig {
+
+    private static final long IDLE_KEEP_ALIVE_SECONDS = 60L;
+
+    private final ExecutionMode mode;
+    private final int platformPoolSize;
+    private final int queueCapacity;
+
+    public ExecutionConfig(
+            @Value("${point.execution.mode:platform}") ExecutionMode mode,
+            @Value("${point.execution.platform-pool-size:64}") int platformPoolSize,
+            @Value("${point.execution.queue-capacity:10000}") int queueCapacity) {
+        this.mode = mode;
+        this.platformPoolSize = platformPoolSize;
+        this.queueCapacity = queueCapacity;
+    }
+
+    /**
+     * PointService 작업(blocking 테이블 호출 포함) 실행기
+     * - platform : 최대 platform-pool-size 개까지 늘어나고 유휴 시 줄어드는 스레드 풀 + 크기 제한 대기열
+     *              (대기열까지 가득 차면 RejectedExecutionException)
+     * - virtual  : 작업마다 가상 스레드
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService pointExecutor() {
+        if (mode == ExecutionMode.VIRTUAL) {
+            return newVirtualThreadPerTaskExecutor();
+        }
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                platformPoolSize, platformPoolSize,
+                IDLE_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new NamedThreadFactory("point-worker-"));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * virtual 모드일 때 Tomcat 요청 처리 스레드를 가상 스레드로 교체
+     */
+    @Bean
+    @ConditionalOnProperty(name = "point.execution.mode", havingValue = "virtual")
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> protocolHandler.setExecutor(newVirtualThreadPerTaskExecutor());
+    }
+
+    static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("virtual 실행 모드는 Java 21 이상에서만 사용할 수 있습니다.", e);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("가상 스레드 실행기를 생성할 수 없습니다.", e);
+        }
+    }
+
+    private static final class NamedThreadFactory implements ThreadFactory {
+        private final String prefix;
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        private NamedThreadFactory(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
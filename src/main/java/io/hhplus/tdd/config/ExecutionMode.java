@@ -0,0 +1,10 @@
+package io.hhplus.tdd.config;
+
+/**
+ * 요청 처리 스레드 모드
+ * - PLATFORM : Tomcat 기본 스레드 풀 (플랫폼 스레드)
+ * - VIRTUAL  : 요청마다 가상 스레드 (Java 21 이상)
+ */
+public enum ExecutionMode {
+    PLATFORM, VIRTUAL
+}
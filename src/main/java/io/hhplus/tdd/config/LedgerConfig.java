@@ -0,0 +1,42 @@
+package io.hhplus.tdd.config;
+
+import io.hhplus.tdd.cache.UserPointCache;
+import io.hhplus.tdd.history.PointHistoryWriter;
+import io.hhplus.tdd.ledger.LedgerBalanceFlusher;
+import io.hhplus.tdd.ledger.LedgerEngine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 충전/사용 처리 방식 설정 (point.engine.mode = lock | ledger)
+ * - lock   : 유저 락 안에서 잔액 조회 ~ 수정 (기본값, LedgerEngine 빈 없음)
+ * - ledger : 모든 충전/사용/잔액 조회를 LedgerEngine 의 partition writer 가 순서대로 처리
+ *            PointService / PointAsyncService / PointBatchService 가 엔진으로 위임
+ */
+@Configuration
+@ConditionalOnProperty(name = "point.engine.mode", havingValue = "ledger")
+public class LedgerConfig {
+
+    @Bean
+    public LedgerBalanceFlusher ledgerBalanceFlusher(
+            UserPointCache userPointCache,
+            PointHistoryWriter pointHistoryWriter,
+            @Value("${point.engine.ledger.max-history-backlog:65536}") int maxHistoryBacklog) {
+        return new LedgerBalanceFlusher(userPointCache, pointHistoryWriter, maxHistoryBacklog);
+    }
+
+    /**
+     * 적재되지 않은 유저의 잔액은 flusher 에 남은 미기록 값 -> 캐시(-> 잔액 저장소) 순으로 읽어 엔진에 적재
+     */
+    @Bean
+    public LedgerEngine ledgerEngine(
+            LedgerBalanceFlusher ledgerBalanceFlusher,
+            @Value("${point.engine.ledger.partitions:4}") int partitions,
+            @Value("${point.engine.ledger.ring-size:65536}") int ringSize,
+            @Value("${point.engine.ledger.max-resident-users:100000}") int maxResidentUsers,
+            @Value("${point.engine.ledger.loader-threads:8}") int loaderThreads) {
+        return new LedgerEngine(ledgerBalanceFlusher::load, ledgerBalanceFlusher, partitions, ringSize, maxResidentUsers, loaderThreads);
+    }
+}
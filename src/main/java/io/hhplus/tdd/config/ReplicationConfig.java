@@ -0,0 +1,28 @@
+package io.hhplus.tdd.config;
+
+import io.hhplus.tdd.replication.ReplicaReadInterceptor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * read replica 의 포인트 API 제한 등록 (point.replication.role = follower)
+ * - 쓰기 요청 거절, 지연 / 요청 sequence 기준의 조회 허용
+ */
+@Configuration
+@ConditionalOnProperty(name = "point.replication.role", havingValue = "follower")
+public class ReplicationConfig implements WebMvcConfigurer {
+
+    private final ReplicaReadInterceptor replicaReadInterceptor;
+
+    public ReplicationConfig(ReplicaReadInterceptor replicaReadInterceptor) {
+        this.replicaReadInterceptor = replicaReadInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(replicaReadInterceptor)
+                .addPathPatterns("/point/**", "/v2/point/**");
+    }
+}
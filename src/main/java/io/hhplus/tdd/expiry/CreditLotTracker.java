@@ -0,0 +1,149 @@
+package io.hhplus.tdd.expiry;
+
+import io.hhplus.tdd.history.PointHistoryListener;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 충전 / 사용 히스토리를 받아 유저별 credit lot 과 만료 일정을 관리
+ * - CHARGE : 충전 시각 + ttl-days 에 만료되는 lot 추가
+ * - USE    : 오래된 lot 부터 차감 (FIFO)
+ * - EXPIRE : PointExpiryScheduler 가 takeExpired 로 이미 비운 lot 이므로 무시
+ * - PointHistoryWriter.append 에서 호출자의 유저 락 안에서 바로 전달받으므로 잔액 변경과 lot 변경의 순서가 같음
+ * - 유저를 stripes 개의 CreditLots 로 나누고 각각의 모니터로 동기화 (cascade 가 길어져도 일부 유저만 대기)
+ * 유저 락을 쓰지 않는 ledger 모드에서는 만료를 잔액 변경과 같은 순서로 반영할 수 없어 lock 모드에서만 동작
+ * (follower 는 만료를 실행하지 않으므로 lot 도 관리하지 않음)
+ */
+@Component
+@ConditionalOnExpression("'${point.engine.mode:lock}' == 'lock' and '${point.replication.role:none}' != 'follower'")
+public class CreditLotTracker implements PointHistoryListener {
+
+    private final CreditLots[] stripes;
+    private final long ttlMillis;
+    private final long tickMillis;
+
+    public CreditLotTracker(
+            @Value("${point.expiry.ttl-days:365}") long ttlDays,
+            @Value("${point.expiry.tick-millis:1000}") long tickMillis,
+            @Value("${point.expiry.stripes:16}") int stripes) {
+        if (ttlDays <= 0 || tickMillis <= 0 || stripes <= 0) {
+            throw new IllegalArgumentException("ttl-days, tick-millis, stripes 는 1 이상이어야 합니다.");
+        }
+        this.ttlMillis = ttlDays * 24 * 60 * 60 * 1000;
+        this.tickMillis = tickMillis;
+        this.stripes = new CreditLots[stripes];
+        long startTick = System.currentTimeMillis() / tickMillis;
+        for (int i = 0; i < stripes; i++) {
+            this.stripes[i] = new CreditLots(startTick);
+        }
+    }
+
+    @Override
+    public void onAppended(long userId, long amount, TransactionType type, long updateMillis) {
+        if (type == TransactionType.CHARGE) {
+            charge(userId, amount, updateMillis);
+        } else if (type == TransactionType.USE) {
+            consume(userId, amount);
+        }
+    }
+
+    @Override
+    public void onPersisted(PointHistory history) {
+    }
+
+    /** replay
+     * 저장소에 남아 있는 히스토리로 lot 을 다시 만듦 (기동 시 id 순서대로 호출)
+     * - 만료 히스토리는 금액이 아니라 시각으로 반영 : 그 시각에 만료 tick 이 지난 lot 을 모두 비움
+     *   (잔액까지만 만료해 금액이 줄었어도 그때 lot 은 모두 비웠으므로, 금액만큼만 차감하면 나머지가 다시 만료됨)
+     * - 이미 만료 시각이 지난 lot 은 다음 tick 에 만료
+     * @param history
+     */
+    public void replay(PointHistory history) {
+        if (history.type() == TransactionType.CHARGE) {
+            charge(history.userId(), history.amount(), history.updateMillis());
+        } else if (history.type() == TransactionType.EXPIRE) {
+            CreditLots lots = stripe(history.userId());
+            synchronized (lots) {
+                lots.takeDue(history.userId(), history.updateMillis() / tickMillis);
+            }
+        } else {
+            consume(history.userId(), history.amount());
+        }
+    }
+
+    /** advance
+     * 모든 stripe 의 시각을 nowMillis 로 옮기고, 만료된 lot 이 있는 유저를 반환
+     * @param nowMillis
+     * @return 만료할 lot 이 생긴 userId (중복 없음)
+     */
+    public Set<Long> advance(long nowMillis) {
+        Set<Long> dueUsers = new LinkedHashSet<>();
+        long tick = nowMillis / tickMillis;
+        for (CreditLots lots : stripes) {
+            synchronized (lots) {
+                lots.advance(tick, dueUsers::add);
+            }
+        }
+        return dueUsers;
+    }
+
+    /** takeExpired
+     * userId 의 만료된 lot 을 비우고 남은 금액 합계를 반환 (호출자가 유저 락을 잡은 상태여야 함)
+     * @param userId
+     * @return 만료할 금액, 없으면 0
+     */
+    public long takeExpired(long userId) {
+        CreditLots lots = stripe(userId);
+        synchronized (lots) {
+            return lots.takeExpired(userId);
+        }
+    }
+
+    /**
+     * userId 의 lot 에 남은 금액 합계 (만료 대기 중인 lot 포함)
+     */
+    public long remaining(long userId) {
+        CreditLots lots = stripe(userId);
+        synchronized (lots) {
+            return lots.remaining(userId);
+        }
+    }
+
+    /**
+     * 남아 있는 lot 수
+     */
+    public int pendingLots() {
+        int total = 0;
+        for (CreditLots lots : stripes) {
+            synchronized (lots) {
+                total += lots.size();
+            }
+        }
+        return total;
+    }
+
+    private void charge(long userId, long amount, long updateMillis) {
+        CreditLots lots = stripe(userId);
+        synchronized (lots) {
+            // 만료 시각을 올림한 tick : advance(now) 의 tick 이 여기에 닿으면 now >= 만료 시각
+            lots.add(userId, amount, (updateMillis + ttlMillis + tickMillis - 1) / tickMillis);
+        }
+    }
+
+    private void consume(long userId, long amount) {
+        CreditLots lots = stripe(userId);
+        synchronized (lots) {
+            lots.consume(userId, amount);
+        }
+    }
+
+    private CreditLots stripe(long userId) {
+        return stripes[Math.floorMod(Long.hashCode(userId) * 0x9E3779B9, stripes.length)];
+    }
+}
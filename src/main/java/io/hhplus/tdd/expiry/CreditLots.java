@@ -0,0 +1,224 @@
+package io.hhplus.tdd.expiry;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongConsumer;
+
+/**
+ * 충전 단위(credit lot)별 남은 포인트와 만료 일정
+ * - lot = 충전 한 건 : [userId | 남은 금액 | 유저 목록의 다음 lot] 을 원시 배열 페이지에 보관하고 int handle 로 가리킴
+ * - 만료 일정은 같은 handle 로 TimingWheel 에 등록 (등록 / 취소 O(1))
+ * - 유저별 lot 은 충전 순서(= 만료 순서)의 단일 연결 목록 : 사용은 앞에서부터 차감(FIFO), 만료도 앞에서부터
+ * - 다 쓰거나 만료되어 비운 handle 은 빈 목록에 넣어 다시 사용하므로 메모리는 동시에 남아 있는 lot 수에만 비례
+ * - 만료 tick 이 지난 lot 은 휠에서만 빠지고 유저 목록에는 남아 있다가 takeExpired 로 한꺼번에 차감
+ * thread-safe 하지 않음 (호출자가 동기화)
+ */
+public final class CreditLots {
+
+    private static final int PAGE_BITS = 16;
+    private static final int PAGE_SIZE = 1 << PAGE_BITS;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+    private static final int NIL = -1;
+
+    private final TimingWheel wheel;
+    private final Map<Long, UserLots> users = new HashMap<>();
+    private long[][] userIdPages = new long[0][];
+    private long[][] remainingPages = new long[0][];
+    // 유저 목록의 다음 lot, 비운 handle 이면 빈 목록의 다음 handle
+    private int[][] nextPages = new int[0][];
+    private int freeHead = NIL;
+    private int allocated;
+    private int size;
+
+    public CreditLots(long startTick) {
+        this.wheel = new TimingWheel(startTick);
+    }
+
+    /** add
+     * userId 에 amount 만큼의 lot 을 추가하고 deadlineTick 에 만료되도록 등록
+     * - 같은 유저의 lot 은 만료 순서가 충전 순서와 같아야 하므로 마지막 lot 보다 이른 만료 tick 은 마지막 lot 의 만료 tick 으로 맞춤
+     * @param userId, amount 1 이상, deadlineTick
+     */
+    public void add(long userId, long amount, long deadlineTick) {
+        if (amount <= 0) {
+            throw new IllegalArgumentException("lot 금액은 1 이상이어야 합니다.");
+        }
+        UserLots lots = users.computeIfAbsent(userId, id -> new UserLots());
+        if (lots.tail != NIL) {
+            deadlineTick = Math.max(deadlineTick, wheel.deadline(lots.tail));
+        }
+        int handle = allocate();
+        userIdPages[handle >>> PAGE_BITS][handle & PAGE_MASK] = userId;
+        remainingPages[handle >>> PAGE_BITS][handle & PAGE_MASK] = amount;
+        setNext(handle, NIL);
+        if (lots.tail == NIL) {
+            lots.head = handle;
+        } else {
+            setNext(lots.tail, handle);
+        }
+        lots.tail = handle;
+        wheel.schedule(handle, deadlineTick);
+        size++;
+    }
+
+    /** consume
+     * userId 의 lot 에서 amount 만큼을 오래된 것부터 차감
+     * - 만료 tick 이 지났지만 아직 takeExpired 되지 않은 lot 도 차감 대상 (잔액에 아직 남아 있으므로)
+     * - 다 쓴 lot 은 만료 일정을 취소하고 비움
+     * @param userId, amount
+     * @return lot 에서 차감한 금액 (lot 합계보다 많이 쓰면 lot 합계까지만)
+     */
+    public long consume(long userId, long amount) {
+        UserLots lots = users.get(userId);
+        long consumed = 0;
+        while (lots != null && amount > consumed) {
+            int handle = lots.head;
+            long remaining = remaining(handle);
+            long taken = Math.min(remaining, amount - consumed);
+            consumed += taken;
+            if (taken < remaining) {
+                remainingPages[handle >>> PAGE_BITS][handle & PAGE_MASK] = remaining - taken;
+                break;
+            }
+            wheel.cancel(handle);
+            lots = removeHead(userId, lots);
+        }
+        return consumed;
+    }
+
+    /** advance
+     * 현재 tick 을 toTick 까지 옮기고, 만료 tick 이 된 lot 의 userId 를 lot 마다 한 번씩 dueUser 로 넘김
+     * - lot 은 유저 목록에 남겨 두므로 dueUser 안에서 takeExpired 를 바로 호출하지 않아도 됨
+     * @param toTick, dueUser
+     * @return 만료된 lot 수
+     */
+    public int advance(long toTick, LongConsumer dueUser) {
+        return wheel.advance(toTick, handle -> dueUser.accept(userIdPages[handle >>> PAGE_BITS][handle & PAGE_MASK]));
+    }
+
+    /** takeExpired
+     * userId 의 lot 중 만료 tick 이 지난 것(목록 앞쪽)을 모두 비우고 남은 금액의 합을 반환
+     * @param userId
+     * @return 만료할 금액, 없으면 0
+     */
+    public long takeExpired(long userId) {
+        UserLots lots = users.get(userId);
+        long expired = 0;
+        while (lots != null && !wheel.isScheduled(lots.head)) {
+            expired += remaining(lots.head);
+            lots = removeHead(userId, lots);
+        }
+        return expired;
+    }
+
+    /** takeDue
+     * userId 의 lot 중 만료 tick 이 tick 이하인 것(목록 앞쪽)을 휠에서 빼고 모두 비운 뒤 남은 금액의 합을 반환
+     * - 기동 시 EXPIRE 히스토리를 다시 반영할 때, 그 시점에 takeExpired 로 비웠던 lot 을 같은 기준으로 비움
+     * @param userId, tick
+     * @return 비운 금액, 없으면 0
+     */
+    public long takeDue(long userId, long tick) {
+        UserLots lots = users.get(userId);
+        long taken = 0;
+        while (lots != null && (!wheel.isScheduled(lots.head) || wheel.deadline(lots.head) <= tick)) {
+            wheel.cancel(lots.head);
+            taken += remaining(lots.head);
+            lots = removeHead(userId, lots);
+        }
+        return taken;
+    }
+
+    /**
+     * userId 의 lot 에 남은 금액 합계 (만료 대기 중인 lot 포함)
+     */
+    public long remaining(long userId) {
+        UserLots lots = users.get(userId);
+        long total = 0;
+        for (int handle = lots == null ? NIL : lots.head; handle != NIL; handle = next(handle)) {
+            total += remaining(handle);
+        }
+        return total;
+    }
+
+    public long now() {
+        return wheel.now();
+    }
+
+    /**
+     * 남아 있는 lot 수 (만료 대기 중인 lot 포함)
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * lot 이 남아 있는 유저 수
+     */
+    public int users() {
+        return users.size();
+    }
+
+    /**
+     * 지금까지 할당한 handle 수 (비운 handle 은 재사용하므로 동시에 남아 있던 lot 수의 최댓값)
+     */
+    public int allocated() {
+        return allocated;
+    }
+
+    private long remaining(int handle) {
+        return remainingPages[handle >>> PAGE_BITS][handle & PAGE_MASK];
+    }
+
+    // 목록 맨 앞 lot 을 비우고, 목록이 비면 유저를 지움
+    private UserLots removeHead(long userId, UserLots lots) {
+        int handle = lots.head;
+        lots.head = next(handle);
+        if (lots.head == NIL) {
+            lots.tail = NIL;
+            users.remove(userId);
+            lots = null;
+        }
+        release(handle);
+        return lots;
+    }
+
+    private int allocate() {
+        if (freeHead != NIL) {
+            int handle = freeHead;
+            freeHead = next(handle);
+            return handle;
+        }
+        int handle = allocated++;
+        if (handle >>> PAGE_BITS == nextPages.length) {
+            int pages = nextPages.length + 1;
+            userIdPages = Arrays.copyOf(userIdPages, pages);
+            remainingPages = Arrays.copyOf(remainingPages, pages);
+            nextPages = Arrays.copyOf(nextPages, pages);
+            userIdPages[pages - 1] = new long[PAGE_SIZE];
+            remainingPages[pages - 1] = new long[PAGE_SIZE];
+            nextPages[pages - 1] = new int[PAGE_SIZE];
+        }
+        return handle;
+    }
+
+    private void release(int handle) {
+        remainingPages[handle >>> PAGE_BITS][handle & PAGE_MASK] = 0;
+        setNext(handle, freeHead);
+        freeHead = handle;
+        size--;
+    }
+
+    private int next(int handle) {
+        return nextPages[handle >>> PAGE_BITS][handle & PAGE_MASK];
+    }
+
+    private void setNext(int handle, int next) {
+        nextPages[handle >>> PAGE_BITS][handle & PAGE_MASK] = next;
+    }
+
+    private static final class UserLots {
+        int head = NIL;
+        int tail = NIL;
+    }
+}
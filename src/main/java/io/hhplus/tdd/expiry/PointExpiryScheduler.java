@@ -0,0 +1,143 @@
+package io.hhplus.tdd.expiry;
+
+import io.hhplus.tdd.cache.UserPointCache;
+import io.hhplus.tdd.history.PointHistoryWriter;
+import io.hhplus.tdd.lock.UserLockManager;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * tick-millis 마다 만료 시각이 지난 credit lot 을 잔액에서 차감하는 스케줄러
+ * - 기동 시 저장소의 히스토리를 id 순서대로 읽어 CreditLotTracker 의 lot 을 다시 만듦
+ * - tick 마다 만료된 lot 이 있는 유저를 모아, 유저마다 락 안에서 만료 금액을 한 번에 차감하고 EXPIRE 히스토리 한 건을 남김
+ * - 만료 금액은 락 안에서 정하므로 그 사이 들어온 사용이 먼저 차감한 금액은 다시 만료하지 않음
+ * - 잔액 저장소와 히스토리가 어긋나 lot 이 잔액보다 많으면 잔액까지만 만료 (UserPoint.expire 의 잔액 검증을 넘지 않음)
+ * - 락을 얻지 못한 유저는 다음 tick 에 다시 시도
+ * 조회 전용 follower 는 primary 의 EXPIRE 히스토리와 잔액을 복제받으므로 만료를 직접 실행하지 않음
+ */
+@Component
+@ConditionalOnExpression("'${point.engine.mode:lock}' == 'lock' and '${point.replication.role:none}' != 'follower'")
+public class PointExpiryScheduler implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(PointExpiryScheduler.class);
+    private static final int REPLAY_PAGE_SIZE = 1000;
+
+    private final CreditLotTracker creditLotTracker;
+    private final UserPointCache userPointCache;
+    private final PointHistoryWriter pointHistoryWriter;
+    private final UserLockManager userLockManager;
+    private final ScheduledExecutorService scheduler;
+    // 락을 얻지 못해 다음 tick 에 다시 시도할 유저 (expireDue 안에서만 접근)
+    private final Set<Long> retryUsers = new LinkedHashSet<>();
+
+    public PointExpiryScheduler(
+            CreditLotTracker creditLotTracker,
+            UserPointCache userPointCache,
+            PointHistoryWriter pointHistoryWriter,
+            UserLockManager userLockManager,
+            @Value("${point.expiry.tick-millis:1000}") long tickMillis) {
+        this.creditLotTracker = creditLotTracker;
+        this.userPointCache = userPointCache;
+        this.pointHistoryWriter = pointHistoryWriter;
+        this.userLockManager = userLockManager;
+        replay();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "point-expiry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::expireQuietly, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /** expireDue
+     * nowMillis 기준으로 만료 시각이 지난 lot 을 유저별로 모아 잔액에서 차감
+     * @param nowMillis
+     * @return 포인트가 만료된 유저 수
+     */
+    public synchronized int expireDue(long nowMillis) {
+        Set<Long> dueUsers = creditLotTracker.advance(nowMillis);
+        dueUsers.addAll(retryUsers);
+        retryUsers.clear();
+        int expiredUsers = 0;
+        for (long userId : dueUsers) {
+            try {
+                if (expire(userId, nowMillis)) {
+                    expiredUsers++;
+                }
+            } catch (RuntimeException e) {
+                log.warn("포인트 만료 실패, 다음 tick 에 다시 시도 (userId={})", userId, e);
+                retryUsers.add(userId);
+            }
+        }
+        if (expiredUsers > 0) {
+            log.debug("포인트 만료 (users={})", expiredUsers);
+        }
+        return expiredUsers;
+    }
+
+    private boolean expire(long userId, long nowMillis) {
+        return userLockManager.executeWithLock(userId, () -> {
+            // 만료 lot 을 꺼내기 전에 히스토리 대기열 자리를 확보 (OVERLOADED 면 lot 이 남아 다음 tick 에 다시 시도)
+            pointHistoryWriter.reserve(1);
+            boolean appended = false;
+            try {
+                long due = creditLotTracker.takeExpired(userId);
+                if (due == 0) {
+                    return false;
+                }
+                UserPoint current = userPointCache.get(userId);
+                long amount = Math.min(due, current.point());
+                if (amount == 0) {
+                    return false;
+                }
+                userPointCache.insertOrUpdate(userId, current.expire(amount));
+                appended = true;
+                pointHistoryWriter.appendReserved(userId, amount, TransactionType.EXPIRE, nowMillis);
+                return true;
+            } finally {
+                if (!appended) {
+                    pointHistoryWriter.release(1);
+                }
+            }
+        });
+    }
+
+    // 저장소에 기록된 히스토리를 처음부터 읽어 lot 을 다시 만듦
+    private void replay() {
+        long cursor = 0L;
+        List<PointHistory> page;
+        do {
+            page = pointHistoryWriter.findAll(cursor, REPLAY_PAGE_SIZE);
+            for (PointHistory history : page) {
+                creditLotTracker.replay(history);
+                cursor = history.id();
+            }
+        } while (page.size() == REPLAY_PAGE_SIZE);
+    }
+
+    private void expireQuietly() {
+        try {
+            expireDue(System.currentTimeMillis());
+        } catch (RuntimeException e) {
+            log.warn("포인트 만료 처리 실패", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,238 @@
+package io.hhplus.tdd.expiry;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * 계층형 타이밍 휠 (hierarchical timing wheel)
+ * - 항목은 호출자가 정한 int handle 로 구분, 링크(next / prev)와 만료 tick 은 원시 배열 페이지에 보관 (항목마다 객체 없음)
+ * - LEVELS 단, 단마다 SLOTS 칸 : 0 단 한 칸 = 1 tick, l 단 한 칸 = SLOTS^l tick
+ * - 등록 : 만료 tick 과 현재 tick 이 처음 달라지는 자리(단)의 칸에 연결 O(1)
+ * - 취소 : 칸의 이중 연결 리스트에서 떼어 냄 O(1)
+ * - 아래 단이 한 바퀴 돌 때마다 윗 단의 다음 칸을 풀어 아래 단으로 다시 배치 (cascade, 항목당 최대 LEVELS - 1 번)
+ * - 맨 윗 단 범위를 넘는 만료 tick 은 맨 윗 단에 두었다가 cascade 때 다시 배치
+ * - 단마다 비어 있지 않은 칸을 bit 로 표시해, 아래 단들이 비어 있으면 다음 cascade 직전까지 tick 을 건너뜀
+ * thread-safe 하지 않음 (호출자가 동기화)
+ */
+public final class TimingWheel {
+
+    static final int SLOT_BITS = 8;
+    static final int SLOTS = 1 << SLOT_BITS;
+    static final int LEVELS = 4;
+    private static final long SLOT_MASK = SLOTS - 1;
+    private static final int PAGE_BITS = 16;
+    private static final int PAGE_SIZE = 1 << PAGE_BITS;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+    // next 의 끝 표시, prev 의 "휠에 없음" 표시
+    private static final int NIL = -1;
+    // prev 가 HEAD_BASE 이하면 칸의 첫 항목 : 칸 번호 = HEAD_BASE - prev
+    private static final int HEAD_BASE = -2;
+
+    private final int[] heads = new int[LEVELS * SLOTS];
+    // 칸마다 1 bit : 항목이 있으면 1
+    private final long[] occupied = new long[LEVELS * SLOTS / Long.SIZE];
+    private int[][] nextPages = new int[0][];
+    private int[][] prevPages = new int[0][];
+    private long[][] deadlinePages = new long[0][];
+    private long now;
+    private int size;
+
+    /**
+     * @param startTick 현재 tick (이후 advance 로만 앞으로 이동)
+     */
+    public TimingWheel(long startTick) {
+        Arrays.fill(heads, NIL);
+        this.now = startTick;
+    }
+
+    /** schedule
+     * handle 을 deadlineTick 에 만료되도록 등록, 이미 등록된 handle 이면 옮김
+     * - 현재 tick 이하의 만료 tick 은 다음 tick 에 만료
+     * @param handle 0 이상, deadlineTick
+     */
+    public void schedule(int handle, long deadlineTick) {
+        if (handle < 0) {
+            throw new IllegalArgumentException("handle 은 0 이상이어야 합니다.");
+        }
+        ensureCapacity(handle);
+        cancel(handle);
+        long deadline = Math.max(deadlineTick, now + 1);
+        deadlinePages[handle >>> PAGE_BITS][handle & PAGE_MASK] = deadline;
+        place(handle, deadline);
+        size++;
+    }
+
+    /** cancel
+     * 등록된 handle 을 휠에서 제거
+     * @param handle
+     * @return 등록되어 있었으면 true
+     */
+    public boolean cancel(int handle) {
+        if (!isScheduled(handle)) {
+            return false;
+        }
+        unlink(handle);
+        size--;
+        return true;
+    }
+
+    public boolean isScheduled(int handle) {
+        return handle >= 0 && handle >>> PAGE_BITS < prevPages.length && prev(handle) != NIL;
+    }
+
+    /**
+     * handle 에 마지막으로 등록된 만료 tick (만료 / 취소 후에도 다시 등록되기 전까지 유지)
+     */
+    public long deadline(int handle) {
+        return deadlinePages[handle >>> PAGE_BITS][handle & PAGE_MASK];
+    }
+
+    /** advance
+     * 현재 tick 을 toTick 까지 한 tick 씩 옮기며 만료 tick 이 된 handle 을 expired 로 넘김
+     * - 넘기기 전에 휠에서 떼어 내므로 expired 안에서 schedule / cancel 을 호출해도 됨
+     * - 등록된 항목이 없으면 바로 toTick 으로, 아래 단들이 비어 있으면 다음 cascade 직전으로 건너뜀
+     * @param toTick, expired
+     * @return 만료된 handle 수
+     */
+    public int advance(long toTick, IntConsumer expired) {
+        int count = 0;
+        while (now < toTick) {
+            if (size == 0) {
+                now = toTick;
+                break;
+            }
+            int level = lowestOccupiedLevel();
+            if (level > 0) {
+                // level 아래 단이 모두 비어 있으므로 level 단의 다음 칸 경계 전까지는 만료 / cascade 할 것이 없음
+                int shift = SLOT_BITS * level;
+                long beforeBoundary = ((now >>> shift) + 1 << shift) - 1;
+                if (beforeBoundary > now) {
+                    now = Math.min(beforeBoundary, toTick);
+                    continue;
+                }
+            }
+            now++;
+            cascade();
+            int slot = (int) (now & SLOT_MASK);
+            int handle;
+            while ((handle = heads[slot]) != NIL) {
+                unlink(handle);
+                size--;
+                count++;
+                expired.accept(handle);
+            }
+        }
+        return count;
+    }
+
+    public long now() {
+        return now;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * handle 을 담을 수 있도록 할당된 칸 수 (페이지 단위)
+     */
+    public int capacity() {
+        return nextPages.length << PAGE_BITS;
+    }
+
+    // 아래 단이 한 바퀴를 다 돈 단까지, 각 단의 현재 칸을 풀어 다시 배치
+    private void cascade() {
+        for (int level = 1; level < LEVELS; level++) {
+            int shift = SLOT_BITS * level;
+            if ((now & ((1L << shift) - 1)) != 0) {
+                return;
+            }
+            int slot = level * SLOTS + (int) ((now >>> shift) & SLOT_MASK);
+            int handle = heads[slot];
+            heads[slot] = NIL;
+            occupied[slot >>> 6] &= ~(1L << slot);
+            while (handle != NIL) {
+                int next = next(handle);
+                place(handle, deadline(handle));
+                handle = next;
+            }
+        }
+    }
+
+    // 만료 tick 과 현재 tick 이 처음 달라지는 단의 칸 맨 앞에 연결 (만료 tick 이 현재 tick 이면 지금 칸)
+    private void place(int handle, long deadline) {
+        long diff = deadline ^ now;
+        int level = diff == 0 ? 0 : Math.min((63 - Long.numberOfLeadingZeros(diff)) / SLOT_BITS, LEVELS - 1);
+        int slot = level * SLOTS + (int) ((deadline >>> (SLOT_BITS * level)) & SLOT_MASK);
+        int head = heads[slot];
+        setNext(handle, head);
+        setPrev(handle, HEAD_BASE - slot);
+        if (head != NIL) {
+            setPrev(head, handle);
+        }
+        heads[slot] = handle;
+        occupied[slot >>> 6] |= 1L << slot;
+    }
+
+    private void unlink(int handle) {
+        int prev = prev(handle);
+        int next = next(handle);
+        if (prev <= HEAD_BASE) {
+            int slot = HEAD_BASE - prev;
+            heads[slot] = next;
+            if (next == NIL) {
+                occupied[slot >>> 6] &= ~(1L << slot);
+            }
+        } else {
+            setNext(prev, next);
+        }
+        if (next != NIL) {
+            setPrev(next, prev);
+        }
+        setPrev(handle, NIL);
+        setNext(handle, NIL);
+    }
+
+    private int lowestOccupiedLevel() {
+        int wordsPerLevel = SLOTS / Long.SIZE;
+        for (int word = 0; word < occupied.length; word++) {
+            if (occupied[word] != 0) {
+                return word / wordsPerLevel;
+            }
+        }
+        return LEVELS;
+    }
+
+    private void ensureCapacity(int handle) {
+        int pages = (handle >>> PAGE_BITS) + 1;
+        if (pages <= nextPages.length) {
+            return;
+        }
+        int from = nextPages.length;
+        nextPages = Arrays.copyOf(nextPages, pages);
+        prevPages = Arrays.copyOf(prevPages, pages);
+        deadlinePages = Arrays.copyOf(deadlinePages, pages);
+        for (int page = from; page < pages; page++) {
+            nextPages[page] = new int[PAGE_SIZE];
+            prevPages[page] = new int[PAGE_SIZE];
+            Arrays.fill(prevPages[page], NIL);
+            deadlinePages[page] = new long[PAGE_SIZE];
+        }
+    }
+
+    private int next(int handle) {
+        return nextPages[handle >>> PAGE_BITS][handle & PAGE_MASK];
+    }
+
+    private void setNext(int handle, int next) {
+        nextPages[handle >>> PAGE_BITS][handle & PAGE_MASK] = next;
+    }
+
+    private int prev(int handle) {
+        return prevPages[handle >>> PAGE_BITS][handle & PAGE_MASK];
+    }
+
+    private void setPrev(int handle, int prev) {
+        prevPages[handle >>> PAGE_BITS][handle & PAGE_MASK] = prev;
+    }
+}
@@ -0,0 +1,61 @@
+package io.hhplus.tdd.history;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+/**
+ * 유저별 히스토리 조회 조건
+ * - fromMillis <= updateMillis < toMillis, type 이 null 이면 모든 거래 종류
+ * - order = ASC  : id > cursor 인 히스토리를 오래된 순으로 최대 limit 건
+ * - order = DESC : id < cursor 인 히스토리를 최신 순으로 최대 limit 건 (최근 내역 화면)
+ * 다음 페이지는 받은 마지막 히스토리의 id 를 cursor 로 넘겨 이어 조회
+ */
+public record HistoryQuery(
+        long fromMillis,
+        long toMillis,
+        TransactionType type,
+        long cursor,
+        int limit,
+        Order order
+) {
+    public enum Order {
+        ASC, DESC
+    }
+
+    public HistoryQuery {
+        if (order == null) {
+            order = Order.ASC;
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit 은 1 이상이어야 합니다.");
+        }
+    }
+
+    public static HistoryQuery of(Long fromMillis, Long toMillis, TransactionType type, Long cursor, int limit, Order order) {
+        return new HistoryQuery(
+                fromMillis == null ? Long.MIN_VALUE : fromMillis,
+                toMillis == null ? Long.MAX_VALUE : toMillis,
+                type,
+                cursor != null ? cursor : order == Order.DESC ? Long.MAX_VALUE : 0L,
+                limit,
+                order);
+    }
+
+    /**
+     * 같은 조건에서 limit 만 바꾼 조회 (여러 저장 구간을 이어 읽을 때 남은 건수로 사용)
+     */
+    public HistoryQuery withLimit(int limit) {
+        return new HistoryQuery(fromMillis, toMillis, type, cursor, limit, order);
+    }
+
+    public boolean descending() {
+        return order == Order.DESC;
+    }
+
+    public boolean matches(PointHistory history) {
+        return (descending() ? history.id() < cursor : history.id() > cursor)
+                && history.updateMillis() >= fromMillis
+                && history.updateMillis() < toMillis
+                && (type == null || history.type() == type);
+    }
+}
@@ -0,0 +1,88 @@
+package io.hhplus.tdd.history;
+
+import io.hhplus.tdd.point.PointHistory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * id 오름차순으로 쌓인 유저별 히스토리 목록에서 HistoryQuery 를 실행
+ * - cursor(id) 와 from/to(updateMillis) 경계를 이진 탐색으로 찾고 그 사이만 읽으므로 O(log n + k)
+ * - 유저별 기록 시각은 보통 id 순서와 같이 증가하지만, 시계가 뒤로 간 적이 있는 목록(timeOrdered = false)은
+ *   시각으로 잘라낼 수 없으므로 cursor 경계부터 조건을 확인하며 읽음
+ */
+public final class HistoryRangeScan {
+
+    private HistoryRangeScan() {
+    }
+
+    /** scan
+     * @param size 읽을 수 있는 원소 수, at 위치 -> 히스토리, timeOrdered updateMillis 가 위치 순으로 감소하지 않는지, query
+     * @return List<PointHistory> (query 의 방향 순서)
+     */
+    public static List<PointHistory> scan(int size, IntFunction<PointHistory> at, boolean timeOrdered, HistoryQuery query) {
+        List<PointHistory> result = new ArrayList<>(Math.min(query.limit(), 64));
+        if (!query.descending()) {
+            int from = firstIdAfter(size, at, query.cursor());
+            if (timeOrdered) {
+                from = Math.max(from, firstMillisAtOrAfter(size, at, query.fromMillis()));
+            }
+            for (int i = from; i < size && result.size() < query.limit(); i++) {
+                PointHistory history = at.apply(i);
+                if (timeOrdered && history.updateMillis() >= query.toMillis()) {
+                    break;
+                }
+                if (query.matches(history)) {
+                    result.add(history);
+                }
+            }
+            return result;
+        }
+
+        int to = query.cursor() == Long.MIN_VALUE ? 0 : firstIdAfter(size, at, query.cursor() - 1);
+        if (timeOrdered) {
+            to = Math.min(to, firstMillisAtOrAfter(size, at, query.toMillis()));
+        }
+        for (int i = to - 1; i >= 0 && result.size() < query.limit(); i--) {
+            PointHistory history = at.apply(i);
+            if (timeOrdered && history.updateMillis() < query.fromMillis()) {
+                break;
+            }
+            if (query.matches(history)) {
+                result.add(history);
+            }
+        }
+        return result;
+    }
+
+    // id 가 cursor 보다 큰 첫 번째 위치
+    private static int firstIdAfter(int size, IntFunction<PointHistory> at, long cursor) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (at.apply(mid).id() <= cursor) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // updateMillis 가 millis 이상인 첫 번째 위치
+    private static int firstMillisAtOrAfter(int size, IntFunction<PointHistory> at, long millis) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (at.apply(mid).updateMillis() < millis) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
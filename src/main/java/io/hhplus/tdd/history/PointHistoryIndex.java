@@ -0,0 +1,551 @@
+package io.hhplus.tdd.history;
+
+import io.hhplus.tdd.history.cold.ColdHistoryBlock;
+import io.hhplus.tdd.history.cold.VarLongs;
+import io.hhplus.tdd.point.PointHistory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 유저별 포인트 히스토리 인덱스
+ * - PointHistoryTable.selectAllByUserId 는 전체 테이블을 훑으므로 O(전체 히스토리 수)
+ * - 기록 시점에 userId -> 히스토리 목록(append-only chunk) 을 유지해 조회 비용을 O(해당 유저 히스토리 수)로 줄임
+ * - 유저별 히스토리는 id 오름차순으로 쌓이므로 cursor(id) 기반 페이지 조회는 이진 탐색으로 시작 위치를 찾음
+ * - 전체 유저 순회(내보내기 등)를 위해 기록 순서 그대로의 목록도 함께 유지 (히스토리 참조만 추가)
+ * - 유저별 목록은 id 순이자 (시계가 뒤로 가지 않는 한) updateMillis 순이므로 기간 조회도 이진 탐색으로 범위를 찾음
+ * - 오래된 히스토리는 moveToColdTier 로 유저별 컬럼형 압축 블록(ColdHistoryBlock)으로 옮겨 힙 사용량을 줄임
+ *   조회는 압축 구간(cold)과 최근 구간(hot)을 이어서 읽으므로 호출자는 두 구간을 구분하지 않음
+ */
+@Component
+public class PointHistoryIndex {
+
+    private final ConcurrentHashMap<Long, UserHistoryLog> logs = new ConcurrentHashMap<>();
+    private final OrderLog all = new OrderLog();
+
+    /** add
+     * 테이블에 기록된 히스토리를 인덱스에 추가
+     * @param history
+     */
+    public void add(PointHistory history) {
+        UserHistoryLog log = logs.computeIfAbsent(history.userId(), id -> new UserHistoryLog());
+        log.add(history);
+        all.add(history, log);
+    }
+
+    /** findAllByUserId
+     * userId 의 모든 히스토리를 기록 순서대로 반환
+     * @param userId
+     * @return List<PointHistory>
+     */
+    public List<PointHistory> findAllByUserId(long userId) {
+        return findByUserId(userId, 0L, Integer.MAX_VALUE);
+    }
+
+    /** findByUserId
+     * cursor(id) 이후의 히스토리를 최대 limit 건 반환
+     * @param userId, cursor, limit
+     * @return List<PointHistory>
+     */
+    public List<PointHistory> findByUserId(long userId, long cursor, int limit) {
+        UserHistoryLog log = logs.get(userId);
+        if (log == null) {
+            return new ArrayList<>();
+        }
+        return log.slice(cursor, limit);
+    }
+
+    /** query
+     * userId 의 히스토리 중 기간 / 거래 종류 / cursor 조건에 맞는 것을 최대 limit 건 반환 (O(log n + k))
+     * @param userId, query
+     * @return List<PointHistory>
+     */
+    public List<PointHistory> query(long userId, HistoryQuery query) {
+        UserHistoryLog log = logs.get(userId);
+        if (log == null) {
+            return new ArrayList<>();
+        }
+        return log.query(query);
+    }
+
+    /** findAll
+     * 전체 유저의 히스토리 중 cursor(id) 이후를 최대 limit 건 반환
+     * @param cursor, limit
+     * @return List<PointHistory>
+     */
+    public List<PointHistory> findAll(long cursor, int limit) {
+        return all.slice(cursor, limit);
+    }
+
+    /** moveToColdTier
+     * updateMillis 가 cutoffMillis 보다 이른 히스토리를 압축 블록으로 옮김
+     * - 목록 앞쪽(오래된 쪽)의 연속 구간만 옮기므로, 시계가 뒤로 가 끼어든 항목 뒤쪽은 다음 번으로 미룸
+     * - add 와는 목록 단위 synchronized 로 직렬화되고, 조회는 옮기는 도중에도 락 없이 이전 / 이후 상태 중 하나를 읽음
+     * @param cutoffMillis
+     * @return 압축 블록으로 옮긴 히스토리 수
+     */
+    public int moveToColdTier(long cutoffMillis) {
+        int moved = 0;
+        for (UserHistoryLog log : logs.values()) {
+            moved += log.moveToColdTier(cutoffMillis);
+        }
+        all.moveToColdTier(cutoffMillis);
+        return moved;
+    }
+
+    /** userIds
+     * 히스토리가 있는 유저 id 목록 (호출 시점의 복사본)
+     * @return Set<Long>
+     */
+    public Set<Long> userIds() {
+        return Set.copyOf(logs.keySet());
+    }
+
+    /** transferTo
+     * userId 의 히스토리 목록을 다른 인덱스로 옮김 (샤드 재분배용)
+     * - 목록 객체를 그대로 넘기므로 복사 비용 없음, 전체 기록 순서 목록(all)은 옮기지 않음
+     * - 호출자가 두 인덱스의 해당 유저에 대한 add / 조회와 겹치지 않도록 보장
+     * @param userId, target
+     */
+    public void transferTo(long userId, PointHistoryIndex target) {
+        UserHistoryLog log = logs.remove(userId);
+        if (log != null) {
+            target.logs.put(userId, log);
+        }
+    }
+
+    /**
+     * 유저 한 명의 히스토리 목록
+     * - 최근 구간(hot) : 고정 크기 chunk 를 이어 붙이는 방식으로 재할당 시 기존 원소를 복사하지 않음
+     * - 압축 구간(cold) : hot 의 앞쪽을 옮긴 ColdHistoryBlock 목록 (id 순, 블록당 최대 BLOCK_ROWS 건)
+     * - 쓰기는 synchronized, 읽기는 (tiers, size) 를 같은 시점의 값으로 읽은 뒤 공개된 범위만 락 없이 읽음
+     *   tier 이동은 기존 배열을 고치지 않고 새 배열로 바꿔 끼우므로 이전 tiers 를 읽던 조회도 그대로 끝까지 읽음
+     */
+    static final class UserHistoryLog {
+        private static final int CHUNK_SIZE = 64;
+        // 작은 블록은 다음 이동 때 새로 옮길 항목과 합쳐 다시 압축
+        private static final int BLOCK_ROWS = 1024;
+
+        private volatile Tiers tiers = new Tiers(new ColdHistoryBlock[0], 0, new PointHistory[4][]);
+        private volatile int size;
+        // updateMillis 가 기록 순서대로 감소하지 않았는지 (size 보다 먼저 기록되어 함께 공개됨)
+        private volatile boolean timeOrdered = true;
+        private long lastMillis = Long.MIN_VALUE;
+
+        synchronized void add(PointHistory history) {
+            if (history.updateMillis() < lastMillis) {
+                timeOrdered = false;
+            }
+            lastMillis = Math.max(lastMillis, history.updateMillis());
+            Tiers current = tiers;
+            int hotIndex = size - current.coldSize();
+            int chunkIndex = hotIndex / CHUNK_SIZE;
+            PointHistory[][] chunks = current.chunks();
+            if (chunkIndex == chunks.length) {
+                chunks = Arrays.copyOf(chunks, chunks.length * 2);
+                current = new Tiers(current.cold(), current.coldSize(), chunks);
+            }
+            if (chunks[chunkIndex] == null) {
+                chunks[chunkIndex] = new PointHistory[CHUNK_SIZE];
+            }
+            chunks[chunkIndex][hotIndex % CHUNK_SIZE] = history;
+            tiers = current;
+            size = size + 1;
+        }
+
+        List<PointHistory> slice(long cursor, int limit) {
+            Tiers current;
+            int visible;
+            do {
+                current = tiers;
+                visible = size;
+            } while (current != tiers);
+
+            int hotSize = visible - current.coldSize();
+            int from = firstAfter(current, hotSize, cursor);
+            ColdHistoryBlock[] cold = current.cold();
+            // cursor 이후가 들어 있는 첫 블록 (블록 수는 유저 히스토리 수 / BLOCK_ROWS 라 뒤에서부터 훑음)
+            int firstBlock = cold.length;
+            long coldRows = 0;
+            for (int b = cold.length - 1; b >= 0 && cold[b].lastId() > cursor; b--) {
+                firstBlock = b;
+                coldRows += cold[b].size();
+            }
+
+            List<PointHistory> result = new ArrayList<>((int) Math.max(0, Math.min(limit, coldRows + hotSize - from)));
+            for (int b = firstBlock; b < cold.length && result.size() < limit; b++) {
+                cold[b].scan(history -> {
+                    if (history.id() > cursor) {
+                        result.add(history);
+                    }
+                    return result.size() < limit;
+                });
+            }
+            int to = (int) Math.min(hotSize, (long) from + Math.max(0, limit - result.size()));
+            for (int i = from; i < to; i++) {
+                result.add(current.hot(i));
+            }
+            return result;
+        }
+
+        List<PointHistory> query(HistoryQuery query) {
+            Tiers current;
+            int visible;
+            boolean ordered;
+            do {
+                current = tiers;
+                visible = size;
+                ordered = timeOrdered;
+            } while (current != tiers);
+
+            int hotSize = visible - current.coldSize();
+            ColdHistoryBlock[] cold = current.cold();
+            if (!query.descending()) {
+                List<PointHistory> result = new ArrayList<>(Math.min(query.limit(), 64));
+                for (int b = 0; b < cold.length && result.size() < query.limit(); b++) {
+                    if (overlaps(cold[b], query)) {
+                        cold[b].scan(history -> {
+                            if (query.matches(history)) {
+                                result.add(history);
+                            }
+                            return result.size() < query.limit();
+                        });
+                    }
+                }
+                if (result.size() < query.limit()) {
+                    result.addAll(HistoryRangeScan.scan(hotSize, current::hot, ordered, query.withLimit(query.limit() - result.size())));
+                }
+                return result;
+            }
+
+            List<PointHistory> result = HistoryRangeScan.scan(hotSize, current::hot, ordered, query);
+            for (int b = cold.length - 1; b >= 0 && result.size() < query.limit(); b--) {
+                if (!overlaps(cold[b], query)) {
+                    continue;
+                }
+                PointHistory[] histories = cold[b].decode();
+                for (int i = histories.length - 1; i >= 0 && result.size() < query.limit(); i--) {
+                    if (query.matches(histories[i])) {
+                        result.add(histories[i]);
+                    }
+                }
+            }
+            return result;
+        }
+
+        /**
+         * fromId <= id <= toId 인 히스토리 (두 구간을 이어서, id 오름차순)
+         */
+        List<PointHistory> between(long fromId, long toId) {
+            Tiers current;
+            int visible;
+            do {
+                current = tiers;
+                visible = size;
+            } while (current != tiers);
+
+            List<PointHistory> result = new ArrayList<>();
+            for (ColdHistoryBlock block : current.cold()) {
+                if (block.firstId() > toId) {
+                    return result;
+                }
+                if (block.lastId() >= fromId) {
+                    block.scan(history -> {
+                        if (history.id() >= fromId && history.id() <= toId) {
+                            result.add(history);
+                        }
+                        return history.id() < toId;
+                    });
+                }
+            }
+            int hotSize = visible - current.coldSize();
+            for (int i = firstAfter(current, hotSize, fromId - 1); i < hotSize && current.hot(i).id() <= toId; i++) {
+                result.add(current.hot(i));
+            }
+            return result;
+        }
+
+        synchronized int moveToColdTier(long cutoffMillis) {
+            Tiers current = tiers;
+            int hotSize = size - current.coldSize();
+            int moved = 0;
+            while (moved < hotSize && current.hot(moved).updateMillis() < cutoffMillis) {
+                moved++;
+            }
+            if (moved == 0) {
+                return 0;
+            }
+
+            List<ColdHistoryBlock> cold = new ArrayList<>(Arrays.asList(current.cold()));
+            List<PointHistory> pending = new ArrayList<>(Math.min(moved + BLOCK_ROWS, 2 * BLOCK_ROWS));
+            if (!cold.isEmpty() && cold.get(cold.size() - 1).size() < BLOCK_ROWS) {
+                pending.addAll(Arrays.asList(cold.remove(cold.size() - 1).decode()));
+            }
+            for (int i = 0; i < moved; i++) {
+                pending.add(current.hot(i));
+                if (pending.size() == BLOCK_ROWS) {
+                    cold.add(ColdHistoryBlock.encode(pending));
+                    pending.clear();
+                }
+            }
+            if (!pending.isEmpty()) {
+                cold.add(ColdHistoryBlock.encode(pending));
+            }
+
+            int remaining = hotSize - moved;
+            PointHistory[][] chunks = new PointHistory[Math.max(4, (remaining + CHUNK_SIZE - 1) / CHUNK_SIZE)][];
+            for (int i = 0; i < remaining; i++) {
+                if (chunks[i / CHUNK_SIZE] == null) {
+                    chunks[i / CHUNK_SIZE] = new PointHistory[CHUNK_SIZE];
+                }
+                chunks[i / CHUNK_SIZE][i % CHUNK_SIZE] = current.hot(moved + i);
+            }
+            tiers = new Tiers(cold.toArray(new ColdHistoryBlock[0]), current.coldSize() + moved, chunks);
+            return moved;
+        }
+
+        // 압축 블록이 조회 조건(cursor, 기간)과 겹칠 수 있는지
+        private static boolean overlaps(ColdHistoryBlock block, HistoryQuery query) {
+            boolean afterCursor = query.descending() ? block.firstId() < query.cursor() : block.lastId() > query.cursor();
+            return afterCursor && block.maxMillis() >= query.fromMillis() && block.minMillis() < query.toMillis();
+        }
+
+        // hot 구간에서 id 가 cursor 보다 큰 첫 번째 위치
+        private static int firstAfter(Tiers current, int hotSize, long cursor) {
+            int low = 0;
+            int high = hotSize;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (current.hot(mid).id() <= cursor) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private record Tiers(ColdHistoryBlock[] cold, int coldSize, PointHistory[][] chunks) {
+            PointHistory hot(int index) {
+                return chunks[index / CHUNK_SIZE][index % CHUNK_SIZE];
+            }
+        }
+    }
+
+    /**
+     * 전체 유저의 히스토리 기록 순서(id 순) 목록 (findAll 용)
+     * - 최근 구간은 히스토리 참조와 그 유저 목록(owner) 참조를 나란히 보관
+     * - 압축 구간은 히스토리 대신 id(직전 id 와의 차이, varint) 와 owner 만 남기고, 조회 시 owner 의 압축 블록에서 풀어 채움
+     *   owner 는 객체 참조라 샤드 재분배로 유저 목록이 다른 인덱스로 옮겨가도 그대로 유효
+     */
+    static final class OrderLog {
+        private static final int CHUNK_SIZE = 64;
+        private static final int COLD_CHUNK_ROWS = 1024;
+
+        private volatile OrderTiers tiers = new OrderTiers(new OrderChunk[0], 0, new PointHistory[4][], new UserHistoryLog[4][]);
+        private volatile int size;
+
+        synchronized void add(PointHistory history, UserHistoryLog owner) {
+            OrderTiers current = tiers;
+            int hotIndex = size - current.coldSize();
+            int chunkIndex = hotIndex / CHUNK_SIZE;
+            if (chunkIndex == current.histories().length) {
+                current = new OrderTiers(current.cold(), current.coldSize(),
+                        Arrays.copyOf(current.histories(), chunkIndex * 2), Arrays.copyOf(current.owners(), chunkIndex * 2));
+            }
+            if (current.histories()[chunkIndex] == null) {
+                current.histories()[chunkIndex] = new PointHistory[CHUNK_SIZE];
+                current.owners()[chunkIndex] = new UserHistoryLog[CHUNK_SIZE];
+            }
+            current.owners()[chunkIndex][hotIndex % CHUNK_SIZE] = owner;
+            current.histories()[chunkIndex][hotIndex % CHUNK_SIZE] = history;
+            tiers = current;
+            size = size + 1;
+        }
+
+        List<PointHistory> slice(long cursor, int limit) {
+            OrderTiers current;
+            int visible;
+            do {
+                current = tiers;
+                visible = size;
+            } while (current != tiers);
+
+            int hotSize = visible - current.coldSize();
+            int from = firstAfter(current, hotSize, cursor);
+            List<PointHistory> result = resolveCold(current, cursor, limit);
+            int to = (int) Math.min(hotSize, (long) from + Math.max(0, limit - result.size()));
+            for (int i = from; i < to; i++) {
+                result.add(current.hot(i));
+            }
+            return result;
+        }
+
+        synchronized void moveToColdTier(long cutoffMillis) {
+            OrderTiers current = tiers;
+            int hotSize = size - current.coldSize();
+            int moved = 0;
+            while (moved < hotSize && current.hot(moved).updateMillis() < cutoffMillis) {
+                moved++;
+            }
+            if (moved == 0) {
+                return;
+            }
+
+            List<OrderChunk> cold = new ArrayList<>(Arrays.asList(current.cold()));
+            long[] pendingIds = new long[COLD_CHUNK_ROWS];
+            UserHistoryLog[] pendingOwners = new UserHistoryLog[COLD_CHUNK_ROWS];
+            int pending = 0;
+            long start = current.coldSize();
+            if (!cold.isEmpty() && cold.get(cold.size() - 1).owners().length < COLD_CHUNK_ROWS) {
+                OrderChunk last = cold.remove(cold.size() - 1);
+                pending = last.owners().length;
+                System.arraycopy(last.ids(), 0, pendingIds, 0, pending);
+                System.arraycopy(last.owners(), 0, pendingOwners, 0, pending);
+                start = last.start();
+            }
+            for (int i = 0; i < moved; i++) {
+                pendingIds[pending] = current.hot(i).id();
+                pendingOwners[pending] = current.owner(i);
+                pending++;
+                if (pending == COLD_CHUNK_ROWS) {
+                    cold.add(OrderChunk.encode(start, pendingIds, pendingOwners, pending));
+                    start += pending;
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                cold.add(OrderChunk.encode(start, pendingIds, pendingOwners, pending));
+            }
+
+            int remaining = hotSize - moved;
+            int chunkCount = Math.max(4, (remaining + CHUNK_SIZE - 1) / CHUNK_SIZE);
+            PointHistory[][] histories = new PointHistory[chunkCount][];
+            UserHistoryLog[][] owners = new UserHistoryLog[chunkCount][];
+            for (int i = 0; i < remaining; i++) {
+                if (histories[i / CHUNK_SIZE] == null) {
+                    histories[i / CHUNK_SIZE] = new PointHistory[CHUNK_SIZE];
+                    owners[i / CHUNK_SIZE] = new UserHistoryLog[CHUNK_SIZE];
+                }
+                histories[i / CHUNK_SIZE][i % CHUNK_SIZE] = current.hot(moved + i);
+                owners[i / CHUNK_SIZE][i % CHUNK_SIZE] = current.owner(moved + i);
+            }
+            tiers = new OrderTiers(cold.toArray(new OrderChunk[0]), current.coldSize() + moved, histories, owners);
+        }
+
+        // 압축 구간에서 cursor 이후 최대 limit 건의 id / owner 를 모은 뒤, owner 별로 필요한 id 범위만 한 번씩 풀어 채움
+        private static List<PointHistory> resolveCold(OrderTiers current, long cursor, int limit) {
+            OrderChunk[] cold = current.cold();
+            int low = 0;
+            int high = cold.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (cold[mid].lastId() <= cursor) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            if (low == cold.length || limit <= 0) {
+                return new ArrayList<>();
+            }
+
+            int capacity = (int) Math.min(limit, current.coldSize() - cold[low].start());
+            long[] ids = new long[capacity];
+            UserHistoryLog[] owners = new UserHistoryLog[capacity];
+            int count = 0;
+            for (int c = low; c < cold.length && count < capacity; c++) {
+                OrderChunk chunk = cold[c];
+                VarLongs.Reader reader = new VarLongs.Reader(chunk.idDeltas(), 0);
+                long id = chunk.firstId();
+                for (int i = 0; i < chunk.owners().length && count < capacity; i++) {
+                    id += reader.nextSigned();
+                    if (id > cursor) {
+                        ids[count] = id;
+                        owners[count] = chunk.owners()[i];
+                        count++;
+                    }
+                }
+            }
+
+            Map<UserHistoryLog, long[]> ranges = new IdentityHashMap<>();
+            for (int i = 0; i < count; i++) {
+                long[] range = ranges.computeIfAbsent(owners[i], owner -> new long[]{Long.MAX_VALUE, Long.MIN_VALUE});
+                range[0] = Math.min(range[0], ids[i]);
+                range[1] = Math.max(range[1], ids[i]);
+            }
+            PointHistory[] resolved = new PointHistory[count];
+            for (Map.Entry<UserHistoryLog, long[]> entry : ranges.entrySet()) {
+                for (PointHistory history : entry.getKey().between(entry.getValue()[0], entry.getValue()[1])) {
+                    int position = Arrays.binarySearch(ids, 0, count, history.id());
+                    if (position >= 0 && owners[position] == entry.getKey()) {
+                        resolved[position] = history;
+                    }
+                }
+            }
+            List<PointHistory> result = new ArrayList<>(count);
+            for (PointHistory history : resolved) {
+                if (history != null) {
+                    result.add(history);
+                }
+            }
+            return result;
+        }
+
+        private static int firstAfter(OrderTiers current, int hotSize, long cursor) {
+            int low = 0;
+            int high = hotSize;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (current.hot(mid).id() <= cursor) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private record OrderTiers(OrderChunk[] cold, int coldSize, PointHistory[][] histories, UserHistoryLog[][] owners) {
+            PointHistory hot(int index) {
+                return histories[index / CHUNK_SIZE][index % CHUNK_SIZE];
+            }
+
+            UserHistoryLog owner(int index) {
+                return owners[index / CHUNK_SIZE][index % CHUNK_SIZE];
+            }
+        }
+
+        /**
+         * 압축 구간의 기록 순서 조각 (start = 압축 구간 전체에서 이 조각의 시작 위치)
+         */
+        private record OrderChunk(long start, long firstId, long lastId, byte[] idDeltas, UserHistoryLog[] owners) {
+            static OrderChunk encode(long start, long[] ids, UserHistoryLog[] owners, int count) {
+                VarLongs.Writer writer = new VarLongs.Writer(count * 2);
+                long previous = ids[0];
+                for (int i = 0; i < count; i++) {
+                    writer.writeSigned(ids[i] - previous);
+                    previous = ids[i];
+                }
+                return new OrderChunk(start, ids[0], ids[count - 1], writer.toByteArray(), Arrays.copyOf(owners, count));
+            }
+
+            long[] ids() {
+                long[] ids = new long[owners.length];
+                VarLongs.Reader reader = new VarLongs.Reader(idDeltas, 0);
+                long id = firstId;
+                for (int i = 0; i < ids.length; i++) {
+                    id += reader.nextSigned();
+                    ids[i] = id;
+                }
+                return ids;
+            }
+        }
+    }
+}
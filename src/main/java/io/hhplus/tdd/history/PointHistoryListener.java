@@ -0,0 +1,22 @@
+package io.hhplus.tdd.history;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+/**
+ * 히스토리가 저장소에 기록되고 조회에 노출된 직후 호출되는 리스너
+ * - PointHistoryWriter 가 insertLock 안에서 호출하므로 기록 순서대로 한 번에 하나씩 전달됨
+ * - 리스너에서 발생한 예외는 기록 자체를 실패시키지 않음
+ */
+public interface PointHistoryListener {
+
+    void onPersisted(PointHistory history);
+
+    /** onAppended
+     * 히스토리가 기록 대기열에 들어가기 직전, append 를 호출한 스레드에서 바로 호출 (id 없음)
+     * - 충전/사용은 유저 락 안에서 append 하므로 같은 유저의 잔액 변경 순서대로 전달됨
+     * @param userId, amount, type, updateMillis
+     */
+    default void onAppended(long userId, long amount, TransactionType type, long updateMillis) {
+    }
+}
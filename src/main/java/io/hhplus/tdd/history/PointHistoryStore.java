@@ -0,0 +1,52 @@
+package io.hhplus.tdd.history;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+import java.util.List;
+
+/**
+ * 포인트 히스토리 저장소
+ * - PointHistoryWriter 의 워커가 insert 로 영속화한 뒤, 조회 노출 시점을 맞추기 위해 index 를 따로 호출
+ * - insert / index 는 한 번에 한 스레드만 호출 (PointHistoryWriter 가 보장)
+ * - findByUserId 는 여러 스레드에서 동시에 호출될 수 있음
+ */
+public interface PointHistoryStore {
+
+    /**
+     * 히스토리를 영속화하고 id 가 할당된 결과 반환 (조회에는 아직 노출되지 않음)
+     */
+    PointHistory insert(long userId, long amount, TransactionType type, long updateMillis);
+
+    /**
+     * insert 된 히스토리를 유저별 조회에 노출
+     */
+    void index(PointHistory history);
+
+    /**
+     * cursor(id) 이후의 히스토리를 최대 limit 건 id 오름차순으로 반환
+     */
+    List<PointHistory> findByUserId(long userId, long cursor, int limit);
+
+    /**
+     * 전체 유저의 히스토리 중 cursor(id) 이후를 최대 limit 건 id 오름차순으로 반환
+     */
+    List<PointHistory> findAll(long cursor, int limit);
+
+    /**
+     * userId 의 히스토리 중 query 조건(기간 / 거래 종류 / cursor / 방향)에 맞는 것을 최대 limit 건 반환
+     * - 기본 구현은 유저의 전체 히스토리를 읽어 거르므로, 유저별 정렬 인덱스가 있는 저장소는 재정의
+     */
+    default List<PointHistory> query(long userId, HistoryQuery query) {
+        List<PointHistory> histories = findByUserId(userId, 0L, Integer.MAX_VALUE);
+        return HistoryRangeScan.scan(histories.size(), histories::get, false, query);
+    }
+
+    /**
+     * updateMillis 가 cutoffMillis 보다 이른 히스토리를 압축 구간으로 옮기고 옮긴 건수 반환
+     * - 힙에 히스토리 객체를 직접 들고 있는 저장소만 재정의 (기본 구현은 옮길 것이 없음)
+     */
+    default int moveToColdTier(long cutoffMillis) {
+        return 0;
+    }
+}
@@ -0,0 +1,495 @@
+package io.hhplus.tdd.history;
+
+import io.hhplus.tdd.admission.AdmissionRejectedException;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.point.POINT_STATUS;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 포인트 히스토리 비동기 기록기 (write-behind)
+ * - 충전/사용 요청은 히스토리를 큐에 넣기만 하고 바로 반환, 실제 insert 는 전용 워커 스레드가 처리
+ * - 큐 자리(capacity)는 reserve 로 먼저 확보하고, appendTimeoutMillis 안에 자리가 나지 않으면 OVERLOADED 로 거절
+ *   (호출자는 유저 락 안에서 잔액을 바꾸기 전에 reserve 하므로, 거절된 요청은 잔액도 바뀌지 않고 락을 오래 잡지 않음)
+ * - 워커는 한 번 깨어날 때 큐에서 최대 batchSize 건을 꺼내지만, 저장소 insert 는 한 건씩 실행
+ * - 아직 저장소에 기록되지 않은 히스토리도 조회 시 함께 반환 (read-your-writes)
+ * - 애플리케이션 종료 시 큐에 남은 히스토리를 모두 기록한 뒤 종료
+ * 저장소(PointHistoryTable 등)는 thread-safe 하지 않으므로 워커는 하나만 두고 insert 는 insertLock 으로 보호
+ * 조회는 저장소의 유저별 인덱스를 사용하므로 insert 가 진행 중이어도 기다리지 않음
+ * 기록 대기 중인 히스토리는 유저별 대기열로 관리해 조회 / 기록 완료 처리가 다른 유저의 대기 건수와 무관
+ * insert 가 실패한 히스토리는 조회에 계속 노출한 채 간격을 늘려 가며 MAX_ATTEMPTS 번까지 다시 기록
+ * - 그래도 실패하면 내용을 error 로그로 남기고 dead letter 목록으로 옮긴 뒤 다음 히스토리를 계속 기록
+ *   (실패하는 한 건이 워커를 붙잡아 큐가 가득 차고 모든 충전/사용이 막히지 않도록), retryDeadLetters 로 다시 기록
+ * - 종료 중에는 SHUTDOWN_RETRIES 번까지만 시도
+ * 기록된 히스토리는 조회에 노출된 뒤 PointHistoryListener 들에게 순서대로 전달
+ * append 된 히스토리는 대기열에 넣기 전 호출 스레드에서 PointHistoryListener.onAppended 로도 전달
+ * read replica 는 primary 가 기록한 히스토리를 replicate 로 같은 id 그대로 기록
+ */
+@Component
+public class PointHistoryWriter implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(PointHistoryWriter.class);
+    private static final long POLL_MILLIS = 100L;
+    private static final long RETRY_MIN_MILLIS = 100L;
+    private static final int MAX_ATTEMPTS = 5;
+    private static final int SHUTDOWN_RETRIES = 3;
+
+    private final PointHistoryStore pointHistoryStore;
+    private final List<PointHistoryListener> listeners;
+    // 크기 제한은 slots 로 (reserve 에서 확보, 워커가 큐에서 꺼낼 때 반납)
+    private final BlockingQueue<PendingHistory> queue = new LinkedBlockingQueue<>();
+    private final Semaphore slots;
+    private final long appendTimeoutMillis;
+    private final ConcurrentLinkedQueue<PendingHistory> deadLetters = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock insertLock = new ReentrantLock();
+    private final ReentrantLock viewLock = new ReentrantLock();
+    private final Condition persisted = viewLock.newCondition();
+    // 아직 저장소에 기록되지 않은 히스토리 (viewLock 으로 보호), 유저별로 append 순서
+    private final Map<Long, ArrayDeque<PendingHistory>> unpersisted = new HashMap<>();
+    private int unpersistedCount;
+    private final int batchSize;
+    private final Timer insertTimer;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public PointHistoryWriter(
+            PointHistoryStore pointHistoryStore,
+            List<PointHistoryListener> listeners,
+            int capacity,
+            int batchSize,
+            PointMetrics pointMetrics) {
+        this(pointHistoryStore, listeners, capacity, batchSize, 1_000L, pointMetrics);
+    }
+
+    @Autowired
+    public PointHistoryWriter(
+            PointHistoryStore pointHistoryStore,
+            List<PointHistoryListener> listeners,
+            @Value("${point.history.writer.capacity:10000}") int capacity,
+            @Value("${point.history.writer.batch-size:100}") int batchSize,
+            @Value("${point.history.writer.append-timeout-millis:1000}") long appendTimeoutMillis,
+            PointMetrics pointMetrics) {
+        this.pointHistoryStore = pointHistoryStore;
+        this.listeners = listeners;
+        this.slots = new Semaphore(capacity);
+        this.appendTimeoutMillis = appendTimeoutMillis;
+        this.batchSize = batchSize;
+        this.insertTimer = pointMetrics.storeTimer("history", "insert");
+    }
+
+    /** append
+     * 히스토리를 기록 대기열에 추가 (reserve(1) + appendReserved)
+     * - 대기열 자리가 appendTimeoutMillis 안에 나지 않으면 OVERLOADED
+     * @param userId, amount, type, updateMillis
+     */
+    public void append(long userId, long amount, TransactionType type, long updateMillis) {
+        reserve(1);
+        appendReserved(userId, amount, type, updateMillis);
+    }
+
+    /** reserve
+     * 히스토리 count 건을 넣을 대기열 자리를 확보
+     * - appendTimeoutMillis 안에 확보하지 못하면 AdmissionRejectedException(OVERLOADED)
+     * - 확보한 자리는 appendReserved 로 쓰거나, 쓰지 않으면 release 로 반납해야 함
+     * @param count
+     */
+    public void reserve(int count) {
+        try {
+            if (slots.tryAcquire(count, appendTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        throw new AdmissionRejectedException(POINT_STATUS.OVERLOADED, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.", 1L);
+    }
+
+    /** release
+     * reserve 로 확보했지만 appendReserved 로 쓰지 않은 자리를 반납
+     * @param count
+     */
+    public void release(int count) {
+        slots.release(count);
+    }
+
+    /** appendReserved
+     * reserve 로 확보한 자리 하나에 히스토리를 추가 (대기하지 않음)
+     * - 리스너의 onAppended 를 먼저 호출 (호출자의 유저 락 안)
+     * - 워커가 동작 중이 아니면(시작 전/종료 후) 호출 스레드에서 바로 기록
+     * @param userId, amount, type, updateMillis
+     */
+    public void appendReserved(long userId, long amount, TransactionType type, long updateMillis) {
+        notifyAppended(userId, amount, type, updateMillis);
+        PendingHistory history = new PendingHistory(userId, amount, type, updateMillis);
+        addUnpersisted(history);
+        if (!running) {
+            slots.release();
+            persistNow(history);
+            return;
+        }
+        queue.add(history);
+        // stop() 의 마지막 drain 이후에 들어온 히스토리는 호출 스레드가 직접 기록
+        if (!running) {
+            drainRemaining();
+        }
+    }
+
+    /** replicate
+     * 다른 인스턴스(primary)에서 이미 id 가 할당된 히스토리를 같은 id 로 기록 (read replica 의 변경 반영)
+     * - 대기열을 거치지 않고 호출 스레드에서 바로 기록한 뒤 조회에 노출하고 onPersisted 리스너에 전달
+     * - onAppended 는 호출하지 않음 (충전/사용이 일어난 인스턴스가 아니므로 만료 lot 등을 만들지 않음)
+     * - 저장소가 할당한 id 가 원본 id 와 다르면(저장소가 비어 있지 않았던 경우 등) 예외
+     * @param history primary 에서 기록된 히스토리
+     * @return 저장소에 기록된 히스토리
+     */
+    public PointHistory replicate(PointHistory history) {
+        insertLock.lock();
+        try {
+            long start = System.nanoTime();
+            PointHistory inserted = pointHistoryStore.insert(history.userId(), history.amount(), history.type(), history.updateMillis());
+            PointMetrics.record(insertTimer, start);
+            if (inserted.id() != history.id()) {
+                throw new IllegalStateException("복제한 히스토리의 id 가 원본과 다릅니다. (원본 " + history.id() + ", 기록 " + inserted.id() + ")");
+            }
+            viewLock.lock();
+            try {
+                pointHistoryStore.index(inserted);
+            } finally {
+                viewLock.unlock();
+            }
+            notifyListeners(inserted);
+            return inserted;
+        } finally {
+            insertLock.unlock();
+        }
+    }
+
+    /** findAllByUserId
+     * 저장소에 기록된 히스토리 + 아직 기록 대기 중인 히스토리를 순서대로 반환
+     * - 기록 대기 중인 히스토리는 id 가 할당되지 않았으므로 id = 0
+     * @param userId
+     * @return List<PointHistory>
+     */
+    public List<PointHistory> findAllByUserId(long userId) {
+        viewLock.lock();
+        try {
+            List<PointHistory> result = pointHistoryStore.findByUserId(userId, 0L, Integer.MAX_VALUE);
+            ArrayDeque<PendingHistory> pending = unpersisted.get(userId);
+            if (pending != null) {
+                for (PendingHistory history : pending) {
+                    result.add(history.toPointHistory());
+                }
+            }
+            return result;
+        } finally {
+            viewLock.unlock();
+        }
+    }
+
+    /** findByUserId
+     * 저장소에 기록된 히스토리 중 cursor(id) 이후의 히스토리를 최대 limit 건 반환
+     * - 기록 대기 중인 히스토리는 id 가 없어 cursor 로 이어 조회할 수 없으므로 제외
+     * @param userId, cursor, limit
+     * @return List<PointHistory>
+     */
+    public List<PointHistory> findByUserId(long userId, long cursor, int limit) {
+        return pointHistoryStore.findByUserId(userId, cursor, limit);
+    }
+
+    /** query
+     * 저장소에 기록된 히스토리 중 기간 / 거래 종류 / cursor 조건에 맞는 것을 최대 limit 건 반환
+     * - findByUserId 와 같이 기록 대기 중인(id 가 없는) 히스토리는 제외
+     * @param userId, query
+     * @return List<PointHistory>
+     */
+    public List<PointHistory> query(long userId, HistoryQuery query) {
+        return pointHistoryStore.query(userId, query);
+    }
+
+    /** findAll
+     * 저장소에 기록된 전체 유저의 히스토리 중 cursor(id) 이후를 최대 limit 건 반환
+     * @param cursor, limit
+     * @return List<PointHistory>
+     */
+    public List<PointHistory> findAll(long cursor, int limit) {
+        return pointHistoryStore.findAll(cursor, limit);
+    }
+
+    /** flush
+     * 현재까지 append 된 히스토리가 모두 저장소에 기록될 때까지 대기
+     */
+    public void flush() {
+        viewLock.lock();
+        try {
+            while (unpersistedCount > 0) {
+                persisted.await(POLL_MILLIS, TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            viewLock.unlock();
+        }
+    }
+
+    /**
+     * 기록 대기 중인 히스토리 수
+     */
+    public int pendingCount() {
+        return queue.size();
+    }
+
+    /**
+     * 재시도 끝에 기록을 포기하고 dead letter 목록에 남은 히스토리 수
+     */
+    public int deadLetterCount() {
+        return deadLetters.size();
+    }
+
+    /** retryDeadLetters
+     * dead letter 목록의 히스토리를 다시 기록 (저장소 장애가 복구된 뒤 호출)
+     * - 워커가 동작 중이면 대기열에 넣고, 아니면 호출 스레드에서 기록 (실패하면 다시 dead letter 로)
+     * @return 다시 기록을 시도한 히스토리 수
+     */
+    public int retryDeadLetters() {
+        // 다시 실패해 dead letter 로 돌아온 히스토리는 이번 호출에서 또 꺼내지 않음
+        int retried = 0;
+        PendingHistory history;
+        for (int remaining = deadLetters.size(); remaining > 0 && (history = deadLetters.poll()) != null; remaining--) {
+            addUnpersisted(history);
+            if (running) {
+                slots.acquireUninterruptibly();
+                queue.add(history);
+            } else {
+                persistWithRetry(history);
+            }
+            retried++;
+        }
+        return retried;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::drainLoop, "point-history-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            try {
+                worker.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        drainRemaining();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 웹 서버보다 먼저 시작하고 나중에 종료되도록 낮은 phase 사용
+     * - 종료 시 더 이상 요청이 들어오지 않는 시점에 남은 히스토리를 모두 기록
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void drainLoop() {
+        List<PendingHistory> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingHistory first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                slots.release(batch.size());
+                for (PendingHistory history : batch) {
+                    persistWithRetry(history);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void drainRemaining() {
+        PendingHistory history;
+        while ((history = queue.poll()) != null) {
+            slots.release();
+            persistWithRetry(history);
+        }
+    }
+
+    // 간격을 늘려 가며 MAX_ATTEMPTS 번까지 재시도 (종료 중이거나 인터럽트되면 SHUTDOWN_RETRIES 번까지)
+    // 끝내 실패하면 dead letter 로 옮기고 반환해 다음 히스토리를 기록
+    private void persistWithRetry(PendingHistory history) {
+        long backoffMillis = RETRY_MIN_MILLIS;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                persist(history);
+                return;
+            } catch (RuntimeException e) {
+                boolean shuttingDown = !running || Thread.currentThread().isInterrupted();
+                if (attempt >= (shuttingDown ? SHUTDOWN_RETRIES : MAX_ATTEMPTS)) {
+                    log.error("포인트 히스토리 기록 포기, dead letter 로 이동 (userId={}, amount={}, type={}, updateMillis={})",
+                            history.userId(), history.amount(), history.type(), history.updateMillis(), e);
+                    removeUnpersisted(history);
+                    deadLetters.add(history);
+                    return;
+                }
+                log.error("포인트 히스토리 기록 실패, {}ms 뒤 재시도 (userId={}, attempt={})", backoffMillis, history.userId(), attempt, e);
+                pause(backoffMillis);
+                backoffMillis *= 2;
+            }
+        }
+    }
+
+    // 워커 없이 호출 스레드에서 기록, 실패하면 대기 목록에서 빼고 호출자에게 예외를 그대로 전달
+    private void persistNow(PendingHistory history) {
+        try {
+            persist(history);
+        } catch (RuntimeException e) {
+            removeUnpersisted(history);
+            throw e;
+        }
+    }
+
+    // insert 에 실패하면 예외를 던지고 히스토리는 기록 대기 상태로 남음
+    // 인덱스 추가와 unpersisted 제거를 같은 락 안에서 처리해 조회 시 누락/중복이 생기지 않도록 함
+    private void persist(PendingHistory history) {
+        insertLock.lock();
+        try {
+            long start = System.nanoTime();
+            PointHistory inserted;
+            try {
+                inserted = pointHistoryStore.insert(history.userId(), history.amount(), history.type(), history.updateMillis());
+            } finally {
+                PointMetrics.record(insertTimer, start);
+            }
+            publish(history, inserted);
+            notifyListeners(inserted);
+        } finally {
+            insertLock.unlock();
+        }
+    }
+
+    private static void pause(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void notifyAppended(long userId, long amount, TransactionType type, long updateMillis) {
+        for (PointHistoryListener listener : listeners) {
+            try {
+                listener.onAppended(userId, amount, type, updateMillis);
+            } catch (RuntimeException e) {
+                log.error("포인트 히스토리 리스너 처리 실패 (userId={}, type={})", userId, type, e);
+            }
+        }
+    }
+
+    private void notifyListeners(PointHistory inserted) {
+        for (PointHistoryListener listener : listeners) {
+            try {
+                listener.onPersisted(inserted);
+            } catch (RuntimeException e) {
+                log.error("포인트 히스토리 리스너 처리 실패 (id={})", inserted.id(), e);
+            }
+        }
+    }
+
+    private void publish(PendingHistory history, PointHistory inserted) {
+        viewLock.lock();
+        try {
+            pointHistoryStore.index(inserted);
+            removeUnpersistedLocked(history);
+        } finally {
+            viewLock.unlock();
+        }
+    }
+
+    private void addUnpersisted(PendingHistory history) {
+        viewLock.lock();
+        try {
+            unpersisted.computeIfAbsent(history.userId(), userId -> new ArrayDeque<>()).addLast(history);
+            unpersistedCount++;
+        } finally {
+            viewLock.unlock();
+        }
+    }
+
+    private void removeUnpersisted(PendingHistory history) {
+        viewLock.lock();
+        try {
+            removeUnpersistedLocked(history);
+        } finally {
+            viewLock.unlock();
+        }
+    }
+
+    // 같은 유저의 히스토리는 append 순서대로 기록되므로 대부분 맨 앞에서 바로 제거됨
+    private void removeUnpersistedLocked(PendingHistory history) {
+        ArrayDeque<PendingHistory> pending = unpersisted.get(history.userId());
+        if (pending == null) {
+            return;
+        }
+        if (pending.peekFirst() == history) {
+            pending.pollFirst();
+            unpersistedCount--;
+        } else if (pending.removeFirstOccurrence(history)) {
+            unpersistedCount--;
+        }
+        if (pending.isEmpty()) {
+            unpersisted.remove(history.userId());
+        }
+        persisted.signalAll();
+    }
+
+    private record PendingHistory(
+            long userId,
+            long amount,
+            TransactionType type,
+            long updateMillis
+    ) {
+        PointHistory toPointHistory() {
+            return new PointHistory(0, userId, amount, type, updateMillis);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package io.hhplus.tdd.history;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * PointHistoryTable 기반 히스토리 저장소 (기본값, point.history.store = table)
+ * - 기록은 PointHistoryTable.insert, 조회는 전체 스캔 대신 PointHistoryIndex 사용
+ * - PointHistoryTable 이 모든 히스토리 객체를 계속 들고 있으므로 압축 구간(moveToColdTier)은 사용하지 않음
+ *   (인덱스만 압축하면 같은 내용을 한 벌 더 만드는 셈)
+ */
+@Component
+@ConditionalOnProperty(name = "point.history.store", havingValue = "table", matchIfMissing = true)
+public class TablePointHistoryStore implements PointHistoryStore {
+
+    private final PointHistoryTable pointHistoryTable;
+    private final PointHistoryIndex pointHistoryIndex;
+
+    public TablePointHistoryStore(PointHistoryTable pointHistoryTable, PointHistoryIndex pointHistoryIndex) {
+        this.pointHistoryTable = pointHistoryTable;
+        this.pointHistoryIndex = pointHistoryIndex;
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        return pointHistoryTable.insert(userId, amount, type, updateMillis);
+    }
+
+    @Override
+    public void index(PointHistory history) {
+        pointHistoryIndex.add(history);
+    }
+
+    @Override
+    public List<PointHistory> findByUserId(long userId, long cursor, int limit) {
+        return pointHistoryIndex.findByUserId(userId, cursor, limit);
+    }
+
+    @Override
+    public List<PointHistory> findAll(long cursor, int limit) {
+        return pointHistoryIndex.findAll(cursor, limit);
+    }
+
+    @Override
+    public List<PointHistory> query(long userId, HistoryQuery query) {
+        return pointHistoryIndex.query(userId, query);
+    }
+}
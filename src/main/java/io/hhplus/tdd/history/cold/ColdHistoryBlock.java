@@ -0,0 +1,169 @@
+package io.hhplus.tdd.history.cold;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * 유저 한 명의 오래된 히스토리를 담는 불변 컬럼형 압축 블록
+ * - PointHistory 객체(약 48 byte) + 목록 참조 대신 컬럼별로 byte[] 하나에 이어 붙여 보관
+ * - id / updateMillis : 직전 값과의 차이를 zigzag varint 로 (유저 히스토리는 id 순이라 차이가 작음)
+ * - amount : zigzag varint, type : 2 bit 씩 묶음
+ * - 블록 안의 값은 임의 접근 없이 앞에서부터 순서대로 풀어 읽음 (id 오름차순)
+ */
+public final class ColdHistoryBlock {
+
+    private static final TransactionType[] TYPES = TransactionType.values();
+    private static final int TYPE_BITS = 2;
+    private static final int TYPES_PER_BYTE = Byte.SIZE / TYPE_BITS;
+
+    static {
+        if (TYPES.length > 1 << TYPE_BITS) {
+            throw new ExceptionInInitializerError("TransactionType 이 " + (1 << TYPE_BITS) + " 종류를 넘어 블록 형식을 늘려야 합니다.");
+        }
+    }
+
+    private final long userId;
+    private final int size;
+    private final long firstId;
+    private final long lastId;
+    private final long firstMillis;
+    private final long minMillis;
+    private final long maxMillis;
+    // [id 차이 | millis 차이 | amount | type] 순서의 컬럼을 이어 붙인 것
+    private final byte[] data;
+    private final int millisOffset;
+    private final int amountOffset;
+    private final int typeOffset;
+
+    private ColdHistoryBlock(long userId, int size, long firstId, long lastId, long firstMillis, long minMillis,
+                             long maxMillis, byte[] data, int millisOffset, int amountOffset, int typeOffset) {
+        this.userId = userId;
+        this.size = size;
+        this.firstId = firstId;
+        this.lastId = lastId;
+        this.firstMillis = firstMillis;
+        this.minMillis = minMillis;
+        this.maxMillis = maxMillis;
+        this.data = data;
+        this.millisOffset = millisOffset;
+        this.amountOffset = amountOffset;
+        this.typeOffset = typeOffset;
+    }
+
+    /** encode
+     * 같은 유저의 히스토리(id 오름차순)를 블록 하나로 압축
+     * @param histories 1건 이상
+     * @return ColdHistoryBlock
+     */
+    public static ColdHistoryBlock encode(List<PointHistory> histories) {
+        if (histories.isEmpty()) {
+            throw new IllegalArgumentException("빈 블록은 만들 수 없습니다.");
+        }
+        int size = histories.size();
+        PointHistory first = histories.get(0);
+        // 컬럼마다 최악(값당 10 byte)을 가정하지 않고 작게 시작해 늘림
+        VarLongs.Writer ids = new VarLongs.Writer(size * 2);
+        VarLongs.Writer millis = new VarLongs.Writer(size * 3);
+        VarLongs.Writer amounts = new VarLongs.Writer(size * 3);
+        byte[] types = new byte[(size + TYPES_PER_BYTE - 1) / TYPES_PER_BYTE];
+
+        long previousId = first.id();
+        long previousMillis = first.updateMillis();
+        long minMillis = Long.MAX_VALUE;
+        long maxMillis = Long.MIN_VALUE;
+        for (int i = 0; i < size; i++) {
+            PointHistory history = histories.get(i);
+            if (history.userId() != first.userId()) {
+                throw new IllegalArgumentException("한 블록에는 한 유저의 히스토리만 담을 수 있습니다.");
+            }
+            ids.writeSigned(history.id() - previousId);
+            millis.writeSigned(history.updateMillis() - previousMillis);
+            amounts.writeSigned(history.amount());
+            types[i / TYPES_PER_BYTE] |= (byte) (history.type().ordinal() << (i % TYPES_PER_BYTE * TYPE_BITS));
+            previousId = history.id();
+            previousMillis = history.updateMillis();
+            minMillis = Math.min(minMillis, history.updateMillis());
+            maxMillis = Math.max(maxMillis, history.updateMillis());
+        }
+
+        byte[] data = new byte[ids.length() + millis.length() + amounts.length() + types.length];
+        int millisOffset = ids.copyTo(data, 0);
+        int amountOffset = millis.copyTo(data, millisOffset);
+        int typeOffset = amounts.copyTo(data, amountOffset);
+        System.arraycopy(types, 0, data, typeOffset, types.length);
+        return new ColdHistoryBlock(first.userId(), size, first.id(), previousId, first.updateMillis(), minMillis, maxMillis,
+                data, millisOffset, amountOffset, typeOffset);
+    }
+
+    /** scan
+     * 블록의 히스토리를 id 오름차순으로 풀어 visitor 에 넘김
+     * - 여러 스레드가 같은 블록을 동시에 읽을 수 있음 (읽기 위치는 호출마다 따로 둠)
+     * - visitor 가 false 를 반환하면 거기서 멈춤
+     * @param visitor
+     * @return 끝까지 읽었으면 true
+     */
+    public boolean scan(Predicate<PointHistory> visitor) {
+        VarLongs.Reader ids = new VarLongs.Reader(data, 0);
+        VarLongs.Reader millis = new VarLongs.Reader(data, millisOffset);
+        VarLongs.Reader amounts = new VarLongs.Reader(data, amountOffset);
+        long id = firstId;
+        long updateMillis = firstMillis;
+        for (int i = 0; i < size; i++) {
+            id += ids.nextSigned();
+            updateMillis += millis.nextSigned();
+            int type = (data[typeOffset + i / TYPES_PER_BYTE] >>> (i % TYPES_PER_BYTE * TYPE_BITS)) & ((1 << TYPE_BITS) - 1);
+            if (!visitor.test(new PointHistory(id, userId, amounts.nextSigned(), TYPES[type], updateMillis))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** decode
+     * 블록 전체를 id 오름차순 배열로 풀어 반환
+     * @return PointHistory[]
+     */
+    public PointHistory[] decode() {
+        PointHistory[] histories = new PointHistory[size];
+        int[] next = {0};
+        scan(history -> {
+            histories[next[0]++] = history;
+            return true;
+        });
+        return histories;
+    }
+
+    public long userId() {
+        return userId;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long firstId() {
+        return firstId;
+    }
+
+    public long lastId() {
+        return lastId;
+    }
+
+    public long minMillis() {
+        return minMillis;
+    }
+
+    public long maxMillis() {
+        return maxMillis;
+    }
+
+    /**
+     * 블록이 차지하는 대략적인 힙 크기 (객체 헤더 + 필드 + byte[])
+     */
+    public long heapBytes() {
+        return 80 + 16 + data.length;
+    }
+}
@@ -0,0 +1,67 @@
+package io.hhplus.tdd.history.cold;
+
+import io.hhplus.tdd.history.PointHistoryStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 오래된 히스토리를 주기적으로 압축 구간(ColdHistoryBlock)으로 옮기는 스케줄러
+ * - 기록 시각이 age-millis 보다 오래된 히스토리가 대상, interval-seconds 마다 한 번 실행
+ * - 히스토리 객체를 힙에 직접 들고 있는 저장소(sharded)만 실제로 옮기고, 나머지 저장소에서는 아무 일도 하지 않음
+ * - 조회는 압축 / 최근 구간을 이어서 읽으므로 옮기는 중에도 결과가 달라지지 않음
+ */
+@Component
+public class ColdHistoryTierer implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ColdHistoryTierer.class);
+
+    private final PointHistoryStore pointHistoryStore;
+    private final long ageMillis;
+    private final ScheduledExecutorService scheduler;
+
+    public ColdHistoryTierer(
+            PointHistoryStore pointHistoryStore,
+            @Value("${point.history.cold.age-millis:2592000000}") long ageMillis,
+            @Value("${point.history.cold.interval-seconds:600}") long intervalSeconds) {
+        this.pointHistoryStore = pointHistoryStore;
+        this.ageMillis = ageMillis;
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "point-history-tierer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::moveQuietly, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /** moveToColdTier
+     * 지금 기준으로 age-millis 보다 오래된 히스토리를 압축 구간으로 옮김
+     * @return 옮긴 히스토리 수
+     */
+    public int moveToColdTier() {
+        long started = System.nanoTime();
+        int moved = pointHistoryStore.moveToColdTier(System.currentTimeMillis() - ageMillis);
+        if (moved > 0) {
+            log.info("히스토리 압축 구간 이동 (moved={}, {}ms)", moved, (System.nanoTime() - started) / 1_000_000);
+        }
+        return moved;
+    }
+
+    private void moveQuietly() {
+        try {
+            moveToColdTier();
+        } catch (RuntimeException e) {
+            log.warn("히스토리 압축 구간 이동 실패", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
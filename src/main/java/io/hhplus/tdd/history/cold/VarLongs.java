@@ -0,0 +1,75 @@
+package io.hhplus.tdd.history.cold;
+
+import java.util.Arrays;
+
+/**
+ * 부호 있는 long 을 zigzag varint (7 bit 씩, 상위 bit = 다음 byte 이어짐) 로 쓰고 읽는 도구
+ * - 작은 절댓값(직전 값과의 차이, 금액 등)일수록 적은 byte 를 차지 (|값| < 64 이면 1 byte)
+ */
+public final class VarLongs {
+
+    private VarLongs() {
+    }
+
+    public static final class Writer {
+        private byte[] buffer;
+        private int length;
+
+        public Writer(int initialCapacity) {
+            buffer = new byte[Math.max(16, initialCapacity)];
+        }
+
+        public void writeSigned(long value) {
+            long zigzag = (value << 1) ^ (value >> 63);
+            if (buffer.length - length < 10) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+            while ((zigzag & ~0x7FL) != 0) {
+                buffer[length++] = (byte) ((zigzag & 0x7F) | 0x80);
+                zigzag >>>= 7;
+            }
+            buffer[length++] = (byte) zigzag;
+        }
+
+        public int length() {
+            return length;
+        }
+
+        /**
+         * 기록한 byte 를 target[offset..] 에 복사하고 복사가 끝난 다음 위치 반환
+         */
+        public int copyTo(byte[] target, int offset) {
+            System.arraycopy(buffer, 0, target, offset, length);
+            return offset + length;
+        }
+
+        public byte[] toByteArray() {
+            return Arrays.copyOf(buffer, length);
+        }
+    }
+
+    /**
+     * 읽기 위치를 가지므로 한 스레드 안에서만 사용 (byte[] 자체는 여러 Reader 가 공유 가능)
+     */
+    public static final class Reader {
+        private final byte[] data;
+        private int position;
+
+        public Reader(byte[] data, int position) {
+            this.data = data;
+            this.position = position;
+        }
+
+        public long nextSigned() {
+            long zigzag = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[position++];
+                zigzag |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            return (zigzag >>> 1) ^ -(zigzag & 1);
+        }
+    }
+}
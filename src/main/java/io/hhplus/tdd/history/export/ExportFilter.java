@@ -0,0 +1,36 @@
+package io.hhplus.tdd.history.export;
+
+import io.hhplus.tdd.history.HistoryQuery;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+/**
+ * 히스토리 내보내기 조건
+ * - fromMillis <= updateMillis < toMillis
+ * - type 이 null 이면 모든 거래 종류
+ */
+public record ExportFilter(
+        long fromMillis,
+        long toMillis,
+        TransactionType type
+) {
+    public static ExportFilter of(Long fromMillis, Long toMillis, TransactionType type) {
+        return new ExportFilter(
+                fromMillis == null ? Long.MIN_VALUE : fromMillis,
+                toMillis == null ? Long.MAX_VALUE : toMillis,
+                type);
+    }
+
+    /**
+     * 같은 조건으로 cursor(id) 이후를 최대 limit 건 읽는 유저별 조회 조건
+     */
+    public HistoryQuery toQuery(long cursor, int limit) {
+        return new HistoryQuery(fromMillis, toMillis, type, cursor, limit, HistoryQuery.Order.ASC);
+    }
+
+    public boolean matches(PointHistory history) {
+        return history.updateMillis() >= fromMillis
+                && history.updateMillis() < toMillis
+                && (type == null || history.type() == type);
+    }
+}
@@ -0,0 +1,69 @@
+package io.hhplus.tdd.history.export;
+
+import io.hhplus.tdd.point.PointHistory;
+
+/**
+ * 히스토리 내보내기 형식
+ * - NDJSON : 한 줄에 JSON 객체 하나
+ * - CSV    : 첫 줄 헤더 후 한 줄에 한 건
+ * 행마다 Jackson 직렬화나 문자열 객체를 만들지 않도록 재사용하는 StringBuilder 에 직접 씀
+ */
+public enum ExportFormat {
+
+    NDJSON("application/x-ndjson", "ndjson") {
+        @Override
+        public void header(StringBuilder line) {
+        }
+
+        @Override
+        public void row(StringBuilder line, PointHistory history) {
+            line.append("{\"id\":").append(history.id())
+                    .append(",\"userId\":").append(history.userId())
+                    .append(",\"amount\":").append(history.amount())
+                    .append(",\"type\":\"").append(history.type().name())
+                    .append("\",\"updateMillis\":").append(history.updateMillis())
+                    .append("}\n");
+        }
+    },
+    CSV("text/csv", "csv") {
+        @Override
+        public void header(StringBuilder line) {
+            line.append("id,userId,amount,type,updateMillis\n");
+        }
+
+        @Override
+        public void row(StringBuilder line, PointHistory history) {
+            line.append(history.id()).append(',')
+                    .append(history.userId()).append(',')
+                    .append(history.amount()).append(',')
+                    .append(history.type().name()).append(',')
+                    .append(history.updateMillis()).append('\n');
+        }
+    };
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    /**
+     * 첫 줄 (형식에 따라 없을 수 있음)
+     */
+    public abstract void header(StringBuilder line);
+
+    /**
+     * 히스토리 한 건을 한 줄로 (줄바꿈 포함)
+     */
+    public abstract void row(StringBuilder line, PointHistory history);
+}
@@ -0,0 +1,11 @@
+package io.hhplus.tdd.history.journal;
+
+/**
+ * 저널 디스크 동기화 정책
+ * - EVERY_WRITE  : 기록마다 force (가장 안전, 가장 느림)
+ * - GROUP_COMMIT : 일정 주기로 모아서 force (주기 동안의 기록은 유실될 수 있음)
+ * - OS           : force 하지 않고 OS 의 페이지 캐시 flush 에 맡김 (segment 전환/종료 시에만 force)
+ */
+public enum FsyncPolicy {
+    EVERY_WRITE, GROUP_COMMIT, OS
+}
@@ -0,0 +1,247 @@
+package io.hhplus.tdd.history.journal;
+
+import io.hhplus.tdd.history.HistoryQuery;
+import io.hhplus.tdd.history.HistoryRangeScan;
+import io.hhplus.tdd.history.PointHistoryStore;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * memory-mapped append-only 저널 기반 히스토리 저장소 (point.history.store = journal)
+ * - 히스토리를 고정 길이(37 byte, crc 포함) 레코드로 segment 파일에 순서대로 기록, segment 가 가득 차면 새 파일로 전환
+ * - 레코드는 힙이 아닌 매핑된 파일 영역에 있고, 유저별 인덱스에는 id 만 보관
+ * - id 는 1 부터 연속이므로 id 만으로 segment 와 파일 내 위치를 바로 계산
+ * - 기동 시 segment 들을 순서대로 훑어 다음 id(cursor)와 유저별 인덱스를 복구 (느린 insert 경로를 거치지 않음)
+ */
+@Component
+@ConditionalOnProperty(name = "point.history.store", havingValue = "journal")
+public class JournalPointHistoryStore implements PointHistoryStore, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(JournalPointHistoryStore.class);
+
+    private final Path directory;
+    private final int recordsPerSegment;
+    private final FsyncPolicy fsyncPolicy;
+    private final List<JournalSegment> segments = new CopyOnWriteArrayList<>();
+    private final ConcurrentHashMap<Long, UserIdLog> userIndex = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService groupCommitter;
+
+    private volatile long nextId = 1;
+    private volatile boolean dirty;
+    // 조회에 노출된 마지막 id (id 는 빈틈 없이 증가하므로 전체 순회의 상한으로 사용)
+    private volatile long indexedId;
+
+    public JournalPointHistoryStore(
+            @Value("${point.history.journal.dir:./data/history}") String directory,
+            @Value("${point.history.journal.segment-bytes:67108864}") long segmentBytes,
+            @Value("${point.history.journal.fsync:group-commit}") FsyncPolicy fsyncPolicy,
+            @Value("${point.history.journal.group-commit-interval-millis:10}") long groupCommitIntervalMillis) {
+        this.directory = Paths.get(directory);
+        this.recordsPerSegment = (int) Math.max(1, segmentBytes / JournalSegment.RECORD_BYTES);
+        this.fsyncPolicy = fsyncPolicy;
+        recover();
+        if (fsyncPolicy == FsyncPolicy.GROUP_COMMIT) {
+            groupCommitter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "point-history-journal-sync");
+                thread.setDaemon(true);
+                return thread;
+            });
+            groupCommitter.scheduleWithFixedDelay(this::sync,
+                    groupCommitIntervalMillis, groupCommitIntervalMillis, TimeUnit.MILLISECONDS);
+        } else {
+            groupCommitter = null;
+        }
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        JournalSegment segment = writableSegment();
+        PointHistory history = new PointHistory(nextId++, userId, amount, type, updateMillis);
+        segment.write(history);
+        if (fsyncPolicy == FsyncPolicy.EVERY_WRITE) {
+            segment.force(history.id());
+        } else {
+            dirty = true;
+        }
+        return history;
+    }
+
+    @Override
+    public void index(PointHistory history) {
+        userIndex.computeIfAbsent(history.userId(), id -> new UserIdLog()).add(history.id(), history.updateMillis());
+        indexedId = history.id();
+    }
+
+    @Override
+    public List<PointHistory> findByUserId(long userId, long cursor, int limit) {
+        UserIdLog ids = userIndex.get(userId);
+        if (ids == null) {
+            return new ArrayList<>();
+        }
+        long[] slice = ids.slice(cursor, limit);
+        List<PointHistory> result = new ArrayList<>(slice.length);
+        for (long id : slice) {
+            result.add(read(id));
+        }
+        return result;
+    }
+
+    /**
+     * 유저별 id 목록 위에서 이진 탐색하며 필요한 레코드만 저널에서 읽음
+     */
+    @Override
+    public List<PointHistory> query(long userId, HistoryQuery query) {
+        UserIdLog ids = userIndex.get(userId);
+        if (ids == null) {
+            return new ArrayList<>();
+        }
+        UserIdLog.View view = ids.view();
+        return HistoryRangeScan.scan(view.size(), i -> read(view.idAt(i)), view.timeOrdered(), query);
+    }
+
+    @Override
+    public List<PointHistory> findAll(long cursor, int limit) {
+        long to = Math.min(indexedId, cursor + limit);
+        List<PointHistory> result = new ArrayList<>((int) Math.max(0, to - cursor));
+        for (long id = cursor + 1; id <= to; id++) {
+            result.add(read(id));
+        }
+        return result;
+    }
+
+    /**
+     * id 로 레코드 조회
+     */
+    public PointHistory read(long id) {
+        return segmentOf(id).read(id);
+    }
+
+    /**
+     * 지금까지 기록된 마지막 id
+     */
+    public long lastId() {
+        return nextId - 1;
+    }
+
+    @Override
+    public void close() {
+        if (groupCommitter != null) {
+            groupCommitter.shutdown();
+        }
+        for (JournalSegment segment : segments) {
+            segment.close();
+        }
+    }
+
+    private void sync() {
+        if (!dirty || segments.isEmpty()) {
+            return;
+        }
+        dirty = false;
+        segments.get(segments.size() - 1).force();
+    }
+
+    private JournalSegment writableSegment() {
+        if (!segments.isEmpty()) {
+            JournalSegment last = segments.get(segments.size() - 1);
+            if (last.contains(nextId)) {
+                return last;
+            }
+            if (fsyncPolicy != FsyncPolicy.OS) {
+                last.force();
+            }
+        }
+        JournalSegment segment = JournalSegment.create(directory, nextId, recordsPerSegment);
+        segments.add(segment);
+        return segment;
+    }
+
+    // segment 는 id 순으로 연속되어 있으므로 첫 id 기준 이진 탐색
+    private JournalSegment segmentOf(long id) {
+        int low = 0;
+        int high = segments.size() - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (segments.get(mid).firstId() <= id) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return segments.get(low);
+    }
+
+    /**
+     * segment 를 순서대로 훑어 유효한 레코드까지 인덱스와 cursor 복구
+     * - 중간에 끊긴 레코드(기록 도중 종료, crc 불일치)가 있으면 그 지점부터 segment 끝까지 지우고 이어서 기록
+     * - 끊긴 지점 이후의 segment 는 id 가 이어지지 않으므로 .corrupt 로 이름을 바꿔 제외
+     */
+    private void recover() {
+        List<Path> files = listSegmentFiles();
+        long expectedId = 1;
+        boolean truncated = false;
+        for (Path file : files) {
+            if (truncated || JournalSegment.firstIdOf(file) != expectedId) {
+                quarantine(file);
+                truncated = true;
+                continue;
+            }
+            JournalSegment segment = JournalSegment.open(file);
+            segments.add(segment);
+            int slot = 0;
+            while (slot < segment.capacity() && segment.isValid(slot, expectedId)) {
+                index(segment.read(expectedId));
+                expectedId++;
+                slot++;
+            }
+            truncated = slot < segment.capacity();
+            if (truncated) {
+                segment.truncate(slot);
+            }
+        }
+        nextId = expectedId;
+        log.info("포인트 히스토리 저널 복구 완료 (segments={}, lastId={})", segments.size(), nextId - 1);
+    }
+
+    private List<Path> listSegmentFiles() {
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> files = Files.list(directory)) {
+                return files.filter(JournalSegment::isSegmentFile)
+                        .sorted(Comparator.comparingLong(JournalSegment::firstIdOf))
+                        .toList();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void quarantine(Path file) {
+        try {
+            Files.move(file, file.resolveSibling(file.getFileName() + ".corrupt"));
+            log.warn("이어지지 않는 저널 segment 를 제외했습니다: {}", file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
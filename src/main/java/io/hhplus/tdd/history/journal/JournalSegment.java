@@ -0,0 +1,166 @@
+package io.hhplus.tdd.history.journal;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * 저널 segment 파일 하나 (memory-mapped, 고정 길이 레코드)
+ * - 레코드 37 byte : id(8) | userId(8) | amount(8) | type(1) | updateMillis(8) | crc32(4)
+ * - type 은 ordinal + 1 로 기록하여 0 이면 아직 기록되지 않은 slot
+ * - crc32 는 앞의 33 byte 에 대한 값으로 마지막에 기록 (일부 필드만 디스크에 내려간 레코드를 복구에서 걸러냄)
+ * - 파일 이름은 segment 의 첫 번째 레코드 id (segment-00000000000000000001.log)
+ */
+final class JournalSegment {
+
+    static final int RECORD_BYTES = 37;
+    private static final int CRC_OFFSET = 33;
+    private static final String PREFIX = "segment-";
+    private static final String SUFFIX = ".log";
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private final Path path;
+    private final long firstId;
+    private final int capacity;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+
+    private JournalSegment(Path path, long firstId, int capacity, FileChannel channel, MappedByteBuffer buffer) {
+        this.path = path;
+        this.firstId = firstId;
+        this.capacity = capacity;
+        this.channel = channel;
+        this.buffer = buffer;
+    }
+
+    static JournalSegment create(Path directory, long firstId, int capacity) {
+        return map(directory.resolve(String.format("%s%020d%s", PREFIX, firstId, SUFFIX)), firstId, (long) capacity * RECORD_BYTES);
+    }
+
+    static JournalSegment open(Path file) {
+        try {
+            return map(file, firstIdOf(file), Files.size(file));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static boolean isSegmentFile(Path file) {
+        String name = file.getFileName().toString();
+        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+    }
+
+    static long firstIdOf(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+
+    private static JournalSegment map(Path file, long firstId, long bytes) {
+        try {
+            FileChannel channel = FileChannel.open(file,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes);
+            return new JournalSegment(file, firstId, (int) (bytes / RECORD_BYTES), channel, buffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    long firstId() {
+        return firstId;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    Path path() {
+        return path;
+    }
+
+    boolean contains(long id) {
+        return id >= firstId && id < firstId + capacity;
+    }
+
+    /**
+     * slot 에 id 가 expectedId 인 유효한 레코드가 기록되어 있는지 (복구 시 사용, crc 까지 확인)
+     */
+    boolean isValid(int slot, long expectedId) {
+        int offset = slot * RECORD_BYTES;
+        int type = buffer.get(offset + 24);
+        return type > 0 && type <= TYPES.length
+                && buffer.getLong(offset) == expectedId
+                && buffer.getInt(offset + CRC_OFFSET) == checksum(offset);
+    }
+
+    /** truncate
+     * slot 부터 segment 끝까지 0 으로 지움 (복구 중 첫 번째로 깨진 레코드 이후를 버릴 때 사용)
+     * - 남겨 두면 이어서 기록하다 다시 종료됐을 때 뒤쪽의 옛 레코드가 유효한 레코드로 복구될 수 있음
+     * @param slot
+     */
+    void truncate(int slot) {
+        byte[] zeros = new byte[Math.min(capacity * RECORD_BYTES, 64 * 1024)];
+        int end = capacity * RECORD_BYTES;
+        for (int offset = slot * RECORD_BYTES; offset < end; offset += zeros.length) {
+            buffer.put(offset, zeros, 0, Math.min(zeros.length, end - offset));
+        }
+        buffer.force();
+    }
+
+    // crc 는 마지막에 기록 (crc 가 맞으면 나머지 필드가 모두 채워진 레코드)
+    void write(PointHistory history) {
+        int offset = slot(history.id()) * RECORD_BYTES;
+        buffer.putLong(offset, history.id());
+        buffer.putLong(offset + 8, history.userId());
+        buffer.putLong(offset + 16, history.amount());
+        buffer.put(offset + 24, (byte) (history.type().ordinal() + 1));
+        buffer.putLong(offset + 25, history.updateMillis());
+        buffer.putInt(offset + CRC_OFFSET, checksum(offset));
+    }
+
+    // 매핑된 영역에서 바로 읽음 (파일 I/O / 중간 버퍼 복사 없음)
+    PointHistory read(long id) {
+        int offset = slot(id) * RECORD_BYTES;
+        return new PointHistory(
+                buffer.getLong(offset),
+                buffer.getLong(offset + 8),
+                buffer.getLong(offset + 16),
+                TYPES[buffer.get(offset + 24) - 1],
+                buffer.getLong(offset + 25));
+    }
+
+    void force(long id) {
+        buffer.force(slot(id) * RECORD_BYTES, RECORD_BYTES);
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    void close() {
+        try {
+            buffer.force();
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private int checksum(int offset) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(offset, CRC_OFFSET));
+        return (int) crc.getValue();
+    }
+
+    private int slot(long id) {
+        return (int) (id - firstId);
+    }
+}
@@ -0,0 +1,76 @@
+package io.hhplus.tdd.history.journal;
+
+import java.util.Arrays;
+
+/**
+ * 유저 한 명의 히스토리 id 목록 (append-only, 고정 크기 long chunk)
+ * - 레코드 자체는 저널 파일에 있으므로 힙에는 id(8 byte)만 보관
+ * - 쓰기는 synchronized, 읽기는 volatile size 로 공개된 범위만 락 없이 읽음
+ * - 기간 조회를 위해 updateMillis 가 기록 순서대로 감소하지 않았는지(timeOrdered)도 함께 추적
+ */
+final class UserIdLog {
+
+    private static final int CHUNK_SIZE = 128;
+
+    private volatile long[][] chunks = new long[4][];
+    private volatile int size;
+    private volatile boolean timeOrdered = true;
+    private long lastMillis = Long.MIN_VALUE;
+
+    synchronized void add(long id, long updateMillis) {
+        if (updateMillis < lastMillis) {
+            timeOrdered = false;
+        }
+        lastMillis = Math.max(lastMillis, updateMillis);
+        int chunkIndex = size / CHUNK_SIZE;
+        long[][] current = chunks;
+        if (chunkIndex == current.length) {
+            current = Arrays.copyOf(current, current.length * 2);
+        }
+        if (current[chunkIndex] == null) {
+            current[chunkIndex] = new long[CHUNK_SIZE];
+        }
+        current[chunkIndex][size % CHUNK_SIZE] = id;
+        chunks = current;
+        size = size + 1;
+    }
+
+    /**
+     * id 가 cursor 보다 큰 id 들을 최대 limit 개 반환
+     */
+    long[] slice(long cursor, int limit) {
+        int visible = size;
+        long[][] current = chunks;
+        int low = 0;
+        int high = visible;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (current[mid / CHUNK_SIZE][mid % CHUNK_SIZE] <= cursor) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        int to = (int) Math.min(visible, (long) low + limit);
+        long[] ids = new long[Math.max(0, to - low)];
+        for (int i = low; i < to; i++) {
+            ids[i - low] = current[i / CHUNK_SIZE][i % CHUNK_SIZE];
+        }
+        return ids;
+    }
+
+    /**
+     * 지금 읽을 수 있는 범위의 스냅샷 (size -> timeOrdered -> chunks 순으로 읽어 공개된 범위만 포함)
+     */
+    View view() {
+        int visible = size;
+        boolean ordered = timeOrdered;
+        return new View(chunks, visible, ordered);
+    }
+
+    record View(long[][] chunks, int size, boolean timeOrdered) {
+        long idAt(int index) {
+            return chunks[index / CHUNK_SIZE][index % CHUNK_SIZE];
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package io.hhplus.tdd.idempotency;
+
+import io.hhplus.tdd.point.POINT_STATUS;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.UserPointException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 로 충전/사용 요청의 중복 실행 방지
+ * - (userId, key) 별로 처음 실행한 결과(UserPoint)를 ttl 동안 보관하고, 같은 key 의 재시도에는 그 결과를 그대로 반환
+ * - 처음 요청이 아직 실행 중이면 같은 key 의 요청은 다시 실행하지 않고 그 결과를 기다림
+ * - 실행이 실패하면 key 를 지워 재시도 시 다시 실행 (락 타임아웃 등 일시적인 실패가 굳어지지 않도록)
+ * - 같은 key 로 다른 거래(종류/금액)를 요청하면 IDEMPOTENCY_KEY_REUSED
+ * - 이미 끝난 key 조회는 ConcurrentHashMap 조회만 하므로 락이 없음
+ * - 등록 순서대로 큐에 넣어 ttl 이 지났거나 max-size 를 넘은 오래된 key 부터 제거
+ *   max-size 로는 실행이 끝난 key 만 제거하고, 가장 오래된 key 가 아직 실행 중이면 거기서 멈춤 (실행 중인 key 는 ttl 로만 제거)
+ *   (제거는 등록하는 스레드가 tryLock 으로 얻은 경우에만 수행하므로 요청이 제거를 기다리지 않음)
+ */
+@Component
+public class IdempotencyStore {
+
+    private final ConcurrentHashMap<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Slot> order = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final ReentrantLock evictLock = new ReentrantLock();
+    private final int maxSize;
+    private final long ttlMillis;
+
+    public IdempotencyStore(
+            @Value("${point.idempotency.max-size:100000}") int maxSize,
+            @Value("${point.idempotency.ttl-millis:3600000}") long ttlMillis) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+    }
+
+    /** execute
+     * (userId, key) 로 처음 들어온 요청이면 action 을 실행하고 결과를 보관, 이미 있으면 보관된 결과 반환
+     * @param userId, key, type, amount, action
+     * @return UserPoint
+     */
+    public UserPoint execute(long userId, String key, TransactionType type, long amount, Supplier<UserPoint> action) {
+        Key id = new Key(userId, key);
+        long now = System.currentTimeMillis();
+        Entry existing = entries.get(id);
+        if (existing != null && !existing.expired(now)) {
+            return existing.await(type, amount);
+        }
+
+        Entry created = new Entry(type, amount, now + ttlMillis);
+        while (true) {
+            Entry current = entries.get(id);
+            if (current != null && !current.expired(now)) {
+                return current.await(type, amount);
+            }
+            boolean registered = current == null
+                    ? entries.putIfAbsent(id, created) == null
+                    : entries.replace(id, current, created);
+            if (registered) {
+                break;
+            }
+        }
+        order.add(new Slot(id, created));
+        queued.incrementAndGet();
+        evict(now);
+
+        try {
+            UserPoint result = action.get();
+            created.result.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            entries.remove(id, created);
+            created.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 보관 중인 key 수
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private void evict(long now) {
+        if (!evictLock.tryLock()) {
+            return;
+        }
+        try {
+            Slot head;
+            while ((head = order.peek()) != null && evictable(head.entry(), now)) {
+                order.poll();
+                queued.decrementAndGet();
+                entries.remove(head.key(), head.entry());
+            }
+        } finally {
+            evictLock.unlock();
+        }
+    }
+
+    // max-size 를 넘어도 아직 실행 중인 key 는 지우지 않음 (지우면 같은 key 의 재시도가 다시 실행됨), ttl 이 지난 경우에만 제거
+    private boolean evictable(Entry entry, long now) {
+        return entry.expired(now) || (queued.get() > maxSize && entry.result.isDone());
+    }
+
+    private record Key(long userId, String key) {
+    }
+
+    private record Slot(Key key, Entry entry) {
+    }
+
+    private static final class Entry {
+        private final TransactionType type;
+        private final long amount;
+        private final long expiresAt;
+        private final CompletableFuture<UserPoint> result = new CompletableFuture<>();
+
+        private Entry(TransactionType type, long amount, long expiresAt) {
+            this.type = type;
+            this.amount = amount;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean expired(long now) {
+            return now >= expiresAt;
+        }
+
+        private UserPoint await(TransactionType type, long amount) {
+            if (this.type != type || this.amount != amount) {
+                throw new UserPointException(POINT_STATUS.IDEMPOTENCY_KEY_REUSED);
+            }
+            UserPoint done = result.getNow(null);
+            if (done != null) {
+                return done;
+            }
+            try {
+                return result.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package io.hhplus.tdd.ingress;
+
+import io.hhplus.tdd.point.POINT_STATUS;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.UserPointException;
+import io.hhplus.tdd.service.PointService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 바이너리 연결에서 받은 요청 하나 (연결마다 max-in-flight 개를 미리 만들어 두고 재사용)
+ * - selector 스레드가 요청 필드를 채워 pointExecutor 에 넘기고, 작업 스레드가 PointService 를 호출해 결과 필드를 채움
+ * - 결과를 채운 뒤 연결의 완료 목록에 넣으면 selector 스레드가 응답을 쓰고 다시 빈 command 로 돌려받음
+ * 한 번에 한 스레드만 필드를 다루며, 넘겨줄 때는 executor / 연결의 lock 이 가시성을 보장
+ */
+final class BinaryCommand implements Runnable {
+
+    private static final Logger log = LoggerFactory.getLogger(BinaryCommand.class);
+
+    private final BinaryConnection connection;
+    private final PointService pointService;
+
+    byte op;
+    long userId;
+    long amount;
+    long requestId;
+
+    private int status;
+    private long point;
+    private long updateMillis;
+
+    BinaryCommand(BinaryConnection connection, PointService pointService) {
+        this.connection = connection;
+        this.pointService = pointService;
+    }
+
+    @Override
+    public void run() {
+        try {
+            pointService.validateUserId(userId);
+            UserPoint result = switch (op) {
+                case BinaryProtocol.CHARGE -> pointService.userPointCharge(userId, amount);
+                case BinaryProtocol.USE -> pointService.userPointUse(userId, amount);
+                default -> pointService.findUserPointByUserId(userId);
+            };
+            status = BinaryProtocol.OK;
+            point = result.point();
+            updateMillis = result.updateMillis();
+        } catch (UserPointException e) {
+            fail(e.status);
+        } catch (RuntimeException e) {
+            log.error("바이너리 요청 처리 실패 (op={}, userId={}, requestId={})", op, userId, requestId, e);
+            status = BinaryProtocol.INTERNAL_ERROR;
+            point = 0L;
+            updateMillis = 0L;
+        }
+        connection.complete(this);
+    }
+
+    void fail(POINT_STATUS failure) {
+        status = BinaryProtocol.statusCode(failure);
+        point = 0L;
+        updateMillis = 0L;
+    }
+
+    void writeResponse(ByteBuffer buffer) {
+        BinaryProtocol.writeResponse(buffer, requestId, status, userId, point, updateMillis);
+    }
+}
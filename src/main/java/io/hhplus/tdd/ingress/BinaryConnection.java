@@ -0,0 +1,98 @@
+package io.hhplus.tdd.ingress;
+
+import io.hhplus.tdd.service.PointService;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 바이너리 프로토콜 연결 하나의 상태
+ * - 읽기 / 쓰기 버퍼는 DirectBufferPool 에서 빌린 direct 버퍼, 둘 다 항상 쓰기 모드(position = 채워진 byte 수)로 유지
+ * - 빈 command 목록과 버퍼, 관심 이벤트는 selector 스레드만 다룸
+ * - 완료 목록은 작업 스레드가 넣고 selector 스레드가 꺼내므로 lock 으로 보호 (크기 = max-in-flight 인 고정 링)
+ */
+final class BinaryConnection {
+
+    final SocketChannel channel;
+    final ByteBuffer readBuffer;
+    final ByteBuffer writeBuffer;
+    SelectionKey key;
+    boolean readPaused;
+    boolean closed;
+    // BinaryPointServer 의 ready lock 안에서만 읽고 씀
+    boolean flushQueued;
+
+    private final BinaryPointServer server;
+    private final BinaryCommand[] free;
+    private int freeCount;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final BinaryCommand[] completed;
+    private int completedHead;
+    private int completedCount;
+
+    BinaryConnection(BinaryPointServer server, SocketChannel channel, ByteBuffer readBuffer, ByteBuffer writeBuffer,
+                     int maxInFlight, PointService pointService) {
+        this.server = server;
+        this.channel = channel;
+        this.readBuffer = readBuffer;
+        this.writeBuffer = writeBuffer;
+        this.free = new BinaryCommand[maxInFlight];
+        this.completed = new BinaryCommand[maxInFlight];
+        for (int i = 0; i < maxInFlight; i++) {
+            free[i] = new BinaryCommand(this, pointService);
+        }
+        this.freeCount = maxInFlight;
+    }
+
+    // 처리 중인 요청이 max-in-flight 개면 null
+    BinaryCommand take() {
+        return freeCount == 0 ? null : free[--freeCount];
+    }
+
+    void recycle(BinaryCommand command) {
+        free[freeCount++] = command;
+    }
+
+    boolean hasFree() {
+        return freeCount > 0;
+    }
+
+    // 작업 스레드(또는 바로 거절한 selector 스레드)에서 호출
+    void complete(BinaryCommand command) {
+        lock.lock();
+        try {
+            completed[(completedHead + completedCount) % completed.length] = command;
+            completedCount++;
+        } finally {
+            lock.unlock();
+        }
+        server.scheduleFlush(this);
+    }
+
+    BinaryCommand pollCompleted() {
+        lock.lock();
+        try {
+            if (completedCount == 0) {
+                return null;
+            }
+            BinaryCommand command = completed[completedHead];
+            completed[completedHead] = null;
+            completedHead = (completedHead + 1) % completed.length;
+            completedCount--;
+            return command;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    boolean hasCompleted() {
+        lock.lock();
+        try {
+            return completedCount > 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,365 @@
+package io.hhplus.tdd.ingress;
+
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.point.POINT_STATUS;
+import io.hhplus.tdd.replication.ReplicationFollower;
+import io.hhplus.tdd.service.PointService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 내부 호출용 바이너리 충전/사용 서버 (point.binary.enabled = true)
+ * - selector 스레드 하나가 모든 연결의 accept / 읽기 / 쓰기를 non-blocking 으로 처리
+ * - 읽은 요청 프레임(BinaryProtocol)은 연결에 미리 만들어 둔 command 에 담아 pointExecutor 에서 PointService 로 처리
+ * - 한 연결에서 최대 max-in-flight 개까지 응답을 기다리지 않고 처리 (pipelining), 넘으면 응답을 보낼 때까지 읽기를 멈춤 (배압)
+ * - 작업 스레드는 결과를 연결의 완료 목록에 넣고 selector 를 깨우며, 응답은 selector 스레드가 모아서 씀
+ * - 연결마다 읽기 / 쓰기 버퍼를 DirectBufferPool 에서 빌리고 끊기면 돌려줌
+ * 프레임 해석 / 응답 기록 / 작업 전달 경로에서는 메시지마다 객체를 만들지 않음 (PointService 내부의 할당은 HTTP 경로와 같음)
+ * pointExecutor 대기열이 가득 차면 OVERLOADED, read replica(follower)에서는 충전/사용을 READ_ONLY_REPLICA 로 바로 응답
+ * HTTP 부하 제한(AdmissionInterceptor)은 거치지 않으므로 내부망에서만 열어 둠
+ */
+@Component
+@ConditionalOnProperty(name = "point.binary.enabled", havingValue = "true")
+public class BinaryPointServer implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(BinaryPointServer.class);
+
+    private final PointService pointService;
+    private final Executor pointExecutor;
+    private final PointMetrics pointMetrics;
+    private final boolean readOnly;
+    private final String bindAddress;
+    private final int port;
+    private final int maxInFlight;
+    private final DirectBufferPool bufferPool;
+    private final ReentrantLock readyLock = new ReentrantLock();
+    private final ArrayDeque<BinaryConnection> ready = new ArrayDeque<>();
+    // selector 스레드만 사용
+    private final Set<BinaryConnection> connections = new HashSet<>();
+    private final Consumer<SelectionKey> keyHandler = this::handle;
+
+    private volatile boolean running;
+    private volatile int connectionCount;
+    private Selector selector;
+    private ServerSocketChannel serverChannel;
+    private Thread selectorThread;
+
+    public BinaryPointServer(
+            PointService pointService,
+            @Qualifier("pointExecutor") Executor pointExecutor,
+            PointMetrics pointMetrics,
+            Optional<ReplicationFollower> replicationFollower,
+            @Value("${point.binary.bind-address:127.0.0.1}") String bindAddress,
+            @Value("${point.binary.port:7080}") int port,
+            @Value("${point.binary.max-in-flight:1024}") int maxInFlight,
+            @Value("${point.binary.buffer-bytes:65536}") int bufferBytes,
+            @Value("${point.binary.max-pooled-buffers:1024}") int maxPooledBuffers) {
+        if (bufferBytes < Math.max(BinaryProtocol.REQUEST_BYTES, BinaryProtocol.RESPONSE_BYTES)) {
+            throw new IllegalArgumentException("buffer-bytes 는 프레임 하나보다 커야 합니다.");
+        }
+        this.pointService = pointService;
+        this.pointExecutor = pointExecutor;
+        this.pointMetrics = pointMetrics;
+        this.readOnly = replicationFollower.isPresent();
+        this.bindAddress = bindAddress;
+        this.port = port;
+        this.maxInFlight = maxInFlight;
+        this.bufferPool = new DirectBufferPool(bufferBytes, maxPooledBuffers);
+    }
+
+    /**
+     * 실제로 연결을 받고 있는 포트 (설정 포트가 0 이면 기동 시 할당된 포트)
+     */
+    public int port() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    public int connectionCount() {
+        return connectionCount;
+    }
+
+    public DirectBufferPool bufferPool() {
+        return bufferPool;
+    }
+
+    @Override
+    public void start() {
+        try {
+            selector = Selector.open();
+            serverChannel = ServerSocketChannel.open();
+            serverChannel.configureBlocking(false);
+            serverChannel.bind(new InetSocketAddress(InetAddress.getByName(bindAddress), port));
+            serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        } catch (IOException e) {
+            throw new UncheckedIOException("바이너리 서버를 열 수 없습니다. (" + bindAddress + ":" + port + ")", e);
+        }
+        running = true;
+        selectorThread = new Thread(this::selectLoop, "point-binary-selector");
+        selectorThread.setDaemon(true);
+        selectorThread.start();
+        log.info("바이너리 서버 시작 ({}:{})", bindAddress, port());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (selector != null) {
+            selector.wakeup();
+        }
+        if (selectorThread != null) {
+            try {
+                selectorThread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 웹 서버와 같이 PointService 가 준비된 뒤 시작하고, 종료 시 히스토리 기록기보다 먼저 요청을 끊음
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 1024;
+    }
+
+    // 작업 스레드에서 호출 : 응답을 쓸 연결로 등록하고, 등록 대기열이 비어 있었을 때만 selector 를 깨움
+    void scheduleFlush(BinaryConnection connection) {
+        boolean wakeup;
+        readyLock.lock();
+        try {
+            if (connection.flushQueued) {
+                return;
+            }
+            connection.flushQueued = true;
+            wakeup = ready.isEmpty();
+            ready.addLast(connection);
+        } finally {
+            readyLock.unlock();
+        }
+        if (wakeup) {
+            selector.wakeup();
+        }
+    }
+
+    private void selectLoop() {
+        try {
+            while (running) {
+                selector.select(keyHandler);
+                flushReady();
+            }
+        } catch (IOException e) {
+            log.error("바이너리 서버 selector 오류", e);
+        } finally {
+            for (BinaryConnection connection : new ArrayList<>(connections)) {
+                close(connection);
+            }
+            closeQuietly(serverChannel);
+            closeQuietly(selector);
+        }
+    }
+
+    private void handle(SelectionKey key) {
+        if (!key.isValid()) {
+            return;
+        }
+        if (key.isAcceptable()) {
+            accept();
+            return;
+        }
+        BinaryConnection connection = (BinaryConnection) key.attachment();
+        try {
+            if (key.isReadable()) {
+                read(connection);
+            }
+            if (!connection.closed && key.isWritable()) {
+                flush(connection);
+            }
+        } catch (IOException e) {
+            log.debug("바이너리 연결 종료 ({}): {}", connection.channel, e.getMessage());
+            close(connection);
+        }
+    }
+
+    private void accept() {
+        try {
+            SocketChannel channel;
+            while ((channel = serverChannel.accept()) != null) {
+                channel.configureBlocking(false);
+                channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                BinaryConnection connection = new BinaryConnection(this, channel, bufferPool.acquire(), bufferPool.acquire(),
+                        maxInFlight, pointService);
+                connection.key = channel.register(selector, SelectionKey.OP_READ, connection);
+                connections.add(connection);
+                connectionCount = connections.size();
+            }
+        } catch (IOException e) {
+            log.warn("바이너리 연결 수락 실패", e);
+        }
+    }
+
+    private void read(BinaryConnection connection) throws IOException {
+        int read = connection.channel.read(connection.readBuffer);
+        if (read < 0) {
+            close(connection);
+            return;
+        }
+        dispatch(connection);
+    }
+
+    // 읽기 버퍼에 쌓인 완전한 프레임을 빈 command 가 남아 있는 만큼 처리, 빈 command 가 없으면 읽기를 멈춤
+    private void dispatch(BinaryConnection connection) {
+        ByteBuffer in = connection.readBuffer;
+        in.flip();
+        while (in.remaining() >= BinaryProtocol.REQUEST_BYTES) {
+            BinaryCommand command = connection.take();
+            if (command == null) {
+                connection.readPaused = true;
+                break;
+            }
+            command.op = in.get();
+            command.userId = in.getLong();
+            command.amount = in.getLong();
+            command.requestId = in.getLong();
+            submit(connection, command);
+        }
+        in.compact();
+        updateInterest(connection);
+    }
+
+    private void submit(BinaryConnection connection, BinaryCommand command) {
+        byte op = command.op;
+        if (op != BinaryProtocol.CHARGE && op != BinaryProtocol.USE && op != BinaryProtocol.POINT) {
+            reject(connection, command, POINT_STATUS.INVALID_TRANSACTION_TYPE);
+            return;
+        }
+        if (readOnly && op != BinaryProtocol.POINT) {
+            reject(connection, command, POINT_STATUS.READ_ONLY_REPLICA);
+            return;
+        }
+        try {
+            pointExecutor.execute(command);
+        } catch (RejectedExecutionException e) {
+            reject(connection, command, POINT_STATUS.OVERLOADED);
+        }
+    }
+
+    private void reject(BinaryConnection connection, BinaryCommand command, POINT_STATUS status) {
+        pointMetrics.failure(status);
+        command.fail(status);
+        connection.complete(command);
+    }
+
+    private void flushReady() {
+        BinaryConnection connection;
+        while ((connection = pollReady()) != null) {
+            if (connection.closed) {
+                // 끊긴 연결의 남은 결과는 버림 (버퍼는 이미 풀에 돌려줌)
+                while (connection.pollCompleted() != null) {
+                    // 버림
+                }
+                continue;
+            }
+            try {
+                flush(connection);
+            } catch (IOException e) {
+                log.debug("바이너리 연결 종료 ({}): {}", connection.channel, e.getMessage());
+                close(connection);
+            }
+        }
+    }
+
+    private BinaryConnection pollReady() {
+        readyLock.lock();
+        try {
+            BinaryConnection connection = ready.pollFirst();
+            if (connection != null) {
+                connection.flushQueued = false;
+            }
+            return connection;
+        } finally {
+            readyLock.unlock();
+        }
+    }
+
+    // 완료된 결과를 쓰기 버퍼에 담을 수 있는 만큼 담아 소켓에 쓰고, 돌려받은 command 로 멈춰 있던 읽기를 재개
+    private void flush(BinaryConnection connection) throws IOException {
+        ByteBuffer out = connection.writeBuffer;
+        BinaryCommand command;
+        while (out.remaining() >= BinaryProtocol.RESPONSE_BYTES && (command = connection.pollCompleted()) != null) {
+            command.writeResponse(out);
+            connection.recycle(command);
+        }
+        out.flip();
+        connection.channel.write(out);
+        out.compact();
+        if (connection.readPaused && connection.hasFree()) {
+            connection.readPaused = false;
+            dispatch(connection);
+        } else {
+            updateInterest(connection);
+        }
+    }
+
+    private void updateInterest(BinaryConnection connection) {
+        boolean pendingWrite = connection.writeBuffer.position() > 0 || connection.hasCompleted();
+        int ops = (connection.readPaused ? 0 : SelectionKey.OP_READ) | (pendingWrite ? SelectionKey.OP_WRITE : 0);
+        if (connection.key.interestOps() != ops) {
+            connection.key.interestOps(ops);
+        }
+    }
+
+    private void close(BinaryConnection connection) {
+        if (connection.closed) {
+            return;
+        }
+        connection.closed = true;
+        connection.key.cancel();
+        closeQuietly(connection.channel);
+        bufferPool.release(connection.readBuffer);
+        bufferPool.release(connection.writeBuffer);
+        connections.remove(connection);
+        connectionCount = connections.size();
+    }
+
+    private static void closeQuietly(AutoCloseable closeable) {
+        if (closeable == null) {
+            return;
+        }
+        try {
+            closeable.close();
+        } catch (Exception ignored) {
+            // 종료 중이므로 무시
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package io.hhplus.tdd.ingress;
+
+import io.hhplus.tdd.point.POINT_STATUS;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 내부 호출용 바이너리 충전/사용 프로토콜의 고정 길이 프레임 (big-endian)
+ * - 요청 25 byte  : op(1) | userId(8) | amount(8) | requestId(8)
+ *   op = CHARGE(1) / USE(2) / POINT(3, 잔액 조회, amount 무시)
+ * - 응답 33 byte  : requestId(8) | status(1) | userId(8) | point(8) | updateMillis(8)
+ *   status = 0 이면 성공, 1 ~ 254 는 statusCode 에 고정한 POINT_STATUS 코드, 255 는 서버 오류 (실패 시 point / updateMillis = 0)
+ *   코드는 enum 순서와 무관하게 고정이므로 POINT_STATUS 에 값을 추가해도 기존 코드는 바뀌지 않음 (새 값은 새 코드를 배정)
+ * 한 연결에서 응답을 기다리지 않고 요청을 이어 보낼 수 있으며(pipelining), 응답은 처리가 끝난 순서대로 오므로 requestId 로 짝을 맞춤
+ * 프레임마다 길이 / 구분자가 없으므로 새 필드는 version 을 올린 새 op 로만 추가
+ */
+public final class BinaryProtocol {
+
+    public static final int REQUEST_BYTES = 25;
+    public static final int RESPONSE_BYTES = 33;
+
+    public static final byte CHARGE = 1;
+    public static final byte USE = 2;
+    public static final byte POINT = 3;
+
+    public static final int OK = 0;
+    public static final int INTERNAL_ERROR = 255;
+
+    private static final POINT_STATUS[] STATUSES = new POINT_STATUS[256];
+
+    static {
+        for (POINT_STATUS status : POINT_STATUS.values()) {
+            int code = statusCode(status);
+            if (STATUSES[code] != null) {
+                throw new IllegalStateException("status 코드 중복 : " + code);
+            }
+            STATUSES[code] = status;
+        }
+    }
+
+    private BinaryProtocol() {
+    }
+
+    /** writeRequest
+     * 요청 프레임 하나를 buffer 의 현재 위치에 기록 (클라이언트용)
+     * @param buffer 남은 공간이 REQUEST_BYTES 이상, op, userId, amount, requestId
+     */
+    public static void writeRequest(ByteBuffer buffer, byte op, long userId, long amount, long requestId) {
+        buffer.put(op).putLong(userId).putLong(amount).putLong(requestId);
+    }
+
+    /** writeResponse
+     * 응답 프레임 하나를 buffer 의 현재 위치에 기록
+     * @param buffer 남은 공간이 RESPONSE_BYTES 이상, requestId, status, userId, point, updateMillis
+     */
+    public static void writeResponse(ByteBuffer buffer, long requestId, int status, long userId, long point, long updateMillis) {
+        buffer.putLong(requestId).put((byte) status).putLong(userId).putLong(point).putLong(updateMillis);
+    }
+
+    /** statusCode
+     * POINT_STATUS 의 응답 status 코드 (한 번 배정한 코드는 바꾸거나 재사용하지 않음)
+     * @param status
+     * @return 1 ~ 255
+     */
+    public static int statusCode(POINT_STATUS status) {
+        return switch (status) {
+            case INVALID_USERID -> 1;
+            case INVALID_CHARGE_AMOUNT -> 2;
+            case CHARGE_POINT_OVERFLOW -> 3;
+            case INVALID_USE_AMOUNT -> 4;
+            case INVALID_EXPIRE_AMOUNT -> 5;
+            case USED_POINT_UNDERFLOW -> 6;
+            case INVALID_TRANSACTION_TYPE -> 7;
+            case LOCK_TIMEOUT -> 8;
+            case IDEMPOTENCY_KEY_REUSED -> 9;
+            case OVERLOADED -> 10;
+            case RATE_LIMITED -> 11;
+            case READ_ONLY_REPLICA -> 12;
+            case REPLICA_STALE -> 13;
+            case INVALID_HISTORY_LIMIT -> 14;
+            case INTERNAL_ERROR -> INTERNAL_ERROR;
+        };
+    }
+
+    /** status
+     * 응답의 status 코드를 POINT_STATUS 로 변환
+     * @param code 1 ~ 255
+     * @return POINT_STATUS, 성공(0) / 알 수 없는 코드면 null
+     */
+    public static POINT_STATUS status(int code) {
+        return code >= 1 && code < STATUSES.length ? STATUSES[code] : null;
+    }
+}
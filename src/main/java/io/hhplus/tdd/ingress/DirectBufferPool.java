@@ -0,0 +1,83 @@
+package io.hhplus.tdd.ingress;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 같은 크기의 direct ByteBuffer 재사용 풀
+ * - 연결마다 읽기 / 쓰기 버퍼를 빌려 쓰고 연결이 끊기면 돌려받음 (메시지마다 할당하지 않음)
+ * - 최대 maxPooled 개까지만 보관하고, 그 이상 돌려받은 버퍼는 버려 GC 가 회수
+ * - direct 버퍼는 소켓 입출력 시 힙 -> 네이티브 복사가 없지만 할당 / 해제가 비싸므로 재사용
+ */
+public class DirectBufferPool {
+
+    private final int bufferBytes;
+    private final ByteBuffer[] pooled;
+    private final ReentrantLock lock = new ReentrantLock();
+    private int size;
+    private long allocated;
+
+    public DirectBufferPool(int bufferBytes, int maxPooled) {
+        this.bufferBytes = bufferBytes;
+        this.pooled = new ByteBuffer[maxPooled];
+    }
+
+    /** acquire
+     * 비어 있는(position 0, limit = capacity) 버퍼를 꺼냄, 풀이 비었으면 새로 할당
+     * @return ByteBuffer
+     */
+    public ByteBuffer acquire() {
+        lock.lock();
+        try {
+            if (size > 0) {
+                ByteBuffer buffer = pooled[--size];
+                pooled[size] = null;
+                return buffer;
+            }
+            allocated++;
+        } finally {
+            lock.unlock();
+        }
+        return ByteBuffer.allocateDirect(bufferBytes);
+    }
+
+    /** release
+     * 다 쓴 버퍼를 비워서 풀에 돌려줌
+     * @param buffer acquire 로 받은 버퍼
+     */
+    public void release(ByteBuffer buffer) {
+        buffer.clear();
+        lock.lock();
+        try {
+            if (size < pooled.length) {
+                pooled[size++] = buffer;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 지금까지 새로 할당한 버퍼 수
+     */
+    public long allocated() {
+        lock.lock();
+        try {
+            return allocated;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 풀에 보관 중인 버퍼 수
+     */
+    public int pooled() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
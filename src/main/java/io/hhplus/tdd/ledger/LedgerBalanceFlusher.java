@@ -0,0 +1,199 @@
+package io.hhplus.tdd.ledger;
+
+import io.hhplus.tdd.admission.AdmissionRejectedException;
+import io.hhplus.tdd.cache.UserPointCache;
+import io.hhplus.tdd.history.PointHistoryWriter;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ledger engine 의 변경 이벤트를 기존 저장 경로로 내보내는 sink
+ * - partition writer 스레드에서는 대기열에 넣기만 하고 바로 반환 (저장 경로가 밀려도 ring 은 멈추지 않음)
+ * - 히스토리 : 별도 스레드 하나가 반영 순서대로 PointHistoryWriter 에 append
+ *              아직 넘기지 못한 히스토리가 maxHistoryBacklog 이상이면 backlogged 가 true 가 되어 엔진이 새 충전/사용을 거절
+ * - 잔액     : 유저별 최신 값만 남겨 두고 별도 스레드 하나가 UserPointCache(-> 잔액 저장소)에 기록
+ *              같은 유저의 변경이 몰려도 저장소 쓰기는 최신 값 한 번으로 합쳐짐
+ * 엔진의 메모리 상태가 기준이므로 저장소의 잔액은 잠시 뒤처질 수 있음
+ * (ledger 모드의 잔액 조회는 엔진을 거치고, 엔진이 유저를 다시 적재할 때는 load 로 아직 기록되지 않은 값부터 읽음)
+ */
+public class LedgerBalanceFlusher implements LedgerEventSink, SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(LedgerBalanceFlusher.class);
+    private static final long POLL_MILLIS = 100L;
+
+    private final UserPointCache userPointCache;
+    private final PointHistoryWriter pointHistoryWriter;
+    private final int maxHistoryBacklog;
+    private final LinkedBlockingQueue<UserPointHistoryEvent> histories = new LinkedBlockingQueue<>();
+    private final ConcurrentHashMap<Long, UserPoint> dirty = new ConcurrentHashMap<>();
+    private final LinkedBlockingQueue<Long> dirtyUsers = new LinkedBlockingQueue<>();
+    private volatile boolean running;
+    private Thread historyWorker;
+    private Thread balanceWorker;
+
+    public LedgerBalanceFlusher(UserPointCache userPointCache, PointHistoryWriter pointHistoryWriter, int maxHistoryBacklog) {
+        this.userPointCache = userPointCache;
+        this.pointHistoryWriter = pointHistoryWriter;
+        this.maxHistoryBacklog = maxHistoryBacklog;
+    }
+
+    @Override
+    public void onApplied(UserPoint updated, long amount, TransactionType type) {
+        histories.add(new UserPointHistoryEvent(updated.id(), amount, type, updated.updateMillis()));
+        // 이미 기록 대기 중인 유저면 값만 바꾸고 대기열에는 다시 넣지 않음
+        if (dirty.put(updated.id(), updated) == null) {
+            dirtyUsers.add(updated.id());
+        }
+    }
+
+    @Override
+    public boolean backlogged() {
+        return histories.size() >= maxHistoryBacklog;
+    }
+
+    /** load
+     * 엔진에 적재할 잔액 (아직 저장소에 기록되지 않은 값이 있으면 그 값, 없으면 캐시 -> 잔액 저장소)
+     * - dirty 항목은 저장소 기록이 끝난 뒤에 지우므로 둘 중 하나에는 항상 최신 값이 있음
+     */
+    public UserPoint load(long userId) {
+        UserPoint latest = dirty.get(userId);
+        return latest != null ? latest : userPointCache.get(userId);
+    }
+
+    /**
+     * 잔액 저장소에 아직 기록되지 않은 유저 수
+     */
+    public int pendingCount() {
+        return dirty.size();
+    }
+
+    /**
+     * PointHistoryWriter 에 아직 넘기지 않은 히스토리 수
+     */
+    public int pendingHistoryCount() {
+        return histories.size();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        historyWorker = new Thread(this::historyLoop, "point-ledger-history");
+        historyWorker.setDaemon(true);
+        historyWorker.start();
+        balanceWorker = new Thread(this::flushLoop, "point-ledger-flusher");
+        balanceWorker.setDaemon(true);
+        balanceWorker.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        join(historyWorker);
+        join(balanceWorker);
+        UserPointHistoryEvent history;
+        while ((history = histories.poll()) != null) {
+            append(history);
+        }
+        Long userId;
+        while ((userId = dirtyUsers.poll()) != null) {
+            flush(userId);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * ledger engine 종료 후, PointHistoryWriter 종료 전에 남은 히스토리와 잔액을 기록
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 3072;
+    }
+
+    private void historyLoop() {
+        while (running) {
+            try {
+                UserPointHistoryEvent history = histories.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (history != null) {
+                    append(history);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    // write-behind 대기열이 가득 차면 자리가 날 때까지 다시 시도 (back-pressure 는 backlogged 로 엔진에 전달)
+    // 엔진에는 이미 반영된 변경이므로 OVERLOADED 로 버리지 않음
+    private void append(UserPointHistoryEvent history) {
+        while (true) {
+            try {
+                pointHistoryWriter.append(history.userId(), history.amount(), history.type(), history.updateMillis());
+                return;
+            } catch (AdmissionRejectedException e) {
+                log.debug("ledger history append delayed, writer queue full. userId={}", history.userId());
+            } catch (RuntimeException e) {
+                log.error("ledger history append failed. history={}", history, e);
+                return;
+            }
+        }
+    }
+
+    private void flushLoop() {
+        while (running) {
+            try {
+                Long userId = dirtyUsers.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (userId != null) {
+                    flush(userId);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void flush(long userId) {
+        UserPoint latest = dirty.get(userId);
+        if (latest == null) {
+            return;
+        }
+        try {
+            userPointCache.insertOrUpdate(userId, latest.point());
+        } catch (RuntimeException e) {
+            // dirty 에 남아 있으므로 대기열에만 되돌려 다시 기록
+            log.warn("ledger balance flush failed. userId={}", userId, e);
+            dirtyUsers.add(userId);
+            return;
+        }
+        // 기록하는 사이 더 새로운 값이 들어왔으면 그 값도 기록 (onApplied 는 항목이 남아 있어 대기열에 넣지 않았음)
+        if (!dirty.remove(userId, latest)) {
+            dirtyUsers.add(userId);
+        }
+    }
+
+    private static void join(Thread thread) {
+        if (thread == null) {
+            return;
+        }
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record UserPointHistoryEvent(long userId, long amount, TransactionType type, long updateMillis) {
+    }
+}
@@ -0,0 +1,20 @@
+package io.hhplus.tdd.ledger;
+
+import io.hhplus.tdd.point.UserPoint;
+
+/**
+ * 명령 처리 결과를 받는 콜백
+ * - partition writer 스레드에서 호출되므로 무거운 작업을 하지 않음
+ */
+public interface LedgerCallback {
+
+    /**
+     * 명령이 반영된 직후의 잔액 (조회 명령이면 현재 잔액)
+     */
+    void onApplied(UserPoint userPoint);
+
+    /**
+     * 검증 실패 등으로 반영되지 않음, current 는 그 시점의 잔액 (잔액을 읽지 못했으면 null)
+     */
+    void onRejected(RuntimeException cause, UserPoint current);
+}
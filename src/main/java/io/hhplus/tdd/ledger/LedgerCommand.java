@@ -0,0 +1,29 @@
+package io.hhplus.tdd.ledger;
+
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+
+/**
+ * ring buffer 의 슬롯 (미리 할당해 두고 재사용)
+ * - type 이 null 이면 잔액 조회 명령
+ * - loadResult 가 true 면 loader 스레드가 보낸 잔액 적재 결과 (loaded 또는 loadFailure)
+ * - 필드는 생산자가 쓰고 published 시퀀스 공개 이후 writer 가 읽음
+ */
+final class LedgerCommand {
+    long userId;
+    TransactionType type;
+    long amount;
+    LedgerCallback callback;
+    boolean loadResult;
+    UserPoint loaded;
+    RuntimeException loadFailure;
+
+    void clear() {
+        type = null;
+        amount = 0L;
+        callback = null;
+        loadResult = false;
+        loaded = null;
+        loadFailure = null;
+    }
+}
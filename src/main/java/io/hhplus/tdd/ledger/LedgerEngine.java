@@ -0,0 +1,230 @@
+package io.hhplus.tdd.ledger;
+
+import io.hhplus.tdd.admission.AdmissionRejectedException;
+import io.hhplus.tdd.point.POINT_STATUS;
+import io.hhplus.tdd.point.PointOperation;
+import io.hhplus.tdd.point.PointOperationResult;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.UserPointException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongFunction;
+
+/**
+ * 단일 writer 방식의 포인트 원장 엔진 (point.engine.mode = ledger)
+ * - 충전/사용/조회 명령을 userId 로 정한 partition 의 ring buffer 에 넣고 CompletableFuture 로 결과 반환
+ * - partition 마다 writer 스레드 하나가 명령을 순서대로 반영하므로 유저 락이 필요 없고,
+ *   같은 유저의 명령은 ring 에 들어간 순서대로 결정적으로 반영됨
+ * - 반영된 변경은 LedgerEventSink 로 히스토리 이벤트를 내보냄
+ *   sink 가 밀려 있으면(backlogged) 충전/사용은 ring 에 넣지 않고 OVERLOADED 로 거절
+ * - 적재되지 않은 유저의 잔액은 loader 스레드(loaderThreads 개)에서 읽으므로 느린 읽기가 writer 를 멈추지 않음
+ * - 결과 future 는 writer 스레드에서 완료되므로 이어 붙이는 작업은 가볍게 유지하거나 *Async 로 실행기를 지정
+ */
+public class LedgerEngine implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(LedgerEngine.class);
+    private static final long RETRY_AFTER_SECONDS = 1L;
+
+    private final LedgerPartition[] partitions;
+    private final LedgerEventSink sink;
+    private final ExecutorService loadExecutor;
+    private volatile boolean running;
+
+    /**
+     * @param loader 적재되지 않은 유저의 잔액을 읽는 함수
+     *               maxResidentUsers 를 넘어 내려간 유저도 다시 읽으므로 sink 가 아직 영속화하지 않은 값까지 반영해야 함
+     * @param maxResidentUsers partition 마다 메모리에 둘 최대 유저 수
+     */
+    public LedgerEngine(LongFunction<UserPoint> loader, LedgerEventSink sink, int partitionCount, int ringSize,
+                        int maxResidentUsers, int loaderThreads) {
+        if (maxResidentUsers <= 0) {
+            throw new IllegalArgumentException("max-resident-users 는 1 이상이어야 합니다.");
+        }
+        this.sink = sink;
+        AtomicInteger loaderIds = new AtomicInteger();
+        this.loadExecutor = Executors.newFixedThreadPool(loaderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "point-ledger-loader-" + loaderIds.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.partitions = new LedgerPartition[partitionCount];
+        for (int i = 0; i < partitionCount; i++) {
+            partitions[i] = new LedgerPartition(i, ringSize, maxResidentUsers, loader, loadExecutor, sink);
+        }
+    }
+
+    /** charge
+     * userId 로 amount 충전
+     * @param userId, amount
+     * @return CompletableFuture<UserPoint> (검증 실패 시 UserPointException 으로 완료)
+     */
+    public CompletableFuture<UserPoint> charge(long userId, long amount) {
+        return submit(userId, TransactionType.CHARGE, amount);
+    }
+
+    /** use
+     * userId 로 amount 사용
+     * @param userId, amount
+     * @return CompletableFuture<UserPoint>
+     */
+    public CompletableFuture<UserPoint> use(long userId, long amount) {
+        return submit(userId, TransactionType.USE, amount);
+    }
+
+    /** point
+     * userId 의 잔액 조회 (앞서 넣은 명령이 모두 반영된 뒤의 값)
+     * @param userId
+     * @return CompletableFuture<UserPoint>
+     */
+    public CompletableFuture<UserPoint> point(long userId) {
+        return submit(userId, null, 0L);
+    }
+
+    /** process
+     * 작업 목록을 넣은 순서대로 반영하고 요청 순서대로 결과 반환
+     * - 실패한 작업은 잔액에 반영하지 않고 POINT_STATUS 와 그 시점 잔액을 결과로 반환
+     * @param operations
+     * @return CompletableFuture<List<PointOperationResult>>
+     */
+    public CompletableFuture<List<PointOperationResult>> process(List<PointOperation> operations) {
+        PointOperationResult[] results = new PointOperationResult[operations.size()];
+        CompletableFuture<List<PointOperationResult>> future = new CompletableFuture<>();
+        if (operations.isEmpty()) {
+            future.complete(List.of());
+            return future;
+        }
+        AtomicInteger remaining = new AtomicInteger(operations.size());
+        for (int i = 0; i < operations.size(); i++) {
+            PointOperation operation = operations.get(i);
+            int index = i;
+            LedgerCallback callback = new LedgerCallback() {
+                @Override
+                public void onApplied(UserPoint userPoint) {
+                    results[index] = PointOperationResult.success(operation, userPoint.point());
+                    done();
+                }
+
+                @Override
+                public void onRejected(RuntimeException cause, UserPoint current) {
+                    // 검증 실패가 아닌 예외(잔액 읽기 실패, 엔진 종료 등)는 요청 문제가 아니므로 INTERNAL_ERROR
+                    POINT_STATUS status;
+                    if (cause instanceof UserPointException e) {
+                        status = e.status;
+                    } else {
+                        log.error("일괄 처리 실패 (userId={})", operation.userId(), cause);
+                        status = POINT_STATUS.INTERNAL_ERROR;
+                    }
+                    results[index] = PointOperationResult.failure(operation, status, current == null ? 0L : current.point());
+                    done();
+                }
+
+                private void done() {
+                    if (remaining.decrementAndGet() == 0) {
+                        future.complete(Arrays.asList(results));
+                    }
+                }
+            };
+            if (operation.userId() <= 0) {
+                callback.onRejected(new UserPointException(POINT_STATUS.INVALID_USERID), null);
+            } else if (operation.type() == null) {
+                callback.onRejected(new UserPointException(POINT_STATUS.INVALID_TRANSACTION_TYPE), null);
+            } else if (sink.backlogged()) {
+                callback.onRejected(overloaded(), null);
+            } else if (!partitionOf(operation.userId()).publish(operation.userId(), operation.type(), operation.amount(), callback)) {
+                callback.onRejected(notRunning(), null);
+            }
+        }
+        return future;
+    }
+
+    /**
+     * 아직 반영되지 않은 명령 수
+     */
+    public int pendingCount() {
+        int pending = 0;
+        for (LedgerPartition partition : partitions) {
+            pending += partition.pending();
+        }
+        return pending;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        for (LedgerPartition partition : partitions) {
+            partition.start();
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        for (LedgerPartition partition : partitions) {
+            partition.stop();
+        }
+        loadExecutor.shutdown();
+        try {
+            loadExecutor.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 히스토리 기록기(PointHistoryWriter)보다 먼저 종료되도록 더 높은 phase 사용
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 2048;
+    }
+
+    private CompletableFuture<UserPoint> submit(long userId, TransactionType type, long amount) {
+        CompletableFuture<UserPoint> future = new CompletableFuture<>();
+        LedgerCallback callback = new LedgerCallback() {
+            @Override
+            public void onApplied(UserPoint userPoint) {
+                future.complete(userPoint);
+            }
+
+            @Override
+            public void onRejected(RuntimeException cause, UserPoint current) {
+                future.completeExceptionally(cause);
+            }
+        };
+        if (type != null && sink.backlogged()) {
+            future.completeExceptionally(overloaded());
+        } else if (!partitionOf(userId).publish(userId, type, amount, callback)) {
+            future.completeExceptionally(notRunning());
+        }
+        return future;
+    }
+
+    private static RuntimeException overloaded() {
+        return new AdmissionRejectedException(POINT_STATUS.OVERLOADED,
+                "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.", RETRY_AFTER_SECONDS);
+    }
+
+    private static RuntimeException notRunning() {
+        return new IllegalStateException("ledger engine 이 종료되었습니다.");
+    }
+
+    private LedgerPartition partitionOf(long userId) {
+        long h = userId * 0x9E3779B97F4A7C15L;
+        return partitions[(int) ((h ^ (h >>> 32)) & 0x7fffffffL) % partitions.length];
+    }
+}
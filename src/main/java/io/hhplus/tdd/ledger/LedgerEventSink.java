@@ -0,0 +1,20 @@
+package io.hhplus.tdd.ledger;
+
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+
+/**
+ * ledger engine 이 반영한 변경 이벤트를 받는 곳 (히스토리 기록, 잔액 영속화)
+ * - partition writer 스레드에서 반영 순서대로 호출되므로 blocking I/O 없이 바로 반환해야 함
+ */
+public interface LedgerEventSink {
+
+    void onApplied(UserPoint updated, long amount, TransactionType type);
+
+    /** backlogged
+     * 아직 내보내지 못한 이벤트가 한도를 넘었는지 (true 면 엔진이 새 충전/사용을 거절)
+     */
+    default boolean backlogged() {
+        return false;
+    }
+}
@@ -0,0 +1,183 @@
+package io.hhplus.tdd.ledger;
+
+import io.hhplus.tdd.point.POINT_STATUS;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.UserPointException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.LongFunction;
+
+/**
+ * ledger engine 의 partition 하나 (ring buffer 1 개 + writer 스레드 1 개)
+ * - 잔액 상태는 writer 스레드만 읽고 쓰므로 락 없는 LinkedHashMap (접근 순서, maxResidentUsers 를 넘으면 가장 오래 안 쓴 유저를 내림)
+ * - 적재되지 않은 유저의 명령은 대기열에 두고 loadExecutor 에서 잔액을 읽음
+ *   읽은 잔액은 ring 으로 writer 에게 돌아와 적재되고 대기하던 명령이 순서대로 반영됨 (그동안 다른 유저의 명령은 계속 처리)
+ * - 잔액 조회만 한 유저는 적재하지 않음 (충전/사용이 반영된 유저만 남김)
+ * - 같은 유저의 명령은 항상 같은 partition 으로 오므로 ring 에 들어간 순서 그대로 반영
+ */
+final class LedgerPartition {
+
+    private static final Logger log = LoggerFactory.getLogger(LedgerPartition.class);
+    private static final int BATCH = 256;
+
+    private final LedgerRingBuffer ring;
+    private final Map<Long, UserPoint> balances;
+    private final Map<Long, ArrayDeque<Waiting>> loading = new HashMap<>();
+    private final LongFunction<UserPoint> loader;
+    private final Executor loadExecutor;
+    private final LedgerEventSink sink;
+    private final Thread writer;
+    private volatile boolean running;
+
+    LedgerPartition(int id, int ringSize, int maxResidentUsers, LongFunction<UserPoint> loader, Executor loadExecutor, LedgerEventSink sink) {
+        this.ring = new LedgerRingBuffer(ringSize);
+        this.balances = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, UserPoint> eldest) {
+                return size() > maxResidentUsers;
+            }
+        };
+        this.loader = loader;
+        this.loadExecutor = loadExecutor;
+        this.sink = sink;
+        this.writer = new Thread(this::writeLoop, "point-ledger-" + id);
+        this.writer.setDaemon(true);
+        this.ring.bindConsumer(writer);
+    }
+
+    boolean publish(long userId, TransactionType type, long amount, LedgerCallback callback) {
+        return ring.publish(userId, type, amount, callback);
+    }
+
+    void start() {
+        running = true;
+        writer.start();
+    }
+
+    /**
+     * 더 이상 명령을 받지 않고, 이미 들어온 명령(적재 대기 중인 명령 포함)을 모두 반영한 뒤 writer 종료
+     */
+    void stop() {
+        running = false;
+        ring.wakeUp();
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    int pending() {
+        return ring.size();
+    }
+
+    private void writeLoop() {
+        while (true) {
+            int processed = ring.drain(this::dispatch, BATCH);
+            // 적재 중인 유저가 있으면 그 결과가 ring 으로 돌아와야 하므로 닫지 않음
+            if (processed == 0 && !running && loading.isEmpty() && ring.tryClose()) {
+                return;
+            }
+        }
+    }
+
+    private void dispatch(LedgerCommand command) {
+        long userId = command.userId;
+        if (command.loadResult) {
+            loaded(userId, command.loaded, command.loadFailure);
+            return;
+        }
+        ArrayDeque<Waiting> waiting = loading.get(userId);
+        if (waiting != null) {
+            waiting.add(new Waiting(command.type, command.amount, command.callback));
+            return;
+        }
+        UserPoint current = balances.get(userId);
+        if (current == null) {
+            load(userId, new Waiting(command.type, command.amount, command.callback));
+            return;
+        }
+        apply(userId, current, command.type, command.amount, command.callback);
+    }
+
+    // 잔액 읽기는 loadExecutor 에서 실행하고 결과는 ring 으로 writer 에게 돌려보냄
+    private void load(long userId, Waiting first) {
+        ArrayDeque<Waiting> waiting = new ArrayDeque<>();
+        waiting.add(first);
+        loading.put(userId, waiting);
+        try {
+            loadExecutor.execute(() -> {
+                UserPoint loaded = null;
+                RuntimeException failure = null;
+                try {
+                    loaded = loader.apply(userId);
+                } catch (RuntimeException e) {
+                    failure = e;
+                }
+                ring.publishLoaded(userId, loaded, failure);
+            });
+        } catch (RejectedExecutionException e) {
+            loaded(userId, null, e);
+        }
+    }
+
+    private void loaded(long userId, UserPoint loaded, RuntimeException failure) {
+        ArrayDeque<Waiting> waiting = loading.remove(userId);
+        if (waiting == null) {
+            return;
+        }
+        UserPoint current = loaded;
+        for (Waiting command : waiting) {
+            if (failure != null) {
+                reject(command.callback, failure, null);
+            } else {
+                current = apply(userId, current, command.type, command.amount, command.callback);
+            }
+        }
+    }
+
+    /**
+     * 명령 하나를 반영하고 반영 후 잔액 반환 (충전/사용이 반영되면 balances 에 적재)
+     */
+    private UserPoint apply(long userId, UserPoint current, TransactionType type, long amount, LedgerCallback callback) {
+        try {
+            if (type == null) {
+                callback.onApplied(current);
+                return current;
+            }
+            long point = switch (type) {
+                case CHARGE -> current.charge(amount);
+                case USE -> current.use(amount);
+                default -> throw new UserPointException(POINT_STATUS.INVALID_TRANSACTION_TYPE);
+            };
+            UserPoint updated = new UserPoint(userId, point, System.currentTimeMillis());
+            // 이벤트 기록에 실패하면 잔액도 바꾸지 않음
+            sink.onApplied(updated, amount, type);
+            balances.put(userId, updated);
+            callback.onApplied(updated);
+            return updated;
+        } catch (RuntimeException e) {
+            reject(callback, e, current);
+            return current;
+        }
+    }
+
+    private static void reject(LedgerCallback callback, RuntimeException cause, UserPoint current) {
+        try {
+            callback.onRejected(cause, current);
+        } catch (RuntimeException callbackFailure) {
+            log.warn("ledger callback failed", callbackFailure);
+        }
+    }
+
+    private record Waiting(TransactionType type, long amount, LedgerCallback callback) {
+    }
+}
@@ -0,0 +1,178 @@
+package io.hhplus.tdd.ledger;
+
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 다중 생산자 / 단일 소비자 ring buffer (LMAX Disruptor 방식)
+ * - 슬롯은 미리 할당해 재사용하므로 명령마다 큐 노드를 만들지 않음
+ * - 생산자는 claimed 시퀀스를 CAS 로 하나 가져가 슬롯을 채운 뒤 published[슬롯] 에 시퀀스를 기록해 공개
+ * - 소비자는 published 가 연속된 범위를 한 번에 처리하고 consumed 를 올림
+ * - 가득 차면 생산자가 소비자가 자리를 비울 때까지 대기 (back-pressure)
+ * - close 이후 claim 은 실패 (close 시점까지 claim 된 명령은 모두 처리)
+ */
+final class LedgerRingBuffer {
+
+    private static final long CLOSED = Long.MIN_VALUE;
+    private static final int SPINS = 100;
+    private static final long PARK_NANOS = 1_000_000L;
+
+    private final LedgerCommand[] slots;
+    private final int mask;
+    private final AtomicLong claimed = new AtomicLong(-1);
+    private final AtomicLongArray published;
+    private final AtomicLong consumed = new AtomicLong(-1);
+    private volatile Thread consumer;
+    private volatile boolean consumerParked;
+
+    LedgerRingBuffer(int capacity) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("ring-size 는 2 의 거듭제곱이어야 합니다.");
+        }
+        this.slots = new LedgerCommand[capacity];
+        this.mask = capacity - 1;
+        this.published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new LedgerCommand();
+            published.set(i, -1);
+        }
+    }
+
+    /** publish
+     * 명령 하나를 ring 에 넣음
+     * @return close 된 뒤라 넣지 못했으면 false
+     */
+    boolean publish(long userId, TransactionType type, long amount, LedgerCallback callback) {
+        long sequence = claim();
+        if (sequence < 0) {
+            return false;
+        }
+        LedgerCommand command = slots[(int) (sequence & mask)];
+        command.userId = userId;
+        command.type = type;
+        command.amount = amount;
+        command.callback = callback;
+        commit(sequence);
+        return true;
+    }
+
+    /** publishLoaded
+     * loader 스레드가 읽은 잔액(또는 읽기 실패)을 writer 에게 전달
+     * @return close 된 뒤라 넣지 못했으면 false
+     */
+    boolean publishLoaded(long userId, UserPoint loaded, RuntimeException loadFailure) {
+        long sequence = claim();
+        if (sequence < 0) {
+            return false;
+        }
+        LedgerCommand command = slots[(int) (sequence & mask)];
+        command.userId = userId;
+        command.loadResult = true;
+        command.loaded = loaded;
+        command.loadFailure = loadFailure;
+        commit(sequence);
+        return true;
+    }
+
+    /** drain
+     * 공개된 명령을 최대 limit 개 처리, 처리할 명령이 없으면 잠시 대기
+     * - 소비자 스레드 하나만 호출
+     * @return 처리한 명령 수
+     */
+    int drain(Handler handler, int limit) {
+        long next = consumed.get() + 1;
+        int processed = 0;
+        while (processed < limit && published.get((int) (next & mask)) == next) {
+            LedgerCommand command = slots[(int) (next & mask)];
+            try {
+                handler.handle(command);
+            } finally {
+                command.clear();
+            }
+            next++;
+            processed++;
+        }
+        if (processed > 0) {
+            consumed.lazySet(next - 1);
+            return processed;
+        }
+        idle(next);
+        return 0;
+    }
+
+    /** tryClose
+     * 모든 claim 된 명령이 처리되었으면 더 이상 claim 되지 않도록 닫음
+     * @return 닫았으면 true, 아직 처리할 명령이 남았으면 false
+     */
+    boolean tryClose() {
+        long last = consumed.get();
+        return claimed.get() == last && claimed.compareAndSet(last, CLOSED);
+    }
+
+    int size() {
+        long last = claimed.get();
+        return last == CLOSED ? 0 : (int) (last - consumed.get());
+    }
+
+    void bindConsumer(Thread thread) {
+        this.consumer = thread;
+    }
+
+    void wakeUp() {
+        LockSupport.unpark(consumer);
+    }
+
+    // 시퀀스 하나를 가져오고 그 슬롯이 비워질 때까지 대기, close 되었으면 -1
+    private long claim() {
+        long sequence;
+        do {
+            sequence = claimed.get();
+            if (sequence == CLOSED) {
+                return -1;
+            }
+        } while (!claimed.compareAndSet(sequence, sequence + 1));
+        sequence++;
+
+        long wrapPoint = sequence - slots.length;
+        for (int spins = 0; wrapPoint > consumed.get(); spins++) {
+            if (spins < SPINS) {
+                Thread.onSpinWait();
+            } else {
+                LockSupport.parkNanos(PARK_NANOS / 100);
+            }
+        }
+        return sequence;
+    }
+
+    private void commit(long sequence) {
+        published.set((int) (sequence & mask), sequence);
+
+        // 소비자가 잠들어 있으면 깨움 (published / consumerParked 모두 volatile 이라 둘 중 하나는 상대의 쓰기를 봄)
+        if (consumerParked) {
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    private void idle(long next) {
+        for (int spins = 0; spins < SPINS; spins++) {
+            if (published.get((int) (next & mask)) == next) {
+                return;
+            }
+            Thread.onSpinWait();
+        }
+        consumerParked = true;
+        if (published.get((int) (next & mask)) != next) {
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+        consumerParked = false;
+    }
+
+    @FunctionalInterface
+    interface Handler {
+        void handle(LedgerCommand command);
+    }
+}
@@ -0,0 +1,84 @@
+package io.hhplus.tdd.lock;
+
+import io.hhplus.tdd.point.POINT_STATUS;
+import io.hhplus.tdd.point.UserPointException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 유저 단위 락 관리자
+ * - userId 마다 공정(fair) ReentrantLock 을 하나씩 두어 같은 유저의 요청은 도착 순서(FIFO)대로 실행
+ * - 서로 다른 유저의 요청은 락을 공유하지 않으므로 완전히 병렬로 실행
+ * - 락을 기다리거나 잡고 있는 스레드가 없으면 엔트리를 제거해 맵이 무한히 커지지 않도록 함
+ * - 지정된 시간 안에 락을 얻지 못하면 LOCK_TIMEOUT 예외 발생
+ */
+@Component
+public class UserLockManager {
+
+    private final ConcurrentHashMap<Long, LockEntry> locks = new ConcurrentHashMap<>();
+    private final long timeoutMillis;
+
+    public UserLockManager(@Value("${point.lock.timeout-millis:5000}") long timeoutMillis) {
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * userId 의 락을 잡은 상태로 action 을 실행
+     * @param userId, action
+     * @return action 의 실행 결과
+     */
+    public <T> T executeWithLock(long userId, Supplier<T> action) {
+        LockEntry entry = acquireEntry(userId);
+        try {
+            lock(entry.lock);
+            try {
+                return action.get();
+            } finally {
+                entry.lock.unlock();
+            }
+        } finally {
+            releaseEntry(userId);
+        }
+    }
+
+    /**
+     * 현재 관리 중인 락 엔트리 수 (대기 또는 점유 중인 유저 수)
+     */
+    public int size() {
+        return locks.size();
+    }
+
+    private void lock(ReentrantLock lock) {
+        try {
+            if (!lock.tryLock(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new UserPointException(POINT_STATUS.LOCK_TIMEOUT);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UserPointException(POINT_STATUS.LOCK_TIMEOUT, "락 대기 중 인터럽트가 발생했습니다.");
+        }
+    }
+
+    // compute 는 key 단위로 원자적으로 실행되므로 holders 증감과 엔트리 제거가 경쟁하지 않음
+    private LockEntry acquireEntry(long userId) {
+        return locks.compute(userId, (id, entry) -> {
+            LockEntry target = (entry == null) ? new LockEntry() : entry;
+            target.holders++;
+            return target;
+        });
+    }
+
+    private void releaseEntry(long userId) {
+        locks.computeIfPresent(userId, (id, entry) -> --entry.holders == 0 ? null : entry);
+    }
+
+    private static final class LockEntry {
+        private final ReentrantLock lock = new ReentrantLock(true);
+        private int holders;
+    }
+}
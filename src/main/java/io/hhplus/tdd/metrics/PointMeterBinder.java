@@ -0,0 +1,95 @@
+package io.hhplus.tdd.metrics;
+
+import io.hhplus.tdd.admission.AdaptiveConcurrencyLimiter;
+import io.hhplus.tdd.cache.UserPointCache;
+import io.hhplus.tdd.expiry.CreditLotTracker;
+import io.hhplus.tdd.history.PointHistoryWriter;
+import io.hhplus.tdd.lock.UserLockManager;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 대기열 길이 / 캐시 크기 게이지
+ * - 값은 스크랩 시점에만 읽으므로 핫패스 비용 없음
+ */
+@Component
+public class PointMeterBinder implements MeterBinder {
+
+    private final PointHistoryWriter pointHistoryWriter;
+    private final UserPointCache userPointCache;
+    private final UserLockManager userLockManager;
+    private final ExecutorService pointExecutor;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    // ledger 모드에서는 빈이 없음
+    private final CreditLotTracker creditLotTracker;
+
+    public PointMeterBinder(
+            PointHistoryWriter pointHistoryWriter,
+            UserPointCache userPointCache,
+            UserLockManager userLockManager,
+            @Qualifier("pointExecutor") ExecutorService pointExecutor,
+            AdaptiveConcurrencyLimiter concurrencyLimiter,
+            Optional<CreditLotTracker> creditLotTracker) {
+        this.pointHistoryWriter = pointHistoryWriter;
+        this.userPointCache = userPointCache;
+        this.userLockManager = userLockManager;
+        this.pointExecutor = pointExecutor;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.creditLotTracker = creditLotTracker.orElse(null);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("point.history.writer.pending", pointHistoryWriter, PointHistoryWriter::pendingCount)
+                .description("기록 대기 중인 히스토리 수")
+                .register(registry);
+        Gauge.builder("point.history.writer.dead_letters", pointHistoryWriter, PointHistoryWriter::deadLetterCount)
+                .description("기록을 포기하고 dead letter 로 남은 히스토리 수")
+                .register(registry);
+        Gauge.builder("point.cache.size", userPointCache, cache -> cache.stats().size())
+                .description("캐시된 유저 수")
+                .register(registry);
+        FunctionCounter.builder("point.cache.requests", userPointCache, cache -> cache.stats().hits())
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("point.cache.requests", userPointCache, cache -> cache.stats().misses())
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("point.cache.requests", userPointCache, cache -> cache.stats().coalesced())
+                .tag("result", "coalesced")
+                .register(registry);
+        FunctionCounter.builder("point.cache.evictions", userPointCache, cache -> cache.stats().evictions())
+                .register(registry);
+        Gauge.builder("point.lock.users", userLockManager, UserLockManager::size)
+                .description("락을 보유/대기 중인 유저 수")
+                .register(registry);
+        Gauge.builder("point.admission.limit", concurrencyLimiter, AdaptiveConcurrencyLimiter::limit)
+                .description("현재 동시 처리 한도")
+                .register(registry);
+        Gauge.builder("point.admission.inflight", concurrencyLimiter, AdaptiveConcurrencyLimiter::inFlight)
+                .description("처리 중인 요청 수")
+                .register(registry);
+        if (creditLotTracker != null) {
+            Gauge.builder("point.expiry.lots", creditLotTracker, CreditLotTracker::pendingLots)
+                    .description("만료를 기다리는 충전 단위(lot) 수")
+                    .register(registry);
+        }
+
+        // 가상 스레드 모드는 작업마다 스레드를 만들어 대기열이 없음
+        if (pointExecutor instanceof ThreadPoolExecutor executor) {
+            Gauge.builder("point.executor.queued", executor, e -> e.getQueue().size())
+                    .description("pointExecutor 대기열 길이")
+                    .register(registry);
+            Gauge.builder("point.executor.active", executor, ThreadPoolExecutor::getActiveCount)
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package io.hhplus.tdd.metrics;
+
+import io.hhplus.tdd.point.POINT_STATUS;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 포인트 처리 구간별 지연 시간 / 실패 횟수 지표
+ * - point.service{method}          : PointService 메서드 전체 (락 대기 포함)
+ * - point.lock.wait                : 유저 락 획득까지 대기한 시간
+ * - point.store{store, operation}  : 저장소(테이블) 호출 한 번
+ * - point.failure{status}          : POINT_STATUS 별 실패 횟수
+ * 핫패스에서 태그 조회/객체 생성이 없도록 Timer, Counter 는 미리 만들어 두고 호출자는 nanoTime 차이만 기록
+ */
+@Component
+public class PointMetrics {
+
+    private final MeterRegistry registry;
+    private final Map<POINT_STATUS, Counter> failures = new EnumMap<>(POINT_STATUS.class);
+
+    public PointMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        for (POINT_STATUS status : POINT_STATUS.values()) {
+            failures.put(status, Counter.builder("point.failure")
+                    .description("POINT_STATUS 별 실패 횟수")
+                    .tag("status", status.name())
+                    .register(registry));
+        }
+    }
+
+    public Timer serviceTimer(String method) {
+        return timer("point.service", "PointService 메서드 처리 시간", "method", method);
+    }
+
+    public Timer lockWaitTimer() {
+        return timer("point.lock.wait", "유저 락 획득 대기 시간");
+    }
+
+    public Timer storeTimer(String store, String operation) {
+        return timer("point.store", "저장소 호출 시간", "store", store, "operation", operation);
+    }
+
+    public void failure(POINT_STATUS status) {
+        failures.get(status).increment();
+    }
+
+    /** record
+     * startNanos(System.nanoTime) 부터 지금까지의 시간을 timer 에 기록
+     */
+    public static void record(Timer timer, long startNanos) {
+        timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer timer(String name, String description, String... tags) {
+        return Timer.builder(name)
+                .description(description)
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+}
@@ -0,0 +1,12 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 요청 파라미터가 잘못되어 처리하지 않은 요청 (ApiControllerAdvice 가 400 으로 응답)
+ * - INVALID_HISTORY_LIMIT : 히스토리 조회 limit 이 1 미만
+ */
+public class InvalidRequestException extends UserPointException {
+
+    public InvalidRequestException(POINT_STATUS status, String message) {
+        super(status, message);
+    }
+}
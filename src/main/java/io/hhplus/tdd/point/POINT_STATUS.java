@@ -6,7 +6,24 @@ public enum POINT_STATUS {
 
     CHARGE_POINT_OVERFLOW,
     INVALID_USE_AMOUNT,
+    INVALID_EXPIRE_AMOUNT,
 
-    USED_POINT_UNDERFLOW;
+    USED_POINT_UNDERFLOW,
+
+    INVALID_TRANSACTION_TYPE,
+
+    LOCK_TIMEOUT,
+
+    IDEMPOTENCY_KEY_REUSED,
+
+    OVERLOADED,
+    RATE_LIMITED,
+
+    READ_ONLY_REPLICA,
+    REPLICA_STALE,
+
+    INTERNAL_ERROR,
+
+    INVALID_HISTORY_LIMIT;
 
 }
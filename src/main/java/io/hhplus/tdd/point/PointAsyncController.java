@@ -0,0 +1,62 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.service.PointAsyncService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 포인트 API v2 (비동기)
+ * - /point 와 같은 기능을 제공하되 CompletableFuture 를 반환해 요청 스레드를 점유하지 않음
+ */
+@RestController
+@RequestMapping("/v2/point")
+@RequiredArgsConstructor
+public class PointAsyncController {
+
+    private final PointAsyncService pointAsyncService;
+
+    /**
+     * 특정 유저의 포인트 조회
+     */
+    @GetMapping("{id}")
+    public CompletableFuture<UserPoint> point(
+            @PathVariable long id
+    ) {
+        return pointAsyncService.findUserPointByUserId(id);
+    }
+
+    /**
+     * 특정 유저의 포인트 충전/이용 내역 조회
+     */
+    @GetMapping("{id}/histories")
+    public CompletableFuture<List<PointHistory>> history(
+            @PathVariable long id
+    ) {
+        return pointAsyncService.findAllPointHistoryByUserId(id);
+    }
+
+    /**
+     * 특정 유저의 포인트 충전
+     */
+    @PatchMapping("{id}/charge")
+    public CompletableFuture<UserPoint> charge(
+            @PathVariable long id,
+            @RequestBody long amount
+    ) {
+        return pointAsyncService.userPointCharge(id, amount);
+    }
+
+    /**
+     * 특정 유저의 포인트 사용
+     */
+    @PatchMapping("{id}/use")
+    public CompletableFuture<UserPoint> use(
+            @PathVariable long id,
+            @RequestBody long amount
+    ) {
+        return pointAsyncService.userPointUse(id, amount);
+    }
+}
@@ -1,10 +1,21 @@
 package io.hhplus.tdd.point;
 
+import io.hhplus.tdd.history.HistoryQuery;
+import io.hhplus.tdd.history.export.ExportFilter;
+import io.hhplus.tdd.history.export.ExportFormat;
+import io.hhplus.tdd.service.IdempotentPointService;
+import io.hhplus.tdd.service.PointBatchService;
+import io.hhplus.tdd.service.PointExportService;
 import io.hhplus.tdd.service.PointService;
+import io.hhplus.tdd.service.PointSummaryService;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -14,7 +25,14 @@ import java.util.List;
 public class PointController {
 
     private static final Logger log = LoggerFactory.getLogger(PointController.class);
+    private static final int DEFAULT_HISTORY_LIMIT = 20;
+    private static final int MAX_HISTORY_LIMIT = 1_000;
+
     private final PointService pointService;
+    private final PointBatchService pointBatchService;
+    private final PointSummaryService pointSummaryService;
+    private final PointExportService pointExportService;
+    private final IdempotentPointService idempotentPointService;
 
     /**
      * TODO - 특정 유저의 포인트를 조회하는 기능을 작성해주세요.
@@ -29,33 +47,121 @@ public class PointController {
 
     /**
      * TODO - 특정 유저의 포인트 충전/이용 내역을 조회하는 기능을 작성해주세요.
+     * - 조건이 없으면 전체 내역
+     * - limit 이 주어지면 cursor(마지막으로 받은 history id) 이후의 내역을 limit 건만 조회
+     * - from <= updateMillis < to, type 으로 조건 조회 (limit 생략 시 DEFAULT_HISTORY_LIMIT 건)
+     * - order = DESC 이면 최신 순으로, cursor 보다 id 가 작은 내역 조회 (예: 최근 20 건 = ?order=DESC&limit=20)
+     * - limit 은 1 이상 (아니면 400), 두 조회 경로 모두 MAX_HISTORY_LIMIT 건까지만 조회
      */
     @GetMapping("{id}/histories")
     public List<PointHistory> history(
+            @PathVariable long id,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) Long from,
+            @RequestParam(required = false) Long to,
+            @RequestParam(required = false) TransactionType type,
+            @RequestParam(required = false) HistoryQuery.Order order
+    ) {
+        if (limit != null && limit <= 0) {
+            throw new InvalidRequestException(POINT_STATUS.INVALID_HISTORY_LIMIT, "limit 은 1 이상이어야 합니다.");
+        }
+        if (from == null && to == null && type == null && order == null) {
+            if (limit == null) {
+                return pointService.findAllPointHistoryByUserId(id);
+            }
+            return pointService.findPointHistoryPage(id, cursor == null ? 0L : cursor, Math.min(limit, MAX_HISTORY_LIMIT));
+        }
+        HistoryQuery query = HistoryQuery.of(from, to, type, cursor,
+                Math.min(limit == null ? DEFAULT_HISTORY_LIMIT : limit, MAX_HISTORY_LIMIT), order);
+        return pointService.findPointHistories(id, query);
+    }
+
+    /**
+     * 특정 유저의 포인트 내역 내보내기 (NDJSON / CSV)
+     * - 저장소에서 읽는 대로 응답에 써서 내역 건수와 무관하게 메모리 사용량이 일정
+     * - from <= updateMillis < to, type 으로 거래 종류 제한
+     */
+    @GetMapping("{id}/histories/export")
+    public ResponseEntity<StreamingResponseBody> exportHistory(
+            @PathVariable long id,
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            @RequestParam(required = false) Long from,
+            @RequestParam(required = false) Long to,
+            @RequestParam(required = false) TransactionType type
+    ) {
+        ExportFilter filter = ExportFilter.of(from, to, type);
+        return export("point-history-" + id, format,
+                out -> pointExportService.exportUser(id, filter, format, out));
+    }
+
+    /**
+     * 전체 유저의 포인트 내역 내보내기 (NDJSON / CSV, id 순서)
+     */
+    @GetMapping("histories/export")
+    public ResponseEntity<StreamingResponseBody> exportAllHistory(
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            @RequestParam(required = false) Long from,
+            @RequestParam(required = false) Long to,
+            @RequestParam(required = false) TransactionType type
+    ) {
+        ExportFilter filter = ExportFilter.of(from, to, type);
+        return export("point-history", format,
+                out -> pointExportService.exportAll(filter, format, out));
+    }
+
+    /**
+     * 특정 유저의 전체 / 오늘 / 이번 달 충전·사용 합계 조회
+     * - 히스토리를 다시 읽지 않고 기록 시점마다 갱신해 둔 집계를 반환
+     */
+    @GetMapping("{id}/summary")
+    public PointSummary summary(
             @PathVariable long id
     ) {
-        return pointService.findAllPointHistoryByUserId(id);
+        return pointSummaryService.findPointSummary(id);
     }
 
     /**
      * TODO - 특정 유저의 포인트를 충전하는 기능을 작성해주세요.
+     * - Idempotency-Key 헤더가 있으면 같은 key 의 재시도는 다시 충전하지 않고 처음 결과를 반환
      */
     @PatchMapping("{id}/charge")
     public UserPoint charge(
             @PathVariable long id,
-            @RequestBody long amount
+            @RequestBody long amount,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey
     ) {
-        return new UserPoint(0, 0, 0);
+        return idempotentPointService.userPointCharge(idempotencyKey, id, amount);
     }
 
     /**
      * TODO - 특정 유저의 포인트를 사용하는 기능을 작성해주세요.
+     * - Idempotency-Key 헤더가 있으면 같은 key 의 재시도는 다시 사용하지 않고 처음 결과를 반환
      */
     @PatchMapping("{id}/use")
     public UserPoint use(
             @PathVariable long id,
-            @RequestBody long amount
+            @RequestBody long amount,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey
+    ) {
+        return idempotentPointService.userPointUse(idempotencyKey, id, amount);
+    }
+
+    /**
+     * 여러 유저의 포인트 충전/사용을 일괄 처리
+     * - 작업별 성공 여부와 실패 사유(POINT_STATUS)를 요청 순서대로 반환
+     */
+    @PostMapping("batch")
+    public List<PointOperationResult> batch(
+            @RequestBody List<PointOperation> operations
     ) {
-        return pointService.userPointUse(id, amount);
+        return pointBatchService.process(operations);
+    }
+
+    private ResponseEntity<StreamingResponseBody> export(String fileName, ExportFormat format, StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.contentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "." + format.extension() + "\"")
+                .body(body);
     }
 }
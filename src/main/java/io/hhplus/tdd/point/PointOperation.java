@@ -0,0 +1,12 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 일괄 처리 요청의 단일 포인트 작업
+ * - type : CHARGE(충전) / USE(사용)
+ */
+public record PointOperation(
+        long userId,
+        TransactionType type,
+        long amount
+) {
+}
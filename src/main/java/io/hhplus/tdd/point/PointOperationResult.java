@@ -0,0 +1,23 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 일괄 처리 요청의 단일 포인트 작업 결과
+ * - success 가 true 이면 point 는 해당 작업 반영 직후의 잔액, status 는 null
+ * - success 가 false 이면 status 에 실패 사유, 잔액은 변경되지 않음
+ */
+public record PointOperationResult(
+        long userId,
+        TransactionType type,
+        long amount,
+        boolean success,
+        POINT_STATUS status,
+        long point
+) {
+    public static PointOperationResult success(PointOperation operation, long point) {
+        return new PointOperationResult(operation.userId(), operation.type(), operation.amount(), true, null, point);
+    }
+
+    public static PointOperationResult failure(PointOperation operation, POINT_STATUS status, long point) {
+        return new PointOperationResult(operation.userId(), operation.type(), operation.amount(), false, status, point);
+    }
+}
@@ -0,0 +1,29 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 유저 포인트 집계
+ * - totalAmounts / counts : 전체 기간 거래 종류별 금액 합계 / 건수
+ * - today / thisMonth     : 오늘 / 이번 달 거래 종류별 금액 합계
+ * - daily / monthly       : 최근 일별 / 월별 금액 합계 (최신순, 거래가 없는 기간은 제외)
+ */
+public record PointSummary(
+        long userId,
+        Map<TransactionType, Long> totalAmounts,
+        Map<TransactionType, Long> counts,
+        Map<TransactionType, Long> today,
+        Map<TransactionType, Long> thisMonth,
+        List<Bucket> daily,
+        List<Bucket> monthly
+) {
+    /**
+     * @param period 일별 : 2024-01-31, 월별 : 2024-01
+     */
+    public record Bucket(
+            String period,
+            Map<TransactionType, Long> amounts
+    ) {
+    }
+}
@@ -53,4 +53,23 @@ public record UserPoint(
         }
         return this.point-pointToUse;
     }
+
+    /**
+     * 만료할 포인트를 입력 받고 검증하는 함수
+     * - 만료하려는 포인트가 0 이하이면 예외
+     * - 만료 후 잔여 포인트가 0 보다 작은 음수일 경우 예외
+     * - 충전 단위로 남은 금액이 그대로 만료되므로 최소/최대 사용 포인트 제한은 적용하지 않음
+     * 만료 후 잔액을 반환
+     * @param pointToExpire
+     * @return
+     */
+    public long expire(long pointToExpire) {
+        if( pointToExpire <= 0 ){
+            throw new UserPointException(POINT_STATUS.INVALID_EXPIRE_AMOUNT);
+        }
+        if( this.point-pointToExpire < 0 ){
+            throw new UserPointException(POINT_STATUS.USED_POINT_UNDERFLOW);
+        }
+        return this.point-pointToExpire;
+    }
 }
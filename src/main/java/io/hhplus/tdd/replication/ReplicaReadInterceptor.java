@@ -0,0 +1,84 @@
+package io.hhplus.tdd.replication;
+
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.point.POINT_STATUS;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * read replica 의 포인트 API 앞단 (point.replication.role = follower)
+ * - 조회(GET / HEAD)만 처리하고 충전/사용 등 쓰기 요청은 503 (READ_ONLY_REPLICA)
+ * - X-Replication-Seq 헤더가 있으면 그 sequence 까지 반영될 때까지 최대 wait-timeout-millis 대기 (read-your-writes)
+ * - 헤더가 없으면 마지막으로 primary 를 따라잡은 뒤 max-staleness-millis 가 지났을 때 503 (REPLICA_STALE)
+ */
+@Component
+@ConditionalOnProperty(name = "point.replication.role", havingValue = "follower")
+public class ReplicaReadInterceptor implements HandlerInterceptor {
+
+    private static final long RETRY_AFTER_SECONDS = 1L;
+
+    private final ReplicationFollower replicationFollower;
+    private final PointMetrics pointMetrics;
+    private final long maxStalenessMillis;
+    private final long waitTimeoutMillis;
+
+    public ReplicaReadInterceptor(
+            ReplicationFollower replicationFollower,
+            PointMetrics pointMetrics,
+            @Value("${point.replication.max-staleness-millis:1000}") long maxStalenessMillis,
+            @Value("${point.replication.wait-timeout-millis:1000}") long waitTimeoutMillis) {
+        this.replicationFollower = replicationFollower;
+        this.pointMetrics = pointMetrics;
+        this.maxStalenessMillis = maxStalenessMillis;
+        this.waitTimeoutMillis = waitTimeoutMillis;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+        admit(request.getMethod(), request.getHeader(ReplicationSequence.HEADER));
+        return true;
+    }
+
+    /** admit
+     * 요청을 이 follower 에서 처리해도 되는지 확인, 안 되면 ReplicaRejectedException
+     * @param method HTTP method, sequenceHeader X-Replication-Seq 헤더 값 (없으면 null)
+     */
+    public void admit(String method, String sequenceHeader) {
+        if (!"GET".equals(method) && !"HEAD".equals(method)) {
+            pointMetrics.failure(POINT_STATUS.READ_ONLY_REPLICA);
+            throw new ReplicaRejectedException(POINT_STATUS.READ_ONLY_REPLICA, "읽기 전용 인스턴스입니다. 충전/사용은 primary 로 요청해 주세요.", 0L);
+        }
+        Long sequence = parseSequence(sequenceHeader);
+        if (sequence != null) {
+            if (!replicationFollower.awaitSequence(sequence, waitTimeoutMillis)) {
+                pointMetrics.failure(POINT_STATUS.REPLICA_STALE);
+                throw new ReplicaRejectedException(POINT_STATUS.REPLICA_STALE, "요청한 변경이 아직 반영되지 않았습니다. 잠시 후 다시 시도해 주세요.", RETRY_AFTER_SECONDS);
+            }
+            return;
+        }
+        if (replicationFollower.stalenessMillis() > maxStalenessMillis) {
+            pointMetrics.failure(POINT_STATUS.REPLICA_STALE);
+            throw new ReplicaRejectedException(POINT_STATUS.REPLICA_STALE, "primary 와의 동기화가 지연되고 있습니다. 잠시 후 다시 시도해 주세요.", RETRY_AFTER_SECONDS);
+        }
+    }
+
+    // 잘못된 값은 헤더가 없는 것으로 보고 지연 기준만 적용
+    private static Long parseSequence(String header) {
+        if (header == null || header.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(header.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package io.hhplus.tdd.replication;
+
+import io.hhplus.tdd.point.POINT_STATUS;
+import io.hhplus.tdd.point.UserPointException;
+
+/**
+ * read replica(follower)가 처리하지 않고 거절한 요청 (ApiControllerAdvice 가 503 으로 응답)
+ * - READ_ONLY_REPLICA : 충전/사용 등 쓰기 요청 (primary 로 보내야 함)
+ * - REPLICA_STALE     : 허용한 지연보다 오래 primary 를 따라잡지 못했거나, 요청한 sequence 까지 기다리는 시간을 넘김
+ */
+public class ReplicaRejectedException extends UserPointException {
+
+    public final long retryAfterSeconds;
+
+    public ReplicaRejectedException(POINT_STATUS status, String message, long retryAfterSeconds) {
+        super(status, message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,262 @@
+package io.hhplus.tdd.replication;
+
+import io.hhplus.tdd.cache.UserPointCache;
+import io.hhplus.tdd.history.PointHistoryWriter;
+import io.hhplus.tdd.ledger.LedgerEngine;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.UserPoint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * read replica (point.replication.role = follower)
+ * - primary 에 접속해 변경 스트림을 받아 자신의 잔액 저장소 / 히스토리 저장소에 순서대로 반영
+ *   잔액 : UserPointCache.insertOrUpdate (updateMillis 는 follower 에 반영한 시각)
+ *   히스토리 : PointHistoryWriter.replicate (primary 와 같은 id)
+ * - 연결이 끊기면 reconnect-millis 뒤 마지막으로 반영한 위치부터 다시 요청
+ * - primary 를 따라잡았다는 HEARTBEAT 를 마지막으로 받은 시각으로 지연(staleness)을 판단
+ * 반영은 수신 스레드 하나가 하므로 잔액 / 히스토리 저장소의 쓰기는 이 스레드만 함 (API 쓰기는 ReplicaReadInterceptor 가 거절)
+ * ledger 모드에서는 잔액 조회가 엔진을 거쳐 반영한 잔액이 보이지 않으므로 lock 모드에서만 사용
+ */
+@Component
+@ConditionalOnProperty(name = "point.replication.role", havingValue = "follower")
+public class ReplicationFollower implements ReplicationSequence, SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicationFollower.class);
+    private static final int PAGE_SIZE = 1_000;
+    private static final int CONNECT_TIMEOUT_MILLIS = 3_000;
+    private static final int BUFFER_BYTES = 64 * 1024;
+
+    private final UserPointCache userPointCache;
+    private final PointHistoryWriter pointHistoryWriter;
+    private final String primaryHost;
+    private final int primaryPort;
+    private final long reconnectMillis;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition applied = lock.newCondition();
+
+    private volatile boolean running;
+    private volatile Socket socket;
+    private volatile long appliedSeq;
+    // 마지막으로 primary 를 따라잡은(HEARTBEAT 를 받은) 시각, 0 이면 아직 없음
+    private volatile long caughtUpMillis;
+    private long epoch;
+    private long lastHistoryId;
+    private Thread receiver;
+
+    public ReplicationFollower(
+            UserPointCache userPointCache,
+            PointHistoryWriter pointHistoryWriter,
+            Optional<LedgerEngine> ledgerEngine,
+            @Value("${point.replication.primary-host:127.0.0.1}") String primaryHost,
+            @Value("${point.replication.port:7070}") int primaryPort,
+            @Value("${point.replication.reconnect-millis:1000}") long reconnectMillis) {
+        if (ledgerEngine.isPresent()) {
+            throw new IllegalStateException("read replica 는 point.engine.mode = lock 에서만 사용할 수 있습니다.");
+        }
+        this.userPointCache = userPointCache;
+        this.pointHistoryWriter = pointHistoryWriter;
+        this.primaryHost = primaryHost;
+        this.primaryPort = primaryPort;
+        this.reconnectMillis = reconnectMillis;
+    }
+
+    /**
+     * 마지막으로 반영을 마친 primary 의 sequence
+     */
+    @Override
+    public long sequence() {
+        return appliedSeq;
+    }
+
+    /** stalenessMillis
+     * 마지막으로 primary 를 따라잡은 뒤 지난 시간 (한 번도 따라잡지 못했으면 Long.MAX_VALUE)
+     * @return millis
+     */
+    public long stalenessMillis() {
+        long caughtUp = caughtUpMillis;
+        return caughtUp == 0 ? Long.MAX_VALUE : Math.max(0, System.currentTimeMillis() - caughtUp);
+    }
+
+    /** awaitSequence
+     * primary 의 seq 까지 반영될 때까지 최대 timeoutMillis 동안 대기
+     * @param seq, timeoutMillis
+     * @return 반영되었으면 true
+     */
+    public boolean awaitSequence(long seq, long timeoutMillis) {
+        if (appliedSeq >= seq) {
+            return true;
+        }
+        lock.lock();
+        try {
+            long nanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+            while (appliedSeq < seq) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = applied.awaitNanos(nanos);
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void start() {
+        lastHistoryId = lastStoredHistoryId();
+        running = true;
+        receiver = new Thread(this::receiveLoop, "point-replication-follower");
+        receiver.setDaemon(true);
+        receiver.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Socket current = socket;
+        if (current != null) {
+            try {
+                current.close();
+            } catch (IOException ignored) {
+                // 종료 중이므로 무시
+            }
+        }
+        if (receiver != null) {
+            receiver.interrupt();
+            try {
+                receiver.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 히스토리 기록기(PointHistoryWriter)보다 늦게 시작하고 먼저 종료
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 2048;
+    }
+
+    private void receiveLoop() {
+        while (running) {
+            try (Socket connected = new Socket()) {
+                socket = connected;
+                connected.setTcpNoDelay(true);
+                connected.connect(new InetSocketAddress(primaryHost, primaryPort), CONNECT_TIMEOUT_MILLIS);
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(connected.getOutputStream()));
+                ReplicationProtocol.writeHello(out, new ReplicationProtocol.Hello(epoch, appliedSeq, lastHistoryId));
+                receive(new DataInputStream(new BufferedInputStream(connected.getInputStream(), BUFFER_BYTES)));
+            } catch (IOException e) {
+                if (running) {
+                    log.warn("primary 연결 끊김 ({}:{}): {}", primaryHost, primaryPort, e.getMessage());
+                }
+            } catch (RuntimeException e) {
+                log.error("복제 반영 실패 (seq={}, historyId={})", appliedSeq, lastHistoryId, e);
+            } finally {
+                socket = null;
+            }
+            if (running) {
+                try {
+                    Thread.sleep(reconnectMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void receive(DataInputStream in) throws IOException {
+        while (running) {
+            byte type = in.readByte();
+            switch (type) {
+                case ReplicationProtocol.RESUME -> epoch = in.readLong();
+                case ReplicationProtocol.SNAPSHOT -> {
+                    long snapshotEpoch = in.readLong();
+                    in.readLong();
+                    // 다른 primary(재기동)의 sequence 는 이어 쓸 수 없으므로 스냅샷이 끝날 때까지 위치를 비움
+                    if (snapshotEpoch != epoch) {
+                        epoch = snapshotEpoch;
+                        setApplied(0);
+                    }
+                }
+                case ReplicationProtocol.BALANCE -> {
+                    ReplicationRecord record = ReplicationProtocol.readBalance(in);
+                    UserPoint balance = record.balance();
+                    userPointCache.insertOrUpdate(balance.id(), balance.point());
+                    advance(record.seq());
+                }
+                case ReplicationProtocol.HISTORY -> {
+                    ReplicationRecord record = ReplicationProtocol.readHistory(in);
+                    PointHistory history = record.history();
+                    if (history.id() > lastHistoryId) {
+                        pointHistoryWriter.replicate(history);
+                        lastHistoryId = history.id();
+                    }
+                    advance(record.seq());
+                }
+                case ReplicationProtocol.HEARTBEAT -> {
+                    long seq = in.readLong();
+                    // sequence 를 기다리던 요청이 깨어났을 때 지연도 이미 갱신되어 있도록 먼저 기록
+                    caughtUpMillis = System.currentTimeMillis();
+                    setApplied(seq);
+                }
+                default -> throw new IOException("알 수 없는 복제 프레임입니다. (" + type + ")");
+            }
+        }
+    }
+
+    // 스냅샷으로 받은 변경(seq = 0)은 위치를 옮기지 않음
+    private void advance(long seq) {
+        if (seq > 0) {
+            setApplied(seq);
+        }
+    }
+
+    private void setApplied(long seq) {
+        lock.lock();
+        try {
+            appliedSeq = seq;
+            applied.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long lastStoredHistoryId() {
+        long cursor = 0L;
+        List<PointHistory> page;
+        while (!(page = pointHistoryWriter.findAll(cursor, PAGE_SIZE)).isEmpty()) {
+            cursor = page.get(page.size() - 1).id();
+        }
+        return cursor;
+    }
+}
@@ -0,0 +1,150 @@
+package io.hhplus.tdd.replication;
+
+import io.hhplus.tdd.cache.UserPointListener;
+import io.hhplus.tdd.history.PointHistoryListener;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.UserPoint;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * primary 의 변경 스트림 (point.replication.role = primary)
+ * - 잔액 변경(UserPointListener)과 히스토리 기록(PointHistoryListener.onPersisted)을 일어난 순서대로 sequence 를 붙여 보관
+ * - 최근 capacity 건만 링 버퍼에 남기고, 그보다 뒤처진 follower 는 스냅샷부터 다시 받음
+ * - 스냅샷용으로 유저별 최신 잔액을 따로 유지 (잔액이 바뀐 적이 있거나 기동 시 seed 된 유저)
+ * 스냅샷의 잔액은 스냅샷 sequence 이후의 값일 수도 있지만, 이어지는 스트림을 순서대로 반영하면 같은 상태로 수렴
+ */
+@Component
+@ConditionalOnProperty(name = "point.replication.role", havingValue = "primary")
+public class ReplicationLog implements PointHistoryListener, UserPointListener, ReplicationSequence {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition appended = lock.newCondition();
+    private final ReplicationRecord[] ring;
+    private final int mask;
+    private final ConcurrentHashMap<Long, UserPoint> balances = new ConcurrentHashMap<>();
+    private final long epoch;
+    private volatile long head;
+
+    public ReplicationLog(@Value("${point.replication.log-capacity:65536}") int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("log-capacity 는 2 의 거듭제곱이어야 합니다.");
+        }
+        this.ring = new ReplicationRecord[capacity];
+        this.mask = capacity - 1;
+        long epoch;
+        do {
+            epoch = ThreadLocalRandom.current().nextLong();
+        } while (epoch == 0);
+        this.epoch = epoch;
+    }
+
+    @Override
+    public void onUpdated(UserPoint updated) {
+        lock.lock();
+        try {
+            balances.put(updated.id(), updated);
+            append(ReplicationRecord.balance(head + 1, updated));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void onPersisted(PointHistory history) {
+        lock.lock();
+        try {
+            append(ReplicationRecord.history(head + 1, history));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** seed
+     * 기동 시 저장소에 이미 있던 잔액을 스냅샷 대상에 추가 (그 사이 바뀐 유저는 덮어쓰지 않음)
+     * @param balance
+     */
+    public void seed(UserPoint balance) {
+        balances.putIfAbsent(balance.id(), balance);
+    }
+
+    /** read
+     * afterSeq 다음 변경부터 최대 max 건 반환, 새 변경이 없으면 waitMillis 동안 대기
+     * @param afterSeq, max, waitMillis
+     * @return 변경 목록과 읽은 시점의 마지막 sequence, 링 버퍼에서 이미 밀려난 위치면 null
+     */
+    public Batch read(long afterSeq, int max, long waitMillis) throws InterruptedException {
+        lock.lock();
+        try {
+            long nanos = TimeUnit.MILLISECONDS.toNanos(waitMillis);
+            while (head == afterSeq && nanos > 0) {
+                nanos = appended.awaitNanos(nanos);
+            }
+            if (!retains(afterSeq)) {
+                return null;
+            }
+            int count = (int) Math.min(max, head - afterSeq);
+            List<ReplicationRecord> records = new ArrayList<>(count);
+            for (long seq = afterSeq + 1; seq <= afterSeq + count; seq++) {
+                records.add(ring[(int) (seq & mask)]);
+            }
+            return new Batch(records, head);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * afterSeq 다음 변경부터 링 버퍼로 이어서 보낼 수 있는지
+     */
+    public boolean retains(long afterSeq) {
+        long current = head;
+        return afterSeq <= current && afterSeq >= current - ring.length;
+    }
+
+    /** snapshot
+     * 현재 sequence 와 유저별 잔액
+     * - 잔액 목록은 복사하지 않고 그대로 순회하므로 순회 중 바뀐 값(더 최신 값)이 섞일 수 있음
+     * @return Snapshot
+     */
+    public Snapshot snapshot() {
+        lock.lock();
+        try {
+            return new Snapshot(head, balances.values());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public long sequence() {
+        return head;
+    }
+
+    public long epoch() {
+        return epoch;
+    }
+
+    // lock 을 잡은 상태에서 호출
+    private void append(ReplicationRecord record) {
+        ring[(int) (record.seq() & mask)] = record;
+        head = record.seq();
+        appended.signalAll();
+    }
+
+    public record Batch(List<ReplicationRecord> records, long head) {
+    }
+
+    public record Snapshot(long seq, Collection<UserPoint> balances) {
+    }
+}
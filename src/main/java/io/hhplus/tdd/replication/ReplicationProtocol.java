@@ -0,0 +1,116 @@
+package io.hhplus.tdd.replication;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * primary <-> follower 복제 연결의 바이너리 프레임 형식
+ * - 연결 직후 follower -> primary : HELLO (magic, version, 마지막으로 받은 primary epoch / sequence / 히스토리 id)
+ * - 이후 primary -> follower 방향으로만 프레임 전송, 프레임은 type(1 byte) + 고정 길이 필드
+ *   RESUME    : epoch                         -> follower 가 보낸 sequence 다음부터 이어서 전송
+ *   SNAPSHOT  : epoch, seq                    -> 잔액 전체 + follower 에 없는 히스토리(seq = 0)를 보낸 뒤 HEARTBEAT(seq) 로 끝냄
+ *   BALANCE   : seq, userId, point, updateMillis
+ *   HISTORY   : seq, id, userId, amount, type, updateMillis
+ *   HEARTBEAT : seq                           -> follower 가 seq 까지 모두 받았음 (따라잡은 시각 갱신)
+ * epoch 는 primary 기동마다 새로 정해지며, 다르면 sequence 를 이어 쓸 수 없으므로 스냅샷부터 다시 받음
+ */
+public final class ReplicationProtocol {
+
+    static final int MAGIC = 0x50545250; // "PTRP"
+    static final int VERSION = 1;
+
+    static final byte BALANCE = 1;
+    static final byte HISTORY = 2;
+    static final byte HEARTBEAT = 3;
+    static final byte SNAPSHOT = 4;
+    static final byte RESUME = 5;
+
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private ReplicationProtocol() {
+    }
+
+    static void writeHello(DataOutputStream out, Hello hello) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeLong(hello.epoch());
+        out.writeLong(hello.appliedSeq());
+        out.writeLong(hello.lastHistoryId());
+        out.flush();
+    }
+
+    static Hello readHello(DataInputStream in) throws IOException {
+        int magic = in.readInt();
+        int version = in.readInt();
+        if (magic != MAGIC || version != VERSION) {
+            throw new IOException("복제 프로토콜이 맞지 않습니다. (magic=" + Integer.toHexString(magic) + ", version=" + version + ")");
+        }
+        return new Hello(in.readLong(), in.readLong(), in.readLong());
+    }
+
+    static void writeResume(DataOutputStream out, long epoch) throws IOException {
+        out.writeByte(RESUME);
+        out.writeLong(epoch);
+    }
+
+    static void writeSnapshot(DataOutputStream out, long epoch, long seq) throws IOException {
+        out.writeByte(SNAPSHOT);
+        out.writeLong(epoch);
+        out.writeLong(seq);
+    }
+
+    static void writeHeartbeat(DataOutputStream out, long seq) throws IOException {
+        out.writeByte(HEARTBEAT);
+        out.writeLong(seq);
+    }
+
+    static void writeRecord(DataOutputStream out, ReplicationRecord record) throws IOException {
+        if (record.balance() != null) {
+            UserPoint balance = record.balance();
+            out.writeByte(BALANCE);
+            out.writeLong(record.seq());
+            out.writeLong(balance.id());
+            out.writeLong(balance.point());
+            out.writeLong(balance.updateMillis());
+            return;
+        }
+        PointHistory history = record.history();
+        out.writeByte(HISTORY);
+        out.writeLong(record.seq());
+        out.writeLong(history.id());
+        out.writeLong(history.userId());
+        out.writeLong(history.amount());
+        out.writeByte(history.type().ordinal());
+        out.writeLong(history.updateMillis());
+    }
+
+    // type byte 를 읽은 뒤 호출
+    static ReplicationRecord readBalance(DataInputStream in) throws IOException {
+        long seq = in.readLong();
+        return ReplicationRecord.balance(seq, new UserPoint(in.readLong(), in.readLong(), in.readLong()));
+    }
+
+    // type byte 를 읽은 뒤 호출
+    static ReplicationRecord readHistory(DataInputStream in) throws IOException {
+        long seq = in.readLong();
+        long id = in.readLong();
+        long userId = in.readLong();
+        long amount = in.readLong();
+        int type = in.readUnsignedByte();
+        if (type >= TYPES.length) {
+            throw new IOException("알 수 없는 거래 종류입니다. (" + type + ")");
+        }
+        return ReplicationRecord.history(seq, new PointHistory(id, userId, amount, TYPES[type], in.readLong()));
+    }
+
+    /**
+     * follower 가 연결 직후 보내는 마지막 수신 위치 (처음 연결이면 epoch / appliedSeq = 0)
+     */
+    record Hello(long epoch, long appliedSeq, long lastHistoryId) {
+    }
+}
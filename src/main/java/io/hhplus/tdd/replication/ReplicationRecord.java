@@ -0,0 +1,22 @@
+package io.hhplus.tdd.replication;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.UserPoint;
+
+/**
+ * 변경 스트림의 변경 하나 (잔액 변경 또는 히스토리 기록 중 하나만 존재)
+ * - seq 는 primary 에서 변경이 일어난 순서 (1 부터), 스냅샷으로 보내는 변경은 0
+ */
+public record ReplicationRecord(
+        long seq,
+        UserPoint balance,
+        PointHistory history
+) {
+    public static ReplicationRecord balance(long seq, UserPoint balance) {
+        return new ReplicationRecord(seq, balance, null);
+    }
+
+    public static ReplicationRecord history(long seq, PointHistory history) {
+        return new ReplicationRecord(seq, null, history);
+    }
+}
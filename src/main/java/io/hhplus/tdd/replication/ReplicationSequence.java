@@ -0,0 +1,14 @@
+package io.hhplus.tdd.replication;
+
+/**
+ * 복제 변경 스트림에서의 현재 위치 (sequence)
+ * - primary : 마지막으로 변경 스트림에 추가된 변경의 sequence
+ * - follower : 마지막으로 반영을 마친 변경의 sequence
+ * 응답 헤더(X-Replication-Seq)로 내려 보내고, 클라이언트가 follower 에 같은 헤더로 넘기면 그 위치까지 반영된 뒤 조회 (read-your-writes)
+ */
+public interface ReplicationSequence {
+
+    String HEADER = "X-Replication-Seq";
+
+    long sequence();
+}
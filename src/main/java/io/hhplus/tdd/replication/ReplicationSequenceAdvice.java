@@ -0,0 +1,40 @@
+package io.hhplus.tdd.replication;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.Optional;
+
+/**
+ * 복제를 사용할 때(primary / follower) 응답에 현재 sequence 를 X-Replication-Seq 헤더로 추가
+ * - primary 의 충전/사용 응답 헤더 값을 follower 조회 요청에 그대로 넘기면 그 변경이 반영된 뒤 조회
+ * - 스트리밍 응답(내보내기)은 본문 변환을 거치지 않으므로 헤더가 없음
+ */
+@RestControllerAdvice
+public class ReplicationSequenceAdvice implements ResponseBodyAdvice<Object> {
+
+    // point.replication.role = primary / follower 일 때만 존재
+    private final ReplicationSequence replicationSequence;
+
+    public ReplicationSequenceAdvice(Optional<ReplicationSequence> replicationSequence) {
+        this.replicationSequence = replicationSequence.orElse(null);
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return replicationSequence != null;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        response.getHeaders().set(ReplicationSequence.HEADER, String.valueOf(replicationSequence.sequence()));
+        return body;
+    }
+}
@@ -0,0 +1,254 @@
+package io.hhplus.tdd.replication;
+
+import io.hhplus.tdd.balance.UserPointStore;
+import io.hhplus.tdd.history.PointHistoryWriter;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.UserPoint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * primary 의 복제 서버 (point.replication.role = primary)
+ * - follower 연결마다 전용 스레드 하나가 ReplicationLog 의 변경을 순서대로 전송
+ * - follower 가 보낸 위치가 링 버퍼에 남아 있으면 그다음부터, 아니면(처음 연결 / primary 재기동 / 너무 뒤처짐) 스냅샷부터 전송
+ * - 따라잡은 상태에서는 heartbeat-millis 마다 HEARTBEAT 를 보내 follower 가 지연(staleness)을 알 수 있게 함
+ * - 느린 follower 는 소켓 쓰기에서만 막히므로 primary 의 충전/사용이나 다른 follower 를 기다리게 하지 않음
+ * 기동 시 저장소의 히스토리에 등장하는 유저의 잔액을 스냅샷 대상으로 seed (영속 잔액 저장소를 쓰는 경우 대비)
+ */
+@Component
+@ConditionalOnProperty(name = "point.replication.role", havingValue = "primary")
+public class ReplicationServer implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicationServer.class);
+    private static final int BATCH_SIZE = 1_024;
+    private static final int PAGE_SIZE = 1_000;
+    private static final int BUFFER_BYTES = 64 * 1024;
+
+    private final ReplicationLog replicationLog;
+    private final PointHistoryWriter pointHistoryWriter;
+    private final UserPointStore userPointStore;
+    private final String bindAddress;
+    private final int port;
+    private final long heartbeatMillis;
+    private final List<Socket> followers = new CopyOnWriteArrayList<>();
+    private final AtomicInteger followerIds = new AtomicInteger();
+
+    private volatile boolean running;
+    private ServerSocket serverSocket;
+    private Thread acceptor;
+
+    public ReplicationServer(
+            ReplicationLog replicationLog,
+            PointHistoryWriter pointHistoryWriter,
+            UserPointStore userPointStore,
+            @Value("${point.replication.bind-address:127.0.0.1}") String bindAddress,
+            @Value("${point.replication.port:7070}") int port,
+            @Value("${point.replication.heartbeat-millis:100}") long heartbeatMillis) {
+        this.replicationLog = replicationLog;
+        this.pointHistoryWriter = pointHistoryWriter;
+        this.userPointStore = userPointStore;
+        this.bindAddress = bindAddress;
+        this.port = port;
+        this.heartbeatMillis = heartbeatMillis;
+    }
+
+    /**
+     * 실제로 연결을 받고 있는 포트 (설정 포트가 0 이면 기동 시 할당된 포트)
+     */
+    public int port() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * 현재 연결된 follower 수
+     */
+    public int followerCount() {
+        return followers.size();
+    }
+
+    @Override
+    public void start() {
+        seedBalances();
+        try {
+            serverSocket = new ServerSocket(port, 50, InetAddress.getByName(bindAddress));
+        } catch (IOException e) {
+            throw new UncheckedIOException("복제 서버를 열 수 없습니다. (" + bindAddress + ":" + port + ")", e);
+        }
+        running = true;
+        acceptor = new Thread(this::acceptLoop, "point-replication-acceptor");
+        acceptor.setDaemon(true);
+        acceptor.start();
+        log.info("복제 서버 시작 ({}:{})", bindAddress, port());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        closeQuietly(serverSocket);
+        for (Socket follower : followers) {
+            closeQuietly(follower);
+        }
+        if (acceptor != null) {
+            try {
+                acceptor.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 히스토리 기록기(PointHistoryWriter)보다 늦게 시작하고 먼저 종료
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 2048;
+    }
+
+    private void acceptLoop() {
+        while (running) {
+            try {
+                Socket socket = serverSocket.accept();
+                followers.add(socket);
+                Thread sender = new Thread(() -> serve(socket), "point-replication-sender-" + followerIds.incrementAndGet());
+                sender.setDaemon(true);
+                sender.start();
+            } catch (IOException e) {
+                if (running) {
+                    log.warn("복제 연결 수락 실패", e);
+                }
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (socket) {
+            socket.setTcpNoDelay(true);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream(), BUFFER_BYTES));
+            ReplicationProtocol.Hello hello = ReplicationProtocol.readHello(in);
+            log.info("follower 연결 ({}, seq={}, historyId={})", socket.getRemoteSocketAddress(), hello.appliedSeq(), hello.lastHistoryId());
+
+            Cursor cursor = new Cursor(hello.appliedSeq(), hello.lastHistoryId());
+            if (hello.epoch() == replicationLog.epoch() && hello.appliedSeq() > 0 && replicationLog.retains(hello.appliedSeq())) {
+                ReplicationProtocol.writeResume(out, replicationLog.epoch());
+            } else {
+                sendSnapshot(out, cursor);
+            }
+            out.flush();
+
+            while (running) {
+                ReplicationLog.Batch batch = replicationLog.read(cursor.seq, BATCH_SIZE, heartbeatMillis);
+                if (batch == null) {
+                    log.warn("follower 가 너무 뒤처져 스냅샷부터 다시 전송 ({}, seq={})", socket.getRemoteSocketAddress(), cursor.seq);
+                    sendSnapshot(out, cursor);
+                } else {
+                    for (ReplicationRecord record : batch.records()) {
+                        // 스냅샷으로 이미 보낸 히스토리는 건너뜀
+                        if (record.history() == null || record.history().id() > cursor.historyId) {
+                            ReplicationProtocol.writeRecord(out, record);
+                        }
+                        if (record.history() != null) {
+                            cursor.historyId = Math.max(cursor.historyId, record.history().id());
+                        }
+                        cursor.seq = record.seq();
+                    }
+                    if (cursor.seq == batch.head()) {
+                        ReplicationProtocol.writeHeartbeat(out, cursor.seq);
+                    }
+                }
+                out.flush();
+            }
+        } catch (IOException e) {
+            if (running) {
+                log.info("follower 연결 종료 ({}): {}", socket.getRemoteSocketAddress(), e.getMessage());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.error("복제 전송 실패 ({})", socket.getRemoteSocketAddress(), e);
+        } finally {
+            followers.remove(socket);
+        }
+    }
+
+    // 스냅샷 sequence 까지의 잔액 + follower 에 없는 히스토리를 보내고 HEARTBEAT 로 끝냄
+    private void sendSnapshot(DataOutputStream out, Cursor cursor) throws IOException {
+        ReplicationLog.Snapshot snapshot = replicationLog.snapshot();
+        ReplicationProtocol.writeSnapshot(out, replicationLog.epoch(), snapshot.seq());
+        for (UserPoint balance : snapshot.balances()) {
+            ReplicationProtocol.writeRecord(out, ReplicationRecord.balance(0, balance));
+        }
+        // 스냅샷 sequence 까지 기록된 히스토리는 모두 조회에 노출되어 있음 (노출 후 onPersisted)
+        List<PointHistory> page;
+        while (!(page = pointHistoryWriter.findAll(cursor.historyId, PAGE_SIZE)).isEmpty()) {
+            for (PointHistory history : page) {
+                ReplicationProtocol.writeRecord(out, ReplicationRecord.history(0, history));
+            }
+            cursor.historyId = page.get(page.size() - 1).id();
+        }
+        ReplicationProtocol.writeHeartbeat(out, snapshot.seq());
+        cursor.seq = snapshot.seq();
+    }
+
+    private void seedBalances() {
+        Set<Long> userIds = new HashSet<>();
+        long cursor = 0L;
+        List<PointHistory> page;
+        while (!(page = pointHistoryWriter.findAll(cursor, PAGE_SIZE)).isEmpty()) {
+            for (PointHistory history : page) {
+                userIds.add(history.userId());
+            }
+            cursor = page.get(page.size() - 1).id();
+        }
+        for (long userId : userIds) {
+            replicationLog.seed(userPointStore.selectById(userId));
+        }
+    }
+
+    private static void closeQuietly(AutoCloseable closeable) {
+        if (closeable == null) {
+            return;
+        }
+        try {
+            closeable.close();
+        } catch (Exception ignored) {
+            // 종료 중이므로 무시
+        }
+    }
+
+    // 연결 하나의 전송 위치 (전송 스레드만 읽고 씀)
+    private static final class Cursor {
+        private long seq;
+        private long historyId;
+
+        private Cursor(long seq, long historyId) {
+            this.seq = seq;
+            this.historyId = historyId;
+        }
+    }
+}
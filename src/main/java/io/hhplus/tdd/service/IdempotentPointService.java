@@ -0,0 +1,49 @@
+package io.hhplus.tdd.service;
+
+import io.hhplus.tdd.idempotency.IdempotencyStore;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import org.springframework.stereotype.Service;
+
+/**
+ * Idempotency-Key 를 지원하는 충전/사용
+ * - key 가 없으면 PointService 를 그대로 호출
+ * - key 가 있으면 같은 유저의 같은 key 재시도는 처음 결과를 반환하고 다시 적용하지 않음
+ */
+@Service
+public class IdempotentPointService {
+
+    private final PointService pointService;
+    private final IdempotencyStore idempotencyStore;
+
+    public IdempotentPointService(PointService pointService, IdempotencyStore idempotencyStore) {
+        this.pointService = pointService;
+        this.idempotencyStore = idempotencyStore;
+    }
+
+    /** userPointCharge
+     * idempotencyKey 로 중복을 막으며 userid 로 amount 충전
+     * @param idempotencyKey(nullable), userId, amount
+     * @return UserPoint
+     */
+    public UserPoint userPointCharge(String idempotencyKey, long userId, long amount) {
+        if (idempotencyKey == null) {
+            return pointService.userPointCharge(userId, amount);
+        }
+        return idempotencyStore.execute(userId, idempotencyKey, TransactionType.CHARGE, amount,
+                () -> pointService.userPointCharge(userId, amount));
+    }
+
+    /** userPointUse
+     * idempotencyKey 로 중복을 막으며 userid 로 amount 사용
+     * @param idempotencyKey(nullable), userId, amount
+     * @return UserPoint
+     */
+    public UserPoint userPointUse(String idempotencyKey, long userId, long amount) {
+        if (idempotencyKey == null) {
+            return pointService.userPointUse(userId, amount);
+        }
+        return idempotencyStore.execute(userId, idempotencyKey, TransactionType.USE, amount,
+                () -> pointService.userPointUse(userId, amount));
+    }
+}
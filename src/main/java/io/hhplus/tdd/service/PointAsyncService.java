@@ -0,0 +1,106 @@
+package io.hhplus.tdd.service;
+
+import io.hhplus.tdd.admission.AdmissionRejectedException;
+import io.hhplus.tdd.ledger.LedgerEngine;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.point.POINT_STATUS;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.UserPoint;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * PointService 의 비동기 버전
+ * - 요청 스레드는 CompletableFuture 를 반환하고 바로 풀려나며,
+ *   blocking 호출(PointService)은 크기가 제한된 pointExecutor 에서 실행
+ * - lock 모드에서는 blocking 호출을 다른 스레드로 옮길 뿐 non-blocking 이 아님
+ *   (유저 락 대기 / 테이블 지연 동안 pointExecutor 스레드 하나가 그대로 묶임, 동시 처리량은 pointExecutor 크기로 제한)
+ * - ledger 모드에서는 충전/사용/잔액 조회를 실행기를 거치지 않고 LedgerEngine 의 future 로 바로 반환
+ * - pointExecutor 대기열이 가득 차면 서버 오류(500) 대신 OVERLOADED(429)로 실패한 future 를 반환
+ * - history 기록은 PointHistoryWriter 가 이미 비동기로 처리하므로 잔액 갱신과 겹쳐서 진행됨
+ * - 동기 호출이 필요한 경우 기존 PointService 를 그대로 사용
+ */
+@Service
+public class PointAsyncService {
+
+    private static final long RETRY_AFTER_SECONDS = 1L;
+
+    private final PointService pointService;
+    private final Executor pointExecutor;
+    private final PointMetrics pointMetrics;
+    private final LedgerEngine ledgerEngine;
+
+    public PointAsyncService(
+            PointService pointService,
+            @Qualifier("pointExecutor") Executor pointExecutor,
+            PointMetrics pointMetrics,
+            Optional<LedgerEngine> ledgerEngine) {
+        this.pointService = pointService;
+        this.pointExecutor = pointExecutor;
+        this.pointMetrics = pointMetrics;
+        this.ledgerEngine = ledgerEngine.orElse(null);
+    }
+
+    /** findUserPointByUserId
+     * userid 로 userPoint 비동기 조회
+     * @param userId
+     * @return CompletableFuture<UserPoint>
+     */
+    public CompletableFuture<UserPoint> findUserPointByUserId(long userId) {
+        if (ledgerEngine != null) {
+            return ledgerEngine.point(userId);
+        }
+        return submit(() -> pointService.findUserPointByUserId(userId));
+    }
+
+    /** findAllPointHistoryByUserId
+     * userid 로 모든 userPointHistory 비동기 조회
+     * @param userId
+     * @return CompletableFuture<List<PointHistory>>
+     */
+    public CompletableFuture<List<PointHistory>> findAllPointHistoryByUserId(long userId) {
+        return submit(() -> pointService.findAllPointHistoryByUserId(userId));
+    }
+
+    /** userPointCharge
+     * userid 로 amount 만큼 비동기 충전
+     * @param userId, amount
+     * @return CompletableFuture<UserPoint>
+     */
+    public CompletableFuture<UserPoint> userPointCharge(long userId, long amount) {
+        if (ledgerEngine != null) {
+            return ledgerEngine.charge(userId, amount);
+        }
+        return submit(() -> pointService.userPointCharge(userId, amount));
+    }
+
+    /** userPointUse
+     * userid 로 amount 만큼 비동기 사용
+     * @param userId, amount
+     * @return CompletableFuture<UserPoint>
+     */
+    public CompletableFuture<UserPoint> userPointUse(long userId, long amount) {
+        if (ledgerEngine != null) {
+            return ledgerEngine.use(userId, amount);
+        }
+        return submit(() -> pointService.userPointUse(userId, amount));
+    }
+
+    // pointExecutor 에 작업을 넘기고, 대기열이 가득 차 거절되면 OVERLOADED 로 실패한 future 반환
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, pointExecutor);
+        } catch (RejectedExecutionException e) {
+            pointMetrics.failure(POINT_STATUS.OVERLOADED);
+            return CompletableFuture.failedFuture(new AdmissionRejectedException(
+                    POINT_STATUS.OVERLOADED, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.", RETRY_AFTER_SECONDS));
+        }
+    }
+}
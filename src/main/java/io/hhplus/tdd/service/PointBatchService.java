@@ -0,0 +1,180 @@
+package io.hhplus.tdd.service;
+
+import io.hhplus.tdd.cache.UserPointCache;
+import io.hhplus.tdd.history.PointHistoryWriter;
+import io.hhplus.tdd.ledger.LedgerEngine;
+import io.hhplus.tdd.lock.UserLockManager;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.point.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 포인트 충전/사용 일괄 처리
+ * - 작업을 유저별로 묶어 유저마다 잔액 조회 1회, 요청 순서대로 검증/적용, insertOrUpdate 1회만 수행
+ * - 실패한 작업은 잔액에 반영하지 않고 POINT_STATUS 를 결과로 반환, 같은 유저의 다음 작업은 계속 진행
+ * - 검증 외의 오류(저장소 / 캐시 등)는 그 유저의 결과가 정해지지 않은 작업만 INTERNAL_ERROR 로 실패 처리하고 다른 유저는 계속 진행
+ *   (성공 결과는 잔액 기록(insertOrUpdate)이 끝난 뒤에만 채움)
+ * - 서로 다른 유저는 pointExecutor 위의 worker 들이 나누어 병렬로 처리
+ * - ledger 모드에서는 작업을 요청 순서대로 LedgerEngine 에 넣고 결과를 모아 반환
+ */
+@Service
+public class PointBatchService {
+
+    private static final Logger log = LoggerFactory.getLogger(PointBatchService.class);
+
+    private final UserPointCache userPointCache;
+    private final PointHistoryWriter pointHistoryWriter;
+    private final UserLockManager userLockManager;
+    private final Executor pointExecutor;
+    private final int parallelism;
+    private final PointMetrics pointMetrics;
+    private final LedgerEngine ledgerEngine;
+
+    public PointBatchService(
+            UserPointCache userPointCache,
+            PointHistoryWriter pointHistoryWriter,
+            UserLockManager userLockManager,
+            @Qualifier("pointExecutor") Executor pointExecutor,
+            @Value("${point.batch.parallelism:16}") int parallelism,
+            PointMetrics pointMetrics,
+            Optional<LedgerEngine> ledgerEngine) {
+        this.userPointCache = userPointCache;
+        this.pointHistoryWriter = pointHistoryWriter;
+        this.userLockManager = userLockManager;
+        this.pointExecutor = pointExecutor;
+        this.parallelism = parallelism;
+        this.pointMetrics = pointMetrics;
+        this.ledgerEngine = ledgerEngine.orElse(null);
+    }
+
+    /** process
+     * 작업 목록을 일괄 처리하고 요청 순서대로 결과 반환
+     * @param operations
+     * @return List<PointOperationResult>
+     */
+    public List<PointOperationResult> process(List<PointOperation> operations) {
+        if (ledgerEngine != null) {
+            List<PointOperationResult> results = ledgerEngine.process(operations).join();
+            for (PointOperationResult result : results) {
+                if (!result.success()) {
+                    pointMetrics.failure(result.status());
+                }
+            }
+            return results;
+        }
+        Map<Long, List<Integer>> indexesByUser = new LinkedHashMap<>();
+        for (int i = 0; i < operations.size(); i++) {
+            indexesByUser.computeIfAbsent(operations.get(i).userId(), id -> new ArrayList<>()).add(i);
+        }
+        List<Map.Entry<Long, List<Integer>>> groups = new ArrayList<>(indexesByUser.entrySet());
+        PointOperationResult[] results = new PointOperationResult[operations.size()];
+
+        // worker 가 다음 유저를 하나씩 가져가 처리 (유저별 작업 수가 달라도 부하가 고르게 분산)
+        AtomicInteger next = new AtomicInteger();
+        int workers = Math.min(parallelism, groups.size());
+        CompletableFuture<?>[] tasks = new CompletableFuture[workers];
+        for (int w = 0; w < workers; w++) {
+            tasks[w] = CompletableFuture.runAsync(() -> {
+                int group;
+                while ((group = next.getAndIncrement()) < groups.size()) {
+                    Map.Entry<Long, List<Integer>> entry = groups.get(group);
+                    applyUser(entry.getKey(), entry.getValue(), operations, results);
+                }
+            }, pointExecutor);
+        }
+        CompletableFuture.allOf(tasks).join();
+        return Arrays.asList(results);
+    }
+
+    private void applyUser(long userId, List<Integer> indexes, List<PointOperation> operations, PointOperationResult[] results) {
+        if (userId <= 0) {
+            fail(indexes, operations, results, POINT_STATUS.INVALID_USERID);
+            return;
+        }
+        try {
+            userLockManager.executeWithLock(userId, () -> {
+                applyLocked(userId, indexes, operations, results);
+                return null;
+            });
+        } catch (UserPointException e) {
+            fail(indexes, operations, results, e.status);
+        } catch (RuntimeException e) {
+            log.error("일괄 처리 실패 (userId={})", userId, e);
+            fail(indexes, operations, results, POINT_STATUS.INTERNAL_ERROR);
+        }
+    }
+
+    private void applyLocked(long userId, List<Integer> indexes, List<PointOperation> operations, PointOperationResult[] results) {
+        UserPoint current = userPointCache.get(userId);
+        long point = current.point();
+        // 적용에 성공한 작업의 index 와 적용 직후 잔액 (잔액 기록이 끝난 뒤 결과로 채움)
+        List<Integer> applied = new ArrayList<>();
+        List<Long> appliedPoints = new ArrayList<>();
+        for (int index : indexes) {
+            PointOperation operation = operations.get(index);
+            try {
+                point = apply(new UserPoint(userId, point, current.updateMillis()), operation);
+                applied.add(index);
+                appliedPoints.add(point);
+            } catch (UserPointException e) {
+                pointMetrics.failure(e.status);
+                results[index] = PointOperationResult.failure(operation, e.status, point);
+            }
+        }
+        if (applied.isEmpty()) {
+            return;
+        }
+
+        // 히스토리 대기열 자리를 먼저 확보 (대기열이 가득 차 OVERLOADED 면 잔액을 바꾸지 않음)
+        pointHistoryWriter.reserve(applied.size());
+        try {
+            userPointCache.insertOrUpdate(userId, point);
+        } catch (RuntimeException e) {
+            pointHistoryWriter.release(applied.size());
+            throw e;
+        }
+        for (int i = 0; i < applied.size(); i++) {
+            int index = applied.get(i);
+            results[index] = PointOperationResult.success(operations.get(index), appliedPoints.get(i));
+        }
+        long now = System.currentTimeMillis();
+        for (int index : applied) {
+            PointOperation operation = operations.get(index);
+            pointHistoryWriter.appendReserved(userId, operation.amount(), operation.type(), now);
+        }
+    }
+
+    private long apply(UserPoint userPoint, PointOperation operation) {
+        if (operation.type() == TransactionType.CHARGE) {
+            return userPoint.charge(operation.amount());
+        }
+        if (operation.type() == TransactionType.USE) {
+            return userPoint.use(operation.amount());
+        }
+        throw new UserPointException(POINT_STATUS.INVALID_TRANSACTION_TYPE);
+    }
+
+    // 아직 결과가 정해지지 않은 작업을 모두 실패 처리
+    private void fail(List<Integer> indexes, List<PointOperation> operations, PointOperationResult[] results, POINT_STATUS status) {
+        for (int index : indexes) {
+            if (results[index] == null) {
+                pointMetrics.failure(status);
+                results[index] = PointOperationResult.failure(operations.get(index), status, 0L);
+            }
+        }
+    }
+}
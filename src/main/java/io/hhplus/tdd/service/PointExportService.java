@@ -0,0 +1,91 @@
+package io.hhplus.tdd.service;
+
+import io.hhplus.tdd.history.PointHistoryWriter;
+import io.hhplus.tdd.history.export.ExportFilter;
+import io.hhplus.tdd.history.export.ExportFormat;
+import io.hhplus.tdd.point.PointHistory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 포인트 히스토리 스트리밍 내보내기
+ * - 저장소를 id cursor 로 page-size 건씩 읽어 조건에 맞는 행만 바로 출력 스트림에 씀
+ * - 한 번에 메모리에 두는 것은 한 페이지와 출력 버퍼뿐이므로 전체 건수와 무관하게 메모리 사용량이 일정
+ * - 출력 스트림 쓰기가 막히면(느린 클라이언트) 다음 페이지를 읽지 않고 기다림 (TCP 흐름 제어가 그대로 배압이 됨)
+ * - 내보내기 시작 이후 기록된 히스토리도 순회 도중 만나면 포함될 수 있음
+ * - 유저별 내보내기는 기간 / 거래 종류 조건을 저장소의 범위 조회(query)로 넘겨 조건 밖의 히스토리는 읽지 않음
+ *   전체 내보내기는 유저를 가로지르는 기간 인덱스가 없으므로 id 순으로 읽으며 조건을 검사
+ */
+@Service
+public class PointExportService {
+
+    private static final int BUFFER_BYTES = 64 * 1024;
+
+    private final PointHistoryWriter pointHistoryWriter;
+    private final int pageSize;
+
+    public PointExportService(
+            PointHistoryWriter pointHistoryWriter,
+            @Value("${point.history.export.page-size:1000}") int pageSize) {
+        this.pointHistoryWriter = pointHistoryWriter;
+        this.pageSize = pageSize;
+    }
+
+    /** exportUser
+     * userId 의 히스토리를 format 으로 out 에 씀
+     * @param userId, filter, format, out
+     * @return 내보낸 행 수
+     */
+    public long exportUser(long userId, ExportFilter filter, ExportFormat format, OutputStream out) throws IOException {
+        return export((cursor, limit) -> pointHistoryWriter.query(userId, filter.toQuery(cursor, limit)), filter, format, out);
+    }
+
+    /** exportAll
+     * 전체 유저의 히스토리를 id 순서대로 format 으로 out 에 씀
+     * @param filter, format, out
+     * @return 내보낸 행 수
+     */
+    public long exportAll(ExportFilter filter, ExportFormat format, OutputStream out) throws IOException {
+        return export(pointHistoryWriter::findAll, filter, format, out);
+    }
+
+    private long export(PageReader reader, ExportFilter filter, ExportFormat format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_BYTES);
+        StringBuilder line = new StringBuilder(128);
+        format.header(line);
+        writer.append(line);
+
+        long rows = 0;
+        long cursor = 0;
+        List<PointHistory> page;
+        do {
+            page = reader.read(cursor, pageSize);
+            for (PointHistory history : page) {
+                if (filter.matches(history)) {
+                    line.setLength(0);
+                    format.row(line, history);
+                    writer.append(line);
+                    rows++;
+                }
+            }
+            if (!page.isEmpty()) {
+                cursor = page.get(page.size() - 1).id();
+            }
+        } while (page.size() == pageSize);
+        writer.flush();
+        return rows;
+    }
+
+    @FunctionalInterface
+    private interface PageReader {
+        List<PointHistory> read(long cursor, int limit);
+    }
+}
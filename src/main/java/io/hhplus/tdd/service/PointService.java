@@ -1,23 +1,51 @@
 package io.hhplus.tdd.service;
 
-import io.hhplus.tdd.database.PointHistoryTable;
-import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.cache.UserPointCache;
+import io.hhplus.tdd.history.HistoryQuery;
+import io.hhplus.tdd.history.PointHistoryWriter;
+import io.hhplus.tdd.ledger.LedgerEngine;
+import io.hhplus.tdd.lock.UserLockManager;
+import io.hhplus.tdd.metrics.PointMetrics;
 import io.hhplus.tdd.point.*;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Service
 public class PointService {
 
-    private final UserPointTable userPointTable;
-    private final PointHistoryTable pointHistoryTable;
+    private final UserPointCache userPointCache;
+    private final PointHistoryWriter pointHistoryWriter;
+    private final UserLockManager userLockManager;
+    private final PointMetrics pointMetrics;
+    // point.engine.mode = ledger 일 때만 존재, 충전/사용/잔액 조회를 엔진에 위임
+    private final LedgerEngine ledgerEngine;
+    private final Timer pointTimer;
+    private final Timer historiesTimer;
+    private final Timer chargeTimer;
+    private final Timer useTimer;
+    private final Timer lockWaitTimer;
 
     public PointService(
-            UserPointTable userPointTable,
-            PointHistoryTable pointHistoryTable) {
-        this.userPointTable = userPointTable;
-        this.pointHistoryTable = pointHistoryTable;
+            UserPointCache userPointCache,
+            PointHistoryWriter pointHistoryWriter,
+            UserLockManager userLockManager,
+            PointMetrics pointMetrics,
+            Optional<LedgerEngine> ledgerEngine) {
+        this.userPointCache = userPointCache;
+        this.pointHistoryWriter = pointHistoryWriter;
+        this.userLockManager = userLockManager;
+        this.pointMetrics = pointMetrics;
+        this.ledgerEngine = ledgerEngine.orElse(null);
+        this.pointTimer = pointMetrics.serviceTimer("point");
+        this.historiesTimer = pointMetrics.serviceTimer("histories");
+        this.chargeTimer = pointMetrics.serviceTimer("charge");
+        this.useTimer = pointMetrics.serviceTimer("use");
+        this.lockWaitTimer = pointMetrics.lockWaitTimer();
     }
 
     /**
@@ -32,48 +60,149 @@ public class PointService {
 
     /** findUserPointByUserId
      * userid 로 userPoint 조회
+     * - 캐시에 있으면 테이블을 거치지 않고 반환
+     * - ledger 모드에서는 앞서 들어온 충전/사용이 모두 반영된 엔진의 잔액을 반환
      * @param userId
      * @return UserPoint
      */
     public UserPoint findUserPointByUserId(long userId) {
-        return userPointTable.selectById(userId);
+        long start = System.nanoTime();
+        try {
+            if (ledgerEngine != null) {
+                return await(ledgerEngine.point(userId));
+            }
+            return userPointCache.get(userId);
+        } finally {
+            PointMetrics.record(pointTimer, start);
+        }
     }
 
     /** findAllPointHistoryByUserId
      * userid 로 모든 userPointHistory 조회
+     * - 아직 테이블에 기록되지 않은 history 도 포함 (id = 0)
      * @param userId
      * @return List<PointHistory>
      */
     public List<PointHistory> findAllPointHistoryByUserId(long userId) {
-        return pointHistoryTable.selectAllByUserId(userId);
+        long start = System.nanoTime();
+        try {
+            return pointHistoryWriter.findAllByUserId(userId);
+        } finally {
+            PointMetrics.record(historiesTimer, start);
+        }
+    }
+
+    /** findPointHistoryPage
+     * userid 로 cursor(history id) 이후의 userPointHistory 를 최대 limit 건 조회
+     * @param userId, cursor, limit
+     * @return List<PointHistory>
+     */
+    public List<PointHistory> findPointHistoryPage(long userId, long cursor, int limit) {
+        long start = System.nanoTime();
+        try {
+            return pointHistoryWriter.findByUserId(userId, cursor, limit);
+        } finally {
+            PointMetrics.record(historiesTimer, start);
+        }
+    }
+
+    /** findPointHistories
+     * userid 로 기간 / 거래 종류 / cursor 조건에 맞는 userPointHistory 를 최대 limit 건 조회
+     * - 유저별 정렬 인덱스에서 범위를 이진 탐색하므로 전체 히스토리 수와 무관하게 O(log n + limit)
+     * @param userId, query
+     * @return List<PointHistory>
+     */
+    public List<PointHistory> findPointHistories(long userId, HistoryQuery query) {
+        long start = System.nanoTime();
+        try {
+            return pointHistoryWriter.query(userId, query);
+        } finally {
+            PointMetrics.record(historiesTimer, start);
+        }
     }
 
     /** userPointCharge
      * userid 로 amount 생성 or 수정 후 history 생성
+     * - 조회 ~ 수정 ~ history 생성까지 유저 단위 락 안에서 실행 (lost update 방지)
+     * - history 는 비동기로 기록되므로 응답 지연에 포함되지 않음
+     * - ledger 모드에서는 락 없이 엔진의 partition writer 가 반영
      * @param userId, amount
      * @return UserPoint
      */
     public UserPoint userPointCharge(long userId, long amount) {
-        UserPoint current = findUserPointByUserId(userId);     
-        long newPoint = current.charge(amount);                
-        UserPoint updated = userPointTable.insertOrUpdate(userId, newPoint);
+        long start = System.nanoTime();
+        try {
+            if (ledgerEngine != null) {
+                return await(ledgerEngine.charge(userId, amount));
+            }
+            return userLockManager.executeWithLock(userId, () -> {
+                PointMetrics.record(lockWaitTimer, start);
+                UserPoint current = userPointCache.get(userId);
+                long newPoint = current.charge(amount);
+                UserPoint updated = writeBalance(userId, newPoint);
 
-        // history 생성
-        pointHistoryTable.insert(userId, amount, TransactionType.CHARGE, System.currentTimeMillis());
-        return updated;
+                // history 생성
+                pointHistoryWriter.appendReserved(userId, amount, TransactionType.CHARGE, System.currentTimeMillis());
+                return updated;
+            });
+        } catch (UserPointException e) {
+            pointMetrics.failure(e.status);
+            throw e;
+        } finally {
+            PointMetrics.record(chargeTimer, start);
+        }
     }
 
     /** userPointUse
      * userid 로 amount 만큼 충전금액에서 사용 후 history 생성
+     * - 조회 ~ 수정 ~ history 생성까지 유저 단위 락 안에서 실행 (lost update 방지)
+     * - ledger 모드에서는 락 없이 엔진의 partition writer 가 반영
      * @param userId, amount
      * @return UserPoint
      */
     public UserPoint userPointUse(long userId, long amount) {
-        UserPoint current = findUserPointByUserId(userId);
-        long newPoint = current.use(amount);                   
-        UserPoint updated = userPointTable.insertOrUpdate(userId, newPoint);
+        long start = System.nanoTime();
+        try {
+            if (ledgerEngine != null) {
+                return await(ledgerEngine.use(userId, amount));
+            }
+            return userLockManager.executeWithLock(userId, () -> {
+                PointMetrics.record(lockWaitTimer, start);
+                UserPoint current = userPointCache.get(userId);
+                long newPoint = current.use(amount);
+                UserPoint updated = writeBalance(userId, newPoint);
+
+                pointHistoryWriter.appendReserved(userId, amount, TransactionType.USE, System.currentTimeMillis());
+                return updated;
+            });
+        } catch (UserPointException e) {
+            pointMetrics.failure(e.status);
+            throw e;
+        } finally {
+            PointMetrics.record(useTimer, start);
+        }
+    }
 
-        pointHistoryTable.insert(userId, amount, TransactionType.USE, System.currentTimeMillis());
-        return updated;
+    // 히스토리 대기열 자리를 먼저 확보한 뒤 잔액 기록 (대기열이 가득 차 OVERLOADED 면 잔액을 바꾸지 않음)
+    private UserPoint writeBalance(long userId, long newPoint) {
+        pointHistoryWriter.reserve(1);
+        try {
+            return userPointCache.insertOrUpdate(userId, newPoint);
+        } catch (RuntimeException e) {
+            pointHistoryWriter.release(1);
+            throw e;
+        }
+    }
+
+    // 엔진 결과를 기다리고, 실패 원인(UserPointException 등)을 그대로 던짐
+    private static UserPoint await(CompletableFuture<UserPoint> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
     }
-}
\ No newline at end of file
+}
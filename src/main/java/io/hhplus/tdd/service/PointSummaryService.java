@@ -0,0 +1,37 @@
+package io.hhplus.tdd.service;
+
+import io.hhplus.tdd.point.PointSummary;
+import io.hhplus.tdd.summary.PointSummaryAggregator;
+import org.springframework.stereotype.Service;
+
+/**
+ * 유저 포인트 집계 조회
+ * - 집계는 히스토리가 저장소에 기록될 때 갱신되므로 아직 기록 대기 중인 히스토리는 포함되지 않음
+ */
+@Service
+public class PointSummaryService {
+
+    private final PointSummaryAggregator pointSummaryAggregator;
+
+    public PointSummaryService(PointSummaryAggregator pointSummaryAggregator) {
+        this.pointSummaryAggregator = pointSummaryAggregator;
+    }
+
+    /** findPointSummary
+     * userid 의 전체 / 오늘 / 이번 달 충전·사용 합계와 최근 일별·월별 합계 조회
+     * @param userId
+     * @return PointSummary
+     */
+    public PointSummary findPointSummary(long userId) {
+        return pointSummaryAggregator.summarize(userId, System.currentTimeMillis());
+    }
+
+    /** rebuildPointSummary
+     * 히스토리 전체로 집계를 다시 계산해 교체 (증분 집계 검증용)
+     * @param userId
+     * @return 기존 집계가 재계산 결과와 같았으면 true
+     */
+    public boolean rebuildPointSummary(long userId) {
+        return pointSummaryAggregator.rebuild(userId);
+    }
+}
@@ -0,0 +1,73 @@
+package io.hhplus.tdd.shard;
+
+import java.util.Arrays;
+
+/**
+ * userId -> 샤드 번호를 정하는 consistent hash ring (불변)
+ * - 샤드마다 virtualNodes 개의 점을 ring 위에 뿌리고, userId 의 해시 이후 처음 만나는 점의 샤드가 담당
+ * - 점의 위치는 (샤드 번호, 가상 노드 번호) 로만 정해지므로 샤드 수를 바꿔도 기존 샤드의 점은 그대로
+ *   -> 샤드를 늘리면 새 샤드로 가는 유저만, 줄이면 빠지는 샤드의 유저만 옮겨짐
+ * - 조회는 정렬된 long 배열 이진 탐색 (TreeMap 대비 박싱/노드 탐색 없음)
+ */
+public final class ConsistentHashRing {
+
+    private final int shardCount;
+    private final long[] points;
+    private final int[] owners;
+
+    public ConsistentHashRing(int shardCount, int virtualNodes) {
+        if (shardCount <= 0 || virtualNodes <= 0) {
+            throw new IllegalArgumentException("shardCount, virtualNodes 는 1 이상이어야 합니다.");
+        }
+        this.shardCount = shardCount;
+        int size = shardCount * virtualNodes;
+        long[][] entries = new long[size][];
+        for (int shard = 0; shard < shardCount; shard++) {
+            for (int node = 0; node < virtualNodes; node++) {
+                entries[shard * virtualNodes + node] = new long[]{hash(((long) shard << 32) | node), shard};
+            }
+        }
+        Arrays.sort(entries, (a, b) -> Long.compare(a[0], b[0]));
+        this.points = new long[size];
+        this.owners = new int[size];
+        for (int i = 0; i < size; i++) {
+            points[i] = entries[i][0];
+            owners[i] = (int) entries[i][1];
+        }
+    }
+
+    /** shardOf
+     * userId 를 담당하는 샤드 번호 (0 ~ shardCount - 1)
+     * @param userId
+     * @return int
+     */
+    public int shardOf(long userId) {
+        long key = hash(userId ^ 0x5DEECE66DL);
+        int low = 0;
+        int high = points.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (points[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return owners[low == points.length ? 0 : low];
+    }
+
+    public int shardCount() {
+        return shardCount;
+    }
+
+    // murmur3 fmix64 : 연속된 userId 도 ring 위에 고르게 퍼지도록 섞음
+    private static long hash(long value) {
+        long h = value;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,133 @@
+package io.hhplus.tdd.shard;
+
+import io.hhplus.tdd.history.HistoryQuery;
+import io.hhplus.tdd.history.PointHistoryIndex;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.UserPoint;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 샤드 하나가 소유하는 잔액 / 히스토리 / 실행기
+ * - 잔액은 샤드 락으로 보호하는 HashMap (샤드 하나 = UserPointTable 하나), 다른 샤드와 락을 공유하지 않음
+ * - 히스토리는 샤드 전용 PointHistoryIndex (쓰기는 PointHistoryWriter 워커 한 스레드, 읽기는 락 없음)
+ * - 실행기는 재분배 시 이 샤드가 내보낼 유저를 옮기는 작업에 사용 (작업이 있을 때만 스레드 유지)
+ */
+public final class PointShard {
+
+    private final int id;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Long, UserPoint> balances = new HashMap<>();
+    private final PointHistoryIndex history = new PointHistoryIndex();
+    private final ExecutorService executor;
+
+    PointShard(int id) {
+        this.id = id;
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 1, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "point-shard-" + id);
+            thread.setDaemon(true);
+            return thread;
+        });
+        // 재분배가 없을 때는 스레드를 남겨 두지 않음
+        executor.allowCoreThreadTimeOut(true);
+        this.executor = executor;
+    }
+
+    public int id() {
+        return id;
+    }
+
+    UserPoint selectById(long userId) {
+        lock.lock();
+        try {
+            return balances.getOrDefault(userId, UserPoint.empty(userId));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    UserPoint insertOrUpdate(long userId, long amount) {
+        UserPoint userPoint = new UserPoint(userId, amount, System.currentTimeMillis());
+        lock.lock();
+        try {
+            balances.put(userId, userPoint);
+        } finally {
+            lock.unlock();
+        }
+        return userPoint;
+    }
+
+    void index(PointHistory history) {
+        this.history.add(history);
+    }
+
+    List<PointHistory> findByUserId(long userId, long cursor, int limit) {
+        return history.findByUserId(userId, cursor, limit);
+    }
+
+    List<PointHistory> query(long userId, HistoryQuery query) {
+        return history.query(userId, query);
+    }
+
+    List<PointHistory> findAll(long cursor, int limit) {
+        return history.findAll(cursor, limit);
+    }
+
+    int moveToColdTier(long cutoffMillis) {
+        return history.moveToColdTier(cutoffMillis);
+    }
+
+    /** moveTo
+     * userId 의 잔액과 히스토리 목록을 target 샤드로 옮김
+     * - 호출자가 두 샤드의 락을 모두 잡은 상태여야 함
+     * @param userId, target
+     */
+    void moveTo(long userId, PointShard target) {
+        UserPoint userPoint = balances.remove(userId);
+        if (userPoint != null) {
+            target.balances.put(userId, userPoint);
+        }
+        history.transferTo(userId, target.history);
+    }
+
+    /**
+     * 잔액 또는 히스토리가 있는 유저 id (호출 시점의 복사본)
+     */
+    Set<Long> userIds() {
+        Set<Long> userIds;
+        lock.lock();
+        try {
+            userIds = new HashSet<>(balances.keySet());
+        } finally {
+            lock.unlock();
+        }
+        userIds.addAll(history.userIds());
+        return userIds;
+    }
+
+    int size() {
+        lock.lock();
+        try {
+            return balances.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    ReentrantLock lock() {
+        return lock;
+    }
+
+    ExecutorService executor() {
+        return executor;
+    }
+}
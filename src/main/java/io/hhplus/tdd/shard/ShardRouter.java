@@ -0,0 +1,305 @@
+package io.hhplus.tdd.shard;
+
+import io.hhplus.tdd.history.HistoryQuery;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * userId 를 consistent hashing 으로 N 개의 샤드에 나눠 담는 저장소 라우터
+ * (point.balance.store = sharded 또는 point.history.store = sharded)
+ * - 샤드끼리는 락 / 자료구조를 공유하지 않으므로 한 샤드의 잔액/히스토리 작업이 다른 샤드를 기다리지 않음
+ * - 히스토리 id 는 전역 순번 (PointHistoryWriter 워커 한 스레드만 발급하므로 경합 없음)
+ * 샤드 앞단의 경로는 여전히 하나이므로 처리량이 샤드 수만큼 늘지는 않음
+ * - 잔액 요청은 모두 UserPointCache 의 락 하나를 거치고, 히스토리 기록은 PointHistoryWriter 워커 한 스레드가 한 건씩 처리
+ * - 샤드가 나누는 것은 저장소 안의 락과 자료구조(와 재분배 단위)까지
+ *
+ * 재분배(reshard) 는 서비스 중에 진행
+ * - 새 배치(ring)를 먼저 공개하고, 옛 샤드마다 자기 실행기에서 담당이 바뀐 유저를 새 샤드로 옮김
+ * - 옮기는 동안 담당이 바뀐 유저에 대한 요청은 두 샤드의 락을 잡고, 아직 안 옮겨졌으면 먼저 옮긴 뒤 새 샤드에서 처리
+ * - 요청은 샤드 락 안에서 배치가 바뀌지 않았는지 확인하고, 바뀌었으면 새 배치로 다시 시도
+ * - 옮기다 실패하면 재분배 상태로 남고(요청 경로가 유저 단위로 계속 옮기므로 정합성은 유지), completeReshard 로 남은 유저를 다시 옮겨 마무리
+ */
+@Component
+@ConditionalOnExpression("'${point.balance.store:table}' == 'sharded' or '${point.history.store:table}' == 'sharded'")
+public class ShardRouter implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardRouter.class);
+
+    private final int virtualNodes;
+    private final AtomicLong historySequence = new AtomicLong();
+    // 한 번이라도 만들어진 모든 샤드 (빠진 샤드도 기록 순서 목록은 전체 조회에 필요)
+    private final List<PointShard> created = new CopyOnWriteArrayList<>();
+    private volatile Topology topology;
+    // 마지막으로 시작한 옮기기 작업 (reshard / completeReshard 에서만 바꿈)
+    private CompletableFuture<Void> migration = CompletableFuture.completedFuture(null);
+
+    public ShardRouter(
+            @Value("${point.shard.count:16}") int shardCount,
+            @Value("${point.shard.virtual-nodes:128}") int virtualNodes) {
+        this.virtualNodes = virtualNodes;
+        this.topology = new Topology(new ConsistentHashRing(shardCount, virtualNodes), grow(new PointShard[0], shardCount), null);
+    }
+
+    // ====================================== 잔액 ======================================
+
+    public UserPoint selectById(long userId) {
+        return withOwner(userId, shard -> shard.selectById(userId));
+    }
+
+    public UserPoint insertOrUpdate(long userId, long amount) {
+        return withOwner(userId, shard -> shard.insertOrUpdate(userId, amount));
+    }
+
+    // ===================================== 히스토리 =====================================
+
+    public PointHistory insertHistory(long userId, long amount, TransactionType type, long updateMillis) {
+        return new PointHistory(historySequence.incrementAndGet(), userId, amount, type, updateMillis);
+    }
+
+    public void index(PointHistory history) {
+        withOwner(history.userId(), shard -> {
+            shard.index(history);
+            return null;
+        });
+    }
+
+    /** findByUserId
+     * 재분배 중이 아니면 락 없이 담당 샤드의 인덱스를 읽고, 읽는 도중 재분배가 시작됐으면 다시 조회
+     * @param userId, cursor, limit
+     * @return List<PointHistory>
+     */
+    public List<PointHistory> findByUserId(long userId, long cursor, int limit) {
+        Topology current = topology;
+        if (current.previous() == null) {
+            List<PointHistory> result = current.owner(userId).findByUserId(userId, cursor, limit);
+            if (topology == current) {
+                return result;
+            }
+        }
+        return withOwner(userId, shard -> shard.findByUserId(userId, cursor, limit));
+    }
+
+    /** query
+     * findByUserId 와 같은 방식으로 담당 샤드의 인덱스에서 기간 / 거래 종류 / cursor 조건 조회
+     * @param userId, query
+     * @return List<PointHistory>
+     */
+    public List<PointHistory> query(long userId, HistoryQuery query) {
+        Topology current = topology;
+        if (current.previous() == null) {
+            List<PointHistory> result = current.owner(userId).query(userId, query);
+            if (topology == current) {
+                return result;
+            }
+        }
+        return withOwner(userId, shard -> shard.query(userId, query));
+    }
+
+    /** findAll
+     * 샤드별 기록 순서 목록(id 오름차순, 서로 겹치지 않음)을 병합해 cursor 이후 최대 limit 건 반환
+     * @param cursor, limit
+     * @return List<PointHistory>
+     */
+    public List<PointHistory> findAll(long cursor, int limit) {
+        List<PointHistory> merged = new ArrayList<>();
+        for (PointShard shard : created) {
+            merged.addAll(shard.findAll(cursor, limit));
+        }
+        merged.sort(Comparator.comparingLong(PointHistory::id));
+        return merged.size() > limit ? new ArrayList<>(merged.subList(0, limit)) : merged;
+    }
+
+    /** moveToColdTier
+     * 모든 샤드의 히스토리 중 cutoffMillis 이전 것을 압축 구간으로 옮김
+     * - 재분배 중이어도 안전 (유저 목록 단위로 직렬화되고, 옮겨진 목록은 새 샤드에서 이어서 처리)
+     * @param cutoffMillis
+     * @return 옮긴 히스토리 수
+     */
+    public int moveToColdTier(long cutoffMillis) {
+        int moved = 0;
+        for (PointShard shard : created) {
+            moved += shard.moveToColdTier(cutoffMillis);
+        }
+        return moved;
+    }
+
+    // ===================================== 재분배 =====================================
+
+    /** reshard
+     * 샤드 수를 shardCount 로 바꾸고 담당이 바뀐 유저를 옮김
+     * - 옮기는 동안에도 모든 요청을 처리하며, 반환된 future 가 끝나면 옛 배치는 더 이상 참조하지 않음
+     * - 재분배가 진행 중이거나, 실패한 재분배를 completeReshard 로 마무리하지 않았으면 IllegalStateException
+     * @param shardCount
+     * @return CompletableFuture<Void>
+     */
+    public synchronized CompletableFuture<Void> reshard(int shardCount) {
+        Topology current = topology;
+        if (current.previous() != null) {
+            throw new IllegalStateException(migration.isDone()
+                    ? "마무리되지 않은 재분배가 있습니다. completeReshard 로 먼저 마무리해 주세요."
+                    : "재분배가 진행 중입니다.");
+        }
+        ConsistentHashRing ring = new ConsistentHashRing(shardCount, virtualNodes);
+        PointShard[] shards = shardCount > current.shards().length
+                ? grow(current.shards(), shardCount)
+                : Arrays.copyOf(current.shards(), shardCount);
+        Topology next = new Topology(ring, shards, current);
+        topology = next;
+        migration = migrateAll(next);
+        return migration;
+    }
+
+    /** completeReshard
+     * 실패한 재분배에서 아직 옮겨지지 않은 유저를 다시 옮기고 재분배를 끝냄
+     * - 재분배 중이 아니면 완료된 future 반환
+     * - 재분배가 아직 진행 중이면 IllegalStateException
+     * @return CompletableFuture<Void>
+     */
+    public synchronized CompletableFuture<Void> completeReshard() {
+        Topology current = topology;
+        if (current.previous() == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        if (!migration.isDone()) {
+            throw new IllegalStateException("재분배가 진행 중입니다.");
+        }
+        migration = migrateAll(current);
+        return migration;
+    }
+
+    public int shardCount() {
+        return topology.shards().length;
+    }
+
+    public boolean isResharding() {
+        return topology.previous() != null;
+    }
+
+    /** shardOf
+     * userId 를 담당하는 샤드 번호
+     * @param userId
+     * @return int
+     */
+    public int shardOf(long userId) {
+        return topology.owner(userId).id();
+    }
+
+    /**
+     * 샤드별 잔액 보유 유저 수
+     */
+    public int[] sizes() {
+        PointShard[] shards = topology.shards();
+        int[] sizes = new int[shards.length];
+        for (int i = 0; i < shards.length; i++) {
+            sizes[i] = shards[i].size();
+        }
+        return sizes;
+    }
+
+    @Override
+    public void close() {
+        for (PointShard shard : created) {
+            shard.executor().shutdown();
+        }
+    }
+
+    // 담당 샤드의 락 안에서 action 실행 (재분배 중 담당이 바뀐 유저는 옛 샤드의 락도 잡고 먼저 옮김)
+    private <T> T withOwner(long userId, Function<PointShard, T> action) {
+        while (true) {
+            Topology current = topology;
+            PointShard target = current.owner(userId);
+            PointShard source = current.previous() == null ? target : current.previous().owner(userId);
+            PointShard first = source.id() <= target.id() ? source : target;
+            PointShard second = first == source ? target : source;
+            first.lock().lock();
+            second.lock().lock();
+            try {
+                if (topology != current) {
+                    continue;
+                }
+                if (source != target) {
+                    source.moveTo(userId, target);
+                }
+                return action.apply(target);
+            } finally {
+                second.lock().unlock();
+                first.lock().unlock();
+            }
+        }
+    }
+
+    // 옛 샤드마다 자기 실행기에서 담당이 바뀐 유저를 옮기고, 모두 옮기면 옛 배치를 버림
+    private CompletableFuture<Void> migrateAll(Topology next) {
+        Topology previous = next.previous();
+        long start = System.nanoTime();
+        CompletableFuture<?>[] migrations = new CompletableFuture<?>[previous.shards().length];
+        for (int i = 0; i < migrations.length; i++) {
+            PointShard source = previous.shards()[i];
+            try {
+                migrations[i] = CompletableFuture.runAsync(() -> migrate(source, next), source.executor());
+            } catch (RejectedExecutionException e) {
+                migrations[i] = CompletableFuture.failedFuture(e);
+            }
+        }
+        return CompletableFuture.allOf(migrations).whenComplete((ignored, e) -> {
+            if (e != null) {
+                // 재분배 상태로 남겨 두면 요청 경로가 유저 단위로 계속 옮기므로 정합성은 유지됨
+                log.error("point shard migration failed, call completeReshard to retry", e);
+                return;
+            }
+            topology = new Topology(next.ring(), next.shards(), null);
+            log.info("point shards {} -> {} in {} ms", previous.shards().length, next.shards().length,
+                    (System.nanoTime() - start) / 1_000_000);
+        });
+    }
+
+    // source 샤드에서 next 배치 기준으로 담당이 바뀐 유저를 옮김 (유저 단위로 짧게 락을 잡아 요청을 막지 않음)
+    private void migrate(PointShard source, Topology next) {
+        for (long userId : source.userIds()) {
+            if (next.owner(userId) != source) {
+                migrateUser(userId);
+            }
+        }
+    }
+
+    /**
+     * 담당이 바뀐 유저 한 명을 새 샤드로 옮김 (이미 옮겨졌으면 아무것도 하지 않음)
+     */
+    protected void migrateUser(long userId) {
+        withOwner(userId, target -> null);
+    }
+
+    private PointShard[] grow(PointShard[] shards, int shardCount) {
+        PointShard[] grown = Arrays.copyOf(shards, shardCount);
+        for (int i = shards.length; i < shardCount; i++) {
+            // 줄였다가 다시 늘리면 빠졌던 샤드를 재사용 (샤드 번호 = created 의 위치)
+            if (i == created.size()) {
+                created.add(new PointShard(i));
+            }
+            grown[i] = created.get(i);
+        }
+        return grown;
+    }
+
+    private record Topology(ConsistentHashRing ring, PointShard[] shards, Topology previous) {
+        PointShard owner(long userId) {
+            return shards[ring.shardOf(userId)];
+        }
+    }
+}
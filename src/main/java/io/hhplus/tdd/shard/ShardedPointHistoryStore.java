@@ -0,0 +1,55 @@
+package io.hhplus.tdd.shard;
+
+import io.hhplus.tdd.history.HistoryQuery;
+import io.hhplus.tdd.history.PointHistoryStore;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 샤드 라우터 기반 히스토리 저장소 (point.history.store = sharded)
+ * - 단일 PointHistoryTable 대신 userId 를 담당하는 샤드의 히스토리 인덱스에 기록
+ */
+@Component
+@ConditionalOnProperty(name = "point.history.store", havingValue = "sharded")
+public class ShardedPointHistoryStore implements PointHistoryStore {
+
+    private final ShardRouter shardRouter;
+
+    public ShardedPointHistoryStore(ShardRouter shardRouter) {
+        this.shardRouter = shardRouter;
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        return shardRouter.insertHistory(userId, amount, type, updateMillis);
+    }
+
+    @Override
+    public void index(PointHistory history) {
+        shardRouter.index(history);
+    }
+
+    @Override
+    public List<PointHistory> findByUserId(long userId, long cursor, int limit) {
+        return shardRouter.findByUserId(userId, cursor, limit);
+    }
+
+    @Override
+    public List<PointHistory> findAll(long cursor, int limit) {
+        return shardRouter.findAll(cursor, limit);
+    }
+
+    @Override
+    public List<PointHistory> query(long userId, HistoryQuery query) {
+        return shardRouter.query(userId, query);
+    }
+
+    @Override
+    public int moveToColdTier(long cutoffMillis) {
+        return shardRouter.moveToColdTier(cutoffMillis);
+    }
+}
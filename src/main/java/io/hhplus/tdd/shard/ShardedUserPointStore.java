@@ -0,0 +1,31 @@
+package io.hhplus.tdd.shard;
+
+import io.hhplus.tdd.balance.UserPointStore;
+import io.hhplus.tdd.point.UserPoint;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 샤드 라우터 기반 잔액 저장소 (point.balance.store = sharded)
+ * - 단일 UserPointTable 대신 userId 를 담당하는 샤드의 잔액 맵에 기록
+ */
+@Component
+@ConditionalOnProperty(name = "point.balance.store", havingValue = "sharded")
+public class ShardedUserPointStore implements UserPointStore {
+
+    private final ShardRouter shardRouter;
+
+    public ShardedUserPointStore(ShardRouter shardRouter) {
+        this.shardRouter = shardRouter;
+    }
+
+    @Override
+    public UserPoint selectById(long id) {
+        return shardRouter.selectById(id);
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        return shardRouter.insertOrUpdate(id, amount);
+    }
+}
@@ -0,0 +1,167 @@
+package io.hhplus.tdd.summary;
+
+import io.hhplus.tdd.history.PointHistoryListener;
+import io.hhplus.tdd.history.PointHistoryStore;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointSummary;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 유저별 히스토리 집계를 히스토리 기록 시점마다 갱신
+ * - 요약 조회는 히스토리 건수와 무관하게 집계 값만 읽음
+ * - 유저의 집계가 아직 없으면(첫 거래, 재기동 후 journal 저장소 등) 저장소의 히스토리로 한 번 만들어 둠
+ * - 히스토리가 없는 유저의 요약 조회는 집계를 만들어 두지 않고 빈 요약을 반환 (조회만으로 집계가 쌓이지 않도록)
+ * - 일/월 경계는 point.summary.zone 기준, 버킷은 히스토리의 updateMillis 로 분류
+ * - 집계(유저당 약 1.5 KB)는 max-users 명까지만 보관, 넘으면 가장 먼저 만든 집계부터 제거 (second chance)
+ *   최근에 쓰인 집계는 맨 뒤로 돌려 한 번 더 기회를 주고, SECOND_CHANCES 번 연속이면 한도를 지키기 위해 그대로 제거
+ *   제거된 유저는 다음 조회/기록 때 저장소의 히스토리로 다시 만들어짐 (히스토리는 집계 반영 전에 저장소에 기록되므로 유실 없음)
+ */
+@Component
+public class PointSummaryAggregator implements PointHistoryListener {
+
+    private static final int SECOND_CHANCES = 8;
+
+    private final PointHistoryStore pointHistoryStore;
+    private final ZoneId zone;
+    private final int maxUsers;
+    private final ConcurrentHashMap<Long, UserPointAggregate> aggregates = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Long> insertionOrder = new ConcurrentLinkedQueue<>();
+
+    public PointSummaryAggregator(PointHistoryStore pointHistoryStore, String zone) {
+        this(pointHistoryStore, zone, 100_000);
+    }
+
+    @Autowired
+    public PointSummaryAggregator(
+            PointHistoryStore pointHistoryStore,
+            @Value("${point.summary.zone:Asia/Seoul}") String zone,
+            @Value("${point.summary.max-users:100000}") int maxUsers) {
+        this.pointHistoryStore = pointHistoryStore;
+        this.zone = ZoneId.of(zone);
+        this.maxUsers = maxUsers;
+    }
+
+    @Override
+    public void onPersisted(PointHistory history) {
+        UserPointAggregate aggregate = aggregate(history.userId());
+        synchronized (aggregate) {
+            apply(aggregate, history);
+        }
+    }
+
+    /** summarize
+     * userId 의 집계를 nowMillis 기준 오늘/이번 달로 반환
+     * @param userId, nowMillis
+     * @return PointSummary
+     */
+    public PointSummary summarize(long userId, long nowMillis) {
+        LocalDate today = Instant.ofEpochMilli(nowMillis).atZone(zone).toLocalDate();
+        UserPointAggregate aggregate = aggregates.get(userId);
+        if (aggregate == null) {
+            UserPointAggregate loaded = load(userId, Long.MAX_VALUE);
+            if (loaded.lastId() == 0) {
+                return loaded.toSummary(userId, today.toEpochDay(), epochMonth(today));
+            }
+            aggregate = register(userId, loaded);
+        } else {
+            aggregate.referenced = true;
+        }
+        synchronized (aggregate) {
+            return aggregate.toSummary(userId, today.toEpochDay(), epochMonth(today));
+        }
+    }
+
+    /** rebuild
+     * 저장소의 히스토리로 userId 의 집계를 다시 계산해 교체
+     * - 재계산 동안 같은 유저의 증분 반영은 대기하고, 현재 집계에 반영된 히스토리(id <= lastId) 까지만 다시 계산
+     * @param userId
+     * @return 증분 집계가 재계산 결과와 같았으면 true
+     */
+    public boolean rebuild(long userId) {
+        UserPointAggregate aggregate = aggregate(userId);
+        synchronized (aggregate) {
+            UserPointAggregate rebuilt = load(userId, aggregate.lastId());
+            boolean same = aggregate.sameAs(rebuilt);
+            aggregate.copyFrom(rebuilt);
+            return same;
+        }
+    }
+
+    /**
+     * 보관 중인 유저 집계 수
+     */
+    public int size() {
+        return aggregates.size();
+    }
+
+    private UserPointAggregate aggregate(long userId) {
+        UserPointAggregate aggregate = aggregates.get(userId);
+        if (aggregate != null) {
+            aggregate.referenced = true;
+            return aggregate;
+        }
+        return register(userId, load(userId, Long.MAX_VALUE));
+    }
+
+    // 그 사이 다른 스레드가 먼저 만든 집계가 있으면 그것을 사용 (같은 히스토리는 lastId 로 중복 반영되지 않음)
+    private UserPointAggregate register(long userId, UserPointAggregate loaded) {
+        UserPointAggregate existing = aggregates.putIfAbsent(userId, loaded);
+        if (existing != null) {
+            existing.referenced = true;
+            return existing;
+        }
+        insertionOrder.add(userId);
+        evictOverflow();
+        return loaded;
+    }
+
+    // 한도를 넘은 만큼 가장 먼저 만든 집계부터 제거
+    // 제거 중에 반영된 히스토리도 이미 저장소에 있으므로 다시 만들 때 포함됨
+    private void evictOverflow() {
+        int secondChances = 0;
+        while (aggregates.size() > maxUsers) {
+            Long userId = insertionOrder.poll();
+            if (userId == null) {
+                return;
+            }
+            UserPointAggregate aggregate = aggregates.get(userId);
+            if (aggregate == null) {
+                continue;
+            }
+            if (aggregate.referenced && secondChances++ < SECOND_CHANCES) {
+                aggregate.referenced = false;
+                insertionOrder.add(userId);
+                continue;
+            }
+            aggregates.remove(userId, aggregate);
+        }
+    }
+
+    private UserPointAggregate load(long userId, long upToId) {
+        UserPointAggregate aggregate = new UserPointAggregate();
+        for (PointHistory history : pointHistoryStore.findByUserId(userId, 0L, Integer.MAX_VALUE)) {
+            if (history.id() > upToId) {
+                break;
+            }
+            apply(aggregate, history);
+        }
+        return aggregate;
+    }
+
+    private void apply(UserPointAggregate aggregate, PointHistory history) {
+        LocalDate date = Instant.ofEpochMilli(history.updateMillis()).atZone(zone).toLocalDate();
+        aggregate.apply(history, date.toEpochDay(), epochMonth(date));
+    }
+
+    private static long epochMonth(LocalDate date) {
+        return date.getYear() * 12L + date.getMonthValue() - 1;
+    }
+}
@@ -0,0 +1,138 @@
+package io.hhplus.tdd.summary;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointSummary;
+import io.hhplus.tdd.point.TransactionType;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 유저의 히스토리 집계 (원시 배열만 사용)
+ * - 전체 기간 거래 종류별 금액/건수
+ * - 일별 DAYS 칸, 월별 MONTHS 칸의 링 버퍼 : 칸 번호 = 기간 % 칸 수, stamp 가 다르면 오래된 칸이므로 비우고 재사용
+ * - lastId : 반영된 마지막 히스토리 id (같은 히스토리를 두 번 반영하지 않기 위함)
+ * - referenced : 마지막 제거 검사 이후 쓰였는지 (PointSummaryAggregator 의 second chance 제거에 사용)
+ * 동기화는 호출자(PointSummaryAggregator)가 이 객체의 모니터로 처리
+ */
+final class UserPointAggregate {
+
+    static final int DAYS = 31;
+    static final int MONTHS = 12;
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    volatile boolean referenced;
+    private long lastId;
+    private final long[] totalAmounts = new long[TYPES.length];
+    private final long[] counts = new long[TYPES.length];
+    // stamp = 기간 + 1 (0 은 빈 칸)
+    private final long[] dayStamps = new long[DAYS];
+    private final long[] dayAmounts = new long[DAYS * TYPES.length];
+    private final long[] monthStamps = new long[MONTHS];
+    private final long[] monthAmounts = new long[MONTHS * TYPES.length];
+
+    long lastId() {
+        return lastId;
+    }
+
+    /** apply
+     * 히스토리 한 건을 반영, 이미 반영한 id 면 무시
+     * @param history, epochDay(기록 시각의 날짜), epochMonth(연 * 12 + 월 - 1)
+     */
+    void apply(PointHistory history, long epochDay, long epochMonth) {
+        if (history.id() <= lastId) {
+            return;
+        }
+        lastId = history.id();
+        int type = history.type().ordinal();
+        totalAmounts[type] += history.amount();
+        counts[type]++;
+        add(dayStamps, dayAmounts, epochDay, type, history.amount());
+        add(monthStamps, monthAmounts, epochMonth, type, history.amount());
+    }
+
+    PointSummary toSummary(long userId, long today, long thisMonth) {
+        List<PointSummary.Bucket> daily = new ArrayList<>();
+        List<PointSummary.Bucket> monthly = new ArrayList<>();
+        Map<TransactionType, Long> todayAmounts = amounts(null, 0);
+        Map<TransactionType, Long> thisMonthAmounts = amounts(null, 0);
+
+        for (long day = today; day > today - DAYS; day--) {
+            int slot = slot(day, DAYS);
+            if (dayStamps[slot] == day + 1) {
+                Map<TransactionType, Long> amounts = amounts(dayAmounts, slot);
+                daily.add(new PointSummary.Bucket(LocalDate.ofEpochDay(day).toString(), amounts));
+                if (day == today) {
+                    todayAmounts = amounts;
+                }
+            }
+        }
+        for (long month = thisMonth; month > thisMonth - MONTHS; month--) {
+            int slot = slot(month, MONTHS);
+            if (monthStamps[slot] == month + 1) {
+                Map<TransactionType, Long> amounts = amounts(monthAmounts, slot);
+                monthly.add(new PointSummary.Bucket(YearMonth.of((int) (month / 12), (int) (month % 12) + 1).toString(), amounts));
+                if (month == thisMonth) {
+                    thisMonthAmounts = amounts;
+                }
+            }
+        }
+        return new PointSummary(userId, amounts(totalAmounts, 0), amounts(counts, 0),
+                todayAmounts, thisMonthAmounts, daily, monthly);
+    }
+
+    /**
+     * 반영한 히스토리와 집계 값이 모두 같은지 비교 (재계산 결과 검증용)
+     */
+    boolean sameAs(UserPointAggregate other) {
+        return lastId == other.lastId
+                && Arrays.equals(totalAmounts, other.totalAmounts)
+                && Arrays.equals(counts, other.counts)
+                && Arrays.equals(dayStamps, other.dayStamps)
+                && Arrays.equals(dayAmounts, other.dayAmounts)
+                && Arrays.equals(monthStamps, other.monthStamps)
+                && Arrays.equals(monthAmounts, other.monthAmounts);
+    }
+
+    void copyFrom(UserPointAggregate other) {
+        lastId = other.lastId;
+        System.arraycopy(other.totalAmounts, 0, totalAmounts, 0, totalAmounts.length);
+        System.arraycopy(other.counts, 0, counts, 0, counts.length);
+        System.arraycopy(other.dayStamps, 0, dayStamps, 0, dayStamps.length);
+        System.arraycopy(other.dayAmounts, 0, dayAmounts, 0, dayAmounts.length);
+        System.arraycopy(other.monthStamps, 0, monthStamps, 0, monthStamps.length);
+        System.arraycopy(other.monthAmounts, 0, monthAmounts, 0, monthAmounts.length);
+    }
+
+    // 칸에 더 최신 기간이 들어 있으면(지연 도착한 오래된 히스토리) 버킷에는 반영하지 않음
+    private static void add(long[] stamps, long[] amounts, long period, int type, long amount) {
+        int slot = slot(period, stamps.length);
+        long stamp = period + 1;
+        if (stamps[slot] > stamp) {
+            return;
+        }
+        if (stamps[slot] < stamp) {
+            stamps[slot] = stamp;
+            Arrays.fill(amounts, slot * TYPES.length, (slot + 1) * TYPES.length, 0L);
+        }
+        amounts[slot * TYPES.length + type] += amount;
+    }
+
+    private static int slot(long period, int size) {
+        return (int) Math.floorMod(period, (long) size);
+    }
+
+    // values 가 null 이면 0 으로 채운 맵
+    private static Map<TransactionType, Long> amounts(long[] values, int slot) {
+        Map<TransactionType, Long> amounts = new EnumMap<>(TransactionType.class);
+        for (TransactionType type : TYPES) {
+            amounts.put(type, values == null ? 0L : values[slot * TYPES.length + type.ordinal()]);
+        }
+        return amounts;
+    }
+}
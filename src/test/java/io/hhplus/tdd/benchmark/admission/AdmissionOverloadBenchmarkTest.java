@@ -0,0 +1,107 @@
+package io.hhplus.tdd.benchmark.admission;
+
+import io.hhplus.tdd.admission.AdaptiveConcurrencyLimiter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 과부하(처리 용량의 1x / 10x 동시 요청)에서 동시성 제한 유무에 따른 처리된 요청의 p99 비교
+ * - 백엔드 : 동시에 CAPACITY 개까지만 처리하고 한 건에 SERVICE_MILLIS 걸리는 테이블 호출 흉내 (초과분은 대기)
+ * - 클라이언트 : 쉬지 않고 요청, 거절(429)을 받으면 1ms 뒤 재시도
+ * - 제한이 없으면 대기열이 길어진 만큼 모든 요청이 느려지고, 제한이 있으면 초과분만 빨리 거절되고 처리된 요청의 지연은 유지
+ * - ./gradlew benchmarkTest 로 실행
+ */
+@Tag("benchmark")
+class AdmissionOverloadBenchmarkTest {
+
+    private static final int CAPACITY = 8;
+    private static final long SERVICE_MILLIS = 5;
+    private static final Duration RUN_TIME = Duration.ofSeconds(5);
+
+    @Test
+    @DisplayName("10배 과부하에서도 동시성 제한이 있으면 처리된 요청의 p99 가 거의 그대로")
+    void p99_underOverload() throws Exception {
+        long[] unlimited = null;
+        long[] limited = null;
+        for (int load : new int[]{1, 10}) {
+            int clients = CAPACITY * load;
+            unlimited = run(clients, null);
+            limited = run(clients, new AdaptiveConcurrencyLimiter(64, 1, 1_000, SERVICE_MILLIS * 2, 0.9));
+            print(load, "none", unlimited);
+            print(load, "adaptive", limited);
+        }
+        Assertions.assertTrue(limited[0] < unlimited[0]);
+    }
+
+    // [p99 nanos, 처리 건수, 거절 건수]
+    private long[] run(int clients, AdaptiveConcurrencyLimiter limiter) throws Exception {
+        Semaphore backend = new Semaphore(CAPACITY, true);
+        long deadline = System.nanoTime() + RUN_TIME.toNanos();
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        try {
+            List<Future<long[]>> results = new ArrayList<>();
+            for (int c = 0; c < clients; c++) {
+                results.add(executor.submit(() -> {
+                    long[] latencies = new long[1 << 16];
+                    int served = 0;
+                    long shed = 0;
+                    while (System.nanoTime() < deadline) {
+                        if (limiter != null && !limiter.tryAcquire()) {
+                            shed++;
+                            TimeUnit.MILLISECONDS.sleep(SERVICE_MILLIS);
+                            continue;
+                        }
+                        long start = System.nanoTime();
+                        backend.acquire();
+                        try {
+                            TimeUnit.MILLISECONDS.sleep(SERVICE_MILLIS);
+                        } finally {
+                            backend.release();
+                        }
+                        long latency = System.nanoTime() - start;
+                        if (limiter != null) {
+                            limiter.release(latency);
+                        }
+                        if (served < latencies.length) {
+                            latencies[served++] = latency;
+                        }
+                    }
+                    long[] result = Arrays.copyOf(latencies, served + 1);
+                    result[served] = -shed - 1;
+                    return result;
+                }));
+            }
+            List<Long> all = new ArrayList<>();
+            long shed = 0;
+            for (Future<long[]> result : results) {
+                long[] values = result.get();
+                for (int i = 0; i < values.length - 1; i++) {
+                    all.add(values[i]);
+                }
+                shed += -values[values.length - 1] - 1;
+            }
+            long[] sorted = all.stream().mapToLong(Long::longValue).sorted().toArray();
+            long p99 = sorted.length == 0 ? 0 : sorted[(int) Math.min(sorted.length - 1, Math.ceil(sorted.length * 0.99) - 1)];
+            return new long[]{p99, sorted.length, shed};
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void print(int load, String name, long[] result) {
+        System.out.printf("load=%2dx  limiter=%-8s  served=%,7d  shed=%,8d  p99=%,6.1f ms%n",
+                load, name, result[1], result[2], result[0] / 1_000_000.0);
+    }
+}
@@ -0,0 +1,103 @@
+package io.hhplus.tdd.benchmark.balance;
+
+import io.hhplus.tdd.balance.offheap.OffHeapUserPointStore;
+import io.hhplus.tdd.point.UserPoint;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 잔액 저장소 메모리 사용량 / GC 비교 (HashMap<Long, UserPoint> vs off-heap 원시 해시 테이블)
+ * - HashMap 쪽은 UserPointTable 과 같은 구조에서 throttle 만 뺀 것
+ * - 유저 수 1M, 10M, 50M : 적재 후 힙 사용량, 힙 밖 사용량, 적재 중 GC 횟수/시간, 적재 후 full GC 한 번의 시간
+ * - 힙이 부족한 크기는 HashMap 측정을 건너뜀 (기본 benchmarkTest 힙 4g 에서 50M 은 HashMap 으로 적재 불가)
+ * - ./gradlew benchmarkTest 로 실행
+ */
+@Tag("benchmark")
+class BalanceStoreFootprintBenchmarkTest {
+
+    // HashMap 엔트리당 대략적인 힙 사용량 (Long 16B + UserPoint 32B + Node 32B + 버킷 배열)
+    private static final long HASHMAP_BYTES_PER_USER = 100;
+
+    @Test
+    @DisplayName("유저 수별 HashMap 과 off-heap 저장소의 힙 사용량과 GC 시간 비교")
+    void footprint_byUserCount() {
+        for (int users : new int[]{1_000_000, 10_000_000, 50_000_000}) {
+            if (Runtime.getRuntime().maxMemory() > users * HASHMAP_BYTES_PER_USER * 2) {
+                measureHashMap(users);
+            } else {
+                System.out.printf("users=%,d  hashmap : skipped (max heap %,d MB)%n",
+                        users, Runtime.getRuntime().maxMemory() >> 20);
+            }
+            measureOffHeap(users);
+        }
+    }
+
+    private void measureHashMap(int users) {
+        long heapBefore = usedHeapAfterGc();
+        long[] gcBefore = gcCountAndMillis();
+
+        Map<Long, UserPoint> table = new HashMap<>();
+        long now = System.currentTimeMillis();
+        for (long userId = 1; userId <= users; userId++) {
+            table.put(userId, new UserPoint(userId, userId % 2_000_000, now));
+        }
+
+        long[] gcAfter = gcCountAndMillis();
+        long fullGcMillis = fullGcMillis();
+        long heapBytes = usedHeapAfterGc() - heapBefore;
+        Assertions.assertEquals(users, table.size());
+        print("hashmap", users, heapBytes, 0, gcAfter[0] - gcBefore[0], gcAfter[1] - gcBefore[1], fullGcMillis);
+    }
+
+    private void measureOffHeap(int users) {
+        long heapBefore = usedHeapAfterGc();
+        long[] gcBefore = gcCountAndMillis();
+
+        OffHeapUserPointStore store = new OffHeapUserPointStore(users);
+        for (long userId = 1; userId <= users; userId++) {
+            store.insertOrUpdate(userId, userId % 2_000_000);
+        }
+
+        long[] gcAfter = gcCountAndMillis();
+        long fullGcMillis = fullGcMillis();
+        long heapBytes = usedHeapAfterGc() - heapBefore;
+        Assertions.assertEquals(users, store.size());
+        Assertions.assertEquals(users % 2_000_000, store.selectById(users).point());
+        print("offheap", users, heapBytes, store.offHeapBytes(), gcAfter[0] - gcBefore[0], gcAfter[1] - gcBefore[1], fullGcMillis);
+    }
+
+    private void print(String name, int users, long heapBytes, long offHeapBytes, long gcCount, long gcMillis, long fullGcMillis) {
+        System.out.printf("users=%,d  %s : heap=%,d MB  off-heap=%,d MB  load gc=%d times / %,d ms  full gc=%,d ms%n",
+                users, name, heapBytes >> 20, offHeapBytes >> 20, gcCount, gcMillis, fullGcMillis);
+    }
+
+    private long usedHeapAfterGc() {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    // 살아 있는 객체가 많을수록 마킹 비용이 커지므로 저장소를 들고 있는 상태에서 full GC 시간을 잼
+    private long fullGcMillis() {
+        long start = System.nanoTime();
+        System.gc();
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    private long[] gcCountAndMillis() {
+        long count = 0;
+        long millis = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(gc.getCollectionCount(), 0);
+            millis += Math.max(gc.getCollectionTime(), 0);
+        }
+        return new long[]{count, millis};
+    }
+}
@@ -0,0 +1,110 @@
+package io.hhplus.tdd.benchmark.expiry;
+
+import io.hhplus.tdd.expiry.CreditLots;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * 만료 대기 lot 10^7 건에서의 메모리 / 등록 / 취소 / tick 비용
+ * - 1 tick = 1 초, 유저 10^5 명, 30 일 동안 고르게 충전한 lot 이 각각 30 일 뒤 만료
+ * - 등록 : lot 10^7 건 add, 힙 사용량(byte/lot)
+ * - 사용 : 임의 유저의 FIFO 차감 10^6 번 (다 쓴 lot 은 휠에서 취소)
+ * - tick : 만료가 모두 끝날 때까지 한 tick 씩 진행하며 tick 마다 만료 + takeExpired 시간 (cascade 포함)
+ * - 같은 양을 다시 등록해도 비운 handle 을 재사용해 할당량이 늘지 않는지
+ * - ./gradlew benchmarkTest 로 실행
+ */
+@Tag("benchmark")
+class CreditLotExpiryBenchmarkTest {
+
+    private static final int LOTS = 10_000_000;
+    private static final int USERS = 100_000;
+    private static final int USES = 1_000_000;
+    private static final long START_TICK = 1_700_000_000L;
+    private static final long TTL_TICKS = 30L * 24 * 60 * 60;
+
+    @Test
+    @DisplayName("lot 10^7 건이 대기 중이어도 lot 당 메모리와 tick 비용이 일정")
+    void tenMillionPendingLots() {
+        long heapBefore = usedHeapAfterGc();
+        CreditLots lots = new CreditLots(START_TICK);
+
+        long start = System.nanoTime();
+        fill(lots);
+        long insertNanos = System.nanoTime() - start;
+        long lotBytes = usedHeapAfterGc() - heapBefore;
+        Assertions.assertEquals(LOTS, lots.size());
+
+        Random random = new Random(42);
+        long consumed = 0;
+        start = System.nanoTime();
+        for (int i = 0; i < USES; i++) {
+            consumed += lots.consume(random.nextInt(USERS), 5_000L);
+        }
+        long useNanos = System.nanoTime() - start;
+
+        long lastDeadline = START_TICK + TTL_TICKS + TTL_TICKS;
+        long[] tickNanos = new long[(int) (lastDeadline - START_TICK) + 1];
+        // 만료 tick 이 고르게 흩어져 있어 한 tick 에 만료되는 lot 은 몇 건뿐
+        long[] dueUsers = new long[1_024];
+        int[] dueCount = new int[1];
+        long expired = 0;
+        int ticks = 0;
+        for (long tick = START_TICK + 1; tick <= lastDeadline + 1; tick++) {
+            dueCount[0] = 0;
+            long tickStart = System.nanoTime();
+            lots.advance(tick, userId -> dueUsers[dueCount[0]++] = userId);
+            for (int i = 0; i < dueCount[0]; i++) {
+                expired += lots.takeExpired(dueUsers[i]);
+            }
+            tickNanos[ticks++] = System.nanoTime() - tickStart;
+        }
+        Assertions.assertEquals(0, lots.size());
+        Assertions.assertEquals(LOTS * 10_000L, consumed + expired);
+
+        Arrays.sort(tickNanos, 0, ticks);
+        long total = Arrays.stream(tickNanos, 0, ticks).sum();
+        long p50 = percentile(tickNanos, ticks, 0.50);
+        long p99 = percentile(tickNanos, ticks, 0.99);
+        long p999 = percentile(tickNanos, ticks, 0.999);
+        long max = tickNanos[ticks - 1];
+        tickNanos = null;
+
+        int allocated = lots.allocated();
+        fill(lots);
+        long refillBytes = usedHeapAfterGc() - heapBefore;
+
+        System.out.printf("lots=%,d  heap=%,d MB (%d B/lot)  insert=%d ns/lot  use=%d ns/op%n",
+                LOTS, lotBytes >> 20, lotBytes / LOTS, insertNanos / LOTS, useNanos / USES);
+        System.out.printf("ticks=%,d  total=%,d ms (%d ns/lot)  p50=%,d ns  p99=%,d ns  p99.9=%,d ns  max=%,d us%n",
+                ticks, total / 1_000_000, total / LOTS, p50, p99, p999, max / 1_000);
+        System.out.printf("refill: allocated %,d -> %,d handles  heap=%,d MB%n", allocated, lots.allocated(), refillBytes >> 20);
+
+        Assertions.assertTrue(lotBytes / LOTS < 64, "B/lot=" + lotBytes / LOTS);
+        Assertions.assertTrue(p99 < 1_000_000, "p99 tick=" + p99);
+        Assertions.assertEquals(allocated, lots.allocated());
+        Assertions.assertTrue(refillBytes < lotBytes * 5 / 4, "refill=" + refillBytes);
+    }
+
+    // 30 일 동안 고르게 충전한 것처럼 만료 tick 을 늘려 가며 등록 (유저마다 같은 순서)
+    private static void fill(CreditLots lots) {
+        long now = lots.now();
+        for (int i = 0; i < LOTS; i++) {
+            lots.add(i % USERS, 10_000L, now + TTL_TICKS + i * TTL_TICKS / LOTS);
+        }
+    }
+
+    private static long percentile(long[] sorted, int length, double p) {
+        return sorted[(int) Math.min(length - 1, (long) (length * p))];
+    }
+
+    private long usedHeapAfterGc() {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,86 @@
+package io.hhplus.tdd.benchmark.history;
+
+import io.hhplus.tdd.history.PointHistoryIndex;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 히스토리 압축 구간(ColdHistoryBlock) 메모리 / 조회 비교
+ * - 전체 히스토리 10^6, 10^7 건, 유저당 평균 100 건, 1 분 간격 기록
+ * - 인덱스의 힙 사용량 : 전부 최근 구간(객체) vs 전부 압축 구간
+ * - 유저별 전체 조회 : PointHistoryTable.selectAllByUserId 와 같은 stream filter vs 압축 구간을 푸는 인덱스 조회
+ * - ./gradlew benchmarkTest 로 실행
+ */
+@Tag("benchmark")
+class ColdHistoryTierBenchmarkTest {
+
+    private static final int ROWS_PER_USER = 100;
+    private static final int LOOKUPS = 20;
+    private static final long START_MILLIS = 1_700_000_000_000L;
+
+    @Test
+    @DisplayName("압축 구간으로 옮기면 히스토리 힙 사용량이 줄고 유저별 조회는 stream filter 보다 빠름")
+    void footprintAndScan_byTotalRows() {
+        for (int rows : new int[]{1_000_000, 10_000_000}) {
+            long users = rows / ROWS_PER_USER;
+
+            long heapBefore = usedHeapAfterGc();
+            PointHistoryIndex index = new PointHistoryIndex();
+            for (long id = 1; id <= rows; id++) {
+                index.add(history(id, users));
+            }
+            long hotBytes = usedHeapAfterGc() - heapBefore;
+
+            long start = System.nanoTime();
+            int moved = index.moveToColdTier(Long.MAX_VALUE);
+            long moveMillis = (System.nanoTime() - start) / 1_000_000;
+            long coldBytes = usedHeapAfterGc() - heapBefore;
+            Assertions.assertEquals(rows, moved);
+
+            List<PointHistory> table = new ArrayList<>(rows);
+            for (long id = 1; id <= rows; id++) {
+                table.add(history(id, users));
+            }
+            long scanNanos = 0;
+            long coldNanos = 0;
+            for (int i = 0; i < LOOKUPS; i++) {
+                long userId = (i * 7919L) % users;
+
+                start = System.nanoTime();
+                List<PointHistory> scanned = table.stream().filter(h -> h.userId() == userId).toList();
+                scanNanos += System.nanoTime() - start;
+
+                start = System.nanoTime();
+                List<PointHistory> decoded = index.findAllByUserId(userId);
+                coldNanos += System.nanoTime() - start;
+
+                Assertions.assertEquals(scanned, decoded);
+            }
+
+            System.out.printf("rows=%,d  hot=%,d MB (%d B/row)  cold=%,d MB (%d B/row)  %.1fx  move=%,d ms  scan=%,d us/op  cold index=%,d us/op%n",
+                    rows, hotBytes >> 20, hotBytes / rows, coldBytes >> 20, coldBytes / rows, (double) hotBytes / coldBytes,
+                    moveMillis, scanNanos / LOOKUPS / 1_000, coldNanos / LOOKUPS / 1_000);
+            Assertions.assertTrue(coldBytes * 2 < hotBytes);
+            table = null;
+            index = null;
+        }
+    }
+
+    private static PointHistory history(long id, long users) {
+        TransactionType type = id % 5 == 0 ? TransactionType.USE : TransactionType.CHARGE;
+        return new PointHistory(id, id % users, (id % 100 + 1) * 1_000, type, START_MILLIS + id * 60_000 / users);
+    }
+
+    private long usedHeapAfterGc() {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,120 @@
+package io.hhplus.tdd.benchmark.history;
+
+import io.hhplus.tdd.history.PointHistoryStore;
+import io.hhplus.tdd.history.PointHistoryWriter;
+import io.hhplus.tdd.history.export.ExportFilter;
+import io.hhplus.tdd.history.export.ExportFormat;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.service.PointExportService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 1,000만 건 내보내기가 작은 고정 힙에서 끝나는지 확인
+ * - 저장소는 요청받은 페이지만 그때그때 만들어 반환하므로 히스토리 자체는 메모리에 쌓이지 않음
+ * - 출력은 바이트 수와 줄 수만 세고 버림
+ * - ./gradlew memoryTest 로 실행 (힙 64MB 고정)
+ */
+@Tag("memory")
+class PointHistoryExportMemoryTest {
+
+    private static final long ROWS = 10_000_000L;
+
+    @Test
+    @DisplayName("1,000만 건을 NDJSON / CSV 로 내보내도 힙이 일정")
+    void export_tenMillionRows() throws IOException {
+        PointHistoryWriter writer = new PointHistoryWriter(new GeneratedStore(), List.of(), 10, 10,
+                new PointMetrics(new SimpleMeterRegistry()));
+        PointExportService pointExportService = new PointExportService(writer, 1_000);
+
+        for (ExportFormat format : ExportFormat.values()) {
+            CountingOutputStream out = new CountingOutputStream();
+            long start = System.nanoTime();
+
+            long rows = pointExportService.exportAll(ExportFilter.of(null, null, null), format, out);
+
+            long millis = (System.nanoTime() - start) / 1_000_000;
+            long expectedLines = format == ExportFormat.CSV ? ROWS + 1 : ROWS;
+            Assertions.assertEquals(ROWS, rows);
+            Assertions.assertEquals(expectedLines, out.lines);
+            System.out.printf("%s rows=%,d bytes=%,d %,d ms maxHeap=%,d MB%n",
+                    format, rows, out.bytes, millis, Runtime.getRuntime().maxMemory() >> 20);
+        }
+    }
+
+    @Test
+    @DisplayName("조건에 맞는 행만 세어 내보냄")
+    void export_filtered() throws IOException {
+        PointHistoryWriter writer = new PointHistoryWriter(new GeneratedStore(), List.of(), 10, 10,
+                new PointMetrics(new SimpleMeterRegistry()));
+        PointExportService pointExportService = new PointExportService(writer, 1_000);
+        CountingOutputStream out = new CountingOutputStream();
+
+        long rows = pointExportService.exportAll(ExportFilter.of(0L, ROWS / 2, TransactionType.USE), ExportFormat.NDJSON, out);
+
+        Assertions.assertEquals(ROWS / 4, rows);
+        Assertions.assertEquals(ROWS / 4, out.lines);
+    }
+
+    // id = updateMillis, 짝수 id 는 USE
+    private static final class GeneratedStore implements PointHistoryStore {
+
+        @Override
+        public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void index(PointHistory history) {
+        }
+
+        @Override
+        public List<PointHistory> findByUserId(long userId, long cursor, int limit) {
+            return new ArrayList<>();
+        }
+
+        @Override
+        public List<PointHistory> findAll(long cursor, int limit) {
+            long to = Math.min(ROWS, cursor + limit);
+            List<PointHistory> page = new ArrayList<>((int) Math.max(0, to - cursor));
+            for (long id = cursor + 1; id <= to; id++) {
+                TransactionType type = id % 2 == 0 ? TransactionType.USE : TransactionType.CHARGE;
+                page.add(new PointHistory(id, id % 10_000 + 1, 10_000L, type, id - 1));
+            }
+            return page;
+        }
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+        private long bytes;
+        private long lines;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+            if (b == '\n') {
+                lines++;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes += len;
+            for (int i = off; i < off + len; i++) {
+                if (b[i] == '\n') {
+                    lines++;
+                }
+            }
+        }
+    }
+}
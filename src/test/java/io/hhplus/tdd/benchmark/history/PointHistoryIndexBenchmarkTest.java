@@ -0,0 +1,93 @@
+package io.hhplus.tdd.benchmark.history;
+
+import io.hhplus.tdd.history.HistoryQuery;
+import io.hhplus.tdd.history.PointHistoryIndex;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 유저별 히스토리 조회 지연 비교 (전체 스캔 vs 인덱스)
+ * - 전체 스캔은 PointHistoryTable.selectAllByUserId 와 같은 stream filter
+ * - 전체 히스토리 10^4, 10^6, 10^7 건, 유저당 평균 100건
+ * - 최근 내역 / 기간 조회는 유저 한 명의 히스토리 수(10^3 ~ 10^6)에 따라 비교
+ * - ./gradlew benchmarkTest 로 실행
+ */
+@Tag("benchmark")
+class PointHistoryIndexBenchmarkTest {
+
+    private static final int ROWS_PER_USER = 100;
+    private static final int LOOKUPS = 20;
+
+    @Test
+    @DisplayName("전체 히스토리 수가 늘어도 인덱스 조회 지연은 유저 히스토리 수에만 비례")
+    void lookupLatency_byTotalRows() {
+        for (int rows : new int[]{10_000, 1_000_000, 10_000_000}) {
+            long users = rows / ROWS_PER_USER;
+            List<PointHistory> table = new ArrayList<>(rows);
+            PointHistoryIndex index = new PointHistoryIndex();
+            for (long id = 1; id <= rows; id++) {
+                PointHistory history = new PointHistory(id, id % users, 10_000L, TransactionType.CHARGE, id);
+                table.add(history);
+                index.add(history);
+            }
+
+            long scanNanos = 0;
+            long indexNanos = 0;
+            for (int i = 0; i < LOOKUPS; i++) {
+                long userId = (i * 7919L) % users;
+
+                long start = System.nanoTime();
+                List<PointHistory> scanned = table.stream().filter(h -> h.userId() == userId).toList();
+                scanNanos += System.nanoTime() - start;
+
+                start = System.nanoTime();
+                List<PointHistory> indexed = index.findAllByUserId(userId);
+                indexNanos += System.nanoTime() - start;
+
+                Assertions.assertEquals(scanned.size(), indexed.size());
+            }
+            System.out.printf("rows=%,d  scan=%,d us/op  index=%,d us/op%n",
+                    rows, scanNanos / LOOKUPS / 1_000, indexNanos / LOOKUPS / 1_000);
+            table = null;
+        }
+    }
+
+    @Test
+    @DisplayName("유저 히스토리가 늘어도 최근 20 건 / 기간 조회 지연은 거의 일정")
+    void recentAndRangeLatency_byUserRows() {
+        for (int rows : new int[]{1_000, 100_000, 1_000_000}) {
+            PointHistoryIndex index = new PointHistoryIndex();
+            for (long id = 1; id <= rows; id++) {
+                index.add(new PointHistory(id, 1L, 10_000L, TransactionType.CHARGE, id * 1_000));
+            }
+            HistoryQuery recent = HistoryQuery.of(null, null, null, null, 20, HistoryQuery.Order.DESC);
+            HistoryQuery range = HistoryQuery.of(rows / 2 * 1_000L, (rows / 2 + 20) * 1_000L, null, null, 100, HistoryQuery.Order.ASC);
+
+            long recentNanos = 0;
+            long rangeNanos = 0;
+            long fullNanos = 0;
+            for (int i = 0; i < LOOKUPS; i++) {
+                long start = System.nanoTime();
+                Assertions.assertEquals(20, index.query(1L, recent).size());
+                recentNanos += System.nanoTime() - start;
+
+                start = System.nanoTime();
+                Assertions.assertEquals(20, index.query(1L, range).size());
+                rangeNanos += System.nanoTime() - start;
+
+                start = System.nanoTime();
+                Assertions.assertEquals(rows, index.findAllByUserId(1L).size());
+                fullNanos += System.nanoTime() - start;
+            }
+            System.out.printf("userRows=%,d  recent20=%,d ns/op  range=%,d ns/op  all=%,d us/op%n",
+                    rows, recentNanos / LOOKUPS, rangeNanos / LOOKUPS, fullNanos / LOOKUPS / 1_000);
+        }
+    }
+}
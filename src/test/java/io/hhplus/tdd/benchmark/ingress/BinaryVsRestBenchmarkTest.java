@@ -0,0 +1,290 @@
+package io.hhplus.tdd.benchmark.ingress;
+
+import io.hhplus.tdd.TddApplication;
+import io.hhplus.tdd.ingress.BinaryPointServer;
+import io.hhplus.tdd.ingress.BinaryProtocol;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * 바이너리 NIO 경로와 REST 경로의 충전/사용 지연 / 처리량 비교
+ * - 애플리케이션을 임의 포트에 띄우고 (HTTP + point.binary) 같은 PointService 에 두 경로로 충전/사용을 요청
+ * - 유저마다 충전과 사용을 번갈아 요청해 잔액이 한도를 넘거나 모자라지 않게 함
+ * - 지연 : 요청 하나를 보내고 응답을 받은 뒤 다음 요청 (p50 / p99)
+ * - 처리량 : 바이너리는 연결 하나에 WINDOW 개까지 pipelining, REST 는 WINDOW 개의 요청이 항상 진행 중이도록 유지
+ * - HTTP 부하 제한(admission)은 끄고, 히스토리는 journal(fsync = os), 잔액은 offheap 저장소를 사용해
+ *   저장소의 sleep 이 아닌 요청 처리 경로의 차이가 드러나게 함
+ * - ./gradlew benchmarkTest 로 실행
+ */
+@Tag("benchmark")
+class BinaryVsRestBenchmarkTest {
+
+    private static final int USERS = 1_000;
+    private static final long AMOUNT = 10_000L;
+    private static final int WARMUP_OPS = 20_000;
+    private static final int LATENCY_OPS = 20_000;
+    private static final int WINDOW = 128;
+    private static final Duration RUN_TIME = Duration.ofSeconds(10);
+
+    @Test
+    @DisplayName("바이너리 경로가 REST 경로보다 요청당 지연이 짧고 처리량이 높음")
+    void binaryVsRest() throws Exception {
+        Path journalDir = Files.createTempDirectory("point-binary-benchmark");
+        try (ConfigurableApplicationContext context = SpringApplication.run(TddApplication.class,
+                "--server.port=0",
+                "--point.binary.enabled=true",
+                "--point.binary.port=0",
+                "--point.binary.max-in-flight=" + WINDOW,
+                "--point.admission.enabled=false",
+                "--point.balance.store=offheap",
+                "--point.history.store=journal",
+                "--point.history.journal.dir=" + journalDir,
+                "--point.history.journal.fsync=os")) {
+            int httpPort = Integer.parseInt(context.getEnvironment().getProperty("local.server.port"));
+            int binaryPort = context.getBean(BinaryPointServer.class).port();
+            HttpClient http = HttpClient.newBuilder()
+                    .connectTimeout(Duration.ofSeconds(30))
+                    .build();
+
+            try (BinaryClient binary = new BinaryClient(binaryPort)) {
+                binarySequential(binary, WARMUP_OPS);
+                restSequential(http, httpPort, WARMUP_OPS);
+
+                long[] binaryLatency = binarySequential(binary, LATENCY_OPS);
+                long[] restLatency = restSequential(http, httpPort, LATENCY_OPS);
+                double binaryOps = binaryPipelined(binary);
+                double restOps = restConcurrent(http, httpPort);
+
+                print("binary", binaryLatency, binaryOps);
+                print("rest", restLatency, restOps);
+
+                Assertions.assertTrue(binaryOps > restOps, "binary=" + binaryOps + " rest=" + restOps);
+                Assertions.assertTrue(percentile(binaryLatency, 0.5) < percentile(restLatency, 0.5));
+            }
+        } finally {
+            try (Stream<Path> files = Files.walk(journalDir)) {
+                files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+    // ==================== 바이너리 ====================
+
+    private long[] binarySequential(BinaryClient client, int ops) throws IOException {
+        long[] nanos = new long[ops];
+        for (int i = 0; i < ops; i++) {
+            long start = System.nanoTime();
+            client.send(op(i) == Op.CHARGE ? BinaryProtocol.CHARGE : BinaryProtocol.USE, userId(i), AMOUNT, i);
+            client.flush();
+            checkOk(client.read());
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        return nanos;
+    }
+
+    /**
+     * 응답을 받은 만큼 다음 요청을 보내 연결 하나에 WINDOW 개의 요청이 항상 진행 중이도록 유지
+     * 응답은 순서가 바뀔 수 있으므로 요청 i 의 응답을 받은 뒤에만 같은 유저의 요청 i + USERS 를 보냄
+     */
+    private double binaryPipelined(BinaryClient client) throws IOException {
+        long[] done = new long[USERS];
+        long deadline = System.nanoTime() + RUN_TIME.toNanos();
+        long start = System.nanoTime();
+        int sent = 0;
+        int received = 0;
+        while (System.nanoTime() < deadline || sent % (2 * USERS) != 0) {
+            int slot = sent % USERS;
+            while (sent - received >= WINDOW || done[slot] < sent / USERS) {
+                if (!client.hasBufferedResponse()) {
+                    client.flush();
+                }
+                done[(int) (checkOk(client.read()) % USERS)]++;
+                received++;
+            }
+            client.send(op(sent) == Op.CHARGE ? BinaryProtocol.CHARGE : BinaryProtocol.USE, userId(sent), AMOUNT, sent);
+            sent++;
+            if (!client.hasBufferedResponse()) {
+                client.flush();
+            }
+        }
+        client.flush();
+        while (received < sent) {
+            checkOk(client.read());
+            received++;
+        }
+        return received * 1e9 / (System.nanoTime() - start);
+    }
+
+    // 응답의 requestId
+    private static long checkOk(long[] response) {
+        if (response[1] != BinaryProtocol.OK) {
+            throw new IllegalStateException("requestId=" + response[0] + " status=" + BinaryProtocol.status((int) response[1]));
+        }
+        return response[0];
+    }
+
+    // ==================== REST ====================
+
+    private long[] restSequential(HttpClient http, int port, int ops) throws IOException, InterruptedException {
+        long[] nanos = new long[ops];
+        for (int i = 0; i < ops; i++) {
+            long start = System.nanoTime();
+            HttpResponse<Void> response = http.send(request(port, i), HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("op=" + i + " status=" + response.statusCode());
+            }
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        return nanos;
+    }
+
+    /**
+     * WINDOW 개의 요청이 항상 진행 중이도록 유지 (요청 i 의 응답이 온 뒤에만 같은 유저의 요청 i + USERS 를 보냄)
+     */
+    private double restConcurrent(HttpClient http, int port) throws InterruptedException {
+        Semaphore inFlight = new Semaphore(WINDOW);
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        long[] done = new long[USERS];
+        long deadline = System.nanoTime() + RUN_TIME.toNanos();
+        long start = System.nanoTime();
+        int sent = 0;
+        while (System.nanoTime() < deadline || sent % (2 * USERS) != 0) {
+            inFlight.acquire();
+            int slot = sent % USERS;
+            synchronized (done) {
+                while (done[slot] < sent / USERS) {
+                    done.wait();
+                }
+            }
+            http.sendAsync(request(port, sent), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        if (error != null || response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        }
+                        completed.incrementAndGet();
+                        synchronized (done) {
+                            done[slot]++;
+                            done.notifyAll();
+                        }
+                        inFlight.release();
+                    });
+            sent++;
+        }
+        Assertions.assertTrue(inFlight.tryAcquire(WINDOW, 2, TimeUnit.MINUTES));
+        double opsPerSecond = completed.get() * 1e9 / (System.nanoTime() - start);
+        Assertions.assertEquals(0, errors.get());
+        return opsPerSecond;
+    }
+
+    private static HttpRequest request(int port, int i) {
+        String path = op(i) == Op.CHARGE ? "/charge" : "/use";
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/point/" + userId(i) + path))
+                .timeout(Duration.ofSeconds(60))
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString(String.valueOf(AMOUNT)))
+                .build();
+    }
+
+    // ==================== 공통 ====================
+
+    private enum Op { CHARGE, USE }
+
+    // 요청 i 는 유저 i % USERS 에게, 한 바퀴(USERS 건)마다 충전과 사용을 번갈아 보냄
+    private static Op op(int i) {
+        return (i / USERS) % 2 == 0 ? Op.CHARGE : Op.USE;
+    }
+
+    private static long userId(int i) {
+        return i % USERS + 1;
+    }
+
+    private static long percentile(long[] sortedNanos, double percentile) {
+        return sortedNanos[(int) Math.min(sortedNanos.length - 1, Math.ceil(percentile * sortedNanos.length) - 1)];
+    }
+
+    private static void print(String path, long[] sortedNanos, double opsPerSecond) {
+        System.out.printf("%-6s  p50=%,7d us  p99=%,7d us  throughput=%,10.0f ops/s%n",
+                path, percentile(sortedNanos, 0.5) / 1_000, percentile(sortedNanos, 0.99) / 1_000, opsPerSecond);
+    }
+
+    /**
+     * blocking 소켓으로 요청 프레임을 모아 보내고 응답 프레임을 하나씩 읽는 클라이언트
+     * - 응답은 [requestId, status] 만 꺼내고 나머지는 건너뜀
+     */
+    private static final class BinaryClient implements AutoCloseable {
+        private final SocketChannel channel;
+        private final ByteBuffer out = ByteBuffer.allocateDirect(1 << 16);
+        private final ByteBuffer in = ByteBuffer.allocateDirect(1 << 16);
+        private final long[] response = new long[2];
+
+        private BinaryClient(int port) throws IOException {
+            this.channel = SocketChannel.open(new InetSocketAddress("127.0.0.1", port));
+            channel.socket().setTcpNoDelay(true);
+            in.flip();
+        }
+
+        void send(byte op, long userId, long amount, long requestId) throws IOException {
+            if (out.remaining() < BinaryProtocol.REQUEST_BYTES) {
+                flush();
+            }
+            BinaryProtocol.writeRequest(out, op, userId, amount, requestId);
+        }
+
+        void flush() throws IOException {
+            out.flip();
+            while (out.hasRemaining()) {
+                channel.write(out);
+            }
+            out.clear();
+        }
+
+        boolean hasBufferedResponse() {
+            return in.remaining() >= BinaryProtocol.RESPONSE_BYTES;
+        }
+
+        long[] read() throws IOException {
+            while (!hasBufferedResponse()) {
+                in.compact();
+                if (channel.read(in) < 0) {
+                    throw new EOFException();
+                }
+                in.flip();
+            }
+            response[0] = in.getLong();
+            response[1] = in.get() & 0xFF;
+            in.position(in.position() + BinaryProtocol.RESPONSE_BYTES - 9);
+            return response;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
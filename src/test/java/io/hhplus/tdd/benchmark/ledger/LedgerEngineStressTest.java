@@ -0,0 +1,129 @@
+package io.hhplus.tdd.benchmark.ledger;
+
+import io.hhplus.tdd.balance.offheap.OffHeapUserPointStore;
+import io.hhplus.tdd.cache.UserPointCache;
+import io.hhplus.tdd.history.PointHistoryIndex;
+import io.hhplus.tdd.history.PointHistoryStore;
+import io.hhplus.tdd.history.PointHistoryWriter;
+import io.hhplus.tdd.ledger.LedgerBalanceFlusher;
+import io.hhplus.tdd.ledger.LedgerEngine;
+import io.hhplus.tdd.lock.UserLockManager;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.service.PointService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 유저 락 경로 vs ledger engine 경로 스트레스 테스트
+ * - 같은 PointService API 로 소수의 유저에게 충전/사용을 몰아 보내고 처리량과 정합성 비교
+ * - 잔액은 off-heap 저장소, 히스토리는 지연 없는 인메모리 저장소를 사용해 락/큐 비용만 비교
+ * - ./gradlew benchmarkTest 로 실행
+ */
+@Tag("benchmark")
+class LedgerEngineStressTest {
+
+    private static final int THREADS = 16;
+    private static final int USERS = 8;
+    private static final int ROUNDS = 5_000;
+    private static final long INITIAL_POINT = 1_000_000L;
+
+    @Test
+    @DisplayName("경합이 심한 부하에서 두 경로 모두 갱신 유실이 없고 처리량 비교 출력")
+    void lockVsLedger() throws InterruptedException {
+        double lock = run(false);
+        double ledger = run(true);
+
+        System.out.printf("lock   : %.0f ops/s%n", lock);
+        System.out.printf("ledger : %.0f ops/s%n", ledger);
+    }
+
+    private double run(boolean ledgerMode) throws InterruptedException {
+        PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+        PointHistoryWriter pointHistoryWriter = new PointHistoryWriter(new InMemoryHistoryStore(), List.of(), 100_000, 1_000, pointMetrics);
+        UserPointCache userPointCache = new UserPointCache(new OffHeapUserPointStore(1_024), 1_024, pointMetrics, List.of());
+        for (long userId = 1; userId <= USERS; userId++) {
+            userPointCache.insertOrUpdate(userId, INITIAL_POINT);
+        }
+        LedgerBalanceFlusher flusher = new LedgerBalanceFlusher(userPointCache, pointHistoryWriter, 65_536);
+        LedgerEngine engine = new LedgerEngine(flusher::load, flusher, 4, 65_536, USERS, 8);
+        PointService pointService = new PointService(userPointCache, pointHistoryWriter, new UserLockManager(60_000L),
+                pointMetrics, ledgerMode ? Optional.of(engine) : Optional.empty());
+        pointHistoryWriter.start();
+        flusher.start();
+        engine.start();
+
+        // 스레드마다 유저를 돌며 충전 -> 사용을 반복하므로 최종 잔액은 처음과 같아야 함
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch ready = new CountDownLatch(THREADS);
+        CountDownLatch done = new CountDownLatch(THREADS);
+        long start = System.nanoTime();
+        for (int t = 0; t < THREADS; t++) {
+            executor.submit(() -> {
+                ready.countDown();
+                try {
+                    ready.await();
+                    for (int r = 0; r < ROUNDS; r++) {
+                        long userId = r % USERS + 1;
+                        pointService.userPointCharge(userId, 10_000L);
+                        pointService.userPointUse(userId, 10_000L);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await(5, TimeUnit.MINUTES);
+        long elapsed = System.nanoTime() - start;
+        executor.shutdown();
+
+        engine.stop();
+        flusher.stop();
+        pointHistoryWriter.stop();
+        long perUser = (long) THREADS * ROUNDS / USERS * 2;
+        for (long userId = 1; userId <= USERS; userId++) {
+            Assertions.assertEquals(INITIAL_POINT, userPointCache.get(userId).point());
+            Assertions.assertEquals(perUser, pointHistoryWriter.findAllByUserId(userId).size());
+        }
+        return THREADS * ROUNDS * 2 / (elapsed / 1_000_000_000.0);
+    }
+
+    private static final class InMemoryHistoryStore implements PointHistoryStore {
+        private final PointHistoryIndex index = new PointHistoryIndex();
+        private final AtomicLong sequence = new AtomicLong();
+
+        @Override
+        public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+            return new PointHistory(sequence.incrementAndGet(), userId, amount, type, updateMillis);
+        }
+
+        @Override
+        public void index(PointHistory history) {
+            index.add(history);
+        }
+
+        @Override
+        public List<PointHistory> findByUserId(long userId, long cursor, int limit) {
+            return index.findByUserId(userId, cursor, limit);
+        }
+
+        @Override
+        public List<PointHistory> findAll(long cursor, int limit) {
+            return index.findAll(cursor, limit);
+        }
+    }
+}
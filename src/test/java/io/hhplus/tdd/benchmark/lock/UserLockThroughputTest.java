@@ -0,0 +1,125 @@
+package io.hhplus.tdd.benchmark.lock;
+
+import io.hhplus.tdd.balance.TableUserPointStore;
+import io.hhplus.tdd.cache.UserPointCache;
+import io.hhplus.tdd.history.PointHistoryIndex;
+import io.hhplus.tdd.history.PointHistoryStore;
+import io.hhplus.tdd.history.PointHistoryWriter;
+import io.hhplus.tdd.lock.UserLockManager;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.service.PointService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 유저 단위 락 vs 전역 락 처리량 비교 (기본 잔액 저장소 위의 PointService 충전)
+ * - 잔액은 기본 저장소(TableUserPointStore, UserPointTable 의 조회/기록 지연 그대로)를 쓰고,
+ *   히스토리는 write-behind 라 요청 경로에 없으므로 지연 없는 메모리 저장소로 둠
+ * - 유저 단위 락 : PointService 를 그대로 호출 / 전역 락 : 모든 호출을 락 하나로 감쌈
+ * - 저장소가 서로 다른 유저의 쓰기를 직렬화하면 두 결과가 비슷해짐
+ * - ./gradlew benchmarkTest 로 실행
+ */
+@Tag("benchmark")
+class UserLockThroughputTest {
+
+    private static final int THREADS = 32;
+    private static final int USERS = 64;
+    private static final int PER_USER_TASKS = 640;
+    private static final int GLOBAL_TASKS = 64;
+    private static final long AMOUNT = 10_000L;
+
+    @Test
+    @DisplayName("다중 유저 부하에서 유저 단위 락이 전역 락보다 처리량이 높음")
+    void perUserLock_outperformsGlobalLock() throws InterruptedException {
+        ReentrantLock globalLock = new ReentrantLock(true);
+
+        double perUser = measure(PER_USER_TASKS, (pointService, userId) -> pointService.userPointCharge(userId, AMOUNT));
+        double global = measure(GLOBAL_TASKS, (pointService, userId) -> {
+            globalLock.lock();
+            try {
+                pointService.userPointCharge(userId, AMOUNT);
+            } finally {
+                globalLock.unlock();
+            }
+        });
+
+        System.out.printf("per-user lock : %.1f ops/s%n", perUser);
+        System.out.printf("global lock   : %.1f ops/s%n", global);
+        Assertions.assertTrue(perUser > global * 4, "perUser=" + perUser + " global=" + global);
+    }
+
+    private double measure(int tasks, Charge charge) throws InterruptedException {
+        PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+        PointHistoryWriter pointHistoryWriter = new PointHistoryWriter(new InMemoryHistoryStore(), List.of(), 10_000, 100, pointMetrics);
+        pointHistoryWriter.start();
+        PointService pointService = new PointService(new UserPointCache(new TableUserPointStore(64), 1_000, pointMetrics, List.of()),
+                pointHistoryWriter, new UserLockManager(600_000L), pointMetrics, Optional.empty());
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch done = new CountDownLatch(tasks);
+        ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        long start = System.nanoTime();
+        for (int i = 0; i < tasks; i++) {
+            long userId = i % USERS + 1;
+            executor.submit(() -> {
+                try {
+                    charge.run(pointService, userId);
+                } catch (Throwable e) {
+                    failures.add(e);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        Assertions.assertTrue(done.await(5, TimeUnit.MINUTES));
+        long elapsed = System.nanoTime() - start;
+        executor.shutdown();
+        pointHistoryWriter.stop();
+        Assertions.assertTrue(failures.isEmpty(), "failures=" + failures);
+        return tasks / (elapsed / 1_000_000_000.0);
+    }
+
+    @FunctionalInterface
+    interface Charge {
+        void run(PointService pointService, long userId);
+    }
+
+    private static final class InMemoryHistoryStore implements PointHistoryStore {
+        private final PointHistoryIndex index = new PointHistoryIndex();
+        private final AtomicLong sequence = new AtomicLong();
+
+        @Override
+        public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+            return new PointHistory(sequence.incrementAndGet(), userId, amount, type, updateMillis);
+        }
+
+        @Override
+        public void index(PointHistory history) {
+            index.add(history);
+        }
+
+        @Override
+        public List<PointHistory> findByUserId(long userId, long cursor, int limit) {
+            return index.findByUserId(userId, cursor, limit);
+        }
+
+        @Override
+        public List<PointHistory> findAll(long cursor, int limit) {
+            return index.findAll(cursor, limit);
+        }
+    }
+}
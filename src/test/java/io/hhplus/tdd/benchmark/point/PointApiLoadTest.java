@@ -0,0 +1,134 @@
+package io.hhplus.tdd.benchmark.point;
+
+import io.hhplus.tdd.TddApplication;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 플랫폼 스레드 / 가상 스레드 실행 모드 부하 비교
+ * - 모드별로 애플리케이션을 임의 포트에 띄우고 동시 클라이언트 수(1k, 10k, 50k)를 유지하며 GET /point/{id} 호출
+ * - 대부분 캐시 미스가 나도록 유저를 넓게 분산해 UserPointTable 의 blocking sleep 이 그대로 드러나게 함
+ * - 처리량(RPS)과 p99 지연을 출력 (실행 모드 자체를 비교하므로 HTTP 부하 제한(admission)은 끔)
+ * 50k 동시 연결은 ulimit -n 과 로컬 포트 범위를 충분히 늘린 환경에서 실행해야 하며,
+ * virtual 모드는 Java 21 이상에서만 실행
+ * - ./gradlew benchmarkTest 로 실행
+ */
+@Tag("benchmark")
+class PointApiLoadTest {
+
+    private static final int[] CLIENTS = {1_000, 10_000, 50_000};
+    private static final Duration RUN_TIME = Duration.ofSeconds(20);
+    private static final long USERS = 1_000_000L;
+
+    @Test
+    @DisplayName("platform 모드 부하 측정")
+    void platformMode() throws Exception {
+        run("platform");
+    }
+
+    @Test
+    @DisplayName("virtual 모드 부하 측정")
+    void virtualMode() throws Exception {
+        Assumptions.assumeTrue(Runtime.version().feature() >= 21, "virtual 모드는 Java 21 이상 필요");
+        run("virtual");
+    }
+
+    private void run(String mode) throws Exception {
+        try (ConfigurableApplicationContext context = SpringApplication.run(TddApplication.class,
+                "--server.port=0",
+                "--server.tomcat.max-connections=60000",
+                "--server.tomcat.accept-count=60000",
+                "--point.admission.enabled=false",
+                "--point.execution.mode=" + mode)) {
+            int port = Integer.parseInt(context.getEnvironment().getProperty("local.server.port"));
+            for (int clients : CLIENTS) {
+                Result result = load(port, clients);
+                System.out.printf("mode=%-8s clients=%,6d  rps=%,10.1f  p99=%,6d ms  errors=%,d%n",
+                        mode, clients, result.rps(), result.p99Millis(), result.errors());
+            }
+        }
+    }
+
+    /**
+     * clients 개의 요청이 항상 진행 중이도록 유지하면서 RUN_TIME 동안 요청
+     */
+    private Result load(int port, int clients) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+        Semaphore inFlight = new Semaphore(clients);
+        AtomicInteger errors = new AtomicInteger();
+        LatencyRecorder latencies = new LatencyRecorder();
+        long deadline = System.nanoTime() + RUN_TIME.toNanos();
+        long sequence = 0;
+
+        long start = System.nanoTime();
+        while (System.nanoTime() < deadline) {
+            inFlight.acquire();
+            long userId = 1 + (sequence++ * 7919L) % USERS;
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/point/" + userId))
+                    .timeout(Duration.ofSeconds(60))
+                    .GET()
+                    .build();
+            long sent = System.nanoTime();
+            CompletableFuture<HttpResponse<Void>> response = client.sendAsync(request, HttpResponse.BodyHandlers.discarding());
+            response.whenComplete((res, error) -> {
+                if (error != null || res.statusCode() != 200) {
+                    errors.incrementAndGet();
+                } else {
+                    latencies.record(System.nanoTime() - sent);
+                }
+                inFlight.release();
+            });
+        }
+        inFlight.tryAcquire(clients, 2, TimeUnit.MINUTES);
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        return new Result(latencies.count() / seconds, latencies.percentileMillis(0.99), errors.get());
+    }
+
+    private record Result(double rps, long p99Millis, int errors) {
+    }
+
+    /**
+     * 응답 지연 기록 (단순 배열 누적 후 정렬)
+     */
+    private static final class LatencyRecorder {
+        private long[] nanos = new long[1 << 16];
+        private int count;
+
+        synchronized void record(long latencyNanos) {
+            if (count == nanos.length) {
+                nanos = Arrays.copyOf(nanos, nanos.length * 2);
+            }
+            nanos[count++] = latencyNanos;
+        }
+
+        synchronized int count() {
+            return count;
+        }
+
+        synchronized long percentileMillis(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            long[] sorted = Arrays.copyOf(nanos, count);
+            Arrays.sort(sorted);
+            return sorted[(int) Math.min(count - 1, Math.ceil(percentile * count) - 1)] / 1_000_000;
+        }
+    }
+}
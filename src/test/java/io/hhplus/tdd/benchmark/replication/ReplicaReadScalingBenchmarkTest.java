@@ -0,0 +1,234 @@
+package io.hhplus.tdd.benchmark.replication;
+
+import io.hhplus.tdd.balance.offheap.OffHeapUserPointStore;
+import io.hhplus.tdd.cache.UserPointCache;
+import io.hhplus.tdd.history.PointHistoryIndex;
+import io.hhplus.tdd.history.PointHistoryStore;
+import io.hhplus.tdd.history.PointHistoryWriter;
+import io.hhplus.tdd.lock.UserLockManager;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.replication.ReplicaReadInterceptor;
+import io.hhplus.tdd.replication.ReplicationFollower;
+import io.hhplus.tdd.replication.ReplicationLog;
+import io.hhplus.tdd.replication.ReplicationServer;
+import io.hhplus.tdd.service.PointService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * follower 수(0 ~ 3)에 따른 조회 처리량과 복제 지연
+ * - primary 1 대 + follower 를 한 JVM 안에서 localhost 소켓으로 연결 (인스턴스마다 저장소 / 캐시 / PointService 따로)
+ * - 인스턴스 처리 용량 : 동시에 CAPACITY 건까지, 한 건에 SERVICE_MICROS 걸리는 요청 처리를 흉내 낸 뒤 실제 잔액 조회
+ *   (이 장비는 코어가 하나라 CPU 를 쓰는 조회로는 인스턴스를 늘려도 처리량이 늘지 않으므로 인스턴스별 용량을 대기 시간으로 모델링)
+ * - 조회와 동시에 primary 에서 충전/사용을 계속 일으켜 follower 가 변경 스트림을 반영하는 중에 측정
+ * - 조회는 ReplicaReadInterceptor 의 지연 한도 검사를 거침 (거절된 조회는 처리량에서 제외)
+ * - 복제 지연 : 충전 한 건의 sequence 가 follower 에 반영될 때까지 걸린 시간 (p50 / p99)
+ * - ./gradlew benchmarkTest 로 실행
+ */
+@Tag("benchmark")
+class ReplicaReadScalingBenchmarkTest {
+
+    private static final int MAX_FOLLOWERS = 3;
+    private static final int CAPACITY = 4;
+    private static final long SERVICE_MICROS = 1_000;
+    private static final int CLIENTS = 64;
+    private static final int USERS = 1_000;
+    private static final int LAG_SAMPLES = 2_000;
+    private static final Duration RUN_TIME = Duration.ofSeconds(3);
+
+    private final PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("follower 를 늘리면 조회 처리량이 인스턴스 수에 비례해 늘고, 복제 지연은 ms 단위")
+    void readThroughputScalesWithFollowers() throws Exception {
+        ReplicationLog log = new ReplicationLog(65_536);
+        OffHeapUserPointStore primaryStore = new OffHeapUserPointStore(USERS * 2);
+        UserPointCache primaryCache = new UserPointCache(primaryStore, USERS * 2, pointMetrics, List.of(log));
+        PointHistoryWriter primaryWriter = new PointHistoryWriter(new InMemoryHistoryStore(), List.of(log), 10_000, 100, pointMetrics);
+        primaryWriter.start();
+        ReplicationServer server = new ReplicationServer(log, primaryWriter, primaryStore, "127.0.0.1", 0, 20L);
+        server.start();
+        PointService primary = newPointService(primaryCache, primaryWriter);
+        for (long userId = 1; userId <= USERS; userId++) {
+            primary.userPointCharge(userId, 100_000L);
+        }
+
+        List<Instance> instances = new ArrayList<>();
+        instances.add(new Instance(primary, null));
+        List<Runnable> shutdown = new ArrayList<>();
+        double[] throughput = new double[MAX_FOLLOWERS + 1];
+        long[] rejected = new long[MAX_FOLLOWERS + 1];
+        try {
+            for (int followers = 0; followers <= MAX_FOLLOWERS; followers++) {
+                if (followers > 0) {
+                    instances.add(startFollower(server, shutdown));
+                    Assertions.assertTrue(instances.get(followers).follower.awaitSequence(log.sequence(), 10_000L));
+                }
+                long[] result = run(primary, instances);
+                throughput[followers] = result[0] * 1e9 / RUN_TIME.toNanos();
+                rejected[followers] = result[1];
+                System.out.printf("followers=%d  instances=%d  reads=%,.0f/s  rejected=%,d%n",
+                        followers, instances.size(), throughput[followers], rejected[followers]);
+            }
+
+            long[] lags = lag(primary, log, instances.get(MAX_FOLLOWERS).follower);
+            System.out.printf("lag: p50=%,d us  p99=%,d us  max=%,d us%n",
+                    lags[LAG_SAMPLES / 2] / 1_000, lags[LAG_SAMPLES * 99 / 100] / 1_000, lags[LAG_SAMPLES - 1] / 1_000);
+        } finally {
+            for (Runnable stop : shutdown) {
+                stop.run();
+            }
+            server.stop();
+            primaryWriter.stop();
+        }
+
+        Assertions.assertTrue(throughput[MAX_FOLLOWERS] > throughput[0] * 3, Arrays.toString(throughput));
+        Assertions.assertEquals(0L, Arrays.stream(rejected).sum());
+    }
+
+    // [처리한 조회 수, 거절된 조회 수]
+    private long[] run(PointService primary, List<Instance> instances) throws Exception {
+        List<Semaphore> capacity = new ArrayList<>();
+        for (int i = 0; i < instances.size(); i++) {
+            capacity.add(new Semaphore(CAPACITY, true));
+        }
+        AtomicLong rejected = new AtomicLong();
+        long deadline = System.nanoTime() + RUN_TIME.toNanos();
+        ExecutorService executor = Executors.newFixedThreadPool(CLIENTS + 1);
+        try {
+            // 조회 중에도 primary 에 쓰기가 계속 들어와 follower 가 변경을 반영하고 있는 상태
+            Future<?> writer = executor.submit(() -> {
+                while (System.nanoTime() < deadline) {
+                    long userId = ThreadLocalRandom.current().nextLong(1, USERS + 1);
+                    primary.userPointCharge(userId, 10_000L);
+                    primary.userPointUse(userId, 10_000L);
+                    pause(500);
+                }
+            });
+            List<Future<Long>> clients = new ArrayList<>();
+            for (int c = 0; c < CLIENTS; c++) {
+                int offset = c;
+                clients.add(executor.submit(() -> {
+                    long served = 0;
+                    int next = offset;
+                    while (System.nanoTime() < deadline) {
+                        int target = next++ % instances.size();
+                        Instance instance = instances.get(target);
+                        Semaphore permits = capacity.get(target);
+                        permits.acquire();
+                        try {
+                            if (instance.interceptor != null) {
+                                try {
+                                    instance.interceptor.admit("GET", null);
+                                } catch (RuntimeException e) {
+                                    rejected.incrementAndGet();
+                                    continue;
+                                }
+                            }
+                            pause(SERVICE_MICROS);
+                            instance.pointService.findUserPointByUserId(ThreadLocalRandom.current().nextLong(1, USERS + 1));
+                            served++;
+                        } finally {
+                            permits.release();
+                        }
+                    }
+                    return served;
+                }));
+            }
+            long served = 0;
+            for (Future<Long> client : clients) {
+                served += client.get();
+            }
+            writer.get();
+            return new long[]{served, rejected.get()};
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // 충전 직후의 sequence 가 follower 에 반영될 때까지의 시간 (정렬된 nanos)
+    private long[] lag(PointService primary, ReplicationLog log, ReplicationFollower follower) {
+        long[] lags = new long[LAG_SAMPLES];
+        for (int i = 0; i < LAG_SAMPLES; i++) {
+            long userId = i % USERS + 1;
+            primary.userPointCharge(userId, 10_000L);
+            long seq = log.sequence();
+            long start = System.nanoTime();
+            Assertions.assertTrue(follower.awaitSequence(seq, 10_000L));
+            lags[i] = System.nanoTime() - start;
+            primary.userPointUse(userId, 10_000L);
+        }
+        Arrays.sort(lags);
+        return lags;
+    }
+
+    private Instance startFollower(ReplicationServer server, List<Runnable> shutdown) {
+        UserPointCache cache = new UserPointCache(new OffHeapUserPointStore(USERS * 2), USERS * 2, pointMetrics, List.of());
+        PointHistoryWriter writer = new PointHistoryWriter(new InMemoryHistoryStore(), List.of(), 10_000, 100, pointMetrics);
+        writer.start();
+        ReplicationFollower follower = new ReplicationFollower(cache, writer, Optional.empty(), "127.0.0.1", server.port(), 50L);
+        follower.start();
+        shutdown.add(follower::stop);
+        shutdown.add(writer::stop);
+        ReplicaReadInterceptor interceptor = new ReplicaReadInterceptor(follower, pointMetrics, 1_000L, 1_000L);
+        return new Instance(newPointService(cache, writer), follower, interceptor);
+    }
+
+    private PointService newPointService(UserPointCache cache, PointHistoryWriter writer) {
+        return new PointService(cache, writer, new UserLockManager(5_000L), pointMetrics, Optional.empty());
+    }
+
+    private record Instance(PointService pointService, ReplicationFollower follower, ReplicaReadInterceptor interceptor) {
+        Instance(PointService pointService, ReplicationFollower follower) {
+            this(pointService, follower, null);
+        }
+    }
+
+    private static void pause(long micros) {
+        LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(micros));
+    }
+
+    private static final class InMemoryHistoryStore implements PointHistoryStore {
+        private final PointHistoryIndex index = new PointHistoryIndex();
+        private final AtomicLong sequence = new AtomicLong();
+
+        @Override
+        public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+            return new PointHistory(sequence.incrementAndGet(), userId, amount, type, updateMillis);
+        }
+
+        @Override
+        public void index(PointHistory history) {
+            index.add(history);
+        }
+
+        @Override
+        public List<PointHistory> findByUserId(long userId, long cursor, int limit) {
+            return index.findByUserId(userId, cursor, limit);
+        }
+
+        @Override
+        public List<PointHistory> findAll(long cursor, int limit) {
+            return index.findAll(cursor, limit);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package io.hhplus.tdd.integration.point;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.service.PointService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PointService 동시성 통합 테스트
+ * - 같은 유저에게 동시에 충전/사용 요청이 몰려도 갱신이 유실되지 않는지 검증
+ * - 여러 유저에게 동시에 요청이 들어와도 유저별 결과가 정확한지 검증
+ * - 유저 수가 많아 잔액 테이블(HashMap)이 커지는(resize) 중에도 잔액이 유실되지 않는지 검증
+ * 작업에서 던진 예외와 제한 시간 안에 끝나지 않은 작업은 테스트 실패로 처리
+ */
+@SpringBootTest(properties = "point.lock.timeout-millis=60000")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class PointServiceConcurrencyTest {
+
+    @TestConfiguration
+    static class TestBeans {
+        @Bean UserPointTable userPointTable() { return new UserPointTable(); }
+        @Bean PointHistoryTable pointHistoryTable() { return new PointHistoryTable(); }
+    }
+
+    @Autowired PointService pointService;
+
+    @Test
+    @DisplayName("한 유저에게 동시 충전 시 모든 충전이 반영")
+    void concurrentCharge_sameUser_noLostUpdate() throws InterruptedException {
+        long userId = 1L;
+        int requests = 10;
+
+        runConcurrently(requests, i -> pointService.userPointCharge(userId, 10_000L));
+
+        UserPoint up = pointService.findUserPointByUserId(userId);
+        List<PointHistory> histories = pointService.findAllPointHistoryByUserId(userId);
+        Assertions.assertEquals(100_000L, up.point());
+        Assertions.assertEquals(requests, histories.size());
+    }
+
+    @Test
+    @DisplayName("한 유저에게 충전/사용 동시 요청 시 최종 잔액 일치")
+    void concurrentChargeAndUse_sameUser_consistentBalance() throws InterruptedException {
+        long userId = 2L;
+        pointService.userPointCharge(userId, 100_000L);
+
+        runConcurrently(10, i -> {
+            if (i % 2 == 0) {
+                pointService.userPointCharge(userId, 10_000L);
+            } else {
+                pointService.userPointUse(userId, 5_000L);
+            }
+        });
+
+        UserPoint up = pointService.findUserPointByUserId(userId);
+        List<PointHistory> histories = pointService.findAllPointHistoryByUserId(userId);
+        Assertions.assertEquals(125_000L, up.point());
+        Assertions.assertEquals(5, histories.stream().filter(h -> h.type() == TransactionType.USE).count());
+    }
+
+    @Test
+    @DisplayName("여러 유저에게 동시 충전 시 유저별 잔액 정확")
+    void concurrentCharge_manyUsers_noLostUpdate() throws InterruptedException {
+        int users = 5;
+        int perUser = 4;
+
+        runConcurrently(users * perUser, i -> pointService.userPointCharge(10L + (i % users), 10_000L));
+
+        for (long userId = 10L; userId < 10L + users; userId++) {
+            Assertions.assertEquals(perUser * 10_000L, pointService.findUserPointByUserId(userId).point());
+        }
+    }
+
+    @Test
+    @DisplayName("많은 유저에게 동시 충전 시 테이블이 커지는 중에도 모든 유저의 잔액이 정확")
+    void concurrentCharge_manyDistinctUsers_tableResizeSafe() throws InterruptedException {
+        int users = 64;
+
+        runConcurrently(users, i -> pointService.userPointCharge(100L + i, 10_000L + i));
+
+        for (int i = 0; i < users; i++) {
+            Assertions.assertEquals(10_000L + i, pointService.findUserPointByUserId(100L + i).point());
+        }
+    }
+
+    private void runConcurrently(int count, IntTask task) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(count);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(count);
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        for (int i = 0; i < count; i++) {
+            int seq = i;
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    task.run(seq);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    failures.add(e);
+                } catch (Throwable e) {
+                    failures.add(e);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        boolean completed = done.await(120, TimeUnit.SECONDS);
+        executor.shutdownNow();
+        Assertions.assertTrue(completed, "제한 시간 안에 끝나지 않은 작업 " + done.getCount() + " 건");
+        Assertions.assertTrue(failures.isEmpty(), "작업 실패 : " + failures);
+    }
+
+    @FunctionalInterface
+    interface IntTask {
+        void run(int seq);
+    }
+}
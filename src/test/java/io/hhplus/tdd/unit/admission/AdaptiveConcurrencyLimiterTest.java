@@ -0,0 +1,98 @@
+package io.hhplus.tdd.unit.admission;
+
+import io.hhplus.tdd.admission.AdaptiveConcurrencyLimiter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AdaptiveConcurrencyLimiter 단위 테스트
+ * - 한도까지만 받고 나머지는 즉시 거절
+ * - 느린 처리는 한도를 줄이고(한 threshold 구간에 한 번), 한도를 충분히 쓰는 빠른 처리는 한도를 늘림
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(500);
+
+    @Test
+    @DisplayName("처리 중 수가 한도에 닿으면 거절하고, 끝난 만큼 다시 받음")
+    void tryAcquire_upToLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 1, 100, 100, 0.5);
+
+        for (int i = 0; i < 4; i++) {
+            Assertions.assertTrue(limiter.tryAcquire());
+        }
+        Assertions.assertFalse(limiter.tryAcquire());
+        Assertions.assertEquals(4, limiter.inFlight());
+
+        limiter.release(FAST);
+        Assertions.assertTrue(limiter.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("처리 시간이 threshold 를 넘으면 한도를 줄이되, 같은 구간의 느린 응답으로는 한 번만 줄임")
+    void slowSamples_decreaseOncePerWindow() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(40, 2, 100, 100, 0.5);
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire();
+        }
+
+        for (int i = 0; i < 10; i++) {
+            limiter.release(SLOW);
+        }
+
+        Assertions.assertEquals(20, limiter.limit());
+        Assertions.assertEquals(0, limiter.inFlight());
+    }
+
+    @Test
+    @DisplayName("한도를 절반 이상 쓰는 중의 빠른 처리는 한도를 늘리고, 한가할 때는 그대로")
+    void fastSamples_increaseOnlyWhenBusy() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 100, 100, 0.5);
+
+        limiter.tryAcquire();
+        limiter.release(FAST);
+        Assertions.assertEquals(10, limiter.limit());
+
+        // 10 개를 받아 두고 끝날 때마다 다시 받아 계속 한도를 채움 -> 한도만큼 끝나면 약 +1
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire();
+        }
+        for (int i = 0; i < 25; i++) {
+            limiter.release(FAST);
+            limiter.tryAcquire();
+        }
+        Assertions.assertTrue(limiter.limit() >= 12, "limit=" + limiter.limit());
+    }
+
+    @Test
+    @DisplayName("한도는 min ~ max 사이에서만 움직임")
+    void limit_staysWithinBounds() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 3, 5, 0, 0.1);
+
+        limiter.tryAcquire();
+        limiter.release(SLOW);
+        Assertions.assertEquals(3, limiter.limit());
+
+        AdaptiveConcurrencyLimiter capped = new AdaptiveConcurrencyLimiter(5, 1, 5, 100, 0.5);
+        for (int i = 0; i < 100; i++) {
+            capped.tryAcquire();
+            capped.tryAcquire();
+            capped.tryAcquire();
+            capped.release(FAST);
+            capped.release(FAST);
+            capped.release(FAST);
+        }
+        Assertions.assertEquals(5, capped.limit());
+    }
+
+    @Test
+    @DisplayName("min > max 나 범위를 벗어난 backoff-ratio 는 IllegalArgumentException")
+    void invalidConfig() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimiter(10, 5, 4, 100, 0.5));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimiter(10, 1, 100, 100, 1.0));
+    }
+}
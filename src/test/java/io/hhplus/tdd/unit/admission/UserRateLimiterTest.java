@@ -0,0 +1,118 @@
+package io.hhplus.tdd.unit.admission;
+
+import io.hhplus.tdd.admission.UserRateLimiter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * UserRateLimiter 단위 테스트
+ * - burst 만큼 바로 받고 이후는 rate 에 맞춰 채워진 만큼만
+ * - 유저끼리는 서로 영향 없음, 동시 요청에도 burst 를 넘겨 주지 않음
+ */
+class UserRateLimiterTest {
+
+    @Test
+    @DisplayName("burst 만큼 받은 뒤에는 거절하고, 다른 유저는 영향 없음")
+    void burst_thenRejected() {
+        UserRateLimiter limiter = new UserRateLimiter(1, 3, 100);
+
+        Assertions.assertTrue(limiter.tryAcquire(1L));
+        Assertions.assertTrue(limiter.tryAcquire(1L));
+        Assertions.assertTrue(limiter.tryAcquire(1L));
+        Assertions.assertFalse(limiter.tryAcquire(1L));
+        Assertions.assertTrue(limiter.tryAcquire(2L));
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 rate 만큼 토큰이 다시 채워짐")
+    void refill_afterInterval() throws InterruptedException {
+        UserRateLimiter limiter = new UserRateLimiter(50, 1, 100);
+        Assertions.assertTrue(limiter.tryAcquire(1L));
+        Assertions.assertFalse(limiter.tryAcquire(1L));
+
+        TimeUnit.MILLISECONDS.sleep(40);
+
+        Assertions.assertTrue(limiter.tryAcquire(1L));
+        Assertions.assertFalse(limiter.tryAcquire(1L));
+    }
+
+    @Test
+    @DisplayName("같은 유저의 동시 요청도 burst 를 넘겨 받지 않음")
+    void concurrent_neverExceedsBurst() throws Exception {
+        UserRateLimiter limiter = new UserRateLimiter(0.001, 100, 100);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<Integer>> tasks = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                tasks.add(() -> {
+                    int acquired = 0;
+                    for (int i = 0; i < 1_000; i++) {
+                        if (limiter.tryAcquire(1L)) {
+                            acquired++;
+                        }
+                    }
+                    return acquired;
+                });
+            }
+            int total = 0;
+            for (Future<Integer> result : executor.invokeAll(tasks)) {
+                total += result.get();
+            }
+            Assertions.assertEquals(100, total);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("추적 유저 수가 한도를 넘으면 가장 먼저 추가된 가득 찬 버킷을 정리하고, 토큰을 쓰고 있는 유저는 유지")
+    void maxTrackedUsers_evictsOldestFullBucket() throws InterruptedException {
+        UserRateLimiter limiter = new UserRateLimiter(10, 1, 10);
+        limiter.tryAcquire(1L);
+        TimeUnit.MILLISECONDS.sleep(150);
+        for (long userId = 2; userId <= 10; userId++) {
+            limiter.tryAcquire(userId);
+        }
+
+        Assertions.assertTrue(limiter.tryAcquire(11L));
+
+        Assertions.assertEquals(10, limiter.trackedUsers());
+        Assertions.assertFalse(limiter.tryAcquire(2L));
+        Assertions.assertFalse(limiter.tryAcquire(10L));
+    }
+
+    @Test
+    @DisplayName("모든 버킷이 토큰을 쓰고 있어도 추적 유저 수는 한도를 넘지 않음")
+    void maxTrackedUsers_isHardBound() throws Exception {
+        UserRateLimiter limiter = new UserRateLimiter(0.001, 1, 100);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<Void>> tasks = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                long base = t * 10_000L;
+                tasks.add(() -> {
+                    for (long userId = 1; userId <= 5_000; userId++) {
+                        limiter.tryAcquire(base + userId);
+                    }
+                    return null;
+                });
+            }
+            for (Future<Void> result : executor.invokeAll(tasks)) {
+                result.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assertions.assertTrue(limiter.trackedUsers() <= 100, "trackedUsers=" + limiter.trackedUsers());
+    }
+}
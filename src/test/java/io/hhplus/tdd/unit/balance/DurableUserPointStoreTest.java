@@ -0,0 +1,277 @@
+package io.hhplus.tdd.unit.balance;
+
+import io.hhplus.tdd.balance.durable.DurableUserPointStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * DurableUserPointStore 단위 테스트
+ * - 재기동 시 WAL 만으로 / 스냅샷 + WAL 꼬리로 잔액을 복구하는지
+ * - 스냅샷 이후 이전 WAL 이 정리되는지, 기록 도중 끊긴 WAL 레코드를 잘라내는지
+ * - 스냅샷 중 동시 쓰기가 있어도 복구 결과가 마지막 쓰기와 같은지
+ * - fsync 가 실패하면 잔액을 되돌리고 이후 쓰기를 거절하는지
+ */
+class DurableUserPointStoreTest {
+
+    private Path directory;
+    private DurableUserPointStore store;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("point-balance");
+        store = open();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        store.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    @DisplayName("재기동 시 WAL 을 재적용해 잔액 복구")
+    void reopen_replaysWal() {
+        store.insertOrUpdate(1L, 10_000L);
+        store.insertOrUpdate(2L, 20_000L);
+        store.insertOrUpdate(1L, 15_000L);
+        store.close();
+
+        store = open();
+
+        Assertions.assertEquals(15_000L, store.selectById(1L).point());
+        Assertions.assertEquals(20_000L, store.selectById(2L).point());
+        Assertions.assertEquals(0L, store.selectById(3L).point());
+    }
+
+    @Test
+    @DisplayName("스냅샷 이후의 쓰기는 스냅샷 + WAL 꼬리로 복구하고 이전 WAL 은 삭제")
+    void reopen_snapshotPlusWalTail() throws IOException {
+        for (long userId = 1; userId <= 100; userId++) {
+            store.insertOrUpdate(userId, userId * 1_000L);
+        }
+        store.snapshot();
+        store.insertOrUpdate(1L, 99_000L);
+        store.insertOrUpdate(101L, 1_000L);
+        store.close();
+
+        Assertions.assertEquals(1, countFiles("wal-"));
+        Assertions.assertEquals(1, countFiles("snapshot-"));
+
+        store = open();
+
+        Assertions.assertEquals(101, store.size());
+        Assertions.assertEquals(99_000L, store.selectById(1L).point());
+        Assertions.assertEquals(50_000L, store.selectById(50L).point());
+        Assertions.assertEquals(1_000L, store.selectById(101L).point());
+    }
+
+    @Test
+    @DisplayName("끊긴 WAL 레코드는 버리고 이어서 기록")
+    void reopen_tornWalTail_truncated() throws IOException {
+        store.insertOrUpdate(1L, 10_000L);
+        store.close();
+        try (FileChannel channel = FileChannel.open(lastFile("wal-"), StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5}));
+        }
+
+        store = open();
+        store.insertOrUpdate(1L, 20_000L);
+        store.close();
+        store = open();
+
+        Assertions.assertEquals(20_000L, store.selectById(1L).point());
+    }
+
+    @Test
+    @DisplayName("스냅샷 중 동시 쓰기가 있어도 복구 결과는 마지막 쓰기와 같음")
+    void snapshot_concurrentWrites_recoverLatest() throws InterruptedException {
+        int users = 8;
+        int writesPerUser = 2_000;
+        ExecutorService executor = Executors.newFixedThreadPool(users);
+        CountDownLatch done = new CountDownLatch(users);
+        for (long userId = 1; userId <= users; userId++) {
+            long id = userId;
+            executor.submit(() -> {
+                for (int i = 1; i <= writesPerUser; i++) {
+                    store.insertOrUpdate(id, i);
+                    if (i % 500 == 0 && id == 1L) {
+                        store.snapshot();
+                    }
+                }
+                done.countDown();
+            });
+        }
+        done.await(60, TimeUnit.SECONDS);
+        executor.shutdown();
+        store.close();
+
+        store = open();
+
+        for (long userId = 1; userId <= users; userId++) {
+            Assertions.assertEquals(writesPerUser, store.selectById(userId).point());
+        }
+    }
+
+    @Test
+    @DisplayName("fsync 가 실패하면 잔액을 되돌리고 이후 쓰기를 거절")
+    void fsyncFailure_restoresBalanceAndRejectsWrites() {
+        store.close();
+        AtomicBoolean failing = new AtomicBoolean();
+        store = new DurableUserPointStore(directory.toString(), 3_600L,
+                file -> new FailingForceChannel(FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE), failing));
+        store.insertOrUpdate(1L, 10_000L);
+
+        failing.set(true);
+        Assertions.assertThrows(UncheckedIOException.class, () -> store.insertOrUpdate(1L, 20_000L));
+
+        Assertions.assertEquals(10_000L, store.selectById(1L).point());
+
+        // 디스크가 돌아와도 어디까지 반영됐는지 모르는 WAL 에는 더 기록하지 않음
+        failing.set(false);
+        Assertions.assertThrows(IllegalStateException.class, () -> store.insertOrUpdate(3L, 1_000L));
+        Assertions.assertEquals(0L, store.selectById(3L).point());
+    }
+
+    private DurableUserPointStore open() {
+        return new DurableUserPointStore(directory.toString(), 3_600L);
+    }
+
+    private long countFiles(String prefix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().startsWith(prefix)).count();
+        }
+    }
+
+    private Path lastFile(String prefix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> matched = files.filter(file -> file.getFileName().toString().startsWith(prefix)).sorted().toList();
+            return matched.get(matched.size() - 1);
+        }
+    }
+
+    // force(fsync) 만 실패시키고 나머지는 실제 파일 채널에 위임
+    private static final class FailingForceChannel extends FileChannel {
+        private final FileChannel delegate;
+        private final AtomicBoolean failing;
+
+        private FailingForceChannel(FileChannel delegate, AtomicBoolean failing) {
+            this.delegate = delegate;
+            this.failing = failing;
+        }
+
+        @Override
+        public void force(boolean metaData) throws IOException {
+            if (failing.get()) {
+                throw new IOException("fsync 실패");
+            }
+            delegate.force(metaData);
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            return delegate.read(dst);
+        }
+
+        @Override
+        public long read(ByteBuffer[] dsts, int offset, int length) throws IOException {
+            return delegate.read(dsts, offset, length);
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            return delegate.write(src);
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs, int offset, int length) throws IOException {
+            return delegate.write(srcs, offset, length);
+        }
+
+        @Override
+        public long position() throws IOException {
+            return delegate.position();
+        }
+
+        @Override
+        public FileChannel position(long newPosition) throws IOException {
+            delegate.position(newPosition);
+            return this;
+        }
+
+        @Override
+        public long size() throws IOException {
+            return delegate.size();
+        }
+
+        @Override
+        public FileChannel truncate(long size) throws IOException {
+            delegate.truncate(size);
+            return this;
+        }
+
+        @Override
+        public long transferTo(long position, long count, WritableByteChannel target) throws IOException {
+            return delegate.transferTo(position, count, target);
+        }
+
+        @Override
+        public long transferFrom(ReadableByteChannel src, long position, long count) throws IOException {
+            return delegate.transferFrom(src, position, count);
+        }
+
+        @Override
+        public int read(ByteBuffer dst, long position) throws IOException {
+            return delegate.read(dst, position);
+        }
+
+        @Override
+        public int write(ByteBuffer src, long position) throws IOException {
+            return delegate.write(src, position);
+        }
+
+        @Override
+        public MappedByteBuffer map(MapMode mode, long position, long size) throws IOException {
+            return delegate.map(mode, position, size);
+        }
+
+        @Override
+        public FileLock lock(long position, long size, boolean shared) throws IOException {
+            return delegate.lock(position, size, shared);
+        }
+
+        @Override
+        public FileLock tryLock(long position, long size, boolean shared) throws IOException {
+            return delegate.tryLock(position, size, shared);
+        }
+
+        @Override
+        protected void implCloseChannel() throws IOException {
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package io.hhplus.tdd.unit.balance;
+
+import io.hhplus.tdd.balance.offheap.OffHeapUserPointStore;
+import io.hhplus.tdd.point.UserPoint;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OffHeapUserPointStore 단위 테스트
+ * - UserPointTable 과 같은 계약 (없는 유저는 0 포인트, insertOrUpdate 는 덮어쓰기)
+ * - 리사이즈를 여러 번 거쳐도 HashMap 과 같은 결과
+ * - 서로 다른 유저의 동시 쓰기와 읽기
+ */
+class OffHeapUserPointStoreTest {
+
+    @Test
+    @DisplayName("없는 유저는 0 포인트로 조회")
+    void selectById_unknownUser_returnsEmpty() {
+        OffHeapUserPointStore store = new OffHeapUserPointStore(16);
+
+        UserPoint userPoint = store.selectById(1L);
+
+        Assertions.assertEquals(1L, userPoint.id());
+        Assertions.assertEquals(0L, userPoint.point());
+        Assertions.assertEquals(0L, store.size());
+    }
+
+    @Test
+    @DisplayName("insertOrUpdate 는 잔액을 덮어쓰고 저장한 값을 반환")
+    void insertOrUpdate_overwrites() {
+        OffHeapUserPointStore store = new OffHeapUserPointStore(16);
+
+        store.insertOrUpdate(1L, 10_000L);
+        UserPoint updated = store.insertOrUpdate(1L, 25_000L);
+        UserPoint selected = store.selectById(1L);
+
+        Assertions.assertEquals(25_000L, updated.point());
+        Assertions.assertEquals(updated, selected);
+        Assertions.assertEquals(1L, store.size());
+    }
+
+    @Test
+    @DisplayName("리사이즈를 여러 번 거쳐도 HashMap 과 같은 잔액")
+    void insertOrUpdate_manyUsers_matchesHashMap() {
+        OffHeapUserPointStore store = new OffHeapUserPointStore(16);
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 200_000; i++) {
+            long userId = random.nextInt(100_000) + 1;
+            long point = random.nextInt(2_000_000);
+            store.insertOrUpdate(userId, point);
+            expected.put(userId, point);
+        }
+
+        Assertions.assertEquals(expected.size(), store.size());
+        expected.forEach((userId, point) -> Assertions.assertEquals(point.longValue(), store.selectById(userId).point()));
+        Assertions.assertEquals(0L, store.selectById(100_001L).point());
+    }
+
+    @Test
+    @DisplayName("서로 다른 유저가 동시에 쓰고 읽어도 각자 쓴 값을 조회하고, 종료 후 모두 반영")
+    void insertOrUpdate_concurrentUsers() throws InterruptedException {
+        OffHeapUserPointStore store = new OffHeapUserPointStore(16);
+        int threads = 8;
+        int usersPerThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+
+        for (int t = 0; t < threads; t++) {
+            long base = (long) t * usersPerThread;
+            executor.submit(() -> {
+                for (long userId = base + 1; userId <= base + usersPerThread; userId++) {
+                    store.insertOrUpdate(userId, userId);
+                    Assertions.assertEquals(userId, store.selectById(userId).point());
+                }
+                done.countDown();
+            });
+        }
+        Assertions.assertTrue(done.await(60, TimeUnit.SECONDS));
+        executor.shutdown();
+
+        Assertions.assertEquals((long) threads * usersPerThread, store.size());
+        for (long userId = 1; userId <= (long) threads * usersPerThread; userId++) {
+            Assertions.assertEquals(userId, store.selectById(userId).point());
+        }
+    }
+}
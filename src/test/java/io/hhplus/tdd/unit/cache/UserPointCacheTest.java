@@ -0,0 +1,288 @@
+package io.hhplus.tdd.unit.cache;
+
+import io.hhplus.tdd.balance.TableUserPointStore;
+import io.hhplus.tdd.balance.UserPointStore;
+import io.hhplus.tdd.cache.UserPointCache;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.point.UserPoint;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * UserPointCache 단위 테스트
+ * - read-through 적재와 적중, write-through 갱신
+ * - 최대 크기 초과 시 LRU 제거와 통계
+ * - 테이블 조회 도중 쓰기가 일어나면 오래된 조회 결과가 캐시에 남지 않는지
+ * - 동시 캐시 미스가 테이블 조회 하나를 함께 기다리는지 (single-flight), 읽기/쓰기가 섞여도 커밋된 값보다 오래된 값을 돌려주지 않는지
+ */
+class UserPointCacheTest {
+
+    private final PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+    private UserPointTable userPointTable;
+    private UserPointCache userPointCache;
+
+    @BeforeEach
+    void setUp() {
+        userPointTable = new UserPointTable();
+        userPointCache = new UserPointCache(new TableUserPointStore(userPointTable), 2, pointMetrics, List.of());
+    }
+
+    @Test
+    @DisplayName("첫 조회는 테이블에서 적재, 이후 조회는 캐시 적중")
+    void get_loadsThenHits() {
+        userPointTable.insertOrUpdate(1L, 10_000L);
+
+        UserPoint first = userPointCache.get(1L);
+        UserPoint second = userPointCache.get(1L);
+
+        Assertions.assertEquals(10_000L, first.point());
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals(1L, userPointCache.stats().hits());
+        Assertions.assertEquals(1L, userPointCache.stats().misses());
+    }
+
+    @Test
+    @DisplayName("insertOrUpdate 결과가 캐시에 바로 반영")
+    void insertOrUpdate_updatesCache() {
+        userPointCache.get(1L);
+
+        UserPoint updated = userPointCache.insertOrUpdate(1L, 50_000L);
+
+        Assertions.assertSame(updated, userPointCache.get(1L));
+        Assertions.assertEquals(50_000L, userPointCache.get(1L).point());
+    }
+
+    @Test
+    @DisplayName("최대 크기 초과 시 가장 오래 사용되지 않은 항목 제거")
+    void maxSize_evictsLeastRecentlyUsed() {
+        userPointCache.insertOrUpdate(1L, 10_000L);
+        userPointCache.insertOrUpdate(2L, 20_000L);
+        userPointCache.get(1L);
+        userPointCache.insertOrUpdate(3L, 30_000L);
+
+        UserPointCache.CacheStats stats = userPointCache.stats();
+        Assertions.assertEquals(2, stats.size());
+        Assertions.assertEquals(1L, stats.evictions());
+
+        userPointCache.get(1L);
+        Assertions.assertEquals(2L, userPointCache.stats().hits());
+    }
+
+    /**
+     * 조회가 테이블에서 이전 값을 읽은 뒤 쓰기가 먼저 캐시에 반영되는 상황
+     * - 조회 결과가 늦게 도착해도 캐시에는 쓰기 결과가 남아야 함
+     */
+    @Test
+    @DisplayName("조회 도중 쓰기가 일어나면 오래된 조회 결과로 덮어쓰지 않음")
+    void staleLoad_doesNotOverwriteNewerWrite() throws InterruptedException {
+        CountDownLatch loaded = new CountDownLatch(1);
+        CountDownLatch written = new CountDownLatch(1);
+        UserPointTable slowTable = new UserPointTable() {
+            @Override
+            public UserPoint selectById(Long id) {
+                UserPoint stale = super.selectById(id);
+                loaded.countDown();
+                try {
+                    written.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return stale;
+            }
+        };
+        UserPointCache cache = new UserPointCache(new TableUserPointStore(slowTable), 10, pointMetrics, List.of());
+
+        Thread reader = new Thread(() -> cache.get(1L));
+        reader.start();
+        loaded.await();
+        cache.insertOrUpdate(1L, 10_000L);
+        written.countDown();
+        reader.join();
+
+        Assertions.assertEquals(10_000L, cache.get(1L).point());
+    }
+
+    // ======================================= single-flight =======================================
+
+    @Test
+    @DisplayName("같은 유저에 대한 동시 캐시 미스는 테이블 조회 한 번을 함께 기다림")
+    void concurrentMisses_shareOneLoad() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger selects = new AtomicInteger();
+        UserPointCache cache = new UserPointCache(new TableUserPointStore(blockingTable(selects, release)), 10, pointMetrics, List.of());
+        int readers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(readers);
+        try {
+            List<Future<UserPoint>> results = new ArrayList<>();
+            for (int i = 0; i < readers; i++) {
+                results.add(executor.submit(() -> cache.get(1L)));
+            }
+            awaitCoalesced(cache, readers - 1);
+            release.countDown();
+
+            for (Future<UserPoint> result : results) {
+                Assertions.assertEquals(0L, result.get(5, TimeUnit.SECONDS).point());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Assertions.assertEquals(1, selects.get());
+        Assertions.assertEquals(1L, cache.stats().misses());
+        Assertions.assertEquals(readers - 1, cache.stats().coalesced());
+    }
+
+    @Test
+    @DisplayName("진행 중인 조회를 기다리던 요청도 그 사이 커밋된 쓰기 결과를 받음")
+    void writeDuringLoad_waitersSeeCommittedWrite() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        UserPointCache cache = new UserPointCache(new TableUserPointStore(blockingTable(new AtomicInteger(), release)), 10, pointMetrics, List.of());
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            List<Future<UserPoint>> results = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                results.add(executor.submit(() -> cache.get(1L)));
+            }
+            awaitCoalesced(cache, 2);
+
+            cache.insertOrUpdate(1L, 10_000L);
+            release.countDown();
+
+            for (Future<UserPoint> result : results) {
+                Assertions.assertEquals(10_000L, result.get(5, TimeUnit.SECONDS).point());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("테이블 조회가 실패하면 기다리던 요청 모두 예외를 받고, 다음 조회는 다시 읽음")
+    void failedLoad_propagatesAndRetries() {
+        AtomicInteger selects = new AtomicInteger();
+        UserPointTable failingOnce = new UserPointTable() {
+            @Override
+            public UserPoint selectById(Long id) {
+                if (selects.incrementAndGet() == 1) {
+                    throw new IllegalStateException("table down");
+                }
+                return super.selectById(id);
+            }
+        };
+        UserPointCache cache = new UserPointCache(new TableUserPointStore(failingOnce), 10, pointMetrics, List.of());
+
+        Assertions.assertThrows(IllegalStateException.class, () -> cache.get(1L));
+        Assertions.assertEquals(0L, cache.get(1L).point());
+        Assertions.assertEquals(2, selects.get());
+    }
+
+    /**
+     * 유저별 쓰기 스레드가 잔액을 1 씩 올리며 커밋된 값을 기록하고, 읽기 스레드는 읽기 시작 전에 본 커밋 값 이상을 받아야 함
+     * - 캐시 크기 1 에 유저 2 명을 번갈아 써서 계속 캐시 미스 -> 진행 중인 조회 합류 / 무효화가 반복됨
+     */
+    @Test
+    @DisplayName("읽기/쓰기가 섞인 부하에서도 커밋된 쓰기보다 오래된 잔액을 돌려주지 않음")
+    void mixedLoad_neverReturnsStaleBalance() throws Exception {
+        // UserPointTable 의 throttle 없이 조회 구간만 살짝 넓힌 저장소
+        ConcurrentHashMap<Long, UserPoint> table = new ConcurrentHashMap<>();
+        UserPointStore yieldingStore = new UserPointStore() {
+            @Override
+            public UserPoint selectById(long id) {
+                UserPoint userPoint = table.getOrDefault(id, UserPoint.empty(id));
+                Thread.yield();
+                return userPoint;
+            }
+
+            @Override
+            public UserPoint insertOrUpdate(long id, long amount) {
+                UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+                table.put(id, userPoint);
+                return userPoint;
+            }
+        };
+        UserPointCache cache = new UserPointCache(yieldingStore, 1, pointMetrics, List.of());
+        int users = 2;
+        int writes = 20_000;
+        AtomicLongArray committed = new AtomicLongArray(users + 1);
+        AtomicLong stale = new AtomicLong();
+        AtomicLong reads = new AtomicLong();
+        CountDownLatch writersDone = new CountDownLatch(users);
+        ExecutorService executor = Executors.newFixedThreadPool(users + 6);
+        try {
+            for (int u = 1; u <= users; u++) {
+                long userId = u;
+                executor.submit(() -> {
+                    for (long point = 1; point <= writes; point++) {
+                        cache.insertOrUpdate(userId, point);
+                        committed.set((int) userId, point);
+                    }
+                    writersDone.countDown();
+                });
+            }
+            List<Future<?>> readers = new ArrayList<>();
+            for (int r = 0; r < 6; r++) {
+                long userId = r % users + 1;
+                readers.add(executor.submit(() -> {
+                    while (writersDone.getCount() > 0) {
+                        long floor = committed.get((int) userId);
+                        if (cache.get(userId).point() < floor) {
+                            stale.incrementAndGet();
+                        }
+                        reads.incrementAndGet();
+                    }
+                }));
+            }
+            Assertions.assertTrue(writersDone.await(30, TimeUnit.SECONDS));
+            for (Future<?> reader : readers) {
+                reader.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assertions.assertEquals(0L, stale.get(), "reads=" + reads.get());
+        for (long userId = 1; userId <= users; userId++) {
+            Assertions.assertEquals(writes, cache.get(userId).point());
+        }
+    }
+
+    // release 가 풀릴 때까지 selectById 를 붙잡아 두는 테이블
+    private static UserPointTable blockingTable(AtomicInteger selects, CountDownLatch release) {
+        return new UserPointTable() {
+            @Override
+            public UserPoint selectById(Long id) {
+                selects.incrementAndGet();
+                UserPoint userPoint = super.selectById(id);
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return userPoint;
+            }
+        };
+    }
+
+    private static void awaitCoalesced(UserPointCache cache, long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (cache.stats().coalesced() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        Assertions.assertEquals(expected, cache.stats().coalesced());
+    }
+}
@@ -0,0 +1,107 @@
+package io.hhplus.tdd.unit.expiry;
+
+import io.hhplus.tdd.expiry.CreditLots;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CreditLots 단위 테스트
+ * - 사용은 오래된 lot 부터 차감 (FIFO), 만료는 만료 tick 이 지난 lot 만
+ * - 만료 대기 중인 lot 을 먼저 사용한 경우, 다 쓴 lot 의 handle 재사용
+ */
+class CreditLotsTest {
+
+    // ==================== consume ====================
+
+    @Test
+    @DisplayName("사용하면 오래된 lot 부터 차감하고, 남은 lot 은 그대로 만료")
+    void consume_fifo() {
+        CreditLots lots = new CreditLots(0);
+        lots.add(1L, 10_000L, 10);
+        lots.add(1L, 20_000L, 20);
+        lots.add(1L, 30_000L, 30);
+
+        Assertions.assertEquals(15_000L, lots.consume(1L, 15_000L));
+        Assertions.assertEquals(45_000L, lots.remaining(1L));
+        Assertions.assertEquals(2, lots.size());
+
+        List<Long> dueUsers = new ArrayList<>();
+        lots.advance(20, dueUsers::add);
+
+        Assertions.assertEquals(List.of(1L), dueUsers);
+        Assertions.assertEquals(15_000L, lots.takeExpired(1L));
+        Assertions.assertEquals(30_000L, lots.remaining(1L));
+        Assertions.assertEquals(0L, lots.takeExpired(1L));
+    }
+
+    @Test
+    @DisplayName("lot 합계보다 많이 쓰면 lot 합계까지만 차감하고 유저가 비워짐")
+    void consume_moreThanLots() {
+        CreditLots lots = new CreditLots(0);
+        lots.add(1L, 10_000L, 10);
+
+        Assertions.assertEquals(10_000L, lots.consume(1L, 50_000L));
+        Assertions.assertEquals(0L, lots.consume(2L, 1_000L));
+        Assertions.assertEquals(0, lots.size());
+        Assertions.assertEquals(0, lots.users());
+
+        List<Long> dueUsers = new ArrayList<>();
+        lots.advance(100, dueUsers::add);
+        Assertions.assertTrue(dueUsers.isEmpty());
+    }
+
+    @Test
+    @DisplayName("만료 tick 이 지났지만 아직 takeExpired 되지 않은 lot 은 사용이 먼저 차감")
+    void consume_dueLotBeforeTake() {
+        CreditLots lots = new CreditLots(0);
+        lots.add(1L, 10_000L, 10);
+        lots.add(1L, 10_000L, 50);
+        lots.advance(10, userId -> { });
+
+        Assertions.assertEquals(4_000L, lots.consume(1L, 4_000L));
+
+        Assertions.assertEquals(6_000L, lots.takeExpired(1L));
+        Assertions.assertEquals(10_000L, lots.remaining(1L));
+    }
+
+    // ==================== add ====================
+
+    @Test
+    @DisplayName("마지막 lot 보다 이른 만료 tick 은 마지막 lot 의 만료 tick 으로 맞춤")
+    void add_keepsExpiryOrder() {
+        CreditLots lots = new CreditLots(0);
+        lots.add(1L, 10_000L, 30);
+        lots.add(1L, 20_000L, 10);
+
+        lots.advance(29, userId -> { });
+        Assertions.assertEquals(0L, lots.takeExpired(1L));
+
+        lots.advance(30, userId -> { });
+        Assertions.assertEquals(30_000L, lots.takeExpired(1L));
+    }
+
+    @Test
+    @DisplayName("다 쓰거나 만료된 lot 의 handle 은 다시 사용")
+    void add_reusesReleasedHandles() {
+        CreditLots lots = new CreditLots(0);
+        long tick = 0;
+        for (int round = 0; round < 10; round++) {
+            for (long userId = 1; userId <= 1_000; userId++) {
+                lots.add(userId, 10_000L, tick + 5);
+            }
+            tick += 5;
+            List<Long> dueUsers = new ArrayList<>();
+            lots.advance(tick, dueUsers::add);
+            for (long userId : dueUsers) {
+                lots.takeExpired(userId);
+            }
+        }
+
+        Assertions.assertEquals(0, lots.size());
+        Assertions.assertEquals(1_000, lots.allocated());
+    }
+}
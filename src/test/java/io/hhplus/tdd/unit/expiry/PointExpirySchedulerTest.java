@@ -0,0 +1,171 @@
+package io.hhplus.tdd.unit.expiry;
+
+import io.hhplus.tdd.balance.TableUserPointStore;
+import io.hhplus.tdd.cache.UserPointCache;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.expiry.CreditLotTracker;
+import io.hhplus.tdd.expiry.PointExpiryScheduler;
+import io.hhplus.tdd.history.PointHistoryIndex;
+import io.hhplus.tdd.history.PointHistoryWriter;
+import io.hhplus.tdd.history.TablePointHistoryStore;
+import io.hhplus.tdd.lock.UserLockManager;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPointException;
+import io.hhplus.tdd.service.PointService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * PointExpiryScheduler 단위 테스트
+ * - PointService 로 충전/사용한 뒤 시각을 옮겨 만료를 실행 (스케줄러의 주기 실행은 쓰지 않음)
+ * - 만료 금액이 잔액과 EXPIRE 히스토리에 반영되고, 만료 후 사용 검증이 줄어든 잔액 기준인지
+ */
+class PointExpirySchedulerTest {
+
+    private static final long TTL_DAYS = 30;
+    private static final long TTL_MILLIS = TTL_DAYS * 24 * 60 * 60 * 1000;
+    // 테스트 중에는 주기 실행이 끼어들지 않도록 충분히 긴 tick 을 스케줄러에만 줌
+    private static final long SCHEDULER_TICK_MILLIS = 3_600_000L;
+
+    private final PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+    private TablePointHistoryStore pointHistoryStore;
+    private PointHistoryWriter pointHistoryWriter;
+    private UserPointCache userPointCache;
+    private UserLockManager userLockManager;
+    private CreditLotTracker creditLotTracker;
+    private PointService pointService;
+    private PointExpiryScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        pointHistoryStore = new TablePointHistoryStore(new PointHistoryTable(), new PointHistoryIndex());
+        userPointCache = new UserPointCache(new TableUserPointStore(new UserPointTable()), 1_000, pointMetrics, List.of());
+        userLockManager = new UserLockManager(5_000L);
+        creditLotTracker = new CreditLotTracker(TTL_DAYS, 1_000L, 4);
+        pointHistoryWriter = newWriter(creditLotTracker);
+        pointHistoryWriter.start();
+        pointService = new PointService(userPointCache, pointHistoryWriter, userLockManager, pointMetrics, Optional.empty());
+        scheduler = new PointExpiryScheduler(creditLotTracker, userPointCache, pointHistoryWriter, userLockManager, SCHEDULER_TICK_MILLIS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.close();
+        pointHistoryWriter.stop();
+    }
+
+    // ==================== expireDue ====================
+
+    @Test
+    @DisplayName("만료 시각이 지나면 사용하고 남은 충전 금액만큼 잔액이 줄고 EXPIRE 히스토리가 남음")
+    void expireDue_debitsRemainingLots() {
+        long chargedAt = System.currentTimeMillis();
+        pointService.userPointCharge(1L, 100_000L);
+        pointService.userPointCharge(1L, 50_000L);
+        pointService.userPointUse(1L, 120_000L);
+
+        Assertions.assertEquals(0, scheduler.expireDue(chargedAt + TTL_MILLIS - 60_000));
+        Assertions.assertEquals(1, scheduler.expireDue(System.currentTimeMillis() + TTL_MILLIS + 60_000));
+
+        Assertions.assertEquals(0L, pointService.findUserPointByUserId(1L).point());
+        pointHistoryWriter.flush();
+        List<PointHistory> histories = pointService.findAllPointHistoryByUserId(1L);
+        PointHistory expired = histories.get(histories.size() - 1);
+        Assertions.assertEquals(TransactionType.EXPIRE, expired.type());
+        Assertions.assertEquals(30_000L, expired.amount());
+        Assertions.assertEquals(0, creditLotTracker.pendingLots());
+    }
+
+    @Test
+    @DisplayName("만료 후에는 줄어든 잔액으로 사용을 검증하고, 만료 전 충전분만 만료")
+    void expireDue_thenUseValidatesReducedBalance() {
+        long now = System.currentTimeMillis();
+        pointService.userPointCharge(1L, 100_000L);
+        // 열흘 뒤에 충전한 것처럼 만료 시각이 더 늦은 lot
+        pointHistoryWriter.append(1L, 50_000L, TransactionType.CHARGE, now + 10 * 24 * 60 * 60 * 1000L);
+        userPointCache.insertOrUpdate(1L, 150_000L);
+
+        scheduler.expireDue(now + TTL_MILLIS + 60_000);
+
+        Assertions.assertEquals(50_000L, pointService.findUserPointByUserId(1L).point());
+        Assertions.assertEquals(50_000L, creditLotTracker.remaining(1L));
+        Assertions.assertThrows(UserPointException.class, () -> pointService.userPointUse(1L, 60_000L));
+        Assertions.assertEquals(0L, pointService.userPointUse(1L, 50_000L).point());
+    }
+
+    @Test
+    @DisplayName("lot 이 잔액보다 많으면 잔액까지만 만료해 음수가 되지 않음")
+    void expireDue_clampsToBalance() {
+        long now = System.currentTimeMillis();
+        pointService.userPointCharge(1L, 100_000L);
+        // 잔액 저장소만 따로 줄어든 상황 (저장소와 히스토리가 어긋남)
+        userPointCache.insertOrUpdate(1L, 40_000L);
+
+        scheduler.expireDue(now + TTL_MILLIS + 60_000);
+
+        Assertions.assertEquals(0L, pointService.findUserPointByUserId(1L).point());
+    }
+
+    @Test
+    @DisplayName("기동 시 저장소의 히스토리로 lot 을 다시 만들어 만료")
+    void replay_rebuildsLotsFromHistory() {
+        long now = System.currentTimeMillis();
+        pointService.userPointCharge(1L, 100_000L);
+        pointService.userPointCharge(2L, 30_000L);
+        pointService.userPointUse(1L, 10_000L);
+        pointHistoryWriter.flush();
+        scheduler.close();
+        pointHistoryWriter.stop();
+
+        // 같은 저장소로 다시 기동 (lot 은 비어 있는 새 tracker)
+        CreditLotTracker restarted = new CreditLotTracker(TTL_DAYS, 1_000L, 4);
+        pointHistoryWriter = newWriter(restarted);
+        pointHistoryWriter.start();
+        scheduler = new PointExpiryScheduler(restarted, userPointCache, pointHistoryWriter, userLockManager, SCHEDULER_TICK_MILLIS);
+
+        Assertions.assertEquals(90_000L, restarted.remaining(1L));
+        Assertions.assertEquals(30_000L, restarted.remaining(2L));
+        Assertions.assertEquals(2, scheduler.expireDue(now + TTL_MILLIS + 60_000));
+        Assertions.assertEquals(0L, userPointCache.get(1L).point());
+        Assertions.assertEquals(0L, userPointCache.get(2L).point());
+    }
+
+    @Test
+    @DisplayName("잔액까지만 만료한 EXPIRE 히스토리를 다시 반영해도 그때 비운 lot 이 다시 만료되지 않음")
+    void replay_clampedExpire_doesNotExpireAgain() {
+        long now = System.currentTimeMillis();
+        pointService.userPointCharge(1L, 100_000L);
+        userPointCache.insertOrUpdate(1L, 40_000L);
+        long expiredAt = now + TTL_MILLIS + 60_000;
+        scheduler.expireDue(expiredAt);
+        // 만료 뒤의 새 충전
+        pointHistoryWriter.append(1L, 50_000L, TransactionType.CHARGE, expiredAt + 1_000);
+        userPointCache.insertOrUpdate(1L, 50_000L);
+        pointHistoryWriter.flush();
+        scheduler.close();
+        pointHistoryWriter.stop();
+
+        CreditLotTracker restarted = new CreditLotTracker(TTL_DAYS, 1_000L, 4);
+        pointHistoryWriter = newWriter(restarted);
+        pointHistoryWriter.start();
+        scheduler = new PointExpiryScheduler(restarted, userPointCache, pointHistoryWriter, userLockManager, SCHEDULER_TICK_MILLIS);
+
+        Assertions.assertEquals(50_000L, restarted.remaining(1L));
+        Assertions.assertEquals(0, scheduler.expireDue(expiredAt + 60_000));
+        Assertions.assertEquals(50_000L, userPointCache.get(1L).point());
+    }
+
+    private PointHistoryWriter newWriter(CreditLotTracker tracker) {
+        return new PointHistoryWriter(pointHistoryStore, List.of(tracker), 100, 10, pointMetrics);
+    }
+}
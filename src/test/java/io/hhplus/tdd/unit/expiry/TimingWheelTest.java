@@ -0,0 +1,128 @@
+package io.hhplus.tdd.unit.expiry;
+
+import io.hhplus.tdd.expiry.TimingWheel;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * TimingWheel 단위 테스트
+ * - 여러 단에 걸친 만료 tick 이 cascade 를 거쳐 정확한 tick 에 만료되는지
+ * - 취소 / 재등록, 맨 윗 단 범위를 넘는 만료 tick, 만료 콜백 안에서의 등록
+ */
+class TimingWheelTest {
+
+    // ==================== advance ====================
+
+    @Test
+    @DisplayName("모든 단에 흩어진 항목이 각자의 만료 tick 에 정확히 한 번 만료")
+    void advance_expiresAtExactTick() {
+        long start = 1_000_003L;
+        TimingWheel wheel = new TimingWheel(start);
+        Random random = new Random(7);
+        Map<Integer, Long> deadlines = new HashMap<>();
+        for (int handle = 0; handle < 20_000; handle++) {
+            // 0 단(수 tick) ~ 2 단(수만 tick) 범위를 고르게 섞음
+            long delta = 1 + switch (handle % 3) {
+                case 0 -> random.nextInt(300);
+                case 1 -> random.nextInt(70_000);
+                default -> random.nextInt(300_000);
+            };
+            wheel.schedule(handle, start + delta);
+            deadlines.put(handle, start + delta);
+        }
+
+        Map<Integer, Long> expiredAt = new HashMap<>();
+        for (long tick = start + 1; tick <= start + 300_001; tick += 997) {
+            long to = tick;
+            wheel.advance(to, handle -> {
+                Assertions.assertNull(expiredAt.put(handle, wheel.now()), "handle " + handle + " 이 두 번 만료");
+                Assertions.assertTrue(to >= deadlines.get(handle));
+            });
+        }
+        wheel.advance(start + 300_001, handle -> expiredAt.put(handle, wheel.now()));
+
+        Assertions.assertEquals(deadlines, expiredAt);
+        Assertions.assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("지난 만료 tick 으로 등록하면 다음 tick 에 만료")
+    void schedule_pastDeadline_expiresNextTick() {
+        TimingWheel wheel = new TimingWheel(100);
+        wheel.schedule(1, 10);
+
+        List<Integer> expired = new ArrayList<>();
+        Assertions.assertEquals(0, wheel.advance(100, expired::add));
+        Assertions.assertEquals(1, wheel.advance(101, expired::add));
+        Assertions.assertEquals(List.of(1), expired);
+    }
+
+    @Test
+    @DisplayName("맨 윗 단 범위(2^32 tick)를 넘는 만료 tick 도 정확히 만료")
+    void schedule_beyondTopLevel() {
+        TimingWheel wheel = new TimingWheel(5);
+        long deadline = (1L << 32) + 16;
+        wheel.schedule(0, deadline);
+
+        List<Long> expiredAt = new ArrayList<>();
+        // 등록된 항목이 있으면 한 tick 씩 돌므로 cascade 가 일어나는 경계 부근만 확인
+        wheel.advance((1L << 32) - 2, handle -> expiredAt.add(wheel.now()));
+        Assertions.assertTrue(expiredAt.isEmpty());
+        wheel.advance(deadline + 10, handle -> expiredAt.add(wheel.now()));
+
+        Assertions.assertEquals(List.of(deadline), expiredAt);
+    }
+
+    // ==================== cancel / schedule ====================
+
+    @Test
+    @DisplayName("취소한 항목은 만료되지 않고, 다시 등록하면 새 만료 tick 으로 옮겨짐")
+    void cancel_andReschedule() {
+        TimingWheel wheel = new TimingWheel(0);
+        wheel.schedule(0, 300);
+        wheel.schedule(1, 300);
+        wheel.schedule(2, 70_000);
+
+        Assertions.assertTrue(wheel.cancel(0));
+        Assertions.assertFalse(wheel.cancel(0));
+        wheel.schedule(2, 50);
+        Assertions.assertEquals(2, wheel.size());
+
+        Map<Integer, Long> expiredAt = new HashMap<>();
+        wheel.advance(100_000, handle -> expiredAt.put(handle, wheel.now()));
+
+        Assertions.assertEquals(Map.of(1, 300L, 2, 50L), expiredAt);
+        Assertions.assertFalse(wheel.isScheduled(1));
+        Assertions.assertEquals(300L, wheel.deadline(1));
+    }
+
+    @Test
+    @DisplayName("만료 콜백 안에서 같은 칸의 다른 항목을 취소하거나 새로 등록해도 됨")
+    void advance_callbackMayModifyWheel() {
+        TimingWheel wheel = new TimingWheel(0);
+        wheel.schedule(0, 10);
+        wheel.schedule(1, 10);
+        wheel.schedule(2, 10);
+
+        List<Integer> expired = new ArrayList<>();
+        wheel.advance(30, handle -> {
+            expired.add(handle);
+            if (expired.size() == 1) {
+                // 첫 항목을 처리하면서 나머지 중 하나를 취소하고 자신은 20 tick 에 다시 등록
+                wheel.cancel(handle == 1 ? 2 : 1);
+                wheel.schedule(handle, 20);
+            }
+        });
+
+        Assertions.assertEquals(3, expired.size());
+        Assertions.assertEquals(expired.get(0), expired.get(2));
+        Assertions.assertEquals(0, wheel.size());
+    }
+}
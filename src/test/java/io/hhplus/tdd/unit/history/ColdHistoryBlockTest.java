@@ -0,0 +1,86 @@
+package io.hhplus.tdd.unit.history;
+
+import io.hhplus.tdd.history.cold.ColdHistoryBlock;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * ColdHistoryBlock 단위 테스트
+ * - 압축 후 풀었을 때 원래 히스토리와 같은지 (큰 값, 음수 차이, 모든 거래 종류)
+ * - 중간에 멈추는 scan, 잘못된 입력 거절
+ */
+class ColdHistoryBlockTest {
+
+    @Test
+    @DisplayName("압축한 블록을 풀면 원래 히스토리와 같고 구간 정보가 채워짐")
+    void encode_decode_roundTrip() {
+        List<PointHistory> histories = new ArrayList<>();
+        long millis = 1_700_000_000_000L;
+        for (long i = 0; i < 1_000; i++) {
+            // 시계가 가끔 뒤로 가고, 금액은 0 ~ Long.MAX_VALUE 근처까지 섞음
+            millis += i % 50 == 0 ? -3_000 : 1_000 * (i % 7);
+            long amount = i % 100 == 0 ? Long.MAX_VALUE - i : i * 1_000;
+            TransactionType type = TransactionType.values()[(int) (i % TransactionType.values().length)];
+            histories.add(new PointHistory(10 + i * 37, 7L, amount, type, millis));
+        }
+
+        ColdHistoryBlock block = ColdHistoryBlock.encode(histories);
+
+        Assertions.assertEquals(histories, Arrays.asList(block.decode()));
+        Assertions.assertEquals(7L, block.userId());
+        Assertions.assertEquals(1_000, block.size());
+        Assertions.assertEquals(10L, block.firstId());
+        Assertions.assertEquals(10 + 999 * 37L, block.lastId());
+        Assertions.assertEquals(histories.stream().mapToLong(PointHistory::updateMillis).min().getAsLong(), block.minMillis());
+        Assertions.assertEquals(histories.stream().mapToLong(PointHistory::updateMillis).max().getAsLong(), block.maxMillis());
+    }
+
+    @Test
+    @DisplayName("일반적인 히스토리는 객체(약 48 byte)보다 훨씬 작게 압축")
+    void encode_compresses() {
+        List<PointHistory> histories = new ArrayList<>();
+        for (long i = 1; i <= 1_000; i++) {
+            histories.add(new PointHistory(i * 1_000, 1L, 10_000L, TransactionType.CHARGE, 1_700_000_000_000L + i * 60_000));
+        }
+
+        ColdHistoryBlock block = ColdHistoryBlock.encode(histories);
+
+        Assertions.assertTrue(block.heapBytes() < 10L * histories.size(), "heapBytes=" + block.heapBytes());
+    }
+
+    @Test
+    @DisplayName("visitor 가 false 를 반환하면 거기서 멈춤")
+    void scan_stopsEarly() {
+        List<PointHistory> histories = new ArrayList<>();
+        for (long id = 1; id <= 10; id++) {
+            histories.add(new PointHistory(id, 1L, id, TransactionType.USE, id));
+        }
+        List<Long> visited = new ArrayList<>();
+
+        boolean completed = ColdHistoryBlock.encode(histories).scan(history -> {
+            visited.add(history.id());
+            return history.id() < 3;
+        });
+
+        Assertions.assertFalse(completed);
+        Assertions.assertEquals(List.of(1L, 2L, 3L), visited);
+    }
+
+    @Test
+    @DisplayName("빈 목록이나 여러 유저가 섞인 목록은 IllegalArgumentException")
+    void encode_invalidInput() {
+        List<PointHistory> mixed = List.of(
+                new PointHistory(1L, 1L, 100L, TransactionType.CHARGE, 1L),
+                new PointHistory(2L, 2L, 100L, TransactionType.CHARGE, 2L));
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ColdHistoryBlock.encode(List.of()));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ColdHistoryBlock.encode(mixed));
+    }
+}
@@ -0,0 +1,185 @@
+package io.hhplus.tdd.unit.history;
+
+import io.hhplus.tdd.history.HistoryQuery;
+import io.hhplus.tdd.history.journal.FsyncPolicy;
+import io.hhplus.tdd.history.journal.JournalPointHistoryStore;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * JournalPointHistoryStore 단위 테스트
+ * - 기록한 레코드를 그대로 읽어오는지, segment 크기를 넘으면 새 파일로 전환하는지
+ * - 재기동 시 segment 를 훑어 cursor 와 유저별 인덱스를 복구하는지
+ * - 끊기거나 crc 가 맞지 않는 레코드부터 잘라내는지
+ */
+class JournalPointHistoryStoreTest {
+
+    private static final int RECORD_BYTES = 37;
+    private static final long SEGMENT_BYTES = RECORD_BYTES * 4L;
+
+    private Path directory;
+    private JournalPointHistoryStore store;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("point-history-journal");
+        store = open(FsyncPolicy.GROUP_COMMIT);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        store.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    @DisplayName("기록한 히스토리를 유저별로 그대로 조회")
+    void insert_thenFindByUserId() {
+        insert(1L, 10_000L, TransactionType.CHARGE, 100L);
+        insert(2L, 20_000L, TransactionType.CHARGE, 200L);
+        insert(1L, 3_000L, TransactionType.USE, 300L);
+
+        List<PointHistory> histories = store.findByUserId(1L, 0L, Integer.MAX_VALUE);
+
+        Assertions.assertEquals(List.of(
+                new PointHistory(1L, 1L, 10_000L, TransactionType.CHARGE, 100L),
+                new PointHistory(3L, 1L, 3_000L, TransactionType.USE, 300L)), histories);
+    }
+
+    @Test
+    @DisplayName("기간 / 방향 조건 조회는 저널에서 필요한 레코드만 읽어 반환")
+    void query_timeRange() {
+        for (long millis = 1; millis <= 10; millis++) {
+            insert(1L, 1_000L, millis % 2 == 0 ? TransactionType.USE : TransactionType.CHARGE, millis * 100);
+        }
+
+        List<PointHistory> range = store.query(1L, HistoryQuery.of(300L, 700L, null, null, 10, HistoryQuery.Order.ASC));
+        List<PointHistory> recentUses = store.query(1L, HistoryQuery.of(null, null, TransactionType.USE, null, 2, HistoryQuery.Order.DESC));
+
+        Assertions.assertEquals(List.of(3L, 4L, 5L, 6L), range.stream().map(PointHistory::id).toList());
+        Assertions.assertEquals(List.of(10L, 8L), recentUses.stream().map(PointHistory::id).toList());
+    }
+
+    @Test
+    @DisplayName("segment 크기를 넘으면 새 segment 파일로 전환")
+    void insert_rollsSegments() throws IOException {
+        for (int i = 0; i < 10; i++) {
+            insert(1L, 10_000L + i, TransactionType.CHARGE, i);
+        }
+
+        try (Stream<Path> files = Files.list(directory)) {
+            Assertions.assertEquals(3, files.count());
+        }
+        Assertions.assertEquals(10, store.findByUserId(1L, 0L, Integer.MAX_VALUE).size());
+        Assertions.assertEquals(10_009L, store.read(10L).amount());
+    }
+
+    @Test
+    @DisplayName("전체 순회는 segment 를 넘어 id 순서대로, 인덱스에 노출된 id 까지만 반환")
+    void findAll_acrossSegments_upToIndexed() {
+        for (int i = 0; i < 6; i++) {
+            insert(i % 2 == 0 ? 1L : 2L, 10_000L + i, TransactionType.CHARGE, i);
+        }
+        store.insert(3L, 1_000L, TransactionType.CHARGE, 6L);
+
+        List<PointHistory> first = store.findAll(0L, 4);
+        List<PointHistory> rest = store.findAll(4L, 4);
+
+        Assertions.assertEquals(List.of(1L, 2L, 3L, 4L), first.stream().map(PointHistory::id).toList());
+        Assertions.assertEquals(List.of(5L, 6L), rest.stream().map(PointHistory::id).toList());
+    }
+
+    @Test
+    @DisplayName("재기동 시 cursor 와 유저별 인덱스 복구")
+    void reopen_recoversCursorAndIndex() {
+        for (int i = 0; i < 7; i++) {
+            insert(i % 2 == 0 ? 1L : 2L, 10_000L + i, TransactionType.CHARGE, i);
+        }
+        store.close();
+
+        store = open(FsyncPolicy.OS);
+
+        Assertions.assertEquals(7L, store.lastId());
+        Assertions.assertEquals(4, store.findByUserId(1L, 0L, Integer.MAX_VALUE).size());
+        Assertions.assertEquals(3, store.findByUserId(2L, 0L, Integer.MAX_VALUE).size());
+        Assertions.assertEquals(8L, insert(1L, 1_000L, TransactionType.USE, 8L).id());
+    }
+
+    @Test
+    @DisplayName("기록 도중 끊긴 레코드는 복구에서 제외하고 그 위치부터 이어서 기록")
+    void reopen_tornRecord_truncated() throws IOException {
+        for (int i = 0; i < 3; i++) {
+            insert(1L, 10_000L, TransactionType.CHARGE, i);
+        }
+        store.close();
+        // 세 번째 레코드의 type 을 0 으로 (기록되지 않은 slot 과 같은 상태)
+        try (RandomAccessFile file = new RandomAccessFile(firstSegment().toFile(), "rw")) {
+            file.seek(RECORD_BYTES * 2L + 24);
+            file.write(0);
+        }
+
+        store = open(FsyncPolicy.EVERY_WRITE);
+
+        Assertions.assertEquals(2L, store.lastId());
+        Assertions.assertEquals(3L, insert(1L, 5_000L, TransactionType.USE, 9L).id());
+        Assertions.assertEquals(TransactionType.USE, store.read(3L).type());
+    }
+
+    @Test
+    @DisplayName("crc 가 맞지 않는 레코드부터 잘라내고, 그 뒤의 레코드는 다시 살아나지 않음")
+    void reopen_crcMismatch_truncatedFromThere() throws IOException {
+        for (int i = 0; i < 4; i++) {
+            insert(1L, 10_000L + i, TransactionType.CHARGE, i);
+        }
+        store.close();
+        // 두 번째 레코드의 금액만 바뀐 상태 (id / type 은 정상이지만 crc 가 맞지 않음)
+        try (RandomAccessFile file = new RandomAccessFile(firstSegment().toFile(), "rw")) {
+            file.seek(RECORD_BYTES + 16L);
+            file.writeLong(999_999L);
+        }
+
+        store = open(FsyncPolicy.EVERY_WRITE);
+
+        Assertions.assertEquals(1L, store.lastId());
+        Assertions.assertEquals(1, store.findByUserId(1L, 0L, Integer.MAX_VALUE).size());
+
+        // 두 번째 위치에 새로 기록한 뒤 재기동해도 잘라낸 세 번째 / 네 번째 레코드는 복구되지 않음
+        Assertions.assertEquals(2L, insert(1L, 5_000L, TransactionType.USE, 9L).id());
+        store.close();
+        store = open(FsyncPolicy.EVERY_WRITE);
+
+        Assertions.assertEquals(2L, store.lastId());
+        Assertions.assertEquals(5_000L, store.read(2L).amount());
+    }
+
+    private PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        PointHistory history = store.insert(userId, amount, type, updateMillis);
+        store.index(history);
+        return history;
+    }
+
+    private JournalPointHistoryStore open(FsyncPolicy fsyncPolicy) {
+        return new JournalPointHistoryStore(directory.toString(), SEGMENT_BYTES, fsyncPolicy, 5L);
+    }
+
+    private Path firstSegment() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().findFirst().orElseThrow();
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package io.hhplus.tdd.unit.history;
+
+import io.hhplus.tdd.history.HistoryQuery;
+import io.hhplus.tdd.history.PointHistoryIndex;
+import io.hhplus.tdd.history.PointHistoryStore;
+import io.hhplus.tdd.history.PointHistoryWriter;
+import io.hhplus.tdd.history.export.ExportFilter;
+import io.hhplus.tdd.history.export.ExportFormat;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.service.PointExportService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * PointExportService 단위 테스트
+ * - NDJSON / CSV 형식
+ * - 기간(updateMillis), 거래 종류 조건
+ * - 페이지 경계를 넘어가는 유저별 / 전체 내보내기
+ * - 유저별 내보내기는 전체 스캔(findByUserId) 대신 범위 조회(query)를 사용
+ */
+class PointExportServiceTest {
+
+    private final AtomicInteger userScans = new AtomicInteger();
+    private PointHistoryIndex pointHistoryIndex;
+    private PointExportService pointExportService;
+
+    @BeforeEach
+    void setUp() {
+        pointHistoryIndex = new PointHistoryIndex();
+        PointHistoryWriter writer = new PointHistoryWriter(new IndexStore(pointHistoryIndex, userScans), List.of(), 10, 10,
+                new PointMetrics(new SimpleMeterRegistry()));
+        // 페이지 크기 2 : 페이지 경계를 여러 번 넘도록
+        pointExportService = new PointExportService(writer, 2);
+
+        pointHistoryIndex.add(new PointHistory(1, 1L, 10_000L, TransactionType.CHARGE, 100L));
+        pointHistoryIndex.add(new PointHistory(2, 2L, 20_000L, TransactionType.CHARGE, 200L));
+        pointHistoryIndex.add(new PointHistory(3, 1L, 3_000L, TransactionType.USE, 300L));
+        pointHistoryIndex.add(new PointHistory(4, 1L, 4_000L, TransactionType.USE, 400L));
+        pointHistoryIndex.add(new PointHistory(5, 1L, 50_000L, TransactionType.CHARGE, 500L));
+    }
+
+    @Test
+    @DisplayName("유저 내역을 NDJSON 으로 한 줄에 한 건씩 내보냄")
+    void exportUser_ndjson() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = pointExportService.exportUser(1L, ExportFilter.of(null, null, null), ExportFormat.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        Assertions.assertEquals(4, rows);
+        Assertions.assertEquals(4, lines.length);
+        Assertions.assertEquals("{\"id\":1,\"userId\":1,\"amount\":10000,\"type\":\"CHARGE\",\"updateMillis\":100}", lines[0]);
+        Assertions.assertEquals("{\"id\":5,\"userId\":1,\"amount\":50000,\"type\":\"CHARGE\",\"updateMillis\":500}", lines[3]);
+    }
+
+    @Test
+    @DisplayName("전체 내역을 CSV 로 헤더와 함께 id 순서대로 내보냄")
+    void exportAll_csv() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = pointExportService.exportAll(ExportFilter.of(null, null, null), ExportFormat.CSV, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        Assertions.assertEquals(5, rows);
+        Assertions.assertEquals("id,userId,amount,type,updateMillis", lines[0]);
+        Assertions.assertEquals("2,2,20000,CHARGE,200", lines[2]);
+        Assertions.assertEquals(6, lines.length);
+    }
+
+    @Test
+    @DisplayName("from <= updateMillis < to 와 거래 종류 조건에 맞는 내역만 내보냄")
+    void export_filter() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = pointExportService.exportAll(ExportFilter.of(200L, 500L, TransactionType.USE), ExportFormat.CSV, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        Assertions.assertEquals(2, rows);
+        Assertions.assertEquals("3,1,3000,USE,300", lines[1]);
+        Assertions.assertEquals("4,1,4000,USE,400", lines[2]);
+    }
+
+    @Test
+    @DisplayName("유저 내보내기의 조건은 범위 조회로 읽고 유저 전체를 스캔하지 않음")
+    void exportUser_filter_usesRangeQuery() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = pointExportService.exportUser(1L, ExportFilter.of(300L, 600L, null), ExportFormat.CSV, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        Assertions.assertEquals(3, rows);
+        Assertions.assertEquals("3,1,3000,USE,300", lines[1]);
+        Assertions.assertEquals("5,1,50000,CHARGE,500", lines[3]);
+        Assertions.assertEquals(0, userScans.get());
+    }
+
+    @Test
+    @DisplayName("내역이 없으면 CSV 는 헤더만, NDJSON 은 빈 응답")
+    void export_empty() throws IOException {
+        ByteArrayOutputStream csv = new ByteArrayOutputStream();
+        ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+
+        pointExportService.exportUser(99L, ExportFilter.of(null, null, null), ExportFormat.CSV, csv);
+        pointExportService.exportUser(99L, ExportFilter.of(null, null, null), ExportFormat.NDJSON, ndjson);
+
+        Assertions.assertEquals("id,userId,amount,type,updateMillis\n", csv.toString(StandardCharsets.UTF_8));
+        Assertions.assertEquals(0, ndjson.size());
+    }
+
+    private record IndexStore(PointHistoryIndex index, AtomicInteger userScans) implements PointHistoryStore {
+
+        @Override
+        public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void index(PointHistory history) {
+            index.add(history);
+        }
+
+        @Override
+        public List<PointHistory> findByUserId(long userId, long cursor, int limit) {
+            userScans.incrementAndGet();
+            return index.findByUserId(userId, cursor, limit);
+        }
+
+        @Override
+        public List<PointHistory> query(long userId, HistoryQuery query) {
+            return index.query(userId, query);
+        }
+
+        @Override
+        public List<PointHistory> findAll(long cursor, int limit) {
+            return index.findAll(cursor, limit);
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package io.hhplus.tdd.unit.history;
+
+import io.hhplus.tdd.history.HistoryQuery;
+import io.hhplus.tdd.history.PointHistoryIndex;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+/**
+ * PointHistoryIndex 단위 테스트
+ * - 유저별 조회 결과가 기록 순서를 유지하는지
+ * - cursor/limit 기반 페이지 조회가 chunk 경계를 넘어서도 정확한지
+ * - 기간 / 거래 종류 / 방향 조건 조회
+ * - 압축 구간으로 옮긴 뒤에도 모든 조회 결과가 같은지
+ */
+class PointHistoryIndexTest {
+
+    private PointHistoryIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PointHistoryIndex();
+        // user 1, 2 의 히스토리를 번갈아 기록 (id 1 ~ 400)
+        for (long id = 1; id <= 400; id++) {
+            index.add(new PointHistory(id, id % 2 == 0 ? 2L : 1L, id, TransactionType.CHARGE, id));
+        }
+    }
+
+    @Test
+    @DisplayName("유저별 전체 조회 시 해당 유저의 히스토리만 기록 순서대로 반환")
+    void findAllByUserId_returnsOnlyUserRowsInOrder() {
+        List<PointHistory> histories = index.findAllByUserId(1L);
+
+        Assertions.assertEquals(200, histories.size());
+        for (int i = 0; i < histories.size(); i++) {
+            Assertions.assertEquals(1L, histories.get(i).userId());
+            Assertions.assertEquals(i * 2L + 1, histories.get(i).id());
+        }
+    }
+
+    @Test
+    @DisplayName("기록이 없는 유저 조회 시 빈 목록")
+    void findAllByUserId_unknownUser_empty() {
+        Assertions.assertTrue(index.findAllByUserId(99L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("cursor 이후의 히스토리를 limit 건만 반환")
+    void findByUserId_cursorAndLimit() {
+        List<PointHistory> page = index.findByUserId(2L, 128L, 3);
+
+        Assertions.assertEquals(3, page.size());
+        Assertions.assertEquals(130L, page.get(0).id());
+        Assertions.assertEquals(132L, page.get(1).id());
+        Assertions.assertEquals(134L, page.get(2).id());
+    }
+
+    @Test
+    @DisplayName("마지막 id 를 cursor 로 이어 조회하면 전체 히스토리를 빠짐없이 순회")
+    void findByUserId_pagesCoverAllRows() {
+        long cursor = 0L;
+        int total = 0;
+        List<PointHistory> page;
+        while (!(page = index.findByUserId(1L, cursor, 30)).isEmpty()) {
+            total += page.size();
+            cursor = page.get(page.size() - 1).id();
+        }
+
+        Assertions.assertEquals(200, total);
+        Assertions.assertEquals(399L, cursor);
+    }
+
+    // =========================================== query ===========================================
+
+    @Test
+    @DisplayName("from <= updateMillis < to 범위의 히스토리를 오래된 순으로 limit 건 반환")
+    void query_timeRange_ascending() {
+        List<PointHistory> page = index.query(1L, HistoryQuery.of(100L, 200L, null, null, 10, HistoryQuery.Order.ASC));
+
+        Assertions.assertEquals(10, page.size());
+        Assertions.assertEquals(101L, page.get(0).id());
+        Assertions.assertEquals(119L, page.get(9).id());
+
+        List<PointHistory> rest = index.query(1L, HistoryQuery.of(100L, 200L, null, 189L, 10, HistoryQuery.Order.ASC));
+        Assertions.assertEquals(List.of(191L, 193L, 195L, 197L, 199L), rest.stream().map(PointHistory::id).toList());
+    }
+
+    @Test
+    @DisplayName("DESC 는 최신 순으로, cursor 를 넘기면 그보다 오래된 내역을 이어 반환")
+    void query_descending_recentFirst() {
+        List<PointHistory> recent = index.query(2L, HistoryQuery.of(null, null, null, null, 3, HistoryQuery.Order.DESC));
+        List<PointHistory> next = index.query(2L, HistoryQuery.of(null, null, null, 396L, 3, HistoryQuery.Order.DESC));
+        List<PointHistory> beforeTo = index.query(2L, HistoryQuery.of(null, 11L, null, null, 10, HistoryQuery.Order.DESC));
+
+        Assertions.assertEquals(List.of(400L, 398L, 396L), recent.stream().map(PointHistory::id).toList());
+        Assertions.assertEquals(List.of(394L, 392L, 390L), next.stream().map(PointHistory::id).toList());
+        Assertions.assertEquals(List.of(10L, 8L, 6L, 4L, 2L), beforeTo.stream().map(PointHistory::id).toList());
+    }
+
+    @Test
+    @DisplayName("거래 종류 조건에 맞는 히스토리만 반환")
+    void query_type() {
+        PointHistoryIndex mixed = new PointHistoryIndex();
+        for (long id = 1; id <= 10; id++) {
+            mixed.add(new PointHistory(id, 1L, 1_000L, id % 3 == 0 ? TransactionType.USE : TransactionType.CHARGE, id));
+        }
+
+        List<PointHistory> used = mixed.query(1L, HistoryQuery.of(null, null, TransactionType.USE, null, 10, HistoryQuery.Order.ASC));
+
+        Assertions.assertEquals(List.of(3L, 6L, 9L), used.stream().map(PointHistory::id).toList());
+    }
+
+    @Test
+    @DisplayName("기록 시각이 뒤로 간 유저도 기간 조건을 정확히 적용")
+    void query_nonMonotonicMillis() {
+        PointHistoryIndex skewed = new PointHistoryIndex();
+        skewed.add(new PointHistory(1L, 1L, 1_000L, TransactionType.CHARGE, 100L));
+        skewed.add(new PointHistory(2L, 1L, 1_000L, TransactionType.CHARGE, 50L));
+        skewed.add(new PointHistory(3L, 1L, 1_000L, TransactionType.CHARGE, 200L));
+
+        List<PointHistory> ascending = skewed.query(1L, HistoryQuery.of(40L, 120L, null, null, 10, HistoryQuery.Order.ASC));
+        List<PointHistory> descending = skewed.query(1L, HistoryQuery.of(40L, 60L, null, null, 10, HistoryQuery.Order.DESC));
+
+        Assertions.assertEquals(List.of(1L, 2L), ascending.stream().map(PointHistory::id).toList());
+        Assertions.assertEquals(List.of(2L), descending.stream().map(PointHistory::id).toList());
+    }
+
+    @Test
+    @DisplayName("limit 이 0 이하면 IllegalArgumentException")
+    void query_invalidLimit() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> HistoryQuery.of(null, null, null, null, 0, HistoryQuery.Order.ASC));
+    }
+
+    // ========================================= 압축 구간 =========================================
+
+    @Test
+    @DisplayName("압축 구간으로 옮겨도 유저별 / 전체 조회 결과가 같음")
+    void moveToColdTier_readsMergeBothTiers() {
+        List<PointHistory> user1 = index.findAllByUserId(1L);
+        List<PointHistory> page = index.findByUserId(2L, 150L, 100);
+        List<PointHistory> all = index.findAll(0L, 1_000);
+        List<PointHistory> allPage = index.findAll(250L, 30);
+
+        // updateMillis = id 이므로 id 1 ~ 300 이 압축 구간으로 이동
+        Assertions.assertEquals(300, index.moveToColdTier(301L));
+
+        Assertions.assertEquals(user1, index.findAllByUserId(1L));
+        Assertions.assertEquals(page, index.findByUserId(2L, 150L, 100));
+        Assertions.assertEquals(all, index.findAll(0L, 1_000));
+        Assertions.assertEquals(allPage, index.findAll(250L, 30));
+        Assertions.assertEquals(List.of(399L), index.findByUserId(1L, 397L, 10).stream().map(PointHistory::id).toList());
+    }
+
+    @Test
+    @DisplayName("압축 구간과 최근 구간에 걸친 기간 / 방향 조회")
+    void moveToColdTier_queryAcrossTiers() {
+        index.moveToColdTier(201L);
+
+        List<PointHistory> ascending = index.query(1L, HistoryQuery.of(190L, 215L, null, null, 100, HistoryQuery.Order.ASC));
+        List<PointHistory> descending = index.query(2L, HistoryQuery.of(null, null, null, 206L, 5, HistoryQuery.Order.DESC));
+        List<PointHistory> oldest = index.query(2L, HistoryQuery.of(null, 7L, null, null, 10, HistoryQuery.Order.DESC));
+
+        Assertions.assertEquals(List.of(191L, 193L, 195L, 197L, 199L, 201L, 203L, 205L, 207L, 209L, 211L, 213L),
+                ascending.stream().map(PointHistory::id).toList());
+        Assertions.assertEquals(List.of(204L, 202L, 200L, 198L, 196L), descending.stream().map(PointHistory::id).toList());
+        Assertions.assertEquals(List.of(6L, 4L, 2L), oldest.stream().map(PointHistory::id).toList());
+    }
+
+    @Test
+    @DisplayName("여러 번 나눠 옮기고 그 사이에 기록이 더해져도 순서와 내용이 유지")
+    void moveToColdTier_repeatedWithAppends() {
+        PointHistoryIndex tiered = new PointHistoryIndex();
+        PointHistoryIndex plain = new PointHistoryIndex();
+        long id = 0;
+        for (int round = 1; round <= 5; round++) {
+            for (int i = 0; i < 700; i++) {
+                id++;
+                PointHistory history = new PointHistory(id, id % 3, id * 10, id % 4 == 0 ? TransactionType.USE : TransactionType.CHARGE, id);
+                tiered.add(history);
+                plain.add(history);
+            }
+            tiered.moveToColdTier(id - 100);
+        }
+
+        for (long userId = 0; userId < 3; userId++) {
+            Assertions.assertEquals(plain.findAllByUserId(userId), tiered.findAllByUserId(userId));
+        }
+        Assertions.assertEquals(plain.findAll(0L, 10_000), tiered.findAll(0L, 10_000));
+        Assertions.assertEquals(plain.findAll(1_234L, 77), tiered.findAll(1_234L, 77));
+    }
+
+    @Test
+    @DisplayName("압축 구간이 있는 유저 목록을 다른 인덱스로 옮겨도 원래 인덱스의 전체 조회가 유지")
+    void moveToColdTier_thenTransfer() {
+        List<PointHistory> all = index.findAll(0L, 1_000);
+        index.moveToColdTier(301L);
+        PointHistoryIndex target = new PointHistoryIndex();
+
+        index.transferTo(1L, target);
+
+        Assertions.assertEquals(all, index.findAll(0L, 1_000));
+        Assertions.assertEquals(200, target.findAllByUserId(1L).size());
+        Assertions.assertTrue(index.findAllByUserId(1L).isEmpty());
+    }
+}
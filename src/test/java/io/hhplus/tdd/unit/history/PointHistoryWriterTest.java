@@ -0,0 +1,262 @@
+package io.hhplus.tdd.unit.history;
+
+import io.hhplus.tdd.admission.AdmissionRejectedException;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.history.PointHistoryIndex;
+import io.hhplus.tdd.history.PointHistoryWriter;
+import io.hhplus.tdd.history.TablePointHistoryStore;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.point.POINT_STATUS;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * PointHistoryWriter 단위 테스트
+ * - append 가 테이블 insert 를 기다리지 않고 반환되는지
+ * - 기록 대기 중인 히스토리도 조회되는지 (read-your-writes)
+ * - 종료 시 남은 히스토리를 모두 기록하는지
+ * - insert 가 실패해도 히스토리를 버리지 않고 다시 기록하는지
+ * - 대기열이 가득 차면 기다리지 않고 OVERLOADED 로 거절하는지
+ * - 계속 실패하는 히스토리는 dead letter 로 옮기고 다음 히스토리를 기록하는지
+ */
+class PointHistoryWriterTest {
+
+    private final PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+    private PointHistoryTable pointHistoryTable;
+    private PointHistoryWriter pointHistoryWriter;
+
+    @BeforeEach
+    void setUp() {
+        pointHistoryTable = new PointHistoryTable();
+        pointHistoryWriter = new PointHistoryWriter(new TablePointHistoryStore(pointHistoryTable, new PointHistoryIndex()), List.of(), 4, 2, pointMetrics);
+        pointHistoryWriter.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        pointHistoryWriter.stop();
+    }
+
+    /**
+     * 테이블 insert 는 건당 최대 300ms 가 걸리지만 append 는 큐에 넣기만 하고 반환
+     */
+    @Test
+    @DisplayName("append 는 테이블 insert 를 기다리지 않음")
+    void append_doesNotWaitForInsert() {
+        long start = System.nanoTime();
+        pointHistoryWriter.append(1L, 10_000L, TransactionType.CHARGE, 1L);
+        pointHistoryWriter.append(1L, 20_000L, TransactionType.CHARGE, 2L);
+        pointHistoryWriter.append(1L, 30_000L, TransactionType.CHARGE, 3L);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        Assertions.assertTrue(elapsedMillis < 100, "append took " + elapsedMillis + "ms");
+    }
+
+    /**
+     * 테이블에 기록되기 전에도 조회 결과에 포함
+     */
+    @Test
+    @DisplayName("기록 대기 중인 히스토리도 조회")
+    void findAllByUserId_includesPending() {
+        pointHistoryWriter.append(1L, 10_000L, TransactionType.CHARGE, 1L);
+        pointHistoryWriter.append(1L, 1_000L, TransactionType.USE, 2L);
+        pointHistoryWriter.append(2L, 20_000L, TransactionType.CHARGE, 3L);
+
+        List<PointHistory> histories = pointHistoryWriter.findAllByUserId(1L);
+
+        Assertions.assertEquals(2, histories.size());
+        Assertions.assertEquals(TransactionType.CHARGE, histories.get(0).type());
+        Assertions.assertEquals(TransactionType.USE, histories.get(1).type());
+    }
+
+    /**
+     * 기록이 끝난 히스토리는 테이블에서 할당된 id 로 조회
+     */
+    @Test
+    @DisplayName("기록 완료 후 조회 시 테이블 id 로 반환")
+    void findAllByUserId_afterFlush_hasTableIds() {
+        pointHistoryWriter.append(1L, 10_000L, TransactionType.CHARGE, 1L);
+        pointHistoryWriter.append(1L, 1_000L, TransactionType.USE, 2L);
+        pointHistoryWriter.flush();
+
+        List<PointHistory> histories = pointHistoryWriter.findAllByUserId(1L);
+
+        Assertions.assertEquals(2, histories.size());
+        Assertions.assertEquals(1L, histories.get(0).id());
+        Assertions.assertEquals(2L, histories.get(1).id());
+    }
+
+    /**
+     * 대기열 용량(4)보다 많이 append 해도 유실 없이 순서대로 기록
+     */
+    @Test
+    @DisplayName("대기열이 가득 차도 유실 없이 순서대로 기록")
+    void append_overCapacity_persistsInOrder() {
+        for (long amount = 1; amount <= 10; amount++) {
+            pointHistoryWriter.append(1L, amount, TransactionType.CHARGE, amount);
+        }
+        pointHistoryWriter.flush();
+
+        List<PointHistory> histories = pointHistoryTable.selectAllByUserId(1L);
+        Assertions.assertEquals(10, histories.size());
+        for (int i = 0; i < histories.size(); i++) {
+            Assertions.assertEquals(i + 1L, histories.get(i).amount());
+        }
+    }
+
+    /**
+     * stop 시 대기열에 남은 히스토리를 모두 기록
+     */
+    @Test
+    @DisplayName("종료 시 남은 히스토리를 모두 기록")
+    void stop_flushesPending() {
+        pointHistoryWriter.append(1L, 10_000L, TransactionType.CHARGE, 1L);
+        pointHistoryWriter.append(1L, 20_000L, TransactionType.CHARGE, 2L);
+        pointHistoryWriter.append(1L, 30_000L, TransactionType.CHARGE, 3L);
+
+        pointHistoryWriter.stop();
+
+        Assertions.assertEquals(3, pointHistoryTable.selectAllByUserId(1L).size());
+        Assertions.assertEquals(0, pointHistoryWriter.pendingCount());
+    }
+
+    /**
+     * 워커가 동작하지 않을 때는 호출 스레드에서 바로 기록
+     */
+    @Test
+    @DisplayName("종료 후 append 는 바로 테이블에 기록")
+    void append_afterStop_persistsSynchronously() {
+        pointHistoryWriter.stop();
+
+        pointHistoryWriter.append(1L, 10_000L, TransactionType.CHARGE, 1L);
+
+        Assertions.assertEquals(1, pointHistoryTable.selectAllByUserId(1L).size());
+    }
+
+    /**
+     * 저장소 insert 가 두 번 실패해도 히스토리는 조회에 남아 있다가 재시도로 기록됨
+     */
+    @Test
+    @DisplayName("insert 가 실패한 히스토리는 버리지 않고 재시도해 기록")
+    void insertFailure_retriedUntilPersisted() {
+        AtomicInteger failures = new AtomicInteger(2);
+        PointHistoryWriter writer = new PointHistoryWriter(new TablePointHistoryStore(pointHistoryTable, new PointHistoryIndex()) {
+            @Override
+            public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+                if (failures.getAndDecrement() > 0) {
+                    throw new IllegalStateException("insert 실패");
+                }
+                return super.insert(userId, amount, type, updateMillis);
+            }
+        }, List.of(), 4, 2, pointMetrics);
+        writer.start();
+        try {
+            writer.append(7L, 10_000L, TransactionType.CHARGE, 1L);
+            writer.append(7L, 2_000L, TransactionType.USE, 2L);
+            Assertions.assertEquals(2, writer.findAllByUserId(7L).size());
+
+            writer.flush();
+
+            List<PointHistory> histories = writer.findAllByUserId(7L);
+            Assertions.assertEquals(2, histories.size());
+            Assertions.assertTrue(histories.stream().allMatch(history -> history.id() > 0));
+            Assertions.assertEquals(TransactionType.USE, histories.get(1).type());
+            Assertions.assertEquals(2, pointHistoryTable.selectAllByUserId(7L).size());
+        } finally {
+            writer.stop();
+        }
+    }
+
+    /**
+     * insert 가 멈춰 대기열이 가득 차면 append 는 appendTimeoutMillis 만큼만 기다리고 OVERLOADED
+     */
+    @Test
+    @DisplayName("대기열이 가득 차면 제한 시간 뒤 OVERLOADED 로 거절")
+    void append_queueFull_rejectedWithOverloaded() throws InterruptedException {
+        CountDownLatch inserting = new CountDownLatch(1);
+        CountDownLatch unblock = new CountDownLatch(1);
+        PointHistoryWriter writer = new PointHistoryWriter(new TablePointHistoryStore(pointHistoryTable, new PointHistoryIndex()) {
+            @Override
+            public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+                inserting.countDown();
+                try {
+                    unblock.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.insert(userId, amount, type, updateMillis);
+            }
+        }, List.of(), 1, 1, 100L, pointMetrics);
+        writer.start();
+        try {
+            // 워커가 첫 건을 꺼내 insert 에서 멈춘 뒤 두 번째 건이 대기열을 채움
+            writer.append(3L, 10_000L, TransactionType.CHARGE, 1L);
+            Assertions.assertTrue(inserting.await(1, TimeUnit.SECONDS));
+            writer.append(3L, 20_000L, TransactionType.CHARGE, 2L);
+
+            long start = System.nanoTime();
+            AdmissionRejectedException e = Assertions.assertThrows(AdmissionRejectedException.class,
+                    () -> writer.append(3L, 30_000L, TransactionType.CHARGE, 3L));
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            Assertions.assertEquals(POINT_STATUS.OVERLOADED, e.status);
+            Assertions.assertTrue(elapsedMillis < 1_000, "append waited " + elapsedMillis + "ms");
+            Assertions.assertEquals(2, writer.findAllByUserId(3L).size());
+        } finally {
+            unblock.countDown();
+            writer.stop();
+        }
+        Assertions.assertEquals(2, pointHistoryTable.selectAllByUserId(3L).size());
+    }
+
+    /**
+     * 한 유저의 insert 가 계속 실패해도 워커는 정해진 횟수 뒤 그 히스토리를 dead letter 로 옮기고 다음 히스토리를 기록
+     */
+    @Test
+    @DisplayName("계속 실패하는 히스토리는 dead letter 로 옮기고 계속 기록")
+    void insertFailure_permanent_movedToDeadLetters() {
+        AtomicBoolean broken = new AtomicBoolean(true);
+        PointHistoryWriter writer = new PointHistoryWriter(new TablePointHistoryStore(pointHistoryTable, new PointHistoryIndex()) {
+            @Override
+            public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+                if (userId == 9L && broken.get()) {
+                    throw new IllegalStateException("insert 실패");
+                }
+                return super.insert(userId, amount, type, updateMillis);
+            }
+        }, List.of(), 4, 2, pointMetrics);
+        writer.start();
+        try {
+            writer.append(9L, 10_000L, TransactionType.CHARGE, 1L);
+            writer.append(1L, 20_000L, TransactionType.CHARGE, 2L);
+
+            writer.flush();
+
+            Assertions.assertEquals(1, writer.deadLetterCount());
+            Assertions.assertEquals(0, pointHistoryTable.selectAllByUserId(9L).size());
+            Assertions.assertEquals(1, pointHistoryTable.selectAllByUserId(1L).size());
+
+            // 저장소가 복구된 뒤 다시 기록
+            broken.set(false);
+            Assertions.assertEquals(1, writer.retryDeadLetters());
+            writer.flush();
+
+            Assertions.assertEquals(0, writer.deadLetterCount());
+            Assertions.assertEquals(1, pointHistoryTable.selectAllByUserId(9L).size());
+        } finally {
+            writer.stop();
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package io.hhplus.tdd.unit.idempotency;
+
+import io.hhplus.tdd.idempotency.IdempotencyStore;
+import io.hhplus.tdd.point.POINT_STATUS;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.UserPointException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * IdempotencyStore 단위 테스트
+ * - 같은 key 재시도는 재실행 없이 처음 결과 반환, 실행 중인 key 는 결과를 기다림
+ * - 다른 거래에 같은 key 재사용 거부, 실패한 key 는 재실행 허용
+ * - ttl / max-size 초과 시 제거, 실행 중인 key 는 max-size 로 제거하지 않음
+ */
+class IdempotencyStoreTest {
+
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @Test
+    @DisplayName("같은 key 로 재시도하면 다시 실행하지 않고 처음 결과 반환")
+    void sameKey_returnsFirstResult() {
+        IdempotencyStore store = new IdempotencyStore(100, 60_000L);
+
+        UserPoint first = store.execute(1L, "key-1", TransactionType.CHARGE, 10_000L, this::charge);
+        UserPoint retried = store.execute(1L, "key-1", TransactionType.CHARGE, 10_000L, this::charge);
+
+        Assertions.assertEquals(1, executions.get());
+        Assertions.assertSame(first, retried);
+    }
+
+    @Test
+    @DisplayName("같은 key 를 다른 유저가 쓰면 별개의 요청")
+    void sameKey_differentUsers_independent() {
+        IdempotencyStore store = new IdempotencyStore(100, 60_000L);
+
+        store.execute(1L, "key-1", TransactionType.CHARGE, 10_000L, this::charge);
+        store.execute(2L, "key-1", TransactionType.CHARGE, 10_000L, this::charge);
+
+        Assertions.assertEquals(2, executions.get());
+    }
+
+    @Test
+    @DisplayName("실행 중인 key 로 동시에 들어온 요청은 한 번만 실행하고 같은 결과를 받음")
+    void concurrentDuplicates_waitForFirst() throws Exception {
+        IdempotencyStore store = new IdempotencyStore(100, 60_000L);
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch ready = new CountDownLatch(threads);
+        List<Future<UserPoint>> results = new ArrayList<>();
+
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(() -> {
+                ready.countDown();
+                ready.await();
+                return store.execute(1L, "key-1", TransactionType.CHARGE, 10_000L, () -> {
+                    sleep(100L);
+                    return charge();
+                });
+            }));
+        }
+        UserPoint first = results.get(0).get();
+        for (Future<UserPoint> result : results) {
+            Assertions.assertSame(first, result.get());
+        }
+        executor.shutdown();
+
+        Assertions.assertEquals(1, executions.get());
+    }
+
+    @Test
+    @DisplayName("같은 key 로 다른 거래를 요청하면 IDEMPOTENCY_KEY_REUSED")
+    void sameKey_differentRequest_rejected() {
+        IdempotencyStore store = new IdempotencyStore(100, 60_000L);
+        store.execute(1L, "key-1", TransactionType.CHARGE, 10_000L, this::charge);
+
+        UserPointException exception = Assertions.assertThrows(UserPointException.class,
+                () -> store.execute(1L, "key-1", TransactionType.CHARGE, 20_000L, this::charge));
+
+        Assertions.assertEquals(POINT_STATUS.IDEMPOTENCY_KEY_REUSED, exception.status);
+        Assertions.assertEquals(1, executions.get());
+    }
+
+    @Test
+    @DisplayName("실패한 요청의 key 는 남기지 않아 재시도 시 다시 실행")
+    void failure_allowsRetry() {
+        IdempotencyStore store = new IdempotencyStore(100, 60_000L);
+
+        Assertions.assertThrows(UserPointException.class, () -> store.execute(1L, "key-1", TransactionType.USE, 10_000L, () -> {
+            executions.incrementAndGet();
+            throw new UserPointException(POINT_STATUS.LOCK_TIMEOUT);
+        }));
+        store.execute(1L, "key-1", TransactionType.USE, 10_000L, this::charge);
+
+        Assertions.assertEquals(2, executions.get());
+        Assertions.assertEquals(1, store.size());
+    }
+
+    @Test
+    @DisplayName("ttl 이 지난 key 는 새 요청으로 실행")
+    void expired_reexecutes() {
+        IdempotencyStore store = new IdempotencyStore(100, 50L);
+
+        store.execute(1L, "key-1", TransactionType.CHARGE, 10_000L, this::charge);
+        sleep(100L);
+        store.execute(1L, "key-1", TransactionType.CHARGE, 10_000L, this::charge);
+
+        Assertions.assertEquals(2, executions.get());
+    }
+
+    @Test
+    @DisplayName("max-size 를 넘으면 가장 오래된 key 부터 제거")
+    void maxSize_evictsOldest() {
+        IdempotencyStore store = new IdempotencyStore(2, 60_000L);
+
+        store.execute(1L, "key-1", TransactionType.CHARGE, 10_000L, this::charge);
+        store.execute(1L, "key-2", TransactionType.CHARGE, 10_000L, this::charge);
+        store.execute(1L, "key-3", TransactionType.CHARGE, 10_000L, this::charge);
+        store.execute(1L, "key-3", TransactionType.CHARGE, 10_000L, this::charge);
+
+        Assertions.assertEquals(2, store.size());
+        Assertions.assertEquals(3, executions.get());
+        store.execute(1L, "key-1", TransactionType.CHARGE, 10_000L, this::charge);
+        Assertions.assertEquals(4, executions.get());
+    }
+
+    @Test
+    @DisplayName("max-size 를 넘어도 아직 실행 중인 key 는 제거하지 않아 재시도가 다시 실행되지 않음")
+    void maxSize_keepsInFlightKey() throws Exception {
+        IdempotencyStore store = new IdempotencyStore(1, 60_000L);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            Future<UserPoint> first = executor.submit(() -> store.execute(1L, "key-1", TransactionType.CHARGE, 10_000L, () -> {
+                started.countDown();
+                await(release);
+                return charge();
+            }));
+            Assertions.assertTrue(started.await(1, TimeUnit.SECONDS));
+
+            // 실행 중인 key-1 이 가장 오래된 key 이므로 max-size 를 넘어도 제거되지 않음
+            store.execute(1L, "key-2", TransactionType.CHARGE, 10_000L, this::charge);
+            store.execute(1L, "key-3", TransactionType.CHARGE, 10_000L, this::charge);
+            Assertions.assertEquals(3, store.size());
+
+            Future<UserPoint> retried = executor.submit(() -> store.execute(1L, "key-1", TransactionType.CHARGE, 10_000L, this::charge));
+            release.countDown();
+
+            Assertions.assertSame(first.get(), retried.get());
+            Assertions.assertEquals(3, executions.get());
+
+            // 실행이 끝난 뒤의 등록에서는 오래된 key 부터 max-size 까지 제거
+            store.execute(1L, "key-4", TransactionType.CHARGE, 10_000L, this::charge);
+            Assertions.assertEquals(1, store.size());
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    private UserPoint charge() {
+        return new UserPoint(1L, executions.incrementAndGet() * 10_000L, System.currentTimeMillis());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
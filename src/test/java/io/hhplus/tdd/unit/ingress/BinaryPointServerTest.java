@@ -0,0 +1,307 @@
+package io.hhplus.tdd.unit.ingress;
+
+import io.hhplus.tdd.balance.offheap.OffHeapUserPointStore;
+import io.hhplus.tdd.cache.UserPointCache;
+import io.hhplus.tdd.history.PointHistoryIndex;
+import io.hhplus.tdd.history.PointHistoryStore;
+import io.hhplus.tdd.history.PointHistoryWriter;
+import io.hhplus.tdd.ingress.BinaryPointServer;
+import io.hhplus.tdd.ingress.BinaryProtocol;
+import io.hhplus.tdd.lock.UserLockManager;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.point.POINT_STATUS;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.replication.ReplicationFollower;
+import io.hhplus.tdd.service.PointService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * BinaryPointServer 단위 테스트 (localhost 소켓으로 실제 프레임을 주고받음)
+ * - 충전/사용/조회 응답과 실패 status 코드
+ * - 한 연결에서 max-in-flight 보다 많은 요청을 한꺼번에 보내도(pipelining) 모든 요청에 한 번씩 응답
+ * - 여러 번에 나뉘어 도착한 프레임, 실행기 거절 / read replica 의 쓰기 거절
+ * - 연결이 끊기면 direct 버퍼를 풀에 돌려주고 다음 연결이 재사용
+ */
+class BinaryPointServerTest {
+
+    private final PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+    private ExecutorService executor;
+    private PointHistoryWriter pointHistoryWriter;
+    private PointService pointService;
+    private BinaryPointServer server;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(8);
+        UserPointCache userPointCache = new UserPointCache(new OffHeapUserPointStore(1_024), 1_024, pointMetrics, List.of());
+        pointHistoryWriter = new PointHistoryWriter(new InMemoryHistoryStore(), List.of(), 10_000, 100, pointMetrics);
+        pointHistoryWriter.start();
+        pointService = new PointService(userPointCache, pointHistoryWriter, new UserLockManager(5_000L), pointMetrics, Optional.empty());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (server != null) {
+            server.stop();
+        }
+        pointHistoryWriter.stop();
+        executor.shutdownNow();
+    }
+
+    // ==================== 요청 / 응답 ====================
+
+    @Test
+    @DisplayName("충전/사용/조회 결과 잔액을 requestId 와 함께 응답")
+    void chargeUseAndPoint() throws IOException {
+        startServer(executor, Optional.empty(), 16);
+        try (Client client = connect()) {
+            Response charged = client.call(BinaryProtocol.CHARGE, 1L, 100_000L, 11L);
+            Response used = client.call(BinaryProtocol.USE, 1L, 30_000L, 12L);
+            Response point = client.call(BinaryProtocol.POINT, 1L, 0L, 13L);
+
+            Assertions.assertEquals(new Response(11L, BinaryProtocol.OK, 1L, 100_000L, charged.updateMillis()), charged);
+            Assertions.assertEquals(70_000L, used.point());
+            Assertions.assertEquals(12L, used.requestId());
+            Assertions.assertEquals(70_000L, point.point());
+            Assertions.assertTrue(point.updateMillis() > 0);
+        }
+        pointHistoryWriter.flush();
+        Assertions.assertEquals(2, pointService.findAllPointHistoryByUserId(1L).size());
+    }
+
+    @Test
+    @DisplayName("검증 실패는 POINT_STATUS 코드로, 알 수 없는 op 는 INVALID_TRANSACTION_TYPE 으로 응답")
+    void failureStatus() throws IOException {
+        startServer(executor, Optional.empty(), 16);
+        try (Client client = connect()) {
+            Response underflow = client.call(BinaryProtocol.USE, 1L, 5_000L, 1L);
+            Response invalidUser = client.call(BinaryProtocol.CHARGE, 0L, 10_000L, 2L);
+            Response invalidOp = client.call((byte) 9, 1L, 10_000L, 3L);
+            Response tooSmall = client.call(BinaryProtocol.CHARGE, 1L, 1L, 4L);
+
+            Assertions.assertEquals(POINT_STATUS.USED_POINT_UNDERFLOW, BinaryProtocol.status(underflow.status()));
+            Assertions.assertEquals(POINT_STATUS.INVALID_USERID, BinaryProtocol.status(invalidUser.status()));
+            Assertions.assertEquals(POINT_STATUS.INVALID_TRANSACTION_TYPE, BinaryProtocol.status(invalidOp.status()));
+            Assertions.assertEquals(POINT_STATUS.INVALID_CHARGE_AMOUNT, BinaryProtocol.status(tooSmall.status()));
+            Assertions.assertEquals(0L, tooSmall.point());
+        }
+        Assertions.assertEquals(0L, pointService.findUserPointByUserId(1L).point());
+    }
+
+    @Test
+    @DisplayName("status 코드는 enum 순서와 무관하게 고정되어 있고 모든 POINT_STATUS 가 서로 다른 코드로 왕복")
+    void statusCodes_stable() {
+        Assertions.assertEquals(1, BinaryProtocol.statusCode(POINT_STATUS.INVALID_USERID));
+        Assertions.assertEquals(6, BinaryProtocol.statusCode(POINT_STATUS.USED_POINT_UNDERFLOW));
+        Assertions.assertEquals(13, BinaryProtocol.statusCode(POINT_STATUS.REPLICA_STALE));
+        Assertions.assertEquals(BinaryProtocol.INTERNAL_ERROR, BinaryProtocol.statusCode(POINT_STATUS.INTERNAL_ERROR));
+        for (POINT_STATUS status : POINT_STATUS.values()) {
+            Assertions.assertEquals(status, BinaryProtocol.status(BinaryProtocol.statusCode(status)));
+        }
+        Assertions.assertNull(BinaryProtocol.status(BinaryProtocol.OK));
+    }
+
+    // ==================== pipelining ====================
+
+    @Test
+    @DisplayName("max-in-flight 보다 많은 요청을 응답을 기다리지 않고 보내도 모든 요청에 한 번씩 응답")
+    void pipelining_moreThanMaxInFlight() throws IOException {
+        startServer(executor, Optional.empty(), 8);
+        int requests = 5_000;
+        int users = 100;
+        try (Client client = connect()) {
+            for (int i = 0; i < requests; i++) {
+                client.send(BinaryProtocol.CHARGE, i % users + 1, 10_000L, i);
+            }
+            client.flush();
+
+            Map<Long, Response> responses = new HashMap<>();
+            for (int i = 0; i < requests; i++) {
+                Response response = client.read();
+                Assertions.assertNull(responses.put(response.requestId(), response), "requestId " + response.requestId() + " 중복 응답");
+            }
+            Assertions.assertEquals(requests, responses.size());
+            // 응답 순서와 무관하게 유저마다 요청 수만큼 충전됨
+            for (long userId = 1; userId <= users; userId++) {
+                Assertions.assertEquals(requests / users * 10_000L, pointService.findUserPointByUserId(userId).point());
+            }
+            Assertions.assertTrue(responses.values().stream().allMatch(response -> response.status() == BinaryProtocol.OK));
+        }
+    }
+
+    @Test
+    @DisplayName("프레임이 여러 번에 나뉘어 도착해도 완전한 프레임이 모이면 처리")
+    void partialFrames() throws IOException, InterruptedException {
+        startServer(executor, Optional.empty(), 16);
+        try (Client client = connect()) {
+            ByteBuffer frames = ByteBuffer.allocate(BinaryProtocol.REQUEST_BYTES * 2);
+            BinaryProtocol.writeRequest(frames, BinaryProtocol.CHARGE, 5L, 20_000L, 1L);
+            BinaryProtocol.writeRequest(frames, BinaryProtocol.CHARGE, 5L, 30_000L, 2L);
+            frames.flip();
+            for (int cut : new int[]{3, 24, 30, 50}) {
+                ByteBuffer part = frames.duplicate();
+                part.limit(cut);
+                client.channel.write(part);
+                frames.position(cut);
+                Thread.sleep(20);
+            }
+
+            long total = client.read().point() + client.read().point();
+            Assertions.assertEquals(20_000L + 50_000L, total);
+        }
+    }
+
+    // ==================== 거절 ====================
+
+    @Test
+    @DisplayName("실행기가 작업을 거절하면 OVERLOADED, read replica 에서는 충전/사용을 READ_ONLY_REPLICA 로 응답")
+    void rejectedRequests() throws IOException {
+        Executor rejecting = command -> {
+            throw new RejectedExecutionException("full");
+        };
+        startServer(rejecting, Optional.empty(), 16);
+        try (Client client = connect()) {
+            Assertions.assertEquals(POINT_STATUS.OVERLOADED, BinaryProtocol.status(client.call(BinaryProtocol.CHARGE, 1L, 10_000L, 1L).status()));
+        }
+        server.stop();
+
+        ReplicationFollower follower = new ReplicationFollower(
+                new UserPointCache(new OffHeapUserPointStore(16), 16, pointMetrics, List.of()),
+                pointHistoryWriter, Optional.empty(), "127.0.0.1", 1, 1_000L);
+        startServer(executor, Optional.of(follower), 16);
+        try (Client client = connect()) {
+            Assertions.assertEquals(POINT_STATUS.READ_ONLY_REPLICA, BinaryProtocol.status(client.call(BinaryProtocol.USE, 1L, 1_000L, 1L).status()));
+            Assertions.assertEquals(BinaryProtocol.OK, client.call(BinaryProtocol.POINT, 1L, 0L, 2L).status());
+        }
+    }
+
+    // ==================== 버퍼 풀 ====================
+
+    @Test
+    @DisplayName("연결이 끊기면 읽기/쓰기 버퍼를 풀에 돌려주고 다음 연결이 재사용")
+    void buffersReturnedToPool() throws IOException, InterruptedException {
+        startServer(executor, Optional.empty(), 16);
+        for (int round = 0; round < 3; round++) {
+            try (Client client = connect()) {
+                Assertions.assertEquals(BinaryProtocol.OK, client.call(BinaryProtocol.POINT, 1L, 0L, round).status());
+            }
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (server.connectionCount() > 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(5);
+            }
+            Assertions.assertEquals(0, server.connectionCount());
+        }
+
+        Assertions.assertEquals(2L, server.bufferPool().allocated());
+        Assertions.assertEquals(2, server.bufferPool().pooled());
+    }
+
+    private void startServer(Executor pointExecutor, Optional<ReplicationFollower> follower, int maxInFlight) {
+        server = new BinaryPointServer(pointService, pointExecutor, pointMetrics, follower, "127.0.0.1", 0, maxInFlight, 4_096, 16);
+        server.start();
+    }
+
+    private Client connect() throws IOException {
+        return new Client(SocketChannel.open(new InetSocketAddress("127.0.0.1", server.port())));
+    }
+
+    private record Response(long requestId, int status, long userId, long point, long updateMillis) {
+    }
+
+    /**
+     * blocking 소켓으로 요청 프레임을 모아 보내고 응답 프레임을 하나씩 읽는 테스트용 클라이언트
+     */
+    private static final class Client implements AutoCloseable {
+        private final SocketChannel channel;
+        private final ByteBuffer out = ByteBuffer.allocate(1 << 16);
+        private final ByteBuffer in = ByteBuffer.allocate(1 << 16);
+
+        private Client(SocketChannel channel) {
+            this.channel = channel;
+            in.flip();
+        }
+
+        Response call(byte op, long userId, long amount, long requestId) throws IOException {
+            send(op, userId, amount, requestId);
+            flush();
+            return read();
+        }
+
+        void send(byte op, long userId, long amount, long requestId) throws IOException {
+            if (out.remaining() < BinaryProtocol.REQUEST_BYTES) {
+                flush();
+            }
+            BinaryProtocol.writeRequest(out, op, userId, amount, requestId);
+        }
+
+        void flush() throws IOException {
+            out.flip();
+            while (out.hasRemaining()) {
+                channel.write(out);
+            }
+            out.clear();
+        }
+
+        Response read() throws IOException {
+            while (in.remaining() < BinaryProtocol.RESPONSE_BYTES) {
+                in.compact();
+                if (channel.read(in) < 0) {
+                    throw new EOFException();
+                }
+                in.flip();
+            }
+            return new Response(in.getLong(), in.get() & 0xFF, in.getLong(), in.getLong(), in.getLong());
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    private static final class InMemoryHistoryStore implements PointHistoryStore {
+        private final PointHistoryIndex index = new PointHistoryIndex();
+        private final AtomicLong sequence = new AtomicLong();
+
+        @Override
+        public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+            return new PointHistory(sequence.incrementAndGet(), userId, amount, type, updateMillis);
+        }
+
+        @Override
+        public void index(PointHistory history) {
+            index.add(history);
+        }
+
+        @Override
+        public List<PointHistory> findByUserId(long userId, long cursor, int limit) {
+            return index.findByUserId(userId, cursor, limit);
+        }
+
+        @Override
+        public List<PointHistory> findAll(long cursor, int limit) {
+            return index.findAll(cursor, limit);
+        }
+    }
+}
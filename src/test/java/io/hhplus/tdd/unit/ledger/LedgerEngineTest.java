@@ -0,0 +1,268 @@
+package io.hhplus.tdd.unit.ledger;
+
+import io.hhplus.tdd.admission.AdmissionRejectedException;
+import io.hhplus.tdd.ledger.LedgerEngine;
+import io.hhplus.tdd.ledger.LedgerEventSink;
+import io.hhplus.tdd.point.POINT_STATUS;
+import io.hhplus.tdd.point.PointOperation;
+import io.hhplus.tdd.point.PointOperationResult;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.UserPointException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongFunction;
+
+/**
+ * LedgerEngine 단위 테스트
+ * - 충전/사용 반영과 이벤트 발행, 검증 실패 시 미반영
+ * - 처음 보는 유저만 loader 호출, 같은 유저 명령의 순서 보장
+ * - 느린 잔액 읽기의 격리, 메모리 상한에 따른 재적재, sink 적체 시 거절
+ * - 종료 시 남은 명령 처리 후 새 명령 거부
+ */
+class LedgerEngineTest {
+
+    private final Map<Long, List<TransactionType>> events = new ConcurrentHashMap<>();
+    private final AtomicInteger loads = new AtomicInteger();
+    private LedgerEngine engine;
+
+    @AfterEach
+    void tearDown() {
+        if (engine.isRunning()) {
+            engine.stop();
+        }
+    }
+
+    private LedgerEngine start(long initialPoint) {
+        return start(userId -> new UserPoint(userId, initialPoint, 0L), recordingSink(), 4, 1024);
+    }
+
+    private LedgerEngine start(LongFunction<UserPoint> loader, LedgerEventSink sink, int partitions, int maxResidentUsers) {
+        engine = new LedgerEngine(userId -> {
+            loads.incrementAndGet();
+            return loader.apply(userId);
+        }, sink, partitions, 1024, maxResidentUsers, 2);
+        engine.start();
+        return engine;
+    }
+
+    private LedgerEventSink recordingSink() {
+        return (updated, amount, type) -> events.computeIfAbsent(updated.id(), id -> new ArrayList<>()).add(type);
+    }
+
+    @Test
+    @DisplayName("충전/사용 결과를 반환하고 반영된 순서대로 이벤트 발행")
+    void chargeAndUse() {
+        start(0L);
+
+        UserPoint charged = engine.charge(1L, 100_000L).join();
+        UserPoint used = engine.use(1L, 30_000L).join();
+
+        Assertions.assertEquals(100_000L, charged.point());
+        Assertions.assertEquals(70_000L, used.point());
+        Assertions.assertEquals(70_000L, engine.point(1L).join().point());
+        Assertions.assertEquals(List.of(TransactionType.CHARGE, TransactionType.USE), events.get(1L));
+        Assertions.assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("잔액보다 많이 사용하면 UserPointException 으로 완료되고 잔액/이벤트는 그대로")
+    void use_overBalance_rejected() {
+        start(5_000L);
+
+        CompletableFuture<UserPoint> future = engine.use(1L, 10_000L);
+
+        ExecutionException exception = Assertions.assertThrows(ExecutionException.class, future::get);
+        Assertions.assertInstanceOf(UserPointException.class, exception.getCause());
+        Assertions.assertEquals(POINT_STATUS.USED_POINT_UNDERFLOW, ((UserPointException) exception.getCause()).status);
+        Assertions.assertEquals(5_000L, engine.point(1L).join().point());
+        Assertions.assertNull(events.get(1L));
+    }
+
+    @Test
+    @DisplayName("일괄 처리는 요청 순서대로 반영하고 실패한 작업은 그 시점 잔액과 함께 반환")
+    void process_batch() {
+        start(0L);
+
+        List<PointOperationResult> results = engine.process(List.of(
+                new PointOperation(1L, TransactionType.CHARGE, 50_000L),
+                new PointOperation(1L, TransactionType.USE, 80_000L),
+                new PointOperation(2L, TransactionType.CHARGE, 10_000L),
+                new PointOperation(0L, TransactionType.CHARGE, 10_000L),
+                new PointOperation(1L, TransactionType.USE, 20_000L))).join();
+
+        Assertions.assertTrue(results.get(0).success());
+        Assertions.assertEquals(POINT_STATUS.USED_POINT_UNDERFLOW, results.get(1).status());
+        Assertions.assertEquals(50_000L, results.get(1).point());
+        Assertions.assertEquals(10_000L, results.get(2).point());
+        Assertions.assertEquals(POINT_STATUS.INVALID_USERID, results.get(3).status());
+        Assertions.assertEquals(30_000L, results.get(4).point());
+    }
+
+    @Test
+    @DisplayName("잔액 읽기가 실패한 작업은 INTERNAL_ERROR 로 반환하고 다른 유저는 반영")
+    void process_loaderFailure_internalError() {
+        start(userId -> {
+            if (userId == 1L) {
+                throw new IllegalStateException("잔액 저장소 장애");
+            }
+            return new UserPoint(userId, 0L, 0L);
+        }, recordingSink(), 4, 1024);
+
+        List<PointOperationResult> results = engine.process(List.of(
+                new PointOperation(1L, TransactionType.CHARGE, 10_000L),
+                new PointOperation(2L, TransactionType.CHARGE, 10_000L))).join();
+
+        Assertions.assertEquals(POINT_STATUS.INTERNAL_ERROR, results.get(0).status());
+        Assertions.assertEquals(0L, results.get(0).point());
+        Assertions.assertTrue(results.get(1).success());
+        Assertions.assertNull(events.get(1L));
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 같은 유저들에게 충전/사용을 보내도 유실 없이 반영")
+    void concurrentProducers_noLostUpdate() throws Exception {
+        start(1_000_000L);
+        int threads = 8;
+        int users = 50;
+        int rounds = 100;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> tasks = new ArrayList<>();
+
+        // 스레드마다 유저별로 충전 -> 사용 순서로 보내므로 최종 잔액은 처음과 같아야 함
+        for (int t = 0; t < threads; t++) {
+            tasks.add(executor.submit(() -> {
+                List<CompletableFuture<UserPoint>> futures = new ArrayList<>();
+                for (int r = 0; r < rounds; r++) {
+                    for (long userId = 1; userId <= users; userId++) {
+                        futures.add(engine.charge(userId, 10_000L));
+                        futures.add(engine.use(userId, 10_000L));
+                    }
+                }
+                CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+                return null;
+            }));
+        }
+        for (Future<?> task : tasks) {
+            task.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        for (long userId = 1; userId <= users; userId++) {
+            Assertions.assertEquals(1_000_000L, engine.point(userId).join().point());
+            Assertions.assertEquals(threads * rounds * 2, events.get(userId).size());
+        }
+        Assertions.assertEquals(users, loads.get());
+    }
+
+    // ==================== 적재 / 메모리 상한 ====================
+
+    @Test
+    @DisplayName("잔액 읽기가 느린 유저가 있어도 같은 partition 의 다른 유저 명령은 먼저 반영되고, 대기한 명령은 순서대로 반영")
+    void slowLoad_doesNotBlockOtherUsers() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        start(userId -> {
+            if (userId == 1L) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return new UserPoint(userId, 0L, 0L);
+        }, recordingSink(), 1, 1024);
+
+        try {
+            CompletableFuture<UserPoint> charge = engine.charge(1L, 30_000L);
+            CompletableFuture<UserPoint> use = engine.use(1L, 10_000L);
+
+            Assertions.assertEquals(10_000L, engine.charge(2L, 10_000L).get(5, TimeUnit.SECONDS).point());
+            Assertions.assertFalse(charge.isDone());
+
+            release.countDown();
+
+            Assertions.assertEquals(30_000L, charge.get(5, TimeUnit.SECONDS).point());
+            Assertions.assertEquals(20_000L, use.get(5, TimeUnit.SECONDS).point());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("메모리 상한을 넘어 내려간 유저는 다시 읽어 이어서 반영하고, 조회만 한 유저는 적재하지 않음")
+    void maxResidentUsers_evictsAndReloads() {
+        Map<Long, UserPoint> stored = new ConcurrentHashMap<>();
+        LedgerEventSink sink = (updated, amount, type) -> stored.put(updated.id(), updated);
+        start(userId -> stored.getOrDefault(userId, new UserPoint(userId, 0L, 0L)), sink, 1, 1);
+
+        engine.charge(1L, 10_000L).join();
+        engine.charge(2L, 20_000L).join();
+        UserPoint reloaded = engine.charge(1L, 10_000L).join();
+
+        Assertions.assertEquals(20_000L, reloaded.point());
+        Assertions.assertEquals(3, loads.get());
+
+        engine.point(3L).join();
+        engine.point(3L).join();
+        Assertions.assertEquals(5, loads.get());
+    }
+
+    @Test
+    @DisplayName("sink 가 밀려 있으면 충전/사용은 OVERLOADED 로 거절하고 조회는 처리")
+    void backloggedSink_rejectsWrites() {
+        start(userId -> new UserPoint(userId, 10_000L, 0L), new LedgerEventSink() {
+            @Override
+            public void onApplied(UserPoint updated, long amount, TransactionType type) {
+            }
+
+            @Override
+            public boolean backlogged() {
+                return true;
+            }
+        }, 4, 1024);
+
+        ExecutionException exception = Assertions.assertThrows(ExecutionException.class, () -> engine.charge(1L, 10_000L).get());
+        List<PointOperationResult> results = engine.process(List.of(new PointOperation(1L, TransactionType.USE, 10_000L))).join();
+
+        Assertions.assertInstanceOf(AdmissionRejectedException.class, exception.getCause());
+        Assertions.assertEquals(POINT_STATUS.OVERLOADED, ((AdmissionRejectedException) exception.getCause()).status);
+        Assertions.assertEquals(POINT_STATUS.OVERLOADED, results.get(0).status());
+        Assertions.assertEquals(10_000L, engine.point(1L).join().point());
+    }
+
+    // ==================== 종료 ====================
+
+    @Test
+    @DisplayName("종료하면 들어온 명령은 모두 반영하고 이후 명령은 IllegalStateException")
+    void stop_drainsAndRejects() {
+        start(0L);
+        List<CompletableFuture<UserPoint>> futures = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            futures.add(engine.charge(i + 1, 10_000L));
+        }
+
+        engine.stop();
+
+        for (CompletableFuture<UserPoint> future : futures) {
+            Assertions.assertEquals(10_000L, future.join().point());
+        }
+        ExecutionException exception = Assertions.assertThrows(ExecutionException.class, () -> engine.charge(1L, 10_000L).get());
+        Assertions.assertInstanceOf(IllegalStateException.class, exception.getCause());
+        Assertions.assertEquals(0, engine.pendingCount());
+    }
+}
@@ -0,0 +1,179 @@
+package io.hhplus.tdd.unit.lock;
+
+import io.hhplus.tdd.lock.UserLockManager;
+import io.hhplus.tdd.point.POINT_STATUS;
+import io.hhplus.tdd.point.UserPointException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * UserLockManager 단위 테스트
+ * - 같은 유저의 동시 요청 직렬화(lost update 없음), 도착 순서 보장
+ * - 다른 유저 간 병렬 실행, 타임아웃, 유휴 엔트리 제거 검증
+ */
+class UserLockManagerTest {
+
+    /**
+     * 같은 유저에 대해 여러 스레드가 동시에 read-modify-write 해도 갱신이 유실되지 않음
+     */
+    @Test
+    @DisplayName("같은 유저 동시 갱신 시 lost update 없음")
+    void sameUser_concurrentUpdates_noLostUpdate() throws InterruptedException {
+        UserLockManager lockManager = new UserLockManager(10_000L);
+        long[] counter = {0};
+        int threads = 32;
+        int perThread = 500;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int i = 0; i < threads; i++) {
+            executor.submit(() -> {
+                for (int j = 0; j < perThread; j++) {
+                    lockManager.executeWithLock(1L, () -> {
+                        long read = counter[0];
+                        Thread.yield();
+                        counter[0] = read + 1;
+                        return null;
+                    });
+                }
+                done.countDown();
+            });
+        }
+        done.await(30, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        Assertions.assertEquals((long) threads * perThread, counter[0]);
+    }
+
+    /**
+     * 유저 A 가 락을 잡고 있는 동안 유저 B 의 작업이 실행되어야 A 가 끝날 수 있음
+     * - 락이 유저 단위가 아니라면 서로를 기다리다 타임아웃
+     */
+    @Test
+    @DisplayName("다른 유저의 요청은 서로 기다리지 않고 병렬 실행")
+    void differentUsers_runInParallel() throws InterruptedException {
+        UserLockManager lockManager = new UserLockManager(10_000L);
+        CountDownLatch userBRan = new CountDownLatch(1);
+        boolean[] awaited = {false};
+
+        Thread userA = new Thread(() -> lockManager.executeWithLock(1L, () -> {
+            try {
+                awaited[0] = userBRan.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        }));
+        userA.start();
+        Thread userB = new Thread(() -> lockManager.executeWithLock(2L, () -> {
+            userBRan.countDown();
+            return null;
+        }));
+        userB.start();
+        userA.join();
+        userB.join();
+
+        Assertions.assertTrue(awaited[0]);
+    }
+
+    /**
+     * 락을 기다리는 순서대로 실행되는지 검증
+     * - 각 스레드가 대기 상태에 들어간 것을 확인한 뒤 다음 스레드를 시작
+     */
+    @Test
+    @DisplayName("같은 유저의 요청은 도착 순서대로 실행")
+    void sameUser_appliedInArrivalOrder() throws InterruptedException {
+        UserLockManager lockManager = new UserLockManager(10_000L);
+        List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch release = new CountDownLatch(1);
+
+        Thread holder = new Thread(() -> lockManager.executeWithLock(1L, () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        }));
+        holder.start();
+        awaitWaiting(holder);
+
+        List<Thread> waiters = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            int seq = i;
+            Thread waiter = new Thread(() -> lockManager.executeWithLock(1L, () -> order.add(seq)));
+            waiter.start();
+            awaitWaiting(waiter);
+            waiters.add(waiter);
+        }
+        release.countDown();
+        for (Thread waiter : waiters) {
+            waiter.join();
+        }
+
+        Assertions.assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), order);
+    }
+
+    /**
+     * 락을 제한 시간 안에 얻지 못하면 LOCK_TIMEOUT 예외
+     */
+    @Test
+    @DisplayName("락 대기 시간 초과 시 LOCK_TIMEOUT 예외")
+    void lockTimeout_throws() throws InterruptedException {
+        UserLockManager lockManager = new UserLockManager(100L);
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Thread holder = new Thread(() -> lockManager.executeWithLock(1L, () -> {
+            locked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        }));
+        holder.start();
+        locked.await();
+
+        UserPointException ex = Assertions.assertThrows(UserPointException.class,
+                () -> lockManager.executeWithLock(1L, () -> null));
+        Assertions.assertEquals(POINT_STATUS.LOCK_TIMEOUT, ex.status);
+
+        release.countDown();
+        holder.join();
+    }
+
+    /**
+     * 작업이 모두 끝나면 락 엔트리가 제거되어 맵이 비어 있어야 함 (예외 발생 시 포함)
+     */
+    @Test
+    @DisplayName("유휴 상태의 락 엔트리는 제거")
+    void idleEntries_evicted() {
+        UserLockManager lockManager = new UserLockManager(1_000L);
+        for (long userId = 1; userId <= 1_000; userId++) {
+            lockManager.executeWithLock(userId, () -> null);
+        }
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> lockManager.executeWithLock(1L, () -> {
+                    throw new IllegalStateException();
+                }));
+
+        Assertions.assertEquals(0, lockManager.size());
+    }
+
+    private void awaitWaiting(Thread thread) throws InterruptedException {
+        while (thread.getState() != Thread.State.WAITING && thread.getState() != Thread.State.TIMED_WAITING) {
+            Thread.sleep(1);
+        }
+    }
+}
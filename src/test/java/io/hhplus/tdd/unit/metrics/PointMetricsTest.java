@@ -0,0 +1,77 @@
+package io.hhplus.tdd.unit.metrics;
+
+import io.hhplus.tdd.balance.offheap.OffHeapUserPointStore;
+import io.hhplus.tdd.cache.UserPointCache;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.history.PointHistoryIndex;
+import io.hhplus.tdd.history.PointHistoryWriter;
+import io.hhplus.tdd.history.TablePointHistoryStore;
+import io.hhplus.tdd.lock.UserLockManager;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.point.UserPointException;
+import io.hhplus.tdd.service.PointService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * PointMetrics 계측 테스트
+ * - 서비스 메서드 / 락 대기 / 저장소 호출 시간이 기록되는지
+ * - 실패 시 POINT_STATUS 별 카운터가 증가하는지
+ */
+class PointMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private PointHistoryWriter pointHistoryWriter;
+    private PointService pointService;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        PointMetrics pointMetrics = new PointMetrics(registry);
+        pointHistoryWriter = new PointHistoryWriter(
+                new TablePointHistoryStore(new PointHistoryTable(), new PointHistoryIndex()), List.of(), 100, 10, pointMetrics);
+        pointService = new PointService(
+                new UserPointCache(new OffHeapUserPointStore(16), 1_000, pointMetrics, List.of()),
+                pointHistoryWriter, new UserLockManager(5_000L), pointMetrics, Optional.empty());
+    }
+
+    @Test
+    @DisplayName("충전 시 서비스 / 락 대기 / 저장소 호출 시간 기록")
+    void charge_recordsTimers() {
+        pointService.userPointCharge(1L, 10_000L);
+        pointHistoryWriter.flush();
+
+        Assertions.assertEquals(1, registry.get("point.service").tag("method", "charge").timer().count());
+        Assertions.assertEquals(1, registry.get("point.lock.wait").timer().count());
+        Assertions.assertEquals(1, registry.get("point.store").tag("operation", "selectById").timer().count());
+        Assertions.assertEquals(1, registry.get("point.store").tag("operation", "insertOrUpdate").timer().count());
+        Assertions.assertEquals(1, registry.get("point.store").tag("operation", "insert").timer().count());
+    }
+
+    @Test
+    @DisplayName("조회는 자기 메서드 timer 에만 기록")
+    void findUserPoint_recordsPointTimer() {
+        pointService.findUserPointByUserId(1L);
+
+        Assertions.assertEquals(1, registry.get("point.service").tag("method", "point").timer().count());
+        Assertions.assertEquals(0, registry.get("point.service").tag("method", "charge").timer().count());
+    }
+
+    @Test
+    @DisplayName("실패 시 POINT_STATUS 별 카운터 증가")
+    void failure_incrementsStatusCounter() {
+        Assertions.assertThrows(UserPointException.class, () -> pointService.userPointUse(1L, 5_000L));
+        Assertions.assertThrows(UserPointException.class, () -> pointService.userPointCharge(1L, 1L));
+
+        Assertions.assertEquals(1.0, registry.get("point.failure").tag("status", "USED_POINT_UNDERFLOW").counter().count());
+        Assertions.assertEquals(1.0, registry.get("point.failure").tag("status", "INVALID_CHARGE_AMOUNT").counter().count());
+        Assertions.assertEquals(0.0, registry.get("point.failure").tag("status", "CHARGE_POINT_OVERFLOW").counter().count());
+        Assertions.assertEquals(1, registry.get("point.service").tag("method", "use").timer().count());
+    }
+}
@@ -0,0 +1,123 @@
+package io.hhplus.tdd.unit.point;
+
+import io.hhplus.tdd.admission.AdmissionRejectedException;
+import io.hhplus.tdd.balance.TableUserPointStore;
+import io.hhplus.tdd.cache.UserPointCache;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.history.PointHistoryIndex;
+import io.hhplus.tdd.history.PointHistoryWriter;
+import io.hhplus.tdd.history.TablePointHistoryStore;
+import io.hhplus.tdd.lock.UserLockManager;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.point.POINT_STATUS;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.UserPointException;
+import io.hhplus.tdd.service.PointAsyncService;
+import io.hhplus.tdd.service.PointService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * PointAsyncService 단위 테스트
+ * - 요청 스레드를 막지 않고 Future 를 반환하는지
+ * - 동기 PointService 와 같은 결과/예외를 내는지
+ * - 실행기가 작업을 거절하면 OVERLOADED 로 실패하는지
+ */
+class PointAsyncServiceTest {
+
+    private final PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+    private ExecutorService executor;
+    private PointHistoryWriter pointHistoryWriter;
+    private PointService pointService;
+    private PointAsyncService pointAsyncService;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        pointHistoryWriter = new PointHistoryWriter(new TablePointHistoryStore(new PointHistoryTable(), new PointHistoryIndex()), List.of(), 100, 10, pointMetrics);
+        pointHistoryWriter.start();
+        pointService = new PointService(
+                new UserPointCache(new TableUserPointStore(new UserPointTable()), 1_000, pointMetrics, List.of()), pointHistoryWriter, new UserLockManager(5_000L), pointMetrics, Optional.empty());
+        pointAsyncService = new PointAsyncService(pointService, executor, pointMetrics, Optional.empty());
+    }
+
+    @AfterEach
+    void tearDown() {
+        pointHistoryWriter.stop();
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("충전 요청은 테이블 호출을 기다리지 않고 Future 를 반환")
+    void userPointCharge_returnsImmediately() throws Exception {
+        long start = System.nanoTime();
+        CompletableFuture<UserPoint> future = pointAsyncService.userPointCharge(1L, 10_000L);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        Assertions.assertTrue(elapsedMillis < 50, "returned after " + elapsedMillis + "ms");
+        Assertions.assertEquals(10_000L, future.get().point());
+    }
+
+    @Test
+    @DisplayName("충전 후 사용 결과와 히스토리가 동기 API 와 동일")
+    void chargeThenUse_composes() throws Exception {
+        UserPoint result = pointAsyncService.userPointCharge(1L, 20_000L)
+                .thenCompose(charged -> pointAsyncService.userPointUse(1L, 5_000L))
+                .get();
+
+        Assertions.assertEquals(15_000L, result.point());
+        Assertions.assertEquals(15_000L, pointAsyncService.findUserPointByUserId(1L).get().point());
+        Assertions.assertEquals(2, pointAsyncService.findAllPointHistoryByUserId(1L).get().size());
+    }
+
+    @Test
+    @DisplayName("검증 실패 시 Future 가 UserPointException 으로 완료")
+    void userPointUse_underflow_completesExceptionally() {
+        CompletableFuture<UserPoint> future = pointAsyncService.userPointUse(1L, 5_000L);
+
+        ExecutionException ex = Assertions.assertThrows(ExecutionException.class, future::get);
+        Assertions.assertTrue(ex.getCause() instanceof UserPointException);
+        Assertions.assertEquals(POINT_STATUS.USED_POINT_UNDERFLOW, ((UserPointException) ex.getCause()).status);
+    }
+
+    @Test
+    @DisplayName("서로 다른 유저의 충전은 동시에 진행")
+    void userPointCharge_manyUsers_concurrently() {
+        List<CompletableFuture<UserPoint>> futures = List.of(
+                pointAsyncService.userPointCharge(1L, 10_000L),
+                pointAsyncService.userPointCharge(2L, 10_000L),
+                pointAsyncService.userPointCharge(3L, 10_000L),
+                pointAsyncService.userPointCharge(4L, 10_000L));
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        futures.forEach(future -> Assertions.assertEquals(10_000L, future.join().point()));
+    }
+
+    @Test
+    @DisplayName("실행기 대기열이 가득 차 거절되면 Future 가 OVERLOADED 로 완료")
+    void executorRejects_completesWithOverloaded() {
+        PointAsyncService rejecting = new PointAsyncService(pointService, command -> {
+            throw new RejectedExecutionException("full");
+        }, pointMetrics, Optional.empty());
+
+        CompletableFuture<UserPoint> future = rejecting.userPointCharge(1L, 10_000L);
+
+        ExecutionException ex = Assertions.assertThrows(ExecutionException.class, future::get);
+        Assertions.assertTrue(ex.getCause() instanceof AdmissionRejectedException);
+        Assertions.assertEquals(POINT_STATUS.OVERLOADED, ((AdmissionRejectedException) ex.getCause()).status);
+    }
+}
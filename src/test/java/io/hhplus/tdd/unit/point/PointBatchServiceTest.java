@@ -0,0 +1,169 @@
+package io.hhplus.tdd.unit.point;
+
+import io.hhplus.tdd.balance.TableUserPointStore;
+import io.hhplus.tdd.cache.UserPointCache;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.history.PointHistoryIndex;
+import io.hhplus.tdd.history.PointHistoryWriter;
+import io.hhplus.tdd.history.TablePointHistoryStore;
+import io.hhplus.tdd.lock.UserLockManager;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.point.*;
+import io.hhplus.tdd.service.PointBatchService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * PointBatchService 단위 테스트
+ * - 유저별로 묶어 잔액 조회/갱신을 1회씩만 수행하는지
+ * - 작업 순서대로 검증하고 실패한 작업은 잔액에 반영하지 않는지
+ * - 결과가 요청 순서대로 반환되는지
+ * - 한 유저의 잔액 기록이 실패해도 그 유저만 실패로 반환하고 다른 유저는 처리되는지
+ */
+class PointBatchServiceTest {
+
+    private final PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+    private final ConcurrentHashMap<Long, AtomicInteger> updateCounts = new ConcurrentHashMap<>();
+    // 잔액 기록이 실패하는 유저
+    private volatile long failingUserId = -1L;
+    private ExecutorService executor;
+    private PointHistoryWriter pointHistoryWriter;
+    private UserPointCache userPointCache;
+    private PointBatchService pointBatchService;
+
+    @BeforeEach
+    void setUp() {
+        UserPointTable countingTable = new UserPointTable() {
+            @Override
+            public UserPoint insertOrUpdate(long id, long amount) {
+                if (id == failingUserId) {
+                    throw new IllegalStateException("table down");
+                }
+                updateCounts.computeIfAbsent(id, key -> new AtomicInteger()).incrementAndGet();
+                return super.insertOrUpdate(id, amount);
+            }
+        };
+        executor = Executors.newFixedThreadPool(8);
+        pointHistoryWriter = new PointHistoryWriter(new TablePointHistoryStore(new PointHistoryTable(), new PointHistoryIndex()), List.of(), 100, 10, pointMetrics);
+        pointHistoryWriter.start();
+        userPointCache = new UserPointCache(new TableUserPointStore(countingTable), 1_000, pointMetrics, List.of());
+        pointBatchService = new PointBatchService(
+                userPointCache, pointHistoryWriter, new UserLockManager(5_000L), executor, 4, pointMetrics, Optional.empty());
+    }
+
+    @AfterEach
+    void tearDown() {
+        pointHistoryWriter.stop();
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("유저별 작업을 순서대로 적용하고 insertOrUpdate 는 유저당 1회")
+    void process_coalescesPerUser() {
+        List<PointOperationResult> results = pointBatchService.process(List.of(
+                new PointOperation(1L, TransactionType.CHARGE, 50_000L),
+                new PointOperation(2L, TransactionType.CHARGE, 10_000L),
+                new PointOperation(1L, TransactionType.USE, 20_000L),
+                new PointOperation(1L, TransactionType.CHARGE, 10_000L)));
+
+        Assertions.assertEquals(4, results.size());
+        Assertions.assertEquals(50_000L, results.get(0).point());
+        Assertions.assertEquals(10_000L, results.get(1).point());
+        Assertions.assertEquals(30_000L, results.get(2).point());
+        Assertions.assertEquals(40_000L, results.get(3).point());
+        Assertions.assertTrue(results.stream().allMatch(PointOperationResult::success));
+
+        Assertions.assertEquals(1, updateCounts.get(1L).get());
+        Assertions.assertEquals(1, updateCounts.get(2L).get());
+        Assertions.assertEquals(40_000L, userPointCache.get(1L).point());
+        Assertions.assertEquals(3, pointHistoryWriter.findAllByUserId(1L).size());
+    }
+
+    @Test
+    @DisplayName("실패한 작업은 잔액/히스토리에 반영하지 않고 사유를 반환")
+    void process_failedOperationsSkipped() {
+        List<PointOperationResult> results = pointBatchService.process(List.of(
+                new PointOperation(1L, TransactionType.USE, 5_000L),
+                new PointOperation(1L, TransactionType.CHARGE, 10_000L),
+                new PointOperation(1L, TransactionType.CHARGE, 500_000L),
+                new PointOperation(1L, TransactionType.USE, 5_000L),
+                new PointOperation(-1L, TransactionType.CHARGE, 10_000L)));
+
+        Assertions.assertEquals(POINT_STATUS.USED_POINT_UNDERFLOW, results.get(0).status());
+        Assertions.assertTrue(results.get(1).success());
+        Assertions.assertEquals(POINT_STATUS.INVALID_CHARGE_AMOUNT, results.get(2).status());
+        Assertions.assertTrue(results.get(3).success());
+        Assertions.assertEquals(POINT_STATUS.INVALID_USERID, results.get(4).status());
+
+        Assertions.assertEquals(5_000L, userPointCache.get(1L).point());
+        Assertions.assertEquals(2, pointHistoryWriter.findAllByUserId(1L).size());
+    }
+
+    @Test
+    @DisplayName("모든 작업이 실패한 유저는 insertOrUpdate 하지 않음")
+    void process_allFailed_noUpdate() {
+        List<PointOperationResult> results = pointBatchService.process(List.of(
+                new PointOperation(3L, TransactionType.USE, 5_000L),
+                new PointOperation(3L, null, 5_000L)));
+
+        Assertions.assertEquals(POINT_STATUS.USED_POINT_UNDERFLOW, results.get(0).status());
+        Assertions.assertEquals(POINT_STATUS.INVALID_TRANSACTION_TYPE, results.get(1).status());
+        Assertions.assertNull(updateCounts.get(3L));
+    }
+
+    @Test
+    @DisplayName("많은 유저의 작업을 병렬로 처리해도 유저별 잔액 정확")
+    void process_manyUsers() {
+        List<PointOperation> operations = new ArrayList<>();
+        for (int round = 0; round < 3; round++) {
+            for (long userId = 1; userId <= 20; userId++) {
+                operations.add(new PointOperation(userId, TransactionType.CHARGE, 10_000L));
+            }
+        }
+
+        List<PointOperationResult> results = pointBatchService.process(operations);
+
+        Assertions.assertTrue(results.stream().allMatch(PointOperationResult::success));
+        for (long userId = 1; userId <= 20; userId++) {
+            Assertions.assertEquals(30_000L, userPointCache.get(userId).point());
+            Assertions.assertEquals(1, updateCounts.get(userId).get());
+        }
+    }
+
+    @Test
+    @DisplayName("한 유저의 잔액 기록이 실패하면 그 유저의 작업만 INTERNAL_ERROR, 다른 유저는 정상 반영")
+    void process_storeFailure_failsOnlyThatUser() {
+        failingUserId = 2L;
+
+        List<PointOperationResult> results = pointBatchService.process(List.of(
+                new PointOperation(1L, TransactionType.CHARGE, 10_000L),
+                new PointOperation(2L, TransactionType.CHARGE, 10_000L),
+                new PointOperation(2L, TransactionType.USE, 1_000L),
+                new PointOperation(2L, TransactionType.USE, 50_000L),
+                new PointOperation(3L, TransactionType.CHARGE, 20_000L)));
+
+        Assertions.assertTrue(results.get(0).success());
+        Assertions.assertEquals(POINT_STATUS.INTERNAL_ERROR, results.get(1).status());
+        Assertions.assertEquals(POINT_STATUS.INTERNAL_ERROR, results.get(2).status());
+        Assertions.assertEquals(POINT_STATUS.USED_POINT_UNDERFLOW, results.get(3).status());
+        Assertions.assertTrue(results.get(4).success());
+
+        Assertions.assertEquals(10_000L, userPointCache.get(1L).point());
+        Assertions.assertEquals(0L, userPointCache.get(2L).point());
+        Assertions.assertEquals(20_000L, userPointCache.get(3L).point());
+        Assertions.assertTrue(pointHistoryWriter.findAllByUserId(2L).isEmpty());
+    }
+}
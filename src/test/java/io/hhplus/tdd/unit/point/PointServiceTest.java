@@ -1,18 +1,30 @@
 package io.hhplus.tdd.unit.point;
 
+import io.hhplus.tdd.admission.AdmissionRejectedException;
+import io.hhplus.tdd.balance.TableUserPointStore;
+import io.hhplus.tdd.cache.UserPointCache;
 import io.hhplus.tdd.database.PointHistoryTable;
 import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.history.PointHistoryIndex;
+import io.hhplus.tdd.history.PointHistoryWriter;
+import io.hhplus.tdd.history.TablePointHistoryStore;
+import io.hhplus.tdd.lock.UserLockManager;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.point.POINT_STATUS;
 import io.hhplus.tdd.point.PointHistory;
 import io.hhplus.tdd.point.TransactionType;
 import io.hhplus.tdd.point.UserPoint;
 import io.hhplus.tdd.point.UserPointException;
 import io.hhplus.tdd.service.PointService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * PointService 단위 테스트
@@ -21,15 +33,24 @@ import java.util.List;
  */
 class PointServiceTest {
 
+    private final PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry());
     private PointService pointService;
     private UserPointTable userPointTable;
     private PointHistoryTable pointHistoryTable;
+    private PointHistoryWriter pointHistoryWriter;
 
     @BeforeEach
     void setUp() {
         userPointTable = new UserPointTable();
         pointHistoryTable = new PointHistoryTable();
-        pointService = new PointService(userPointTable, pointHistoryTable);
+        pointHistoryWriter = new PointHistoryWriter(new TablePointHistoryStore(pointHistoryTable, new PointHistoryIndex()), List.of(), 100, 10, pointMetrics);
+        pointHistoryWriter.start();
+        pointService = new PointService(new UserPointCache(new TableUserPointStore(userPointTable), 1_000, pointMetrics, List.of()), pointHistoryWriter, new UserLockManager(5_000L), pointMetrics, Optional.empty());
+    }
+
+    @AfterEach
+    void tearDown() {
+        pointHistoryWriter.stop();
     }
 
     // ==================== findUserPointByUserId ====================
@@ -75,6 +96,7 @@ class PointServiceTest {
 
         pointService.userPointCharge(userId, amount);
 
+        pointHistoryWriter.flush();
         UserPoint userPoint = pointService.findUserPointByUserId(userId);
         List<PointHistory> histories = pointHistoryTable.selectAllByUserId(userId);
 
@@ -126,6 +148,7 @@ class PointServiceTest {
         pointService.userPointCharge(userId, 100_000L);
         pointService.userPointUse(userId, 10_000L);
 
+        pointHistoryWriter.flush();
         UserPoint userPoint = pointService.findUserPointByUserId(userId);
         List<PointHistory> histories = pointHistoryTable.selectAllByUserId(userId);
 
@@ -164,4 +187,29 @@ class PointServiceTest {
         Assertions.assertThrows(UserPointException.class,
                 () -> pointService.userPointUse(userId, 20_000L));
     }
+
+    // ==================== 히스토리 대기열 포화 ====================
+
+    /**
+     * 히스토리 대기열 자리가 없으면 잔액을 바꾸지 않고 OVERLOADED 로 거절
+     */
+    @Test
+    @DisplayName("히스토리 대기열이 가득 차면 잔액을 바꾸지 않고 OVERLOADED")
+    void userPointCharge_HistoryQueueFull_RejectedWithoutBalanceChange() {
+        long userId = 1L;
+        pointService.userPointCharge(userId, 10_000L);
+        // 대기열 자리를 모두 점유
+        pointHistoryWriter.reserve(100);
+        try {
+            AdmissionRejectedException e = Assertions.assertThrows(AdmissionRejectedException.class,
+                    () -> pointService.userPointCharge(userId, 20_000L));
+            Assertions.assertEquals(POINT_STATUS.OVERLOADED, e.status);
+        } finally {
+            pointHistoryWriter.release(100);
+        }
+
+        pointHistoryWriter.flush();
+        Assertions.assertEquals(10_000L, pointService.findUserPointByUserId(userId).point());
+        Assertions.assertEquals(1, pointHistoryTable.selectAllByUserId(userId).size());
+    }
 }
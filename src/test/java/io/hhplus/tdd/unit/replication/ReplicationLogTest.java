@@ -0,0 +1,107 @@
+package io.hhplus.tdd.unit.replication;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.replication.ReplicationLog;
+import io.hhplus.tdd.replication.ReplicationRecord;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ReplicationLog 단위 테스트
+ * - 잔액 변경 / 히스토리 기록이 일어난 순서대로 sequence 가 붙는지
+ * - 링 버퍼에서 밀려난 위치를 읽으면 스냅샷이 필요하다고 알리는지, 새 변경을 기다리는지
+ * - 스냅샷의 유저별 최신 잔액과 seed
+ */
+class ReplicationLogTest {
+
+    // ==================== read ====================
+
+    @Test
+    @DisplayName("잔액 변경과 히스토리 기록이 일어난 순서대로 sequence 가 붙어 읽힘")
+    void read_inOrder() throws InterruptedException {
+        ReplicationLog log = new ReplicationLog(16);
+        log.onUpdated(new UserPoint(1L, 10_000L, 1L));
+        log.onPersisted(new PointHistory(1L, 1L, 10_000L, TransactionType.CHARGE, 1L));
+        log.onUpdated(new UserPoint(1L, 5_000L, 2L));
+
+        ReplicationLog.Batch batch = log.read(0, 10, 0);
+
+        Assertions.assertEquals(3L, batch.head());
+        Assertions.assertEquals(List.of(1L, 2L, 3L), batch.records().stream().map(ReplicationRecord::seq).toList());
+        Assertions.assertEquals(10_000L, batch.records().get(1).history().amount());
+        Assertions.assertEquals(5_000L, batch.records().get(2).balance().point());
+        Assertions.assertEquals(List.of(3L), log.read(2, 10, 0).records().stream().map(ReplicationRecord::seq).toList());
+        Assertions.assertEquals(2, log.read(0, 2, 0).records().size());
+    }
+
+    @Test
+    @DisplayName("링 버퍼에서 밀려난 위치를 읽으면 null (스냅샷 필요)")
+    void read_truncated() throws InterruptedException {
+        ReplicationLog log = new ReplicationLog(4);
+        for (int i = 1; i <= 10; i++) {
+            log.onUpdated(new UserPoint(1L, i * 1_000L, i));
+        }
+
+        Assertions.assertNull(log.read(5, 10, 0));
+        Assertions.assertFalse(log.retains(5));
+        Assertions.assertTrue(log.retains(6));
+        Assertions.assertEquals(4, log.read(6, 10, 0).records().size());
+    }
+
+    @Test
+    @DisplayName("새 변경이 없으면 기다리다가 변경이 추가되면 바로 반환, 끝까지 없으면 빈 목록")
+    void read_waitsForAppend() throws InterruptedException {
+        ReplicationLog log = new ReplicationLog(16);
+        Assertions.assertTrue(log.read(0, 10, 10).records().isEmpty());
+
+        Thread writer = new Thread(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            log.onUpdated(new UserPoint(7L, 1_000L, 1L));
+        });
+        writer.start();
+        long start = System.nanoTime();
+        ReplicationLog.Batch batch = log.read(0, 10, 10_000);
+        writer.join();
+
+        Assertions.assertEquals(1, batch.records().size());
+        Assertions.assertTrue(System.nanoTime() - start < 5_000_000_000L);
+    }
+
+    // ==================== snapshot / seed ====================
+
+    @Test
+    @DisplayName("스냅샷은 유저별 최신 잔액, seed 는 이미 바뀐 유저를 덮어쓰지 않음")
+    void snapshot_latestBalances() {
+        ReplicationLog log = new ReplicationLog(4);
+        log.seed(new UserPoint(1L, 1L, 0L));
+        log.seed(new UserPoint(3L, 30_000L, 0L));
+        for (int i = 1; i <= 10; i++) {
+            log.onUpdated(new UserPoint(i % 2 + 1, i * 1_000L, i));
+        }
+        log.seed(new UserPoint(1L, 1L, 0L));
+
+        ReplicationLog.Snapshot snapshot = log.snapshot();
+        Map<Long, Long> balances = new HashMap<>();
+        snapshot.balances().forEach(balance -> balances.put(balance.id(), balance.point()));
+
+        Assertions.assertEquals(10L, snapshot.seq());
+        Assertions.assertEquals(Map.of(1L, 10_000L, 2L, 9_000L, 3L, 30_000L), balances);
+    }
+
+    @Test
+    @DisplayName("용량이 2 의 거듭제곱이 아니면 예외")
+    void constructor_rejectsCapacity() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new ReplicationLog(1_000));
+    }
+}
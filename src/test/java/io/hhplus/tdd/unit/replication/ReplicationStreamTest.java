@@ -0,0 +1,204 @@
+package io.hhplus.tdd.unit.replication;
+
+import io.hhplus.tdd.balance.offheap.OffHeapUserPointStore;
+import io.hhplus.tdd.cache.UserPointCache;
+import io.hhplus.tdd.history.PointHistoryIndex;
+import io.hhplus.tdd.history.PointHistoryStore;
+import io.hhplus.tdd.history.PointHistoryWriter;
+import io.hhplus.tdd.lock.UserLockManager;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.point.POINT_STATUS;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.replication.ReplicaReadInterceptor;
+import io.hhplus.tdd.replication.ReplicaRejectedException;
+import io.hhplus.tdd.replication.ReplicationFollower;
+import io.hhplus.tdd.replication.ReplicationLog;
+import io.hhplus.tdd.replication.ReplicationServer;
+import io.hhplus.tdd.service.PointService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * primary 1 대 + follower 여러 대를 한 JVM 안에서 localhost 소켓으로 연결한 복제 테스트
+ * - 인스턴스마다 잔액 저장소 / 히스토리 저장소 / 캐시 / 기록기 / PointService 를 따로 둠
+ * - follower 가 primary 와 같은 잔액, 같은 id 의 히스토리로 수렴하는지
+ * - 링 버퍼보다 뒤처져 접속한 follower 가 스냅샷으로 따라잡는지
+ * - sequence 를 기다린 조회 (read-your-writes), 쓰기 / 지연 초과 요청 거절
+ */
+class ReplicationStreamTest {
+
+    private static final long AWAIT_MILLIS = 10_000L;
+
+    private final PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+    private final List<Runnable> shutdown = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        for (int i = shutdown.size() - 1; i >= 0; i--) {
+            shutdown.get(i).run();
+        }
+    }
+
+    // ==================== 수렴 ====================
+
+    @Test
+    @DisplayName("follower 2 대가 primary 와 같은 잔액, 같은 id 의 히스토리로 수렴")
+    void followers_converge() {
+        Primary primary = startPrimary(65_536);
+        Follower first = startFollower(primary);
+        Follower second = startFollower(primary);
+
+        for (long userId = 1; userId <= 20; userId++) {
+            primary.pointService.userPointCharge(userId, 100_000L);
+            primary.pointService.userPointUse(userId, userId * 1_000L);
+        }
+        primary.writer.flush();
+        long seq = primary.log.sequence();
+
+        for (Follower follower : List.of(first, second)) {
+            Assertions.assertTrue(follower.replication.awaitSequence(seq, AWAIT_MILLIS));
+            for (long userId = 1; userId <= 20; userId++) {
+                Assertions.assertEquals(primary.pointService.findUserPointByUserId(userId).point(),
+                        follower.pointService.findUserPointByUserId(userId).point());
+            }
+            Assertions.assertEquals(primary.writer.findAll(0L, 1_000), follower.writer.findAll(0L, 1_000));
+        }
+        Assertions.assertEquals(40, first.writer.findAll(0L, 1_000).size());
+    }
+
+    @Test
+    @DisplayName("링 버퍼보다 뒤처져 접속한 follower 는 스냅샷을 받은 뒤 이어지는 변경을 반영")
+    void lateFollower_receivesSnapshot() {
+        Primary primary = startPrimary(8);
+        for (long userId = 1; userId <= 10; userId++) {
+            primary.pointService.userPointCharge(userId, 50_000L);
+        }
+        primary.writer.flush();
+        Assertions.assertFalse(primary.log.retains(0));
+
+        Follower follower = startFollower(primary);
+        primary.pointService.userPointUse(3L, 20_000L);
+        primary.writer.flush();
+
+        Assertions.assertTrue(follower.replication.awaitSequence(primary.log.sequence(), AWAIT_MILLIS));
+        for (long userId = 1; userId <= 10; userId++) {
+            Assertions.assertEquals(primary.pointService.findUserPointByUserId(userId).point(),
+                    follower.pointService.findUserPointByUserId(userId).point());
+        }
+        List<PointHistory> histories = follower.writer.findAll(0L, 1_000);
+        Assertions.assertEquals(primary.writer.findAll(0L, 1_000), histories);
+        Assertions.assertEquals(TransactionType.USE, histories.get(histories.size() - 1).type());
+    }
+
+    // ==================== read-your-writes / 거절 ====================
+
+    @Test
+    @DisplayName("충전 직후의 sequence 를 기다리면 follower 에서도 충전된 잔액이 조회됨")
+    void awaitSequence_readYourWrites() {
+        Primary primary = startPrimary(65_536);
+        Follower follower = startFollower(primary);
+        ReplicaReadInterceptor interceptor = new ReplicaReadInterceptor(follower.replication, pointMetrics, 1_000L, AWAIT_MILLIS);
+
+        for (int i = 1; i <= 5; i++) {
+            long charged = primary.pointService.userPointCharge(1L, 10_000L).point();
+            String seq = String.valueOf(primary.log.sequence());
+
+            interceptor.admit("GET", seq);
+            Assertions.assertEquals(charged, follower.pointService.findUserPointByUserId(1L).point());
+        }
+    }
+
+    @Test
+    @DisplayName("follower 는 쓰기 요청을 거절하고, primary 와 끊겨 지연 한도를 넘으면 조회도 거절")
+    void admit_rejectsWritesAndStaleReads() throws InterruptedException {
+        Primary primary = startPrimary(65_536);
+        Follower follower = startFollower(primary);
+        ReplicaReadInterceptor interceptor = new ReplicaReadInterceptor(follower.replication, pointMetrics, 200L, 100L);
+        primary.pointService.userPointCharge(1L, 10_000L);
+        Assertions.assertTrue(follower.replication.awaitSequence(primary.log.sequence(), AWAIT_MILLIS));
+
+        ReplicaRejectedException write = Assertions.assertThrows(ReplicaRejectedException.class, () -> interceptor.admit("PATCH", null));
+        Assertions.assertEquals(POINT_STATUS.READ_ONLY_REPLICA, write.status);
+        interceptor.admit("GET", null);
+        ReplicaRejectedException ahead = Assertions.assertThrows(ReplicaRejectedException.class,
+                () -> interceptor.admit("GET", String.valueOf(primary.log.sequence() + 1)));
+        Assertions.assertEquals(POINT_STATUS.REPLICA_STALE, ahead.status);
+
+        primary.server.stop();
+        Thread.sleep(400);
+
+        ReplicaRejectedException stale = Assertions.assertThrows(ReplicaRejectedException.class, () -> interceptor.admit("GET", null));
+        Assertions.assertEquals(POINT_STATUS.REPLICA_STALE, stale.status);
+        Assertions.assertTrue(follower.replication.stalenessMillis() >= 200L);
+        // 이미 반영된 sequence 를 요청하면 지연과 무관하게 조회 가능
+        interceptor.admit("GET", String.valueOf(follower.replication.sequence()));
+    }
+
+    private Primary startPrimary(int logCapacity) {
+        ReplicationLog log = new ReplicationLog(logCapacity);
+        OffHeapUserPointStore store = new OffHeapUserPointStore(1_024);
+        UserPointCache cache = new UserPointCache(store, 1_024, pointMetrics, List.of(log));
+        PointHistoryWriter writer = new PointHistoryWriter(new InMemoryHistoryStore(), List.of(log), 1_000, 100, pointMetrics);
+        writer.start();
+        ReplicationServer server = new ReplicationServer(log, writer, store, "127.0.0.1", 0, 20L);
+        server.start();
+        shutdown.add(writer::stop);
+        shutdown.add(server::stop);
+        return new Primary(log, server, writer, newPointService(cache, writer));
+    }
+
+    private Follower startFollower(Primary primary) {
+        UserPointCache cache = new UserPointCache(new OffHeapUserPointStore(1_024), 1_024, pointMetrics, List.of());
+        PointHistoryWriter writer = new PointHistoryWriter(new InMemoryHistoryStore(), List.of(), 1_000, 100, pointMetrics);
+        writer.start();
+        ReplicationFollower replication = new ReplicationFollower(cache, writer, Optional.empty(), "127.0.0.1", primary.server.port(), 50L);
+        replication.start();
+        shutdown.add(writer::stop);
+        shutdown.add(replication::stop);
+        return new Follower(replication, writer, newPointService(cache, writer));
+    }
+
+    private PointService newPointService(UserPointCache cache, PointHistoryWriter writer) {
+        return new PointService(cache, writer, new UserLockManager(5_000L), pointMetrics, Optional.empty());
+    }
+
+    private record Primary(ReplicationLog log, ReplicationServer server, PointHistoryWriter writer, PointService pointService) {
+    }
+
+    private record Follower(ReplicationFollower replication, PointHistoryWriter writer, PointService pointService) {
+    }
+
+    private static final class InMemoryHistoryStore implements PointHistoryStore {
+        private final PointHistoryIndex index = new PointHistoryIndex();
+        private final AtomicLong sequence = new AtomicLong();
+
+        @Override
+        public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+            return new PointHistory(sequence.incrementAndGet(), userId, amount, type, updateMillis);
+        }
+
+        @Override
+        public void index(PointHistory history) {
+            index.add(history);
+        }
+
+        @Override
+        public List<PointHistory> findByUserId(long userId, long cursor, int limit) {
+            return index.findByUserId(userId, cursor, limit);
+        }
+
+        @Override
+        public List<PointHistory> findAll(long cursor, int limit) {
+            return index.findAll(cursor, limit);
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package io.hhplus.tdd.unit.shard;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.shard.ConsistentHashRing;
+import io.hhplus.tdd.shard.ShardRouter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * ConsistentHashRing / ShardRouter 단위 테스트
+ * - 유저 분포, 샤드 수 변경 시 옮겨지는 유저 범위
+ * - 샤드를 거친 잔액 / 히스토리 조회, 서비스 중 재분배, 실패한 재분배 마무리
+ */
+class ShardRouterTest {
+
+    private ShardRouter router;
+
+    @AfterEach
+    void tearDown() {
+        if (router != null) {
+            router.close();
+        }
+    }
+
+    // =========================================== ring ===========================================
+
+    @Test
+    @DisplayName("유저는 샤드에 고르게 분포")
+    void ring_distributesEvenly() {
+        ConsistentHashRing ring = new ConsistentHashRing(16, 128);
+        int[] counts = new int[16];
+        int users = 160_000;
+        for (long userId = 1; userId <= users; userId++) {
+            counts[ring.shardOf(userId)]++;
+        }
+
+        int mean = users / 16;
+        for (int count : counts) {
+            Assertions.assertTrue(count > mean * 0.7 && count < mean * 1.3, "shard size " + count);
+        }
+    }
+
+    @Test
+    @DisplayName("샤드를 하나 늘리면 새 샤드로 가는 유저만 옮겨지고 그 비율은 약 1/N")
+    void ring_growMovesOnlyToNewShard() {
+        ConsistentHashRing before = new ConsistentHashRing(8, 128);
+        ConsistentHashRing after = new ConsistentHashRing(9, 128);
+        int users = 90_000;
+        int moved = 0;
+        for (long userId = 1; userId <= users; userId++) {
+            int from = before.shardOf(userId);
+            int to = after.shardOf(userId);
+            if (from != to) {
+                Assertions.assertEquals(8, to);
+                moved++;
+            }
+        }
+
+        Assertions.assertTrue(moved > users / 9 * 0.7 && moved < users / 9 * 1.3, "moved " + moved);
+    }
+
+    // ========================================== router ==========================================
+
+    @Test
+    @DisplayName("잔액과 히스토리는 담당 샤드에 기록되고 그대로 조회")
+    void router_roundTrip() {
+        router = new ShardRouter(4, 64);
+        for (long userId = 1; userId <= 100; userId++) {
+            router.insertOrUpdate(userId, userId * 1_000);
+            router.index(router.insertHistory(userId, userId * 1_000, TransactionType.CHARGE, 1L));
+        }
+
+        for (long userId = 1; userId <= 100; userId++) {
+            Assertions.assertEquals(userId * 1_000, router.selectById(userId).point());
+            List<PointHistory> histories = router.findByUserId(userId, 0L, 10);
+            Assertions.assertEquals(1, histories.size());
+            Assertions.assertEquals(userId, histories.get(0).userId());
+        }
+        Assertions.assertEquals(0L, router.selectById(1_000L).point());
+        Assertions.assertEquals(100, sum(router.sizes()));
+    }
+
+    @Test
+    @DisplayName("전체 히스토리 조회는 샤드를 병합해 id 오름차순으로 cursor 이후 limit 건")
+    void router_findAllMergesShards() {
+        router = new ShardRouter(4, 64);
+        for (int i = 0; i < 50; i++) {
+            router.index(router.insertHistory(i % 7 + 1, 1_000L, TransactionType.CHARGE, 1L));
+        }
+
+        List<PointHistory> page = router.findAll(10L, 20);
+
+        Assertions.assertEquals(20, page.size());
+        for (int i = 0; i < page.size(); i++) {
+            Assertions.assertEquals(11L + i, page.get(i).id());
+        }
+    }
+
+    @Test
+    @DisplayName("압축 구간으로 옮긴 히스토리도 재분배 후 유저별 / 전체 조회에 그대로 보임")
+    void moveToColdTier_thenReshard() {
+        router = new ShardRouter(4, 64);
+        for (long userId = 1; userId <= 1_000; userId++) {
+            router.insertOrUpdate(userId, userId);
+            router.index(router.insertHistory(userId, userId, TransactionType.CHARGE, 1L));
+        }
+        List<PointHistory> all = router.findAll(0L, 10_000);
+
+        Assertions.assertEquals(1_000, router.moveToColdTier(2L));
+        router.reshard(7).join();
+
+        assertData(1_000);
+        Assertions.assertEquals(all, router.findAll(0L, 10_000));
+    }
+
+    @Test
+    @DisplayName("샤드를 늘리고 줄여도 잔액과 히스토리 유지")
+    void reshard_preservesData() {
+        router = new ShardRouter(4, 64);
+        for (long userId = 1; userId <= 1_000; userId++) {
+            router.insertOrUpdate(userId, userId);
+            router.index(router.insertHistory(userId, userId, TransactionType.CHARGE, 1L));
+        }
+
+        router.reshard(16).join();
+        Assertions.assertEquals(16, router.shardCount());
+        Assertions.assertFalse(router.isResharding());
+        assertData(1_000);
+
+        router.reshard(3).join();
+        Assertions.assertEquals(3, router.shardCount());
+        Assertions.assertEquals(1_000, sum(router.sizes()));
+        assertData(1_000);
+        Assertions.assertEquals(1_000, router.findAll(0L, 10_000).size());
+    }
+
+    @Test
+    @DisplayName("재분배 중에도 쓰기가 유실되지 않음")
+    void reshard_online() throws Exception {
+        router = new ShardRouter(4, 64);
+        int writers = 4;
+        int usersPerWriter = 200;
+        AtomicBoolean running = new AtomicBoolean(true);
+        CountDownLatch started = new CountDownLatch(writers);
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        List<Future<long[]>> results = new ArrayList<>();
+
+        // 스레드마다 서로 다른 유저를 맡아 1 씩 충전
+        for (int w = 0; w < writers; w++) {
+            long base = (long) w * usersPerWriter;
+            results.add(executor.submit(() -> {
+                long[] counts = new long[usersPerWriter];
+                started.countDown();
+                int i = 0;
+                while (running.get() || i < usersPerWriter * 5) {
+                    int slot = i++ % usersPerWriter;
+                    long userId = base + slot + 1;
+                    long point = router.selectById(userId).point();
+                    router.insertOrUpdate(userId, point + 1);
+                    router.index(router.insertHistory(userId, 1L, TransactionType.CHARGE, 1L));
+                    counts[slot]++;
+                }
+                return counts;
+            }));
+        }
+        started.await();
+        router.reshard(16).get(30, TimeUnit.SECONDS);
+        router.reshard(5).get(30, TimeUnit.SECONDS);
+        running.set(false);
+
+        for (int w = 0; w < writers; w++) {
+            long[] counts = results.get(w).get();
+            for (int slot = 0; slot < usersPerWriter; slot++) {
+                long userId = (long) w * usersPerWriter + slot + 1;
+                Assertions.assertEquals(counts[slot], router.selectById(userId).point());
+                Assertions.assertEquals(counts[slot], router.findByUserId(userId, 0L, Integer.MAX_VALUE).size());
+            }
+        }
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("재분배가 끝나기 전에 다시 재분배하면 IllegalStateException")
+    void reshard_whileInProgress_rejected() {
+        router = new ShardRouter(2, 16);
+        for (long userId = 1; userId <= 200_000; userId++) {
+            router.insertOrUpdate(userId, userId);
+        }
+
+        router.reshard(8);
+
+        if (router.isResharding()) {
+            Assertions.assertThrows(IllegalStateException.class, () -> router.reshard(4));
+        }
+    }
+
+    @Test
+    @DisplayName("옮기다 실패한 재분배는 재분배 상태로 남고 completeReshard 로 마무리")
+    void reshard_migrationFailure_completeReshard() {
+        AtomicBoolean failing = new AtomicBoolean(true);
+        router = new ShardRouter(4, 64) {
+            @Override
+            protected void migrateUser(long userId) {
+                if (userId == 7L && failing.get()) {
+                    throw new IllegalStateException("옮기기 실패");
+                }
+                super.migrateUser(userId);
+            }
+        };
+        for (long userId = 1; userId <= 1_000; userId++) {
+            router.insertOrUpdate(userId, userId);
+            router.index(router.insertHistory(userId, userId, TransactionType.CHARGE, 1L));
+        }
+
+        CompletableFuture<Void> failed = router.reshard(16);
+
+        Assertions.assertThrows(CompletionException.class, failed::join);
+        Assertions.assertTrue(router.isResharding());
+        // 실패한 재분배 중에도 요청은 유저 단위로 옮겨 처리
+        assertData(1_000);
+        IllegalStateException rejected = Assertions.assertThrows(IllegalStateException.class, () -> router.reshard(8));
+        Assertions.assertTrue(rejected.getMessage().contains("completeReshard"));
+
+        failing.set(false);
+        router.completeReshard().join();
+
+        Assertions.assertFalse(router.isResharding());
+        Assertions.assertEquals(16, router.shardCount());
+        Assertions.assertEquals(1_000, sum(router.sizes()));
+        assertData(1_000);
+        router.reshard(8).join();
+        assertData(1_000);
+    }
+
+    private void assertData(int users) {
+        for (long userId = 1; userId <= users; userId++) {
+            Assertions.assertEquals(userId, router.selectById(userId).point());
+            Assertions.assertEquals(1, router.findByUserId(userId, 0L, 10).size());
+        }
+    }
+
+    private static int sum(int[] values) {
+        int sum = 0;
+        for (int value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,236 @@
+package io.hhplus.tdd.unit.summary;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.history.PointHistoryIndex;
+import io.hhplus.tdd.history.PointHistoryStore;
+import io.hhplus.tdd.history.PointHistoryWriter;
+import io.hhplus.tdd.history.TablePointHistoryStore;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointSummary;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.summary.PointSummaryAggregator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * PointSummaryAggregator 단위 테스트
+ * - 전체 기간 합계/건수, 오늘/이번 달, 일별/월별 버킷
+ * - 집계가 없는 유저는 저장소 히스토리로 생성, 같은 히스토리 중복 반영 방지
+ * - rebuild 로 증분 집계 검증 및 교체
+ * - 보관 한도를 넘은 집계 제거 후 재집계
+ */
+class PointSummaryAggregatorTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final long USER_ID = 1L;
+    private static final long NOW = millis(2024, 3, 15, 12);
+
+    private PointHistoryIndex pointHistoryIndex;
+    private PointSummaryAggregator aggregator;
+    private long nextId;
+
+    @BeforeEach
+    void setUp() {
+        pointHistoryIndex = new PointHistoryIndex();
+        aggregator = new PointSummaryAggregator(new IndexOnlyStore(pointHistoryIndex), ZONE.getId());
+        nextId = 1;
+    }
+
+    // ===================== 합계 / 기간 =====================
+
+    @Test
+    @DisplayName("거래 종류별 전체 합계 / 건수와 오늘, 이번 달 합계")
+    void summarize_totalsAndCurrentPeriods() {
+        persist(TransactionType.CHARGE, 100_000L, NOW);
+        persist(TransactionType.USE, 30_000L, NOW);
+        persist(TransactionType.CHARGE, 50_000L, millis(2024, 3, 1, 9));
+        persist(TransactionType.USE, 10_000L, millis(2024, 2, 28, 9));
+
+        PointSummary summary = aggregator.summarize(USER_ID, NOW);
+
+        Assertions.assertEquals(150_000L, summary.totalAmounts().get(TransactionType.CHARGE));
+        Assertions.assertEquals(40_000L, summary.totalAmounts().get(TransactionType.USE));
+        Assertions.assertEquals(2L, summary.counts().get(TransactionType.CHARGE));
+        Assertions.assertEquals(2L, summary.counts().get(TransactionType.USE));
+        Assertions.assertEquals(100_000L, summary.today().get(TransactionType.CHARGE));
+        Assertions.assertEquals(30_000L, summary.today().get(TransactionType.USE));
+        Assertions.assertEquals(150_000L, summary.thisMonth().get(TransactionType.CHARGE));
+        Assertions.assertEquals(30_000L, summary.thisMonth().get(TransactionType.USE));
+    }
+
+    @Test
+    @DisplayName("일별 / 월별 버킷은 최신순, 보관 기간을 벗어난 기간은 제외")
+    void summarize_buckets() {
+        persist(TransactionType.CHARGE, 10_000L, millis(2023, 1, 10, 9));
+        persist(TransactionType.CHARGE, 20_000L, millis(2024, 2, 1, 9));
+        persist(TransactionType.USE, 5_000L, millis(2024, 3, 14, 9));
+        persist(TransactionType.CHARGE, 30_000L, NOW);
+
+        PointSummary summary = aggregator.summarize(USER_ID, NOW);
+
+        Assertions.assertEquals(List.of("2024-03-15", "2024-03-14"),
+                summary.daily().stream().map(PointSummary.Bucket::period).toList());
+        Assertions.assertEquals(List.of("2024-03", "2024-02"),
+                summary.monthly().stream().map(PointSummary.Bucket::period).toList());
+        Assertions.assertEquals(5_000L, summary.daily().get(1).amounts().get(TransactionType.USE));
+        Assertions.assertEquals(60_000L, summary.totalAmounts().get(TransactionType.CHARGE));
+    }
+
+    @Test
+    @DisplayName("링 버퍼 칸이 더 최신 기간으로 재사용되었으면 늦게 도착한 오래된 히스토리는 버킷에 반영하지 않음")
+    void summarize_lateHistory_doesNotCorruptNewerBucket() {
+        persist(TransactionType.CHARGE, 10_000L, NOW);
+        persist(TransactionType.CHARGE, 99_000L, millis(2024, 2, 13, 12)); // 31일 전, 같은 일별 칸
+
+        PointSummary summary = aggregator.summarize(USER_ID, NOW);
+
+        Assertions.assertEquals(10_000L, summary.today().get(TransactionType.CHARGE));
+        Assertions.assertEquals(109_000L, summary.totalAmounts().get(TransactionType.CHARGE));
+    }
+
+    // ===================== 초기화 / 중복 =====================
+
+    @Test
+    @DisplayName("집계가 없는 유저는 저장소 히스토리로 집계를 만들고, 이후 같은 히스토리는 중복 반영하지 않음")
+    void summarize_loadsFromStore_andIgnoresDuplicates() {
+        PointHistory history = new PointHistory(nextId++, USER_ID, 10_000L, TransactionType.CHARGE, NOW);
+        pointHistoryIndex.add(history);
+
+        PointSummary loaded = aggregator.summarize(USER_ID, NOW);
+        aggregator.onPersisted(history);
+        PointSummary afterDuplicate = aggregator.summarize(USER_ID, NOW);
+
+        Assertions.assertEquals(10_000L, loaded.totalAmounts().get(TransactionType.CHARGE));
+        Assertions.assertEquals(loaded, afterDuplicate);
+    }
+
+    @Test
+    @DisplayName("거래가 없는 유저는 모두 0")
+    void summarize_unknownUser_zero() {
+        PointSummary summary = aggregator.summarize(2L, NOW);
+
+        Assertions.assertEquals(0L, summary.totalAmounts().get(TransactionType.CHARGE));
+        Assertions.assertEquals(0L, summary.thisMonth().get(TransactionType.USE));
+        Assertions.assertTrue(summary.daily().isEmpty());
+    }
+
+    @Test
+    @DisplayName("거래가 없는 유저의 조회는 집계를 남기지 않아, 이후 저장소에 생긴 히스토리로 다시 집계")
+    void summarize_unknownUser_notCached() {
+        aggregator.summarize(2L, NOW);
+        pointHistoryIndex.add(new PointHistory(nextId++, 2L, 10_000L, TransactionType.CHARGE, NOW));
+
+        Assertions.assertEquals(10_000L, aggregator.summarize(2L, NOW).totalAmounts().get(TransactionType.CHARGE));
+    }
+
+    // ===================== 보관 한도 =====================
+
+    @Test
+    @DisplayName("max-users 를 넘으면 오래된 집계를 제거하고, 제거된 유저는 저장소 히스토리로 다시 집계")
+    void maxUsers_evictsAndRebuildsFromStore() {
+        PointSummaryAggregator bounded = new PointSummaryAggregator(new IndexOnlyStore(pointHistoryIndex), ZONE.getId(), 2);
+        for (long userId = 1; userId <= 3; userId++) {
+            PointHistory history = new PointHistory(nextId++, userId, 10_000L * userId, TransactionType.CHARGE, NOW);
+            pointHistoryIndex.add(history);
+            bounded.onPersisted(history);
+        }
+
+        Assertions.assertEquals(2, bounded.size());
+
+        // 제거된 유저 1 도 저장소의 히스토리로 같은 결과
+        PointHistory later = new PointHistory(nextId++, 1L, 5_000L, TransactionType.USE, NOW);
+        pointHistoryIndex.add(later);
+        bounded.onPersisted(later);
+        PointSummary summary = bounded.summarize(1L, NOW);
+
+        Assertions.assertEquals(10_000L, summary.totalAmounts().get(TransactionType.CHARGE));
+        Assertions.assertEquals(5_000L, summary.totalAmounts().get(TransactionType.USE));
+        Assertions.assertEquals(2, bounded.size());
+        Assertions.assertTrue(bounded.rebuild(1L));
+    }
+
+    // ===================== rebuild =====================
+
+    @Test
+    @DisplayName("증분 집계가 히스토리와 같으면 rebuild 는 true")
+    void rebuild_consistent_returnsTrue() {
+        persist(TransactionType.CHARGE, 100_000L, NOW);
+        persist(TransactionType.USE, 30_000L, NOW);
+
+        Assertions.assertTrue(aggregator.rebuild(USER_ID));
+    }
+
+    @Test
+    @DisplayName("저장소에 없는 히스토리가 반영된 집계는 rebuild 가 false 를 반환하고 저장소 기준으로 교체")
+    void rebuild_diverged_replaces() {
+        persist(TransactionType.CHARGE, 100_000L, NOW);
+        aggregator.onPersisted(new PointHistory(nextId++, USER_ID, 50_000L, TransactionType.CHARGE, NOW));
+
+        Assertions.assertFalse(aggregator.rebuild(USER_ID));
+        Assertions.assertEquals(100_000L, aggregator.summarize(USER_ID, NOW).totalAmounts().get(TransactionType.CHARGE));
+        Assertions.assertTrue(aggregator.rebuild(USER_ID));
+    }
+
+    // ===================== PointHistoryWriter 연동 =====================
+
+    @Test
+    @DisplayName("PointHistoryWriter 가 기록한 히스토리가 집계에 반영")
+    void writer_notifiesAggregator() {
+        PointHistoryStore store = new TablePointHistoryStore(new PointHistoryTable(), new PointHistoryIndex());
+        PointSummaryAggregator writerAggregator = new PointSummaryAggregator(store, ZONE.getId());
+        PointHistoryWriter writer = new PointHistoryWriter(store, List.of(writerAggregator), 100, 10,
+                new PointMetrics(new SimpleMeterRegistry()));
+        writer.start();
+
+        writer.append(USER_ID, 10_000L, TransactionType.CHARGE, NOW);
+        writer.append(USER_ID, 3_000L, TransactionType.USE, NOW);
+        writer.flush();
+        writer.stop();
+
+        PointSummary summary = writerAggregator.summarize(USER_ID, NOW);
+        Assertions.assertEquals(10_000L, summary.today().get(TransactionType.CHARGE));
+        Assertions.assertEquals(3_000L, summary.today().get(TransactionType.USE));
+        Assertions.assertTrue(writerAggregator.rebuild(USER_ID));
+    }
+
+    private void persist(TransactionType type, long amount, long updateMillis) {
+        PointHistory history = new PointHistory(nextId++, USER_ID, amount, type, updateMillis);
+        pointHistoryIndex.add(history);
+        aggregator.onPersisted(history);
+    }
+
+    private static long millis(int year, int month, int day, int hour) {
+        return LocalDateTime.of(year, month, day, hour, 0).atZone(ZONE).toInstant().toEpochMilli();
+    }
+
+    private record IndexOnlyStore(PointHistoryIndex index) implements PointHistoryStore {
+
+        @Override
+        public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void index(PointHistory history) {
+            index.add(history);
+        }
+
+        @Override
+        public List<PointHistory> findByUserId(long userId, long cursor, int limit) {
+            return index.findByUserId(userId, cursor, limit);
+        }
+
+        @Override
+        public List<PointHistory> findAll(long cursor, int limit) {
+            return index.findAll(cursor, limit);
+        }
+    }
+}